@@ -24,6 +24,8 @@ import org.eclipse.emf.cdo.common.revision.CDOIDAndVersion;
 import org.eclipse.emf.cdo.common.revision.CDORevisionData;
 import org.eclipse.emf.cdo.internal.common.bundle.OM;
 import org.eclipse.emf.cdo.internal.common.id.CDOIDExternalImpl;
+import org.eclipse.emf.cdo.internal.common.id.CDOIDHashMap;
+import org.eclipse.emf.cdo.internal.common.id.CDOIDHashSet;
 import org.eclipse.emf.cdo.internal.common.id.CDOIDObjectLongImpl;
 import org.eclipse.emf.cdo.internal.common.id.CDOIDObjectLongWithClassifierImpl;
 import org.eclipse.emf.cdo.internal.common.id.CDOIDObjectStringImpl;
@@ -44,8 +46,9 @@ import org.eclipse.net4j.util.om.trace.ContextTracer;
 
 import java.io.IOException;
 import java.text.MessageFormat;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Various static methods that may help with CDO {@link CDOID IDs}.
@@ -66,7 +69,7 @@ public final class CDOIDUtil
    */
   public static <V> Map<CDOID, V> createMap()
   {
-    return new HashMap<>();
+    return new CDOIDHashMap<>();
   }
 
   /**
@@ -74,7 +77,25 @@ public final class CDOIDUtil
    */
   public static <V> Map<CDOID, V> createMap(Map<? extends CDOID, ? extends V> map)
   {
-    return new HashMap<>(map);
+    return new CDOIDHashMap<>(map);
+  }
+
+  /**
+   * Creates a {@link Set set} of {@link CDOID IDs} that stores {@link #createLong(long) long IDs} without boxing them.
+   *
+   * @since 4.25
+   */
+  public static Set<CDOID> createSet()
+  {
+    return new CDOIDHashSet();
+  }
+
+  /**
+   * @since 4.25
+   */
+  public static Set<CDOID> createSet(Collection<? extends CDOID> ids)
+  {
+    return new CDOIDHashSet(ids);
   }
 
   /**
@@ -19,7 +19,9 @@ class CDOProtocolVersion
 
   static
   {
-    VALUE = 51; // Support login peeking
+    VALUE = 52; // Support chunked raw replication
+
+    // VALUE = 51; // Support login peeking
 
     // VALUE = 50; // Support optional lock state prefetching while opening a CDOUnit #20
     // VALUE = 49; // Add security support to CDO-LM #5
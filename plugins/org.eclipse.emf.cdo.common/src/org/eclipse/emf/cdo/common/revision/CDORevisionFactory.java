@@ -32,6 +32,21 @@ public interface CDORevisionFactory
     }
   };
 
+  /**
+   * Creates revisions that pack the values of their primitive attributes and of their single-valued references into
+   * a <code>long[]</code> array, instead of storing them as boxed objects.
+   *
+   * @since 4.25
+   */
+  public static final CDORevisionFactory COMPACT = new CDORevisionFactory()
+  {
+    @Override
+    public CDORevision createRevision(EClass eClass)
+    {
+      return new org.eclipse.emf.cdo.internal.common.revision.CompactCDORevision(eClass);
+    }
+  };
+
   /**
    * @since 3.0
    */
@@ -30,6 +30,7 @@ import org.eclipse.emf.cdo.internal.common.commit.CDOChangeSetImpl;
 import org.eclipse.emf.cdo.internal.common.messages.Messages;
 import org.eclipse.emf.cdo.internal.common.revision.CDORevisableImpl;
 import org.eclipse.emf.cdo.internal.common.revision.CDORevisionCacheAuditing;
+import org.eclipse.emf.cdo.internal.common.revision.CDORevisionCacheBounded;
 import org.eclipse.emf.cdo.internal.common.revision.CDORevisionCacheBranching;
 import org.eclipse.emf.cdo.internal.common.revision.CDORevisionCacheNonAuditing;
 import org.eclipse.emf.cdo.internal.common.revision.CDORevisionImpl;
@@ -37,6 +38,7 @@ import org.eclipse.emf.cdo.internal.common.revision.CDORevisionKeyImpl;
 import org.eclipse.emf.cdo.internal.common.revision.CDORevisionManagerImpl;
 import org.eclipse.emf.cdo.internal.common.revision.delta.CDORevisionDeltaImpl;
 import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevisionCache;
 import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevisionDelta;
 import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevisionManager;
 import org.eclipse.emf.cdo.spi.common.revision.ManagedRevisionProvider;
@@ -77,20 +79,55 @@ public final class CDORevisionUtil
    * @since 4.0
    */
   public static CDORevisionCache createRevisionCache(boolean supportingAudits, boolean supportingBranches)
+  {
+    return createRevisionCache(supportingAudits, supportingBranches, 1);
+  }
+
+  /**
+   * Creates and returns a new memory sensitive revision cache.
+   * <p>
+   * An auditing or branching cache partitions its revisions by {@link CDOID} hash into <code>concurrencyLevel</code>
+   * (rounded up to the next power of two) independently locked stripes, so that threads that access different objects
+   * don't contend for the same lock. A <code>concurrencyLevel</code> of <code>1</code> creates a cache with a single lock.
+   *
+   * @since 4.25
+   */
+  public static CDORevisionCache createRevisionCache(boolean supportingAudits, boolean supportingBranches, int concurrencyLevel)
   {
     if (supportingBranches)
     {
-      return new CDORevisionCacheBranching();
+      return new CDORevisionCacheBranching(concurrencyLevel);
     }
 
     if (supportingAudits)
     {
-      return new CDORevisionCacheAuditing();
+      return new CDORevisionCacheAuditing(concurrencyLevel);
     }
 
     return new CDORevisionCacheNonAuditing();
   }
 
+  /**
+   * Creates and returns a new revision cache that keeps its revisions strongly reachable as long as their estimated
+   * memory footprint fits into <code>maxBytes</code>.
+   * <p>
+   * When the budget is exceeded the cache evicts revisions with a frequency-aware policy, independent of the garbage
+   * collector. A <code>maxBytes</code> of <code>0</code> or less creates a memory sensitive cache, as
+   * {@link #createRevisionCache(boolean, boolean, int)} does.
+   *
+   * @since 4.25
+   */
+  public static CDORevisionCache createRevisionCache(boolean supportingAudits, boolean supportingBranches, int concurrencyLevel, long maxBytes)
+  {
+    CDORevisionCache cache = createRevisionCache(supportingAudits, supportingBranches, concurrencyLevel);
+    if (maxBytes <= 0)
+    {
+      return cache;
+    }
+
+    return new CDORevisionCacheBounded((InternalCDORevisionCache)cache, maxBytes);
+  }
+
   /**
    * @since 4.0
    */
@@ -0,0 +1,677 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.internal.common.id;
+
+import org.eclipse.emf.cdo.common.id.CDOID;
+
+import org.eclipse.net4j.util.ObjectUtil;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A {@link Map map} with {@link CDOID} keys that stores the raw values of {@link CDOIDObjectLongImpl long IDs} in an
+ * open-addressing hash table, i.e., without boxing and without entry objects. The original ID objects are kept in a
+ * parallel array, so that they can be returned as keys without being created or interned again.
+ * <p>
+ * As soon as a key is added that is not a long ID the map switches to a {@link HashMap} for the rest of its life time,
+ * or until it is {@link #clear() cleared}.
+ * <p>
+ * This map is not thread-safe.
+ *
+ * @author Eike Stepper
+ */
+public final class CDOIDHashMap<V> extends AbstractMap<CDOID, V> implements Serializable
+{
+  private static final long serialVersionUID = 1L;
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private static final float LOAD_FACTOR = 0.75f;
+
+  private static final long NO_KEY = 0L;
+
+  /**
+   * The raw values of the long IDs; {@link #NO_KEY} marks a free slot.
+   */
+  private long[] keys;
+
+  /**
+   * The original long IDs of the {@link #keys}.
+   */
+  private CDOID[] ids;
+
+  private Object[] values;
+
+  private int size;
+
+  private int threshold;
+
+  private Map<CDOID, V> fallback;
+
+  private transient int modCount;
+
+  private transient Set<Map.Entry<CDOID, V>> entrySet;
+
+  public CDOIDHashMap()
+  {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public CDOIDHashMap(int initialCapacity)
+  {
+    allocate(tableSizeFor(initialCapacity));
+  }
+
+  public CDOIDHashMap(Map<? extends CDOID, ? extends V> map)
+  {
+    this(map.size());
+    putAll(map);
+  }
+
+  /**
+   * Returns <code>true</code> if this map stores its keys as raw long values, <code>false</code> otherwise.
+   */
+  public boolean isPrimitive()
+  {
+    return fallback == null;
+  }
+
+  @Override
+  public int size()
+  {
+    if (fallback != null)
+    {
+      return fallback.size();
+    }
+
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key)
+  {
+    if (fallback != null)
+    {
+      return fallback.containsKey(key);
+    }
+
+    long value = getLongValue(key);
+    return value != NO_KEY && indexOf(value) >= 0;
+  }
+
+  @Override
+  public boolean containsValue(Object value)
+  {
+    if (fallback != null)
+    {
+      return fallback.containsValue(value);
+    }
+
+    for (int i = 0; i < keys.length; i++)
+    {
+      if (keys[i] != NO_KEY && ObjectUtil.equals(values[i], value))
+      {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(Object key)
+  {
+    if (fallback != null)
+    {
+      return fallback.get(key);
+    }
+
+    long value = getLongValue(key);
+    if (value != NO_KEY)
+    {
+      int index = indexOf(value);
+      if (index >= 0)
+      {
+        return (V)values[index];
+      }
+    }
+
+    return null;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V put(CDOID key, V value)
+  {
+    if (fallback == null)
+    {
+      long longValue = getLongValue(key);
+      if (longValue != NO_KEY)
+      {
+        int mask = keys.length - 1;
+        int index = slotOf(longValue, mask);
+
+        long k;
+        while ((k = keys[index]) != NO_KEY)
+        {
+          if (k == longValue)
+          {
+            Object oldValue = values[index];
+            values[index] = value;
+            return (V)oldValue;
+          }
+
+          index = index + 1 & mask;
+        }
+
+        keys[index] = longValue;
+        ids[index] = key;
+        values[index] = value;
+        ++modCount;
+
+        if (++size > threshold)
+        {
+          rehash(keys.length << 1);
+        }
+
+        return null;
+      }
+
+      switchToFallback();
+    }
+
+    return fallback.put(key, value);
+  }
+
+  @Override
+  public void putAll(Map<? extends CDOID, ? extends V> map)
+  {
+    if (fallback == null)
+    {
+      int capacity = tableSizeFor(size + map.size());
+      if (capacity > keys.length)
+      {
+        rehash(capacity);
+      }
+    }
+
+    super.putAll(map);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V remove(Object key)
+  {
+    if (fallback != null)
+    {
+      return fallback.remove(key);
+    }
+
+    long value = getLongValue(key);
+    if (value != NO_KEY)
+    {
+      int index = indexOf(value);
+      if (index >= 0)
+      {
+        Object oldValue = values[index];
+        removeAt(index, null);
+        return (V)oldValue;
+      }
+    }
+
+    return null;
+  }
+
+  @Override
+  public void clear()
+  {
+    ++modCount;
+    fallback = null;
+    size = 0;
+    allocate(DEFAULT_CAPACITY);
+  }
+
+  @Override
+  public Set<Map.Entry<CDOID, V>> entrySet()
+  {
+    if (entrySet == null)
+    {
+      entrySet = new EntrySet();
+    }
+
+    return entrySet;
+  }
+
+  private int indexOf(long value)
+  {
+    int mask = keys.length - 1;
+    int index = slotOf(value, mask);
+
+    long k;
+    while ((k = keys[index]) != NO_KEY)
+    {
+      if (k == value)
+      {
+        return index;
+      }
+
+      index = index + 1 & mask;
+    }
+
+    return -1;
+  }
+
+  /**
+   * Removes the entry at the given index and closes the gap by shifting the following entries of the same probe
+   * sequence backwards. Entries that wrap around the end of the table are reported to the given iterator, if any,
+   * because they move from a not yet visited slot into an already visited slot.
+   */
+  private void removeAt(int index, EntryIterator iterator)
+  {
+    int mask = keys.length - 1;
+    int hole = index;
+    int i = index;
+
+    for (;;)
+    {
+      i = i + 1 & mask;
+
+      long k = keys[i];
+      if (k == NO_KEY)
+      {
+        break;
+      }
+
+      int slot = slotOf(k, mask);
+      if (hole <= i ? hole < slot && slot <= i : hole < slot || slot <= i)
+      {
+        // The entry at i can't be moved into the hole without breaking its own probe sequence.
+        continue;
+      }
+
+      if (iterator != null && i < hole)
+      {
+        iterator.addWrapped(ids[i]);
+      }
+
+      keys[hole] = k;
+      ids[hole] = ids[i];
+      values[hole] = values[i];
+      hole = i;
+    }
+
+    keys[hole] = NO_KEY;
+    ids[hole] = null;
+    values[hole] = null;
+    --size;
+    ++modCount;
+  }
+
+  private void rehash(int capacity)
+  {
+    long[] oldKeys = keys;
+    CDOID[] oldIDs = ids;
+    Object[] oldValues = values;
+    allocate(capacity);
+
+    int mask = capacity - 1;
+    for (int i = 0; i < oldKeys.length; i++)
+    {
+      long k = oldKeys[i];
+      if (k != NO_KEY)
+      {
+        int index = slotOf(k, mask);
+        while (keys[index] != NO_KEY)
+        {
+          index = index + 1 & mask;
+        }
+
+        keys[index] = k;
+        ids[index] = oldIDs[i];
+        values[index] = oldValues[i];
+      }
+    }
+  }
+
+  private void allocate(int capacity)
+  {
+    keys = new long[capacity];
+    ids = new CDOID[capacity];
+    values = new Object[capacity];
+    threshold = (int)(capacity * LOAD_FACTOR);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void switchToFallback()
+  {
+    Map<CDOID, V> map = new HashMap<>(Math.max((int)(size / LOAD_FACTOR) + 1, DEFAULT_CAPACITY));
+    for (int i = 0; i < keys.length; i++)
+    {
+      if (keys[i] != NO_KEY)
+      {
+        map.put(ids[i], (V)values[i]);
+      }
+    }
+
+    ++modCount;
+    fallback = map;
+    keys = null;
+    ids = null;
+    values = null;
+    size = 0;
+    threshold = 0;
+  }
+
+  private static long getLongValue(Object key)
+  {
+    if (key instanceof CDOIDObjectLongImpl)
+    {
+      return ((CDOIDObjectLongImpl)key).getLongValue();
+    }
+
+    return NO_KEY;
+  }
+
+  private static int slotOf(long value, int mask)
+  {
+    long hash = value * 0x9E3779B97F4A7C15L;
+    return (int)(hash ^ hash >>> 32) & mask;
+  }
+
+  private static int tableSizeFor(int expectedSize)
+  {
+    int capacity = DEFAULT_CAPACITY;
+    while (capacity * LOAD_FACTOR < expectedSize && capacity < 1 << 30)
+    {
+      capacity <<= 1;
+    }
+
+    return capacity;
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  private final class EntrySet extends AbstractSet<Map.Entry<CDOID, V>>
+  {
+    @Override
+    public Iterator<Map.Entry<CDOID, V>> iterator()
+    {
+      if (fallback != null)
+      {
+        return fallback.entrySet().iterator();
+      }
+
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size()
+    {
+      return CDOIDHashMap.this.size();
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+      if (o instanceof Map.Entry<?, ?>)
+      {
+        Map.Entry<?, ?> entry = (Map.Entry<?, ?>)o;
+        Object key = entry.getKey();
+        return containsKey(key) && ObjectUtil.equals(get(key), entry.getValue());
+      }
+
+      return false;
+    }
+
+    @Override
+    public boolean remove(Object o)
+    {
+      if (contains(o))
+      {
+        CDOIDHashMap.this.remove(((Map.Entry<?, ?>)o).getKey());
+        return true;
+      }
+
+      return false;
+    }
+
+    @Override
+    public void clear()
+    {
+      CDOIDHashMap.this.clear();
+    }
+  }
+
+  /**
+   * Iterates the table backwards, so that the backward shifts of {@link Iterator#remove()} only move entries into
+   * already visited slots. The few entries that wrap around the end of the table are remembered and visited last.
+   *
+   * @author Eike Stepper
+   */
+  private final class EntryIterator implements Iterator<Map.Entry<CDOID, V>>
+  {
+    private final long[] table = keys;
+
+    private int index = table.length - 1;
+
+    private int lastIndex = -1;
+
+    private CDOID lastKey;
+
+    private List<CDOID> wrapped;
+
+    private int wrappedIndex;
+
+    private int expectedModCount = modCount;
+
+    private boolean lastWrapped;
+
+    public EntryIterator()
+    {
+      advance();
+    }
+
+    public boolean hasNext()
+    {
+      return index >= 0 || wrapped != null && wrappedIndex < wrapped.size();
+    }
+
+    public Map.Entry<CDOID, V> next()
+    {
+      checkModCount();
+
+      if (index >= 0)
+      {
+        lastIndex = index;
+        lastKey = ids[index];
+        lastWrapped = false;
+
+        --index;
+        advance();
+      }
+      else if (wrapped != null && wrappedIndex < wrapped.size())
+      {
+        lastIndex = -1;
+        lastKey = wrapped.get(wrappedIndex++);
+        lastWrapped = true;
+      }
+      else
+      {
+        throw new NoSuchElementException();
+      }
+
+      return new Entry(lastKey, lastIndex);
+    }
+
+    public void remove()
+    {
+      if (lastKey == null)
+      {
+        throw new IllegalStateException();
+      }
+
+      checkModCount();
+
+      if (lastWrapped)
+      {
+        CDOIDHashMap.this.remove(lastKey);
+      }
+      else
+      {
+        removeAt(lastIndex, this);
+
+        // Entries that wrapped around have left empty slots in the not yet visited part of the table.
+        advance();
+      }
+
+      lastKey = null;
+      expectedModCount = modCount;
+    }
+
+    private void addWrapped(CDOID key)
+    {
+      if (wrapped == null)
+      {
+        wrapped = new ArrayList<>();
+      }
+
+      wrapped.add(key);
+    }
+
+    private void advance()
+    {
+      while (index >= 0 && table[index] == NO_KEY)
+      {
+        --index;
+      }
+    }
+
+    private void checkModCount()
+    {
+      if (modCount != expectedModCount || keys != table)
+      {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  private final class Entry implements Map.Entry<CDOID, V>
+  {
+    private final CDOID key;
+
+    /**
+     * The slot of this entry when it was created. Later removals may shift the entry to a different slot.
+     */
+    private int index;
+
+    public Entry(CDOID key, int index)
+    {
+      this.key = key;
+      this.index = index;
+    }
+
+    public CDOID getKey()
+    {
+      return key;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V getValue()
+    {
+      if (fallback == null)
+      {
+        int index = getIndex();
+        if (index >= 0)
+        {
+          return (V)values[index];
+        }
+
+        return null;
+      }
+
+      return get(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V setValue(V value)
+    {
+      if (fallback == null)
+      {
+        int index = getIndex();
+        if (index >= 0)
+        {
+          Object oldValue = values[index];
+          values[index] = value;
+          return (V)oldValue;
+        }
+      }
+
+      return put(key, value);
+    }
+
+    private int getIndex()
+    {
+      long[] keys = CDOIDHashMap.this.keys;
+      if (index >= 0 && index < keys.length && ids[index] == key)
+      {
+        return index;
+      }
+
+      index = indexOf(getLongValue(key));
+      return index;
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+      if (obj instanceof Map.Entry<?, ?>)
+      {
+        Map.Entry<?, ?> that = (Map.Entry<?, ?>)obj;
+        return getKey().equals(that.getKey()) && ObjectUtil.equals(getValue(), that.getValue());
+      }
+
+      return false;
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return getKey().hashCode() ^ ObjectUtil.hashCode(getValue());
+    }
+
+    @Override
+    public String toString()
+    {
+      return getKey() + "=" + getValue(); //$NON-NLS-1$
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.internal.common.id;
+
+import org.eclipse.emf.cdo.common.id.CDOID;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * A {@link Set set} of {@link CDOID IDs} that is backed by a {@link CDOIDHashMap}.
+ * <p>
+ * This set is not thread-safe.
+ *
+ * @author Eike Stepper
+ */
+public final class CDOIDHashSet extends AbstractSet<CDOID> implements Serializable
+{
+  private static final long serialVersionUID = 1L;
+
+  private final CDOIDHashMap<Boolean> map;
+
+  public CDOIDHashSet()
+  {
+    map = new CDOIDHashMap<>();
+  }
+
+  public CDOIDHashSet(int initialCapacity)
+  {
+    map = new CDOIDHashMap<>(initialCapacity);
+  }
+
+  public CDOIDHashSet(Collection<? extends CDOID> ids)
+  {
+    this(ids.size());
+    addAll(ids);
+  }
+
+  /**
+   * Returns <code>true</code> if this set stores its IDs as raw long values, <code>false</code> otherwise.
+   */
+  public boolean isPrimitive()
+  {
+    return map.isPrimitive();
+  }
+
+  @Override
+  public int size()
+  {
+    return map.size();
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return map.isEmpty();
+  }
+
+  @Override
+  public boolean contains(Object o)
+  {
+    return map.containsKey(o);
+  }
+
+  @Override
+  public boolean add(CDOID id)
+  {
+    return map.put(id, Boolean.TRUE) == null;
+  }
+
+  @Override
+  public boolean remove(Object o)
+  {
+    return map.remove(o) != null;
+  }
+
+  @Override
+  public void clear()
+  {
+    map.clear();
+  }
+
+  @Override
+  public Iterator<CDOID> iterator()
+  {
+    return map.keySet().iterator();
+  }
+}
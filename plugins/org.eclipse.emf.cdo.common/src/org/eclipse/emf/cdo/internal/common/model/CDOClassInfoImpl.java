@@ -17,6 +17,7 @@ import org.eclipse.emf.cdo.common.model.CDOClassInfo;
 import org.eclipse.emf.cdo.common.model.CDOModelUtil;
 import org.eclipse.emf.cdo.common.model.EMFUtil;
 import org.eclipse.emf.cdo.internal.common.bundle.OM;
+import org.eclipse.emf.cdo.internal.common.revision.CompactCDORevision;
 import org.eclipse.emf.cdo.spi.common.model.InternalCDOClassInfo;
 import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
 import org.eclipse.emf.cdo.spi.common.revision.StubCDORevision;
@@ -78,6 +79,8 @@ public final class CDOClassInfoImpl implements InternalCDOClassInfo, Adapter.Int
 
   private int[] persistentFeatureIndices;
 
+  private CompactCDORevision.Layout compactLayout;
+
   private int settingsFeatureCount;
 
   /**
@@ -397,6 +400,7 @@ public final class CDOClassInfoImpl implements InternalCDOClassInfo, Adapter.Int
     allPersistentContainments = persistentContainments.toArray(new EStructuralFeature[persistentContainments.size()]);
     allPersistentMapFeatures = persistentMapFeatures.toArray(new EStructuralFeature[persistentMapFeatures.size()]);
     allPersistentLobAttributes = persistentLobAttributes.toArray(new EAttribute[persistentLobAttributes.size()]);
+    compactLayout = null;
 
     persistentFeatureIndices = new int[allFeatures.size()];
     Arrays.fill(persistentFeatureIndices, NO_SLOT);
@@ -450,6 +454,22 @@ public final class CDOClassInfoImpl implements InternalCDOClassInfo, Adapter.Int
     return getPersistentFeatureIndex(featureID);
   }
 
+  /**
+   * Returns the layout of the {@link CompactCDORevision compact revisions} of this class.
+   */
+  public CompactCDORevision.Layout getCompactLayout()
+  {
+    CompactCDORevision.Layout layout = compactLayout;
+    if (layout == null)
+    {
+      // Racy but harmless, the layout is immutable and always computed the same way.
+      layout = new CompactCDORevision.Layout(allPersistentFeatures);
+      compactLayout = layout;
+    }
+
+    return layout;
+  }
+
   public String getDump()
   {
     ByteArrayOutputStream out = new ByteArrayOutputStream();
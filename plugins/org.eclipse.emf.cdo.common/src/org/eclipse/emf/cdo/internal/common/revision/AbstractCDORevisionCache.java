@@ -71,6 +71,8 @@ public abstract class AbstractCDORevisionCache extends Lifecycle implements Inte
 
   private String name;
 
+  private boolean strongReferences;
+
   public AbstractCDORevisionCache()
   {
     setPollMillis(ReferenceQueueWorker.DEFAULT_POLL_MILLIS);
@@ -109,6 +111,20 @@ public abstract class AbstractCDORevisionCache extends Lifecycle implements Inte
     this.name = name;
   }
 
+  public boolean isStrongReferences()
+  {
+    return strongReferences;
+  }
+
+  /**
+   * Makes this cache reference its revisions strongly, so that they are only evicted when they are removed explicitly.
+   * Must be called before any revision is added.
+   */
+  public void setStrongReferences(boolean strongReferences)
+  {
+    this.strongReferences = strongReferences;
+  }
+
   public long getPollMillis()
   {
     return referenceQueue.getPollMillis();
@@ -180,7 +196,7 @@ public abstract class AbstractCDORevisionCache extends Lifecycle implements Inte
       TRACER.format("Adding revision {0} to {1}", revision, this); //$NON-NLS-1$
     }
 
-    if (disableGC)
+    if (disableGC || strongReferences)
     {
       return createStrongReference(revision);
     }
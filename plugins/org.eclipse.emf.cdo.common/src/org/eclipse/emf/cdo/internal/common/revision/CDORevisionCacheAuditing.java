@@ -41,27 +41,62 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
+ * An auditing revision cache that partitions its {@link RevisionList revision lists} by {@link CDOID} hash into a
+ * number of independently locked stripes.
+ * <p>
+ * All revision lists of an object, i.e., the ones of all its branches, are kept in the same stripe.
+ *
  * @author Eike Stepper
  */
 public class CDORevisionCacheAuditing extends AbstractCDORevisionCache
 {
   private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG_REVISION, CDORevisionCacheAuditing.class);
 
-  protected Map<Object, RevisionList> revisionLists = new HashMap<>();
+  private final Map<Object, RevisionList>[] stripes;
+
+  private final int stripeMask;
 
   public CDORevisionCacheAuditing()
   {
+    this(1);
+  }
+
+  @SuppressWarnings("unchecked")
+  public CDORevisionCacheAuditing(int concurrencyLevel)
+  {
+    int stripeCount = 1;
+    while (stripeCount < concurrencyLevel)
+    {
+      stripeCount <<= 1;
+    }
+
+    stripes = new Map[stripeCount];
+    stripeMask = stripeCount - 1;
+
+    for (int i = 0; i < stripeCount; i++)
+    {
+      stripes[i] = new HashMap<>();
+    }
+  }
+
+  /**
+   * Returns the number of independently locked stripes of this cache.
+   */
+  public final int getConcurrencyLevel()
+  {
+    return stripes.length;
   }
 
   @Override
   public InternalCDORevisionCache instantiate(CDORevision revision)
   {
-    return new CDORevisionCacheAuditing();
+    return new CDORevisionCacheAuditing(getConcurrencyLevel());
   }
 
   @Override
   public EClass getObjectType(CDOID id)
   {
+    Map<Object, RevisionList> revisionLists = getStripe(id);
     synchronized (revisionLists)
     {
       RevisionList list = revisionLists.get(id);
@@ -136,17 +171,20 @@ public class CDORevisionCacheAuditing extends AbstractCDORevisionCache
     checkBranch(branch);
 
     List<CDORevision> result = new ArrayList<>();
-    synchronized (revisionLists)
+    for (Map<Object, RevisionList> revisionLists : stripes)
     {
-      for (Map.Entry<Object, RevisionList> entry : revisionLists.entrySet())
+      synchronized (revisionLists)
       {
-        if (isKeyInBranch(entry.getKey(), branch))
+        for (Map.Entry<Object, RevisionList> entry : revisionLists.entrySet())
         {
-          RevisionList list = entry.getValue();
-          InternalCDORevision revision = list.getRevision(branchPoint.getTimeStamp());
-          if (revision != null)
+          if (isKeyInBranch(entry.getKey(), branch))
           {
-            result.add(revision);
+            RevisionList list = entry.getValue();
+            InternalCDORevision revision = list.getRevision(branchPoint.getTimeStamp());
+            if (revision != null)
+            {
+              result.add(revision);
+            }
           }
         }
       }
@@ -171,6 +209,7 @@ public class CDORevisionCacheAuditing extends AbstractCDORevisionCache
 
     try
     {
+      Map<Object, RevisionList> revisionLists = getStripe(id);
       synchronized (revisionLists)
       {
         RevisionList list = revisionLists.get(key);
@@ -210,23 +249,26 @@ public class CDORevisionCacheAuditing extends AbstractCDORevisionCache
   {
     if (branches != null && branches.length != 0)
     {
-      synchronized (revisionLists)
+      for (Map<Object, RevisionList> revisionLists : stripes)
       {
-        for (Iterator<Map.Entry<Object, RevisionList>> it = revisionLists.entrySet().iterator(); it.hasNext();)
+        synchronized (revisionLists)
         {
-          Map.Entry<Object, RevisionList> entry = it.next();
-          Object key = entry.getKey();
-
-          for (int i = 0; i < branches.length; i++)
+          for (Iterator<Map.Entry<Object, RevisionList>> it = revisionLists.entrySet().iterator(); it.hasNext();)
           {
-            CDOBranch branch = branches[i];
-            if (isKeyInBranch(key, branch))
-            {
-              it.remove();
+            Map.Entry<Object, RevisionList> entry = it.next();
+            Object key = entry.getKey();
 
-              CDOID id = getID(key);
-              typeRefDecrease(id);
-              break;
+            for (int i = 0; i < branches.length; i++)
+            {
+              CDOBranch branch = branches[i];
+              if (isKeyInBranch(key, branch))
+              {
+                it.remove();
+
+                CDOID id = getID(key);
+                typeRefDecrease(id);
+                break;
+              }
             }
           }
         }
@@ -241,6 +283,8 @@ public class CDORevisionCacheAuditing extends AbstractCDORevisionCache
     checkBranch(branch);
 
     Object key = createKey(id, branch);
+
+    Map<Object, RevisionList> revisionLists = getStripe(id);
     synchronized (revisionLists)
     {
       RevisionList list = revisionLists.get(key);
@@ -266,23 +310,35 @@ public class CDORevisionCacheAuditing extends AbstractCDORevisionCache
   @Override
   public void clear()
   {
-    synchronized (revisionLists)
-    {
-      revisionLists.clear();
+    withAllStripes(0, () -> {
+      for (Map<Object, RevisionList> revisionLists : stripes)
+      {
+        revisionLists.clear();
+      }
+
       typeRefDispose();
-    }
+    });
   }
 
+  /**
+   * Called with the lock of the stripe of the given ID being held.
+   */
   protected void typeRefIncrease(CDOID id, EClass type)
   {
     // Do nothing
   }
 
+  /**
+   * Called with the lock of the stripe of the given ID being held.
+   */
   protected void typeRefDecrease(CDOID id)
   {
     // Do nothing
   }
 
+  /**
+   * Called with the locks of all stripes being held.
+   */
   protected void typeRefDispose()
   {
     // Do nothing
@@ -306,6 +362,8 @@ public class CDORevisionCacheAuditing extends AbstractCDORevisionCache
   protected <T> T withRevisionList(CDOID id, CDOBranch branch, Function<RevisionList, T> function)
   {
     Object key = createKey(id, branch);
+
+    Map<Object, RevisionList> revisionLists = getStripe(id);
     synchronized (revisionLists)
     {
       RevisionList list = revisionLists.get(key);
@@ -320,15 +378,44 @@ public class CDORevisionCacheAuditing extends AbstractCDORevisionCache
 
   protected void forEachRevisionList(Consumer<RevisionList> consumer)
   {
-    synchronized (revisionLists)
+    for (Map<Object, RevisionList> revisionLists : stripes)
     {
-      for (RevisionList revisionList : revisionLists.values())
+      synchronized (revisionLists)
       {
-        consumer.accept(revisionList);
+        for (RevisionList revisionList : revisionLists.values())
+        {
+          consumer.accept(revisionList);
+        }
       }
     }
   }
 
+  private Map<Object, RevisionList> getStripe(CDOID id)
+  {
+    if (stripeMask == 0)
+    {
+      return stripes[0];
+    }
+
+    int hash = id.hashCode();
+    hash ^= hash >>> 16;
+    return stripes[hash & stripeMask];
+  }
+
+  private void withAllStripes(int index, Runnable runnable)
+  {
+    if (index == stripes.length)
+    {
+      runnable.run();
+      return;
+    }
+
+    synchronized (stripes[index])
+    {
+      withAllStripes(index + 1, runnable);
+    }
+  }
+
   /**
    * @author Eike Stepper
    */
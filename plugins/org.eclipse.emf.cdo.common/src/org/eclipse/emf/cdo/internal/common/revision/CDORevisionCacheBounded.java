@@ -0,0 +1,1030 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.internal.common.revision;
+
+import org.eclipse.emf.cdo.common.branch.CDOBranch;
+import org.eclipse.emf.cdo.common.branch.CDOBranchManager;
+import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
+import org.eclipse.emf.cdo.common.branch.CDOBranchVersion;
+import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.common.revision.CDORevision;
+import org.eclipse.emf.cdo.common.revision.CDORevisionCache.AdditionEvent;
+import org.eclipse.emf.cdo.internal.common.bundle.OM;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevisionCache;
+
+import org.eclipse.net4j.util.CheckUtil;
+import org.eclipse.net4j.util.event.IEvent;
+import org.eclipse.net4j.util.event.IListener;
+import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
+import org.eclipse.net4j.util.om.trace.ContextTracer;
+
+import org.eclipse.emf.ecore.EClass;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * A revision cache that keeps the revisions of a {@link #getDelegate() delegate cache} strongly reachable as long as
+ * their estimated memory footprint fits into a fixed budget of {@link #getMaxBytes() bytes}.
+ * <p>
+ * Unlike the memory sensitive caches this cache does not depend on the garbage collector to evict revisions. The size
+ * of each revision is estimated from its values array and the contents of its {@link CDOListImpl lists}. When the budget
+ * is exceeded revisions are evicted by a frequency-aware policy in the style of W-TinyLFU: new revisions enter a small
+ * LRU window; revisions that fall out of the window are only admitted to the segmented LRU main space if they have been
+ * accessed more frequently than the main space's eviction victim, as recorded by a count-min sketch with periodic aging.
+ * <p>
+ * Hit, miss and eviction counts are available through {@link #getStatistics()} and are attached to the
+ * {@link CacheAdditionEvent addition} and {@link CacheEvictionEvent eviction} events that this cache fires.
+ * <p>
+ * Optionally, evicted revisions are demoted into a {@link #setSecondLevel(CDORevisionOffHeapCache) second level} that
+ * keeps them serialized outside of the Java heap. Lookups that miss the heap are answered from the second level, if
+ * possible, and promote the found revision back to the heap. The bulk accessors, such as {@link #getAllRevisions()},
+ * only consider the revisions on the heap.
+ *
+ * @author Eike Stepper
+ */
+public class CDORevisionCacheBounded extends AbstractCDORevisionCache
+{
+  private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG_REVISION, CDORevisionCacheBounded.class);
+
+  private static final int WINDOW_PERCENT = 1;
+
+  private static final int PROTECTED_PERCENT = 80;
+
+  private static final int AVERAGE_REVISION_BYTES = 256;
+
+  private static final int OBJECT_HEADER_BYTES = 16;
+
+  private static final int REFERENCE_BYTES = 4;
+
+  private static final int REVISION_BYTES = 64;
+
+  private static final int SYNTHETIC_REVISION_BYTES = 48;
+
+  private static final int LIST_BYTES = 32;
+
+  private static final int STRING_BYTES = 40;
+
+  private static final int ID_BYTES = 24;
+
+  private static final int BOXED_BYTES = 16;
+
+  private static final int WIDE_BOXED_BYTES = 24;
+
+  private static final int OBJECT_BYTES = 32;
+
+  private static final int WINDOW = 0;
+
+  private static final int PROBATION = 1;
+
+  private static final int PROTECTED = 2;
+
+  private static final int REMOVED = -1;
+
+  private final InternalCDORevisionCache delegate;
+
+  private final long maxBytes;
+
+  private final long windowMaxBytes;
+
+  private final long mainMaxBytes;
+
+  private final long protectedMaxBytes;
+
+  private final boolean keyedByID;
+
+  private final Map<Object, Node> nodes = new ConcurrentHashMap<>();
+
+  private final ReentrantLock policyLock = new ReentrantLock();
+
+  private final FrequencySketch sketch;
+
+  private final NodeList window = new NodeList();
+
+  private final NodeList probation = new NodeList();
+
+  private final NodeList protectedSpace = new NodeList();
+
+  private long windowBytes;
+
+  private long probationBytes;
+
+  private long protectedBytes;
+
+  private final AtomicLong hitCount = new AtomicLong();
+
+  private final AtomicLong missCount = new AtomicLong();
+
+  private final AtomicLong evictionCount = new AtomicLong();
+
+  private volatile CDORevisionOffHeapCache secondLevel;
+
+  private final IListener delegateListener = new IListener()
+  {
+    @Override
+    public void notifyEvent(IEvent event)
+    {
+      if (event instanceof AdditionEvent)
+      {
+        revisionAdded((InternalCDORevision)((AdditionEvent)event).getRevision());
+      }
+    }
+  };
+
+  /**
+   * Creates a bounded cache around the given delegate cache. The delegate must be empty and must not be used directly
+   * anymore.
+   */
+  public CDORevisionCacheBounded(InternalCDORevisionCache delegate, long maxBytes)
+  {
+    CheckUtil.checkArg(delegate, "delegate"); //$NON-NLS-1$
+    CheckUtil.checkArg(maxBytes > 0, "maxBytes"); //$NON-NLS-1$
+
+    this.delegate = delegate;
+    this.maxBytes = maxBytes;
+
+    windowMaxBytes = Math.max(maxBytes * WINDOW_PERCENT / 100, 1);
+    mainMaxBytes = maxBytes - windowMaxBytes;
+    protectedMaxBytes = mainMaxBytes * PROTECTED_PERCENT / 100;
+
+    // A non-auditing cache holds at most one revision per object and silently replaces older versions.
+    keyedByID = delegate instanceof CDORevisionCacheNonAuditing;
+    sketch = new FrequencySketch(maxBytes / AVERAGE_REVISION_BYTES);
+
+    if (delegate instanceof AbstractCDORevisionCache)
+    {
+      ((AbstractCDORevisionCache)delegate).setStrongReferences(true);
+    }
+
+    delegate.addListener(delegateListener);
+  }
+
+  public final InternalCDORevisionCache getDelegate()
+  {
+    return delegate;
+  }
+
+  public final long getMaxBytes()
+  {
+    return maxBytes;
+  }
+
+  public long getCurrentBytes()
+  {
+    policyLock.lock();
+
+    try
+    {
+      return windowBytes + probationBytes + protectedBytes;
+    }
+    finally
+    {
+      policyLock.unlock();
+    }
+  }
+
+  public CacheStatistics getStatistics()
+  {
+    policyLock.lock();
+
+    try
+    {
+      return createStatistics();
+    }
+    finally
+    {
+      policyLock.unlock();
+    }
+  }
+
+  public CDORevisionOffHeapCache getSecondLevel()
+  {
+    return secondLevel;
+  }
+
+  /**
+   * Sets the off-heap store into which evicted revisions are demoted, or <code>null</code> to drop evicted revisions.
+   * The life cycle of the second level is managed by the caller.
+   */
+  public void setSecondLevel(CDORevisionOffHeapCache secondLevel)
+  {
+    this.secondLevel = secondLevel;
+  }
+
+  @Override
+  public void setBranchManager(CDOBranchManager branchManager)
+  {
+    super.setBranchManager(branchManager);
+    if (delegate instanceof AbstractCDORevisionCache)
+    {
+      ((AbstractCDORevisionCache)delegate).setBranchManager(branchManager);
+    }
+  }
+
+  @Override
+  public void setName(String name)
+  {
+    super.setName(name);
+    if (delegate instanceof AbstractCDORevisionCache)
+    {
+      ((AbstractCDORevisionCache)delegate).setName(name);
+    }
+  }
+
+  @Override
+  public InternalCDORevisionCache instantiate(CDORevision revision)
+  {
+    return new CDORevisionCacheBounded(delegate.instantiate(revision), maxBytes);
+  }
+
+  @Override
+  public EClass getObjectType(CDOID id)
+  {
+    return delegate.getObjectType(id);
+  }
+
+  @Override
+  public CDORevision getRevision(CDOID id, CDOBranchPoint branchPoint)
+  {
+    CDORevision revision = delegate.getRevision(id, branchPoint);
+    if (revision == null)
+    {
+      CDORevisionOffHeapCache secondLevel = this.secondLevel;
+      if (secondLevel != null)
+      {
+        revision = promote(secondLevel.promote(id, branchPoint));
+      }
+    }
+
+    recordAccess(revision);
+    return revision;
+  }
+
+  @Override
+  public CDORevision getRevisionByVersion(CDOID id, CDOBranchVersion branchVersion)
+  {
+    CDORevision revision = delegate.getRevisionByVersion(id, branchVersion);
+    if (revision == null)
+    {
+      CDORevisionOffHeapCache secondLevel = this.secondLevel;
+      if (secondLevel != null)
+      {
+        revision = promote(secondLevel.promoteByVersion(id, branchVersion));
+      }
+    }
+
+    recordAccess(revision);
+    return revision;
+  }
+
+  @Override
+  public List<CDORevision> getCurrentRevisions()
+  {
+    return delegate.getCurrentRevisions();
+  }
+
+  @Override
+  public void forEachCurrentRevision(Consumer<CDORevision> consumer)
+  {
+    delegate.forEachCurrentRevision(consumer);
+  }
+
+  @Override
+  public void forEachValidRevision(CDOBranchPoint branchPoint, boolean considerBranchBases, Consumer<CDORevision> consumer)
+  {
+    delegate.forEachValidRevision(branchPoint, considerBranchBases, consumer);
+  }
+
+  @Override
+  public void forEachRevision(Consumer<CDORevision> consumer)
+  {
+    delegate.forEachRevision(consumer);
+  }
+
+  @Override
+  public Map<CDOBranch, List<CDORevision>> getAllRevisions()
+  {
+    return delegate.getAllRevisions();
+  }
+
+  @Override
+  public void getAllRevisions(List<InternalCDORevision> result)
+  {
+    delegate.getAllRevisions(result);
+  }
+
+  @Override
+  public List<CDORevision> getRevisions(CDOBranchPoint branchPoint)
+  {
+    return delegate.getRevisions(branchPoint);
+  }
+
+  @Override
+  public CDORevision internRevision(CDORevision revision)
+  {
+    // Additions are tracked through the delegateListener.
+    return delegate.internRevision(revision);
+  }
+
+  @Override
+  protected CDORevision doRemoveRevision(CDOID id, CDOBranchVersion branchVersion)
+  {
+    // The auditing caches don't return the removed revision, so untrack by key.
+    CDORevision revision = delegate.removeRevision(id, branchVersion);
+
+    CDORevisionOffHeapCache secondLevel = this.secondLevel;
+    if (secondLevel != null)
+    {
+      secondLevel.remove(id, branchVersion);
+    }
+
+    CDOBranch branch = branchVersion.getBranch();
+    int version = branchVersion.getVersion();
+    policyLock.lock();
+
+    try
+    {
+      Node node = nodes.get(createKey(id, branch, version));
+      if (node != null && node.revision.getVersion() == version)
+      {
+        nodes.remove(node.key);
+        unlink(node);
+      }
+    }
+    finally
+    {
+      policyLock.unlock();
+    }
+
+    return revision;
+  }
+
+  @Override
+  public void removeRevisions(CDOBranch... branches)
+  {
+    delegate.removeRevisions(branches);
+
+    if (branches != null && branches.length != 0)
+    {
+      Set<CDOBranch> branchSet = new HashSet<>(Arrays.asList(branches));
+
+      CDORevisionOffHeapCache secondLevel = this.secondLevel;
+      if (secondLevel != null)
+      {
+        secondLevel.removeBranches(branchSet);
+      }
+
+      policyLock.lock();
+
+      try
+      {
+        for (Iterator<Node> it = nodes.values().iterator(); it.hasNext();)
+        {
+          Node node = it.next();
+          if (branchSet.contains(node.revision.getBranch()))
+          {
+            it.remove();
+            unlink(node);
+          }
+        }
+      }
+      finally
+      {
+        policyLock.unlock();
+      }
+    }
+  }
+
+  @Override
+  public void clear()
+  {
+    policyLock.lock();
+
+    try
+    {
+      delegate.clear();
+      nodes.clear();
+
+      CDORevisionOffHeapCache secondLevel = this.secondLevel;
+      if (secondLevel != null)
+      {
+        secondLevel.clear();
+      }
+
+      window.clear();
+      probation.clear();
+      protectedSpace.clear();
+      windowBytes = 0;
+      probationBytes = 0;
+      protectedBytes = 0;
+    }
+    finally
+    {
+      policyLock.unlock();
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    String name = getName();
+    return "CDORevisionCacheBounded" + (name == null ? "" : "-" + name); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * Returns an estimate of the number of heap bytes that the given revision retains, assuming compressed references.
+   * Shared objects, like {@link EClass classes} and {@link CDOBranch branches}, are not accounted for.
+   */
+  protected long estimateSize(InternalCDORevision revision)
+  {
+    if (revision instanceof CDORevisionImpl)
+    {
+      long size = REVISION_BYTES;
+
+      Object[] values = ((CDORevisionImpl)revision).getValues();
+      if (values != null)
+      {
+        size += estimateArraySize(values);
+      }
+
+      return size;
+    }
+
+    if (revision instanceof CompactCDORevision)
+    {
+      CompactCDORevision compactRevision = (CompactCDORevision)revision;
+      long size = REVISION_BYTES + 2 * REFERENCE_BYTES;
+
+      long[] words = compactRevision.getWords();
+      if (words != null)
+      {
+        size += align(OBJECT_HEADER_BYTES + 8L * words.length);
+      }
+
+      size += estimateArraySize(compactRevision.getObjects());
+      size += estimateArraySize(compactRevision.getExceptions());
+      return size;
+    }
+
+    return SYNTHETIC_REVISION_BYTES;
+  }
+
+  /**
+   * Returns an estimate of the number of heap bytes that the given value of a revision retains.
+   */
+  protected long estimateValueSize(Object value)
+  {
+    if (value == null || value instanceof Boolean)
+    {
+      return 0;
+    }
+
+    if (value instanceof CompactCDOList)
+    {
+      int packedLength = ((CompactCDOList)value).getPackedLength();
+      if (packedLength != -1)
+      {
+        return LIST_BYTES + align(OBJECT_HEADER_BYTES + 8L * packedLength);
+      }
+    }
+
+    if (value instanceof CDOListImpl)
+    {
+      return LIST_BYTES + estimateArraySize(((CDOListImpl)value).data());
+    }
+
+    if (value instanceof CDOID)
+    {
+      return ((CDOID)value).isNull() ? 0 : ID_BYTES;
+    }
+
+    if (value instanceof String)
+    {
+      return align(STRING_BYTES + 2L * ((String)value).length());
+    }
+
+    if (value instanceof Long || value instanceof Double || value instanceof Date)
+    {
+      return WIDE_BOXED_BYTES;
+    }
+
+    if (value instanceof Number || value instanceof Character)
+    {
+      return BOXED_BYTES;
+    }
+
+    if (value instanceof byte[])
+    {
+      return align(OBJECT_HEADER_BYTES + ((byte[])value).length);
+    }
+
+    return OBJECT_BYTES;
+  }
+
+  private long estimateArraySize(Object[] array)
+  {
+    if (array == null)
+    {
+      return 0;
+    }
+
+    long size = align(OBJECT_HEADER_BYTES + (long)REFERENCE_BYTES * array.length);
+    for (int i = 0; i < array.length; i++)
+    {
+      size += estimateValueSize(array[i]);
+    }
+
+    return size;
+  }
+
+  @Override
+  protected void doActivate() throws Exception
+  {
+    super.doActivate();
+    LifecycleUtil.activate(delegate);
+  }
+
+  @Override
+  protected void doDeactivate() throws Exception
+  {
+    LifecycleUtil.deactivate(delegate);
+    super.doDeactivate();
+  }
+
+  private Object createKey(InternalCDORevision revision)
+  {
+    return createKey(revision.getID(), revision.getBranch(), revision.getVersion());
+  }
+
+  private Object createKey(CDOID id, CDOBranch branch, int version)
+  {
+    if (keyedByID)
+    {
+      return id;
+    }
+
+    return new CDORevisionKeyImpl(id, branch, version);
+  }
+
+  private CDORevision promote(InternalCDORevision revision)
+  {
+    if (revision == null)
+    {
+      return null;
+    }
+
+    return delegate.internRevision(revision);
+  }
+
+  private CacheStatistics createStatistics()
+  {
+    return new CacheStatistics(hitCount.get(), missCount.get(), evictionCount.get(), nodes.size(), windowBytes + probationBytes + protectedBytes,
+        maxBytes);
+  }
+
+  private void recordAccess(CDORevision revision)
+  {
+    if (revision == null)
+    {
+      missCount.incrementAndGet();
+      return;
+    }
+
+    hitCount.incrementAndGet();
+
+    Node node = nodes.get(createKey((InternalCDORevision)revision));
+    if (node != null && node.revision == revision)
+    {
+      // Reordering is best effort. Skipping it under contention keeps the read path from serializing on the policy.
+      if (policyLock.tryLock())
+      {
+        try
+        {
+          if (node.queue != REMOVED)
+          {
+            sketch.increment(node.hash);
+            onAccess(node);
+          }
+        }
+        finally
+        {
+          policyLock.unlock();
+        }
+      }
+    }
+  }
+
+  private void revisionAdded(InternalCDORevision revision)
+  {
+    Node node = new Node(createKey(revision), revision, estimateSize(revision));
+    CDORevisionOffHeapCache secondLevel = this.secondLevel;
+    List<Node> evicted;
+    CacheStatistics statistics;
+
+    policyLock.lock();
+
+    try
+    {
+      Node replaced = nodes.put(node.key, node);
+      if (replaced != null)
+      {
+        unlink(replaced);
+      }
+
+      sketch.increment(node.hash);
+
+      node.queue = WINDOW;
+      window.addFirst(node);
+      windowBytes += node.size;
+
+      evicted = evict();
+      statistics = createStatistics();
+
+      // Remove the evicted revisions from the delegate under the policy lock. Otherwise a concurrent addition of the
+      // same revision could be tracked by the policy while a late removal drops it from the delegate.
+      for (Node evictedNode : evicted)
+      {
+        InternalCDORevision evictedRevision = evictedNode.revision;
+        if (secondLevel != null)
+        {
+          // Demote before the removal, so that concurrent readers find the revision in one of the two levels.
+          secondLevel.demote(evictedRevision);
+        }
+
+        delegate.removeRevision(evictedRevision.getID(), evictedRevision);
+      }
+    }
+    finally
+    {
+      policyLock.unlock();
+    }
+
+    if (secondLevel != null && revision.getRevised() == CDOBranchPoint.UNSPECIFIED_DATE)
+    {
+      // Older versions in the second level are no longer the latest ones.
+      secondLevel.revise(revision.getID(), revision.getBranch(), revision.getVersion(), revision.getTimeStamp() - 1);
+    }
+
+    IListener[] listeners = getListeners();
+    if (listeners.length != 0)
+    {
+      fireEvent(new CacheAdditionEvent(this, revision, statistics), listeners);
+    }
+
+    for (Node evictedNode : evicted)
+    {
+      InternalCDORevision evictedRevision = evictedNode.revision;
+      if (TRACER.isEnabled())
+      {
+        TRACER.format("Evicted {0} from {1}", evictedRevision, this); //$NON-NLS-1$
+      }
+
+      if (listeners.length != 0)
+      {
+        fireEvent(new CacheEvictionEvent(this, evictedRevision, statistics), listeners);
+      }
+    }
+  }
+
+  /**
+   * Moves the overflow of the window into the main space. A candidate from the window only displaces the victim of the
+   * main space if it has been accessed more frequently; otherwise the candidate itself is evicted.
+   * Called under the policy lock.
+   */
+  private List<Node> evict()
+  {
+    List<Node> evicted = Collections.emptyList();
+
+    while (windowBytes > windowMaxBytes)
+    {
+      Node candidate = window.last();
+      window.remove(candidate);
+      windowBytes -= candidate.size;
+
+      candidate.queue = PROBATION;
+      probation.addFirst(candidate);
+      probationBytes += candidate.size;
+
+      while (probationBytes + protectedBytes > mainMaxBytes)
+      {
+        Node victim = probation.last();
+        if (victim == candidate)
+        {
+          // The candidate is the only probationary node.
+          victim = protectedSpace.last();
+        }
+
+        Node loser = candidate;
+        if (victim != null && sketch.frequency(candidate.hash) > sketch.frequency(victim.hash))
+        {
+          loser = victim;
+        }
+
+        nodes.remove(loser.key);
+        unlink(loser);
+        evictionCount.incrementAndGet();
+
+        if (evicted.isEmpty())
+        {
+          evicted = new ArrayList<>();
+        }
+
+        evicted.add(loser);
+
+        if (loser == candidate)
+        {
+          break;
+        }
+      }
+    }
+
+    return evicted;
+  }
+
+  /**
+   * Called under the policy lock.
+   */
+  private void onAccess(Node node)
+  {
+    switch (node.queue)
+    {
+    case WINDOW:
+      window.moveToFirst(node);
+      break;
+
+    case PROBATION:
+      probation.remove(node);
+      probationBytes -= node.size;
+
+      node.queue = PROTECTED;
+      protectedSpace.addFirst(node);
+      protectedBytes += node.size;
+
+      while (protectedBytes > protectedMaxBytes)
+      {
+        Node demoted = protectedSpace.last();
+        protectedSpace.remove(demoted);
+        protectedBytes -= demoted.size;
+
+        demoted.queue = PROBATION;
+        probation.addFirst(demoted);
+        probationBytes += demoted.size;
+      }
+
+      break;
+
+    case PROTECTED:
+      protectedSpace.moveToFirst(node);
+      break;
+
+    default:
+      break;
+    }
+  }
+
+  /**
+   * Called under the policy lock.
+   */
+  private void unlink(Node node)
+  {
+    switch (node.queue)
+    {
+    case WINDOW:
+      window.remove(node);
+      windowBytes -= node.size;
+      break;
+
+    case PROBATION:
+      probation.remove(node);
+      probationBytes -= node.size;
+      break;
+
+    case PROTECTED:
+      protectedSpace.remove(node);
+      protectedBytes -= node.size;
+      break;
+
+    default:
+      break;
+    }
+
+    node.queue = REMOVED;
+  }
+
+  private static long align(long size)
+  {
+    return size + 7 & ~7L;
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  private static final class Node
+  {
+    private final Object key;
+
+    private final int hash;
+
+    private final InternalCDORevision revision;
+
+    private final long size;
+
+    private int queue = REMOVED;
+
+    private Node previous;
+
+    private Node next;
+
+    public Node(Object key, InternalCDORevision revision, long size)
+    {
+      this.key = key;
+      hash = key.hashCode();
+      this.revision = revision;
+      this.size = size;
+    }
+
+    @Override
+    public String toString()
+    {
+      return revision + "[" + size + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+  }
+
+  /**
+   * A doubly linked list of {@link Node nodes}, ordered from the most recently used to the least recently used node.
+   *
+   * @author Eike Stepper
+   */
+  private static final class NodeList
+  {
+    private Node first;
+
+    private Node last;
+
+    public Node last()
+    {
+      return last;
+    }
+
+    public void addFirst(Node node)
+    {
+      node.previous = null;
+      node.next = first;
+
+      if (first == null)
+      {
+        last = node;
+      }
+      else
+      {
+        first.previous = node;
+      }
+
+      first = node;
+    }
+
+    public void remove(Node node)
+    {
+      if (node.previous == null)
+      {
+        first = node.next;
+      }
+      else
+      {
+        node.previous.next = node.next;
+      }
+
+      if (node.next == null)
+      {
+        last = node.previous;
+      }
+      else
+      {
+        node.next.previous = node.previous;
+      }
+
+      node.previous = null;
+      node.next = null;
+    }
+
+    public void moveToFirst(Node node)
+    {
+      if (node != first)
+      {
+        remove(node);
+        addFirst(node);
+      }
+    }
+
+    public void clear()
+    {
+      first = null;
+      last = null;
+    }
+  }
+
+  /**
+   * A count-min sketch with four 4-bit counters per key that estimates how often a key has been accessed recently.
+   * All counters are halved when the number of recorded accesses reaches a multiple of the table size, so that the
+   * frequencies of formerly popular keys decay over time.
+   *
+   * @author Eike Stepper
+   */
+  private static final class FrequencySketch
+  {
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private static final int[] SEEDS = { 0x97cb3127, 0xab7f1a61, 0x2bf5bb3b, 0x8d29f4b1 };
+
+    private static final int MIN_TABLE_SIZE = 16;
+
+    private static final int MAX_TABLE_SIZE = 1 << 24;
+
+    private final long[] table;
+
+    private final int tableMask;
+
+    private final int sampleSize;
+
+    private int additions;
+
+    public FrequencySketch(long expectedEntries)
+    {
+      int size = (int)Math.max(MIN_TABLE_SIZE, Math.min(MAX_TABLE_SIZE, expectedEntries));
+      size = Integer.highestOneBit(size - 1) << 1;
+
+      table = new long[size];
+      tableMask = size - 1;
+      sampleSize = 10 * size;
+    }
+
+    public int frequency(int hash)
+    {
+      int frequency = 15;
+      for (int i = 0; i < SEEDS.length; i++)
+      {
+        int h = rehash(hash, i);
+        int shift = (h & 15) << 2;
+        int counter = (int)(table[h >>> 4 & tableMask] >>> shift) & 15;
+        frequency = Math.min(frequency, counter);
+      }
+
+      return frequency;
+    }
+
+    public void increment(int hash)
+    {
+      boolean added = false;
+      for (int i = 0; i < SEEDS.length; i++)
+      {
+        int h = rehash(hash, i);
+        int shift = (h & 15) << 2;
+        int index = h >>> 4 & tableMask;
+
+        if ((table[index] >>> shift & 15) != 15)
+        {
+          table[index] += 1L << shift;
+          added = true;
+        }
+      }
+
+      if (added && ++additions >= sampleSize)
+      {
+        for (int i = 0; i < table.length; i++)
+        {
+          table[i] = table[i] >>> 1 & RESET_MASK;
+        }
+
+        additions >>>= 1;
+      }
+    }
+
+    private static int rehash(int hash, int i)
+    {
+      int h = hash * SEEDS[i];
+      h ^= h >>> 16;
+      h *= 0x45d9f3b;
+      return h ^ h >>> 16;
+    }
+  }
+}
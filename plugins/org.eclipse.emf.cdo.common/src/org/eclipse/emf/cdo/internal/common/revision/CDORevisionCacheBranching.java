@@ -22,37 +22,43 @@ import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevisionCache;
 import org.eclipse.emf.ecore.EClass;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Eike Stepper
  */
 public class CDORevisionCacheBranching extends CDORevisionCacheAuditing
 {
-  private final Map<CDOID, TypeAndRefCounter> typeMap = CDOIDUtil.createMap();
+  /**
+   * Modified only with the lock of the respective stripe being held, see {@link #typeRefIncrease(CDOID, EClass)}.
+   */
+  private final Map<CDOID, TypeAndRefCounter> typeMap = new ConcurrentHashMap<>();
 
   public CDORevisionCacheBranching()
   {
   }
 
+  public CDORevisionCacheBranching(int concurrencyLevel)
+  {
+    super(concurrencyLevel);
+  }
+
   @Override
   public InternalCDORevisionCache instantiate(CDORevision revision)
   {
-    return new CDORevisionCacheBranching();
+    return new CDORevisionCacheBranching(getConcurrencyLevel());
   }
 
   @Override
   public EClass getObjectType(CDOID id)
   {
-    synchronized (revisionLists)
+    TypeAndRefCounter typeCounter = typeMap.get(id);
+    if (typeCounter != null)
     {
-      TypeAndRefCounter typeCounter = typeMap.get(id);
-      if (typeCounter != null)
-      {
-        return typeCounter.getType();
-      }
-
-      return null;
+      return typeCounter.getType();
     }
+
+    return null;
   }
 
   @Override
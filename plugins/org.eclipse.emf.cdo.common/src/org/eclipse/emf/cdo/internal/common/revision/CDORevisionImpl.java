@@ -77,6 +77,15 @@ public class CDORevisionImpl extends BaseCDORevision
     return new CDORevisionImpl(this);
   }
 
+  /**
+   * Returns the raw values array of this revision, or <code>null</code> if the READ permission is missing.
+   * Used by {@link CDORevisionCacheBounded} to estimate the memory footprint of this revision.
+   */
+  Object[] getValues()
+  {
+    return values;
+  }
+
   @Override
   protected void initValues(EStructuralFeature[] allPersistentFeatures)
   {
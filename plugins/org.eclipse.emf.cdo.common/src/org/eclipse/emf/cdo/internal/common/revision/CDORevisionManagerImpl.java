@@ -39,6 +39,7 @@ import org.eclipse.net4j.util.ReflectUtil.ExcludeFromDump;
 import org.eclipse.net4j.util.event.Event;
 import org.eclipse.net4j.util.lifecycle.Lifecycle;
 import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
+import org.eclipse.net4j.util.om.OMPlatform;
 import org.eclipse.net4j.util.om.trace.ContextTracer;
 
 import org.eclipse.emf.ecore.EClass;
@@ -56,8 +57,19 @@ public class CDORevisionManagerImpl extends Lifecycle implements InternalCDORevi
 {
   private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG_REVISION, CDORevisionManagerImpl.class);
 
+  private static final int DEFAULT_CACHE_CONCURRENCY_LEVEL = OMPlatform.INSTANCE
+      .getProperty("org.eclipse.emf.cdo.common.revision.CDORevisionManager.cacheConcurrencyLevel", 1);
+
+  private static final long DEFAULT_CACHE_MAX_BYTES = OMPlatform.INSTANCE.getProperty("org.eclipse.emf.cdo.common.revision.CDORevisionManager.cacheMaxBytes", 0L);
+
+  private static final boolean COMPACT_REVISIONS = OMPlatform.INSTANCE.isProperty("org.eclipse.emf.cdo.common.revision.CDORevisionManager.compactRevisions"); //$NON-NLS-1$
+
   private boolean supportingAudits;
 
+  private int cacheConcurrencyLevel = DEFAULT_CACHE_CONCURRENCY_LEVEL;
+
+  private long cacheMaxBytes = DEFAULT_CACHE_MAX_BYTES;
+
   private boolean supportingBranches;
 
   private RevisionLoader revisionLoader;
@@ -118,6 +130,41 @@ public class CDORevisionManagerImpl extends Lifecycle implements InternalCDORevi
     supportingBranches = on;
   }
 
+  public int getCacheConcurrencyLevel()
+  {
+    return cacheConcurrencyLevel;
+  }
+
+  /**
+   * Sets the number of independently locked stripes of the revision cache that this revision manager creates if no
+   * {@link #setCache(CDORevisionCache) cache} has been set before activation.
+   *
+   * @see CDORevisionUtil#createRevisionCache(boolean, boolean, int)
+   */
+  public void setCacheConcurrencyLevel(int cacheConcurrencyLevel)
+  {
+    checkInactive();
+    this.cacheConcurrencyLevel = cacheConcurrencyLevel;
+  }
+
+  public long getCacheMaxBytes()
+  {
+    return cacheMaxBytes;
+  }
+
+  /**
+   * Sets the memory budget of the revision cache that this revision manager creates if no
+   * {@link #setCache(CDORevisionCache) cache} has been set before activation. A value of <code>0</code> or less
+   * creates a memory sensitive cache.
+   *
+   * @see CDORevisionUtil#createRevisionCache(boolean, boolean, int, long)
+   */
+  public void setCacheMaxBytes(long cacheMaxBytes)
+  {
+    checkInactive();
+    this.cacheMaxBytes = cacheMaxBytes;
+  }
+
   @Override
   public RevisionLoader getRevisionLoader()
   {
@@ -615,12 +662,12 @@ public class CDORevisionManagerImpl extends Lifecycle implements InternalCDORevi
     super.doBeforeActivate();
     if (factory == null)
     {
-      factory = CDORevisionFactory.DEFAULT;
+      factory = COMPACT_REVISIONS ? CDORevisionFactory.COMPACT : CDORevisionFactory.DEFAULT;
     }
 
     if (cache == null)
     {
-      cache = (InternalCDORevisionCache)CDORevisionUtil.createRevisionCache(supportingAudits, supportingBranches);
+      cache = (InternalCDORevisionCache)CDORevisionUtil.createRevisionCache(supportingAudits, supportingBranches, cacheConcurrencyLevel, cacheMaxBytes);
     }
 
     if (cache instanceof AbstractCDORevisionCache)
@@ -0,0 +1,886 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.internal.common.revision;
+
+import org.eclipse.emf.cdo.common.branch.CDOBranch;
+import org.eclipse.emf.cdo.common.branch.CDOBranchManager;
+import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
+import org.eclipse.emf.cdo.common.branch.CDOBranchVersion;
+import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.common.id.CDOIDProvider;
+import org.eclipse.emf.cdo.common.id.CDOIDUtil;
+import org.eclipse.emf.cdo.common.model.CDOPackageRegistry;
+import org.eclipse.emf.cdo.common.protocol.CDODataInput;
+import org.eclipse.emf.cdo.common.protocol.CDODataOutput;
+import org.eclipse.emf.cdo.common.revision.CDOListFactory;
+import org.eclipse.emf.cdo.common.revision.CDORevision;
+import org.eclipse.emf.cdo.common.revision.CDORevisionFactory;
+import org.eclipse.emf.cdo.common.util.CDOCommonUtil;
+import org.eclipse.emf.cdo.internal.common.bundle.OM;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
+
+import org.eclipse.net4j.util.CheckUtil;
+import org.eclipse.net4j.util.WrappedException;
+import org.eclipse.net4j.util.io.ExtendedDataInputStream;
+import org.eclipse.net4j.util.io.ExtendedDataOutputStream;
+import org.eclipse.net4j.util.io.IOUtil;
+import org.eclipse.net4j.util.lifecycle.Lifecycle;
+import org.eclipse.net4j.util.om.trace.ContextTracer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A second-level revision store below a {@link CDORevisionCacheBounded bounded revision cache} that keeps serialized
+ * revisions off the Java heap, in a memory-mapped temporary file.
+ * <p>
+ * Revisions that are evicted from the heap are {@link #demote(InternalCDORevision) demoted} into this store in the
+ * format of {@link InternalCDORevision#write(CDODataOutput, int) InternalCDORevision.write()}. A subsequent read of such
+ * a revision {@link #promote(CDOID, CDOBranchPoint) promotes} it back to the heap without accessing the backend store.
+ * <p>
+ * The file is divided into fixed-size segments that are filled one after the other and reused in a round-robin
+ * fashion. When a segment is reused, all revisions that it contains are dropped, so the oldest demotions are the first
+ * to go. A revision is stored at most once; promoting it removes it from this store.
+ * <p>
+ * No Java object is kept per stored revision. Each record in the file starts with a header that contains the ID, branch,
+ * version and time stamps of its revision. The records are found through an open-addressing hash table in a direct
+ * buffer, whose entries map the hash of an ID and branch to the location of a record in the file.
+ *
+ * @author Eike Stepper
+ */
+public class CDORevisionOffHeapCache extends Lifecycle
+{
+  public static final int DEFAULT_SEGMENT_BYTES = 64 * 1024 * 1024;
+
+  private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG_REVISION, CDORevisionOffHeapCache.class);
+
+  private static final String FILE_PREFIX = "cdo-revisions-"; //$NON-NLS-1$
+
+  private static final String FILE_SUFFIX = ".bin"; //$NON-NLS-1$
+
+  // Record header layout: length, version, timeStamp, revised, branchID, flags, keyLength, key bytes.
+
+  private static final int RECORD_LENGTH = 0;
+
+  private static final int RECORD_VERSION = 4;
+
+  private static final int RECORD_TIME_STAMP = 8;
+
+  private static final int RECORD_REVISED = 16;
+
+  private static final int RECORD_BRANCH = 24;
+
+  private static final int RECORD_FLAGS = 28;
+
+  private static final int RECORD_KEY_LENGTH = 29;
+
+  private static final int RECORD_KEY = 31;
+
+  private static final byte FLAG_FROZEN = 1;
+
+  private static final byte FLAG_COMPACT = 2;
+
+  private static final byte FLAG_REMOVED = 4;
+
+  // Index entry layout: hash, location.
+
+  private static final int ENTRY_BYTES = 16;
+
+  private static final long EMPTY = 0;
+
+  private static final long DELETED = 1;
+
+  private static final int MIN_INDEX_CAPACITY = 1024;
+
+  private static final int MAX_INDEX_CAPACITY = 1 << 26;
+
+  private final File folder;
+
+  private final long maxBytes;
+
+  private final int segmentBytes;
+
+  private final int segmentCount;
+
+  private CDOPackageRegistry packageRegistry;
+
+  private CDOBranchManager branchManager;
+
+  private File file;
+
+  private RandomAccessFile randomAccessFile;
+
+  private FileChannel channel;
+
+  private MappedByteBuffer[] segments;
+
+  /**
+   * The number of bytes that are used by the records in each segment.
+   */
+  private int[] segmentEnds;
+
+  private ByteBuffer index;
+
+  private int indexCapacity;
+
+  private int indexEntries;
+
+  private int indexDeleted;
+
+  private int currentSegment;
+
+  private int currentOffset;
+
+  private int revisionCount;
+
+  private long usedBytes;
+
+  private long demotionCount;
+
+  private long promotionCount;
+
+  private long dropCount;
+
+  public CDORevisionOffHeapCache(File folder, long maxBytes)
+  {
+    this(folder, maxBytes, DEFAULT_SEGMENT_BYTES);
+  }
+
+  public CDORevisionOffHeapCache(File folder, long maxBytes, int segmentBytes)
+  {
+    CheckUtil.checkArg(maxBytes > 0, "maxBytes"); //$NON-NLS-1$
+    CheckUtil.checkArg(segmentBytes > 0, "segmentBytes"); //$NON-NLS-1$
+
+    this.folder = folder;
+    this.maxBytes = maxBytes;
+    this.segmentBytes = (int)Math.min(segmentBytes, maxBytes);
+
+    long count = (maxBytes + this.segmentBytes - 1) / this.segmentBytes;
+    CheckUtil.checkArg(count <= Integer.MAX_VALUE, "maxBytes"); //$NON-NLS-1$
+    segmentCount = (int)count;
+  }
+
+  /**
+   * Returns the folder in which the backing file is created, or <code>null</code> for the default temporary folder.
+   */
+  public final File getFolder()
+  {
+    return folder;
+  }
+
+  public final long getMaxBytes()
+  {
+    return maxBytes;
+  }
+
+  public final int getSegmentBytes()
+  {
+    return segmentBytes;
+  }
+
+  public final File getFile()
+  {
+    return file;
+  }
+
+  public CDOPackageRegistry getPackageRegistry()
+  {
+    return packageRegistry;
+  }
+
+  public void setPackageRegistry(CDOPackageRegistry packageRegistry)
+  {
+    checkInactive();
+    this.packageRegistry = packageRegistry;
+  }
+
+  public CDOBranchManager getBranchManager()
+  {
+    return branchManager;
+  }
+
+  public void setBranchManager(CDOBranchManager branchManager)
+  {
+    checkInactive();
+    this.branchManager = branchManager;
+  }
+
+  public synchronized int getRevisionCount()
+  {
+    return revisionCount;
+  }
+
+  /**
+   * Returns the number of bytes in the file that are used by the stored revisions, including their record headers.
+   */
+  public synchronized long getUsedBytes()
+  {
+    return usedBytes;
+  }
+
+  /**
+   * Returns the number of bytes of the index, which is allocated off the Java heap, too.
+   */
+  public synchronized long getIndexBytes()
+  {
+    return (long)indexCapacity * ENTRY_BYTES;
+  }
+
+  public synchronized long getDemotionCount()
+  {
+    return demotionCount;
+  }
+
+  public synchronized long getPromotionCount()
+  {
+    return promotionCount;
+  }
+
+  /**
+   * Returns the number of revisions that have been dropped from this store because their segment was reused.
+   */
+  public synchronized long getDropCount()
+  {
+    return dropCount;
+  }
+
+  /**
+   * Serializes the given revision into this store. Revisions that are no {@link CDORevisionImpl regular} or
+   * {@link CompactCDORevision compact revisions} or that don't fit into a segment are not stored.
+   *
+   * @return <code>true</code> if the revision has been stored, <code>false</code> otherwise.
+   */
+  public boolean demote(InternalCDORevision revision)
+  {
+    boolean compact = revision instanceof CompactCDORevision;
+    if (!(compact || revision instanceof CDORevisionImpl) || !isActive())
+    {
+      return false;
+    }
+
+    byte[] key = getKey(revision.getID());
+    byte[] bytes;
+
+    try
+    {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      CDODataOutput out = CDOCommonUtil.createCDODataOutput(new ExtendedDataOutputStream(baos), packageRegistry, CDOIDProvider.NOOP, null);
+      out.writeCDORevision(revision, CDORevision.UNCHUNKED);
+      bytes = baos.toByteArray();
+    }
+    catch (IOException ex)
+    {
+      throw WrappedException.wrap(ex);
+    }
+
+    int length = RECORD_KEY + key.length + bytes.length;
+    if (length > segmentBytes)
+    {
+      return false;
+    }
+
+    int branchID = revision.getBranch().getID();
+    long hash = hash(ByteBuffer.wrap(key), 0, key.length, branchID);
+    int version = revision.getVersion();
+
+    byte flags = compact ? FLAG_COMPACT : 0;
+    if (revision.isFrozen())
+    {
+      flags |= FLAG_FROZEN;
+    }
+
+    synchronized (this)
+    {
+      if (!isActive())
+      {
+        return false;
+      }
+
+      if (findRecord(hash, branchID, key, version, CDOBranchPoint.INVALID_DATE) != -1)
+      {
+        // Already stored.
+        return true;
+      }
+
+      if (!ensureIndexCapacity())
+      {
+        return false;
+      }
+
+      if (currentOffset + length > segmentBytes)
+      {
+        nextSegment();
+      }
+
+      ByteBuffer buffer = getSegment(currentSegment).duplicate();
+      buffer.position(currentOffset);
+      buffer.putInt(length);
+      buffer.putInt(version);
+      buffer.putLong(revision.getTimeStamp());
+      buffer.putLong(revision.getRevised());
+      buffer.putInt(branchID);
+      buffer.put(flags);
+      buffer.putShort((short)key.length);
+      buffer.put(key);
+      buffer.put(bytes);
+
+      putEntry(hash, getLocation(currentSegment, currentOffset));
+      currentOffset += length;
+      segmentEnds[currentSegment] = currentOffset;
+
+      ++revisionCount;
+      usedBytes += length;
+      ++demotionCount;
+    }
+
+    if (TRACER.isEnabled())
+    {
+      TRACER.format("Demoted {0} to {1}", revision, this); //$NON-NLS-1$
+    }
+
+    return true;
+  }
+
+  /**
+   * Removes the revision that is valid at the given branch point from this store and returns it, or returns
+   * <code>null</code> if this store contains no such revision.
+   */
+  public InternalCDORevision promote(CDOID id, CDOBranchPoint branchPoint)
+  {
+    byte[] key = getKey(id);
+    int branchID = branchPoint.getBranch().getID();
+    long hash = hash(ByteBuffer.wrap(key), 0, key.length, branchID);
+    return promote(hash, branchID, key, CDOBranchVersion.UNSPECIFIED_VERSION, branchPoint.getTimeStamp());
+  }
+
+  /**
+   * Removes the revision with the given branch and version from this store and returns it, or returns
+   * <code>null</code> if this store contains no such revision.
+   */
+  public InternalCDORevision promoteByVersion(CDOID id, CDOBranchVersion branchVersion)
+  {
+    byte[] key = getKey(id);
+    int branchID = branchVersion.getBranch().getID();
+    long hash = hash(ByteBuffer.wrap(key), 0, key.length, branchID);
+    return promote(hash, branchID, key, branchVersion.getVersion(), CDOBranchPoint.INVALID_DATE);
+  }
+
+  /**
+   * Sets the revised time stamp of the stored revisions of the given object and branch that are older than the given
+   * version and not revised yet. Called when a newer version has been added to the heap.
+   */
+  public synchronized void revise(CDOID id, CDOBranch branch, int version, long revised)
+  {
+    if (index == null)
+    {
+      return;
+    }
+
+    byte[] key = getKey(id);
+    int branchID = branch.getID();
+    long hash = hash(ByteBuffer.wrap(key), 0, key.length, branchID);
+
+    for (int slot = getFirstSlot(hash);; slot = getNextSlot(slot))
+    {
+      long entryHash = index.getLong(slot * ENTRY_BYTES);
+      if (entryHash == EMPTY)
+      {
+        break;
+      }
+
+      if (entryHash == hash)
+      {
+        long location = index.getLong(slot * ENTRY_BYTES + 8);
+        ByteBuffer segment = getSegment(getSegmentIndex(location));
+        int offset = getOffset(location);
+
+        if (matchesKey(segment, offset, branchID, key) && segment.getInt(offset + RECORD_VERSION) < version
+            && segment.getLong(offset + RECORD_REVISED) == CDOBranchPoint.UNSPECIFIED_DATE && revised >= segment.getLong(offset + RECORD_TIME_STAMP))
+        {
+          segment.putLong(offset + RECORD_REVISED, revised);
+        }
+      }
+    }
+  }
+
+  public synchronized void remove(CDOID id, CDOBranchVersion branchVersion)
+  {
+    if (index == null)
+    {
+      return;
+    }
+
+    byte[] key = getKey(id);
+    int branchID = branchVersion.getBranch().getID();
+    long hash = hash(ByteBuffer.wrap(key), 0, key.length, branchID);
+
+    long location = findRecord(hash, branchID, key, branchVersion.getVersion(), CDOBranchPoint.INVALID_DATE);
+    if (location != -1)
+    {
+      removeRecord(location, hash);
+    }
+  }
+
+  public synchronized void removeBranches(Set<CDOBranch> branches)
+  {
+    if (segments == null)
+    {
+      return;
+    }
+
+    Set<Integer> branchIDs = new HashSet<>();
+    for (CDOBranch branch : branches)
+    {
+      branchIDs.add(branch.getID());
+    }
+
+    for (int i = 0; i < segmentCount; i++)
+    {
+      int end = segmentEnds[i];
+      if (end != 0)
+      {
+        ByteBuffer segment = getSegment(i);
+        for (int offset = 0; offset < end; offset += segment.getInt(offset + RECORD_LENGTH))
+        {
+          if ((segment.get(offset + RECORD_FLAGS) & FLAG_REMOVED) == 0 && branchIDs.contains(segment.getInt(offset + RECORD_BRANCH)))
+          {
+            removeRecord(getLocation(i, offset), hashRecord(segment, offset));
+          }
+        }
+      }
+    }
+  }
+
+  public synchronized void clear()
+  {
+    if (segmentEnds != null)
+    {
+      Arrays.fill(segmentEnds, 0);
+      createIndex(MIN_INDEX_CAPACITY);
+    }
+
+    currentSegment = 0;
+    currentOffset = 0;
+    revisionCount = 0;
+    usedBytes = 0;
+  }
+
+  @Override
+  public String toString()
+  {
+    return "CDORevisionOffHeapCache[" + (file == null ? folder : file) + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  @Override
+  protected void doBeforeActivate() throws Exception
+  {
+    super.doBeforeActivate();
+    checkState(packageRegistry, "packageRegistry"); //$NON-NLS-1$
+    checkState(branchManager, "branchManager"); //$NON-NLS-1$
+  }
+
+  @Override
+  protected void doActivate() throws Exception
+  {
+    super.doActivate();
+
+    if (folder != null)
+    {
+      IOUtil.mkdirs(folder);
+    }
+
+    file = File.createTempFile(FILE_PREFIX, FILE_SUFFIX, folder);
+    file.deleteOnExit();
+
+    randomAccessFile = new RandomAccessFile(file, "rw"); //$NON-NLS-1$
+    channel = randomAccessFile.getChannel();
+
+    segments = new MappedByteBuffer[segmentCount];
+    segmentEnds = new int[segmentCount];
+    createIndex(MIN_INDEX_CAPACITY);
+  }
+
+  @Override
+  protected void doDeactivate() throws Exception
+  {
+    synchronized (this)
+    {
+      clear();
+      segments = null;
+      segmentEnds = null;
+      index = null;
+      indexCapacity = 0;
+    }
+
+    IOUtil.closeSilent(channel);
+    IOUtil.closeSilent(randomAccessFile);
+    channel = null;
+    randomAccessFile = null;
+
+    if (file != null)
+    {
+      // On some platforms the file can only be deleted after the mapped buffers have been garbage collected.
+      if (!file.delete())
+      {
+        file.deleteOnExit();
+      }
+
+      file = null;
+    }
+
+    super.doDeactivate();
+  }
+
+  private InternalCDORevision promote(long hash, int branchID, byte[] key, int version, long timeStamp)
+  {
+    byte[] bytes;
+    byte flags;
+    long revised;
+
+    synchronized (this)
+    {
+      if (index == null)
+      {
+        return null;
+      }
+
+      long location = findRecord(hash, branchID, key, version, timeStamp);
+      if (location == -1)
+      {
+        return null;
+      }
+
+      ByteBuffer segment = getSegment(getSegmentIndex(location));
+      int offset = getOffset(location);
+      int start = offset + RECORD_KEY + key.length;
+
+      flags = segment.get(offset + RECORD_FLAGS);
+      revised = segment.getLong(offset + RECORD_REVISED);
+      bytes = new byte[offset + segment.getInt(offset + RECORD_LENGTH) - start];
+
+      ByteBuffer buffer = segment.duplicate();
+      buffer.position(start);
+      buffer.get(bytes);
+
+      removeRecord(location, hash);
+      ++promotionCount;
+    }
+
+    return deserialize(bytes, flags, revised);
+  }
+
+  private ByteBuffer getSegment(int index)
+  {
+    MappedByteBuffer segment = segments[index];
+    if (segment == null)
+    {
+      try
+      {
+        segment = channel.map(MapMode.READ_WRITE, (long)index * segmentBytes, segmentBytes);
+      }
+      catch (IOException ex)
+      {
+        throw WrappedException.wrap(ex);
+      }
+
+      segments[index] = segment;
+    }
+
+    return segment;
+  }
+
+  /**
+   * Called under the monitor of this store.
+   */
+  private void nextSegment()
+  {
+    currentSegment = (currentSegment + 1) % segmentCount;
+    currentOffset = 0;
+
+    int end = segmentEnds[currentSegment];
+    if (end != 0)
+    {
+      ByteBuffer segment = getSegment(currentSegment);
+      for (int offset = 0; offset < end; offset += segment.getInt(offset + RECORD_LENGTH))
+      {
+        if ((segment.get(offset + RECORD_FLAGS) & FLAG_REMOVED) == 0)
+        {
+          removeRecord(getLocation(currentSegment, offset), hashRecord(segment, offset));
+          ++dropCount;
+        }
+      }
+
+      segmentEnds[currentSegment] = 0;
+    }
+  }
+
+  /**
+   * Returns the location of the record with the given key and version, or of the record with the given key that is
+   * valid at the given time stamp, or <code>-1</code> if there is no such record. Called under the monitor of this
+   * store.
+   */
+  private long findRecord(long hash, int branchID, byte[] key, int version, long timeStamp)
+  {
+    for (int slot = getFirstSlot(hash);; slot = getNextSlot(slot))
+    {
+      long entryHash = index.getLong(slot * ENTRY_BYTES);
+      if (entryHash == EMPTY)
+      {
+        return -1;
+      }
+
+      if (entryHash == hash)
+      {
+        long location = index.getLong(slot * ENTRY_BYTES + 8);
+        ByteBuffer segment = getSegment(getSegmentIndex(location));
+        int offset = getOffset(location);
+
+        if (matchesKey(segment, offset, branchID, key))
+        {
+          if (version != CDOBranchVersion.UNSPECIFIED_VERSION)
+          {
+            if (segment.getInt(offset + RECORD_VERSION) == version)
+            {
+              return location;
+            }
+          }
+          else if (CDOCommonUtil.isValidTimeStamp(timeStamp, segment.getLong(offset + RECORD_TIME_STAMP), segment.getLong(offset + RECORD_REVISED)))
+          {
+            return location;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Marks the record at the given location as removed and removes its index entry. Called under the monitor of this
+   * store.
+   */
+  private void removeRecord(long location, long hash)
+  {
+    ByteBuffer segment = getSegment(getSegmentIndex(location));
+    int offset = getOffset(location);
+    segment.put(offset + RECORD_FLAGS, (byte)(segment.get(offset + RECORD_FLAGS) | FLAG_REMOVED));
+
+    for (int slot = getFirstSlot(hash);; slot = getNextSlot(slot))
+    {
+      long entryHash = index.getLong(slot * ENTRY_BYTES);
+      if (entryHash == EMPTY)
+      {
+        break;
+      }
+
+      if (entryHash == hash && index.getLong(slot * ENTRY_BYTES + 8) == location)
+      {
+        index.putLong(slot * ENTRY_BYTES, DELETED);
+        --indexEntries;
+        ++indexDeleted;
+        break;
+      }
+    }
+
+    --revisionCount;
+    usedBytes -= segment.getInt(offset + RECORD_LENGTH);
+  }
+
+  /**
+   * Called under the monitor of this store.
+   */
+  private void putEntry(long hash, long location)
+  {
+    for (int slot = getFirstSlot(hash);; slot = getNextSlot(slot))
+    {
+      long entryHash = index.getLong(slot * ENTRY_BYTES);
+      if (entryHash == EMPTY || entryHash == DELETED)
+      {
+        if (entryHash == DELETED)
+        {
+          --indexDeleted;
+        }
+
+        index.putLong(slot * ENTRY_BYTES, hash);
+        index.putLong(slot * ENTRY_BYTES + 8, location);
+        ++indexEntries;
+        return;
+      }
+    }
+  }
+
+  /**
+   * Grows or cleans up the index if one more entry would exceed its load factor of 3/4, so that the probe sequences
+   * stay short and always end at an empty slot. Called under the monitor of this store.
+   *
+   * @return <code>false</code> if the index can not take one more entry, <code>true</code> otherwise.
+   */
+  private boolean ensureIndexCapacity()
+  {
+    if (4L * (indexEntries + indexDeleted + 1) <= 3L * indexCapacity)
+    {
+      return true;
+    }
+
+    int capacity = indexCapacity;
+    if (2L * (indexEntries + 1) > capacity)
+    {
+      if (capacity == MAX_INDEX_CAPACITY)
+      {
+        return false;
+      }
+
+      capacity *= 2;
+    }
+
+    ByteBuffer oldIndex = index;
+    int oldCapacity = indexCapacity;
+    createIndex(capacity);
+
+    for (int slot = 0; slot < oldCapacity; slot++)
+    {
+      long hash = oldIndex.getLong(slot * ENTRY_BYTES);
+      if (hash != EMPTY && hash != DELETED)
+      {
+        putEntry(hash, oldIndex.getLong(slot * ENTRY_BYTES + 8));
+      }
+    }
+
+    return true;
+  }
+
+  private void createIndex(int capacity)
+  {
+    index = ByteBuffer.allocateDirect(capacity * ENTRY_BYTES);
+    indexCapacity = capacity;
+    indexEntries = 0;
+    indexDeleted = 0;
+  }
+
+  private int getFirstSlot(long hash)
+  {
+    return (int)(hash ^ hash >>> 32) & indexCapacity - 1;
+  }
+
+  private int getNextSlot(int slot)
+  {
+    return slot + 1 & indexCapacity - 1;
+  }
+
+  private InternalCDORevision deserialize(byte[] bytes, byte flags, long revised)
+  {
+    try
+    {
+      ExtendedDataInputStream stream = new ExtendedDataInputStream(new ByteArrayInputStream(bytes));
+      CDORevisionFactory revisionFactory = (flags & FLAG_COMPACT) != 0 ? CDORevisionFactory.COMPACT : CDORevisionFactory.DEFAULT;
+      CDODataInput in = CDOCommonUtil.createCDODataInput(stream, packageRegistry, branchManager, null, revisionFactory, CDOListFactory.DEFAULT, null);
+
+      InternalCDORevision revision = (InternalCDORevision)in.readCDORevision(false);
+      revision.setRevised(revised);
+
+      if ((flags & FLAG_FROZEN) != 0)
+      {
+        revision.freeze();
+      }
+
+      if (TRACER.isEnabled())
+      {
+        TRACER.format("Promoted {0} from {1}", revision, this); //$NON-NLS-1$
+      }
+
+      return revision;
+    }
+    catch (IOException ex)
+    {
+      throw WrappedException.wrap(ex);
+    }
+  }
+
+  private static byte[] getKey(CDOID id)
+  {
+    try
+    {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream(16);
+      CDOIDUtil.write(new ExtendedDataOutputStream(baos), id);
+      return baos.toByteArray();
+    }
+    catch (IOException ex)
+    {
+      throw WrappedException.wrap(ex);
+    }
+  }
+
+  private static boolean matchesKey(ByteBuffer segment, int offset, int branchID, byte[] key)
+  {
+    if (segment.getInt(offset + RECORD_BRANCH) != branchID || segment.getShort(offset + RECORD_KEY_LENGTH) != key.length)
+    {
+      return false;
+    }
+
+    for (int i = 0; i < key.length; i++)
+    {
+      if (segment.get(offset + RECORD_KEY + i) != key[i])
+      {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static long hashRecord(ByteBuffer segment, int offset)
+  {
+    return hash(segment, offset + RECORD_KEY, segment.getShort(offset + RECORD_KEY_LENGTH), segment.getInt(offset + RECORD_BRANCH));
+  }
+
+  /**
+   * Returns the 64-bit FNV-1a hash of the given key bytes and branch ID. The values {@link #EMPTY} and {@link #DELETED}
+   * are never returned.
+   */
+  private static long hash(ByteBuffer buffer, int offset, int length, int branchID)
+  {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < length; i++)
+    {
+      hash = (hash ^ buffer.get(offset + i) & 0xff) * 0x100000001b3L;
+    }
+
+    for (int i = 0; i < 32; i += 8)
+    {
+      hash = (hash ^ branchID >>> i & 0xff) * 0x100000001b3L;
+    }
+
+    return hash == EMPTY || hash == DELETED ? hash + 2 : hash;
+  }
+
+  private static long getLocation(int segment, int offset)
+  {
+    return (long)segment << 32 | offset;
+  }
+
+  private static int getSegmentIndex(long location)
+  {
+    return (int)(location >>> 32);
+  }
+
+  private static int getOffset(long location)
+  {
+    return (int)location;
+  }
+}
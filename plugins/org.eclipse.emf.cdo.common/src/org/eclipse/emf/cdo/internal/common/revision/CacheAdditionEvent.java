@@ -25,10 +25,18 @@ public final class CacheAdditionEvent extends Event implements AdditionEvent
 
   private final CDORevision revision;
 
+  private final CacheStatistics statistics;
+
   public CacheAdditionEvent(CDORevisionCache cache, CDORevision revision)
+  {
+    this(cache, revision, null);
+  }
+
+  public CacheAdditionEvent(CDORevisionCache cache, CDORevision revision, CacheStatistics statistics)
   {
     super(cache);
     this.revision = revision;
+    this.statistics = statistics;
   }
 
   @Override
@@ -42,4 +50,13 @@ public final class CacheAdditionEvent extends Event implements AdditionEvent
   {
     return revision;
   }
+
+  /**
+   * Returns the counters of the source cache at the time of this event, or <code>null</code> if the source cache does
+   * not maintain statistics.
+   */
+  public CacheStatistics getStatistics()
+  {
+    return statistics;
+  }
 }
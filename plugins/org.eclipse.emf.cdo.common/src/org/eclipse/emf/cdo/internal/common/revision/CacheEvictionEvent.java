@@ -28,10 +28,18 @@ public final class CacheEvictionEvent extends Event implements EvictionEvent
 
   private final CDORevisionKey key;
 
+  private final CacheStatistics statistics;
+
   public CacheEvictionEvent(CDORevisionCache cache, CDORevisionKey key)
+  {
+    this(cache, key, null);
+  }
+
+  public CacheEvictionEvent(CDORevisionCache cache, CDORevisionKey key, CacheStatistics statistics)
   {
     super(cache);
     this.key = key;
+    this.statistics = statistics;
   }
 
   @Override
@@ -68,4 +76,13 @@ public final class CacheEvictionEvent extends Event implements EvictionEvent
 
     return null;
   }
+
+  /**
+   * Returns the counters of the source cache at the time of this event, or <code>null</code> if the source cache does
+   * not maintain statistics.
+   */
+  public CacheStatistics getStatistics()
+  {
+    return statistics;
+  }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.internal.common.revision;
+
+import java.io.Serializable;
+import java.text.MessageFormat;
+
+/**
+ * An immutable snapshot of the counters of a {@link CDORevisionCacheBounded bounded revision cache}.
+ *
+ * @author Eike Stepper
+ */
+public final class CacheStatistics implements Serializable
+{
+  private static final long serialVersionUID = 1L;
+
+  private final long hitCount;
+
+  private final long missCount;
+
+  private final long evictionCount;
+
+  private final int revisionCount;
+
+  private final long currentBytes;
+
+  private final long maxBytes;
+
+  public CacheStatistics(long hitCount, long missCount, long evictionCount, int revisionCount, long currentBytes, long maxBytes)
+  {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+    this.revisionCount = revisionCount;
+    this.currentBytes = currentBytes;
+    this.maxBytes = maxBytes;
+  }
+
+  public long getHitCount()
+  {
+    return hitCount;
+  }
+
+  public long getMissCount()
+  {
+    return missCount;
+  }
+
+  public double getHitRate()
+  {
+    long requestCount = hitCount + missCount;
+    return requestCount == 0 ? 1.0d : (double)hitCount / requestCount;
+  }
+
+  public long getEvictionCount()
+  {
+    return evictionCount;
+  }
+
+  public int getRevisionCount()
+  {
+    return revisionCount;
+  }
+
+  public long getCurrentBytes()
+  {
+    return currentBytes;
+  }
+
+  public long getMaxBytes()
+  {
+    return maxBytes;
+  }
+
+  @Override
+  public String toString()
+  {
+    return MessageFormat.format("CacheStatistics[hits={0}, misses={1}, evictions={2}, revisions={3}, bytes={4}/{5}]", hitCount, missCount, evictionCount, //$NON-NLS-1$
+        revisionCount, currentBytes, maxBytes);
+  }
+}
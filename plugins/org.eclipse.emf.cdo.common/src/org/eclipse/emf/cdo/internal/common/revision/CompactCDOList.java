@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.internal.common.revision;
+
+import org.eclipse.emf.cdo.internal.common.revision.CompactCDORevision.Layout;
+import org.eclipse.emf.cdo.spi.common.revision.CDOReferenceAdjuster;
+
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A frozen {@link CDOListImpl list} that packs its elements into a <code>long[]</code> array, if all elements are of the
+ * same primitive wrapper type.
+ * <p>
+ * The packed elements are decoded on every read access. Searches compare the packed bits without decoding them.
+ * All other accesses, including the modifications that are permitted on frozen lists, inflate the list into an
+ * ordinary data array first.
+ *
+ * @author Eike Stepper
+ */
+public final class CompactCDOList extends CDOListImpl
+{
+  private static final long serialVersionUID = 1L;
+
+  private final byte kind;
+
+  /**
+   * The packed elements, or <code>null</code> if this list is inflated.
+   */
+  private transient volatile long[] packed;
+
+  private CompactCDOList(CDOListImpl source, byte kind, long[] packed)
+  {
+    super(0, 0);
+    this.kind = kind;
+    this.packed = packed;
+    size = packed.length;
+    data = null;
+    setUseEquals(source.useEquals());
+    freeze();
+  }
+
+  /**
+   * Returns the number of packed elements, or <code>-1</code> if this list is inflated.
+   * Used by {@link CDORevisionCacheBounded} to estimate the memory footprint of this list.
+   */
+  public int getPackedLength()
+  {
+    long[] packed = this.packed;
+    return packed == null ? -1 : packed.length;
+  }
+
+  @Override
+  public Object get(int index)
+  {
+    long[] packed = this.packed;
+    if (packed != null)
+    {
+      return getPacked(packed, index);
+    }
+
+    return super.get(index);
+  }
+
+  @Override
+  public Object get(int index, boolean resolve)
+  {
+    return get(index);
+  }
+
+  @Override
+  public Object basicGet(int index)
+  {
+    long[] packed = this.packed;
+    if (packed != null)
+    {
+      return getPacked(packed, index);
+    }
+
+    return super.basicGet(index);
+  }
+
+  @Override
+  protected Object primitiveGet(int index)
+  {
+    long[] packed = this.packed;
+    if (packed != null)
+    {
+      return Layout.decode(kind, packed[index]);
+    }
+
+    return super.primitiveGet(index);
+  }
+
+  @Override
+  public boolean contains(Object object)
+  {
+    return indexOf(object) != -1;
+  }
+
+  @Override
+  public int indexOf(Object object)
+  {
+    long[] packed = this.packed;
+    if (packed != null && useEquals())
+    {
+      if (!Layout.isPackable(kind, object))
+      {
+        // All elements are of the same wrapper type, so they can't be equal to the given object.
+        return -1;
+      }
+
+      long bits = Layout.encode(kind, object);
+      for (int i = 0; i < packed.length; i++)
+      {
+        if (Layout.equalBits(kind, packed[i], bits))
+        {
+          return i;
+        }
+      }
+
+      return -1;
+    }
+
+    // Identity comparisons need the inflated elements.
+    inflate();
+    return super.indexOf(object);
+  }
+
+  @Override
+  public int lastIndexOf(Object object)
+  {
+    long[] packed = this.packed;
+    if (packed != null && useEquals())
+    {
+      if (!Layout.isPackable(kind, object))
+      {
+        return -1;
+      }
+
+      long bits = Layout.encode(kind, object);
+      for (int i = packed.length - 1; i >= 0; --i)
+      {
+        if (Layout.equalBits(kind, packed[i], bits))
+        {
+          return i;
+        }
+      }
+
+      return -1;
+    }
+
+    inflate();
+    return super.lastIndexOf(object);
+  }
+
+  @Override
+  public Object[] toArray()
+  {
+    inflate();
+    return super.toArray();
+  }
+
+  @Override
+  public <T> T[] toArray(T[] array)
+  {
+    inflate();
+    return super.toArray(array);
+  }
+
+  @Override
+  public Object[] data()
+  {
+    inflate();
+    return super.data();
+  }
+
+  @Override
+  public void setData(int size, Object[] data)
+  {
+    packed = null;
+    super.setData(size, data);
+  }
+
+  @Override
+  public Object setUnique(int index, Object object)
+  {
+    inflate();
+    return super.setUnique(index, object);
+  }
+
+  @Override
+  public void addUnique(Object object)
+  {
+    inflate();
+    super.addUnique(object);
+  }
+
+  @Override
+  public void addUnique(int index, Object object)
+  {
+    inflate();
+    super.addUnique(index, object);
+  }
+
+  @Override
+  public boolean addAllUnique(Collection<? extends Object> collection)
+  {
+    inflate();
+    return super.addAllUnique(collection);
+  }
+
+  @Override
+  public boolean addAllUnique(int index, Collection<? extends Object> collection)
+  {
+    inflate();
+    return super.addAllUnique(index, collection);
+  }
+
+  @Override
+  public boolean addAllUnique(Object[] objects, int start, int end)
+  {
+    inflate();
+    return super.addAllUnique(objects, start, end);
+  }
+
+  @Override
+  public boolean addAllUnique(int index, Object[] objects, int start, int end)
+  {
+    inflate();
+    return super.addAllUnique(index, objects, start, end);
+  }
+
+  @Override
+  public Object remove(int index)
+  {
+    inflate();
+    return super.remove(index);
+  }
+
+  @Override
+  public void clear()
+  {
+    inflate();
+    super.clear();
+  }
+
+  @Override
+  public Object move(int targetIndex, int sourceIndex)
+  {
+    inflate();
+    return super.move(targetIndex, sourceIndex);
+  }
+
+  @Override
+  public void shrink()
+  {
+    inflate();
+    super.shrink();
+  }
+
+  @Override
+  public void grow(int minimumCapacity)
+  {
+    inflate();
+    super.grow(minimumCapacity);
+  }
+
+  @Override
+  public Object clone()
+  {
+    inflate();
+    return super.clone();
+  }
+
+  @Override
+  protected List<Object> basicList()
+  {
+    inflate();
+    return super.basicList();
+  }
+
+  @Override
+  public boolean adjustReferences(CDOReferenceAdjuster revisionAdjuster, EStructuralFeature feature)
+  {
+    inflate();
+    return super.adjustReferences(revisionAdjuster, feature);
+  }
+
+  @Override
+  public void setWithoutFrozenCheck(int index, Object element)
+  {
+    inflate();
+    super.setWithoutFrozenCheck(index, element);
+  }
+
+  private Object writeReplace()
+  {
+    inflate();
+    return this;
+  }
+
+  private Object getPacked(long[] packed, int index)
+  {
+    if (index >= size)
+    {
+      throw new IndexOutOfBoundsException(index, size);
+    }
+
+    return Layout.decode(kind, packed[index]);
+  }
+
+  private synchronized void inflate()
+  {
+    long[] packed = this.packed;
+    if (packed != null)
+    {
+      int length = packed.length;
+      Object[] data = new Object[length];
+      for (int i = 0; i < length; i++)
+      {
+        data[i] = Layout.decode(kind, packed[i]);
+      }
+
+      this.data = data;
+      this.packed = null;
+    }
+  }
+
+  /**
+   * Returns a compact copy of the given list, or <code>null</code> if the elements of the given list can't be packed.
+   */
+  public static CompactCDOList pack(CDOListImpl list)
+  {
+    int size = list.size();
+    if (size == 0)
+    {
+      return null;
+    }
+
+    byte kind = getKind(list.basicGet(0));
+    if (kind == Layout.OBJECT)
+    {
+      return null;
+    }
+
+    long[] packed = new long[size];
+    for (int i = 0; i < size; i++)
+    {
+      Object element = list.basicGet(i);
+      if (!Layout.isPackable(kind, element))
+      {
+        return null;
+      }
+
+      packed[i] = Layout.encode(kind, element);
+    }
+
+    return new CompactCDOList(list, kind, packed);
+  }
+
+  private static byte getKind(Object element)
+  {
+    if (element == null)
+    {
+      return Layout.OBJECT;
+    }
+
+    byte kind = Layout.getKind(element.getClass());
+    switch (kind)
+    {
+    case Layout.BOOLEAN:
+    case Layout.BYTE:
+    case Layout.CHAR:
+    case Layout.SHORT:
+      // The boxed values of these types are mostly cached, so that packing them wouldn't save any memory.
+      return Layout.OBJECT;
+
+    default:
+      return kind;
+    }
+  }
+}
@@ -0,0 +1,562 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.internal.common.revision;
+
+import org.eclipse.emf.cdo.common.model.CDOModelUtil;
+import org.eclipse.emf.cdo.common.model.CDOType;
+import org.eclipse.emf.cdo.internal.common.model.CDOClassInfoImpl;
+import org.eclipse.emf.cdo.spi.common.revision.BaseCDORevision;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDOList;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+/**
+ * A {@link BaseCDORevision revision} that packs the values of its single-valued primitive attributes into a
+ * <code>long[]</code> array, instead of storing them as boxed objects.
+ * <p>
+ * The bit offsets of the packed values are described by a {@link Layout layout} that is computed once per class.
+ * Values that can't be packed, for example <code>null</code>, are kept in an exception array that is only allocated
+ * when needed. Lists of primitives are packed into {@link CompactCDOList compact lists} when the revision is
+ * {@link #freeze() frozen}.
+ * <p>
+ * References are not packed. Long IDs are interned and compared by identity, so a packed ID would have to be looked up
+ * in the synchronized interner on every read, while a reference to the ID object costs no more than its packed value.
+ *
+ * @author Eike Stepper
+ */
+public class CompactCDORevision extends BaseCDORevision
+{
+  private static final long[] NO_WORDS = {};
+
+  private static final Object[] NO_OBJECTS = {};
+
+  /**
+   * The packed values, followed by one exception bit per packed value.
+   */
+  private long[] words;
+
+  private Object[] objects;
+
+  private Object[] exceptions;
+
+  public CompactCDORevision(EClass eClass)
+  {
+    super(eClass);
+  }
+
+  protected CompactCDORevision(CompactCDORevision source)
+  {
+    super(source);
+    boolean bypassPermissionChecks = bypassPermissionChecks(true);
+
+    try
+    {
+      EStructuralFeature[] features = clearValues();
+
+      int length = features.length;
+      for (int i = 0; i < length; i++)
+      {
+        EStructuralFeature feature = features[i];
+        if (feature.isMany())
+        {
+          InternalCDOList sourceList = (InternalCDOList)source.doGetValue(i);
+          if (sourceList != null)
+          {
+            EClassifier classifier = feature.getEType();
+            setValue(i, sourceList.clone(classifier));
+          }
+        }
+        else
+        {
+          CDOType type = CDOModelUtil.getType(feature);
+          setValue(i, type.copyValue(source.doGetValue(i)));
+        }
+      }
+    }
+    finally
+    {
+      bypassPermissionChecks(bypassPermissionChecks);
+    }
+  }
+
+  @Override
+  public InternalCDORevision copy()
+  {
+    return new CompactCDORevision(this);
+  }
+
+  @Override
+  public void freeze()
+  {
+    super.freeze();
+
+    Object[] objects = this.objects;
+    if (objects != null) // Can be null if READ permission is missing
+    {
+      for (int i = 0; i < objects.length; i++)
+      {
+        Object value = objects[i];
+        if (value != null && value.getClass() == CDOListImpl.class)
+        {
+          CompactCDOList list = CompactCDOList.pack((CDOListImpl)value);
+          if (list != null)
+          {
+            objects[i] = list;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the packed values of this revision, or <code>null</code> if the READ permission is missing.
+   * Used by {@link CDORevisionCacheBounded} to estimate the memory footprint of this revision.
+   */
+  long[] getWords()
+  {
+    return words;
+  }
+
+  /**
+   * Returns the unpacked values of this revision, or <code>null</code> if the READ permission is missing.
+   * Used by {@link CDORevisionCacheBounded} to estimate the memory footprint of this revision.
+   */
+  Object[] getObjects()
+  {
+    return objects;
+  }
+
+  /**
+   * Returns the values of packed features that could not be packed, or <code>null</code>.
+   * Used by {@link CDORevisionCacheBounded} to estimate the memory footprint of this revision.
+   */
+  Object[] getExceptions()
+  {
+    return exceptions;
+  }
+
+  @Override
+  protected void initValues(EStructuralFeature[] allPersistentFeatures)
+  {
+    Layout layout = getLayout();
+
+    int wordCount = layout.getWordCount();
+    if (wordCount == 0)
+    {
+      words = NO_WORDS;
+    }
+    else
+    {
+      words = new long[wordCount];
+
+      // Initially all packed values are null.
+      int packedCount = layout.packedCount;
+      for (int i = 0; i < packedCount; i++)
+      {
+        words[layout.dataWords + (i >>> 6)] |= 1L << i;
+      }
+    }
+
+    int objectCount = layout.objectCount;
+    objects = objectCount == 0 ? NO_OBJECTS : new Object[objectCount];
+    exceptions = null;
+  }
+
+  @Override
+  protected Object doGetValue(int featureIndex)
+  {
+    long[] words = this.words;
+    if (words == null) // Can be null if READ permission is missing
+    {
+      return null;
+    }
+
+    Layout layout = getLayout();
+    byte kind = layout.kinds[featureIndex];
+    int slot = layout.slots[featureIndex];
+
+    if (kind == Layout.OBJECT)
+    {
+      return objects[slot];
+    }
+
+    int packedIndex = layout.packedIndices[featureIndex];
+    if ((words[layout.dataWords + (packedIndex >>> 6)] & 1L << packedIndex) != 0)
+    {
+      Object[] exceptions = this.exceptions;
+      return exceptions == null ? null : exceptions[packedIndex];
+    }
+
+    long bits = readBits(words, slot, Layout.getWidth(kind));
+    return Layout.decode(kind, bits);
+  }
+
+  @Override
+  protected void doSetValue(int featureIndex, Object value)
+  {
+    long[] words = this.words;
+    if (words == null) // Can be null if READ permission is missing
+    {
+      return;
+    }
+
+    Layout layout = getLayout();
+    byte kind = layout.kinds[featureIndex];
+    int slot = layout.slots[featureIndex];
+
+    if (kind == Layout.OBJECT)
+    {
+      objects[slot] = value;
+      return;
+    }
+
+    int packedIndex = layout.packedIndices[featureIndex];
+    int exceptionWord = layout.dataWords + (packedIndex >>> 6);
+    long exceptionBit = 1L << packedIndex;
+
+    if (Layout.isPackable(kind, value))
+    {
+      writeBits(words, slot, Layout.getWidth(kind), Layout.encode(kind, value));
+      words[exceptionWord] &= ~exceptionBit;
+
+      if (exceptions != null)
+      {
+        exceptions[packedIndex] = null;
+      }
+    }
+    else
+    {
+      words[exceptionWord] |= exceptionBit;
+
+      if (value != null)
+      {
+        if (exceptions == null)
+        {
+          exceptions = new Object[layout.packedCount];
+        }
+
+        exceptions[packedIndex] = value;
+      }
+      else if (exceptions != null)
+      {
+        exceptions[packedIndex] = null;
+      }
+    }
+  }
+
+  private Layout getLayout()
+  {
+    return ((CDOClassInfoImpl)getClassInfo()).getCompactLayout();
+  }
+
+  private static long readBits(long[] words, int offset, int width)
+  {
+    long word = words[offset >>> 6] >>> (offset & 63);
+    return width == 64 ? word : word & (1L << width) - 1;
+  }
+
+  private static void writeBits(long[] words, int offset, int width, long bits)
+  {
+    int index = offset >>> 6;
+    int shift = offset & 63;
+
+    if (width == 64)
+    {
+      words[index] = bits;
+    }
+    else
+    {
+      long mask = (1L << width) - 1 << shift;
+      words[index] = words[index] & ~mask | bits << shift & mask;
+    }
+  }
+
+  /**
+   * Describes how the values of the {@link CDOClassInfoImpl#getAllPersistentFeatures() persistent features} of a class
+   * are stored in a {@link CompactCDORevision compact revision}.
+   * <p>
+   * Packed values are sorted by descending bit width, so that no value crosses a word boundary.
+   *
+   * @author Eike Stepper
+   */
+  public static final class Layout
+  {
+    static final byte OBJECT = 0;
+
+    static final byte BOOLEAN = 1;
+
+    static final byte BYTE = 2;
+
+    static final byte CHAR = 3;
+
+    static final byte SHORT = 4;
+
+    static final byte INT = 5;
+
+    static final byte FLOAT = 6;
+
+    static final byte LONG = 7;
+
+    static final byte DOUBLE = 8;
+
+    private static final int[] WIDTHS = { 0, 1, 8, 16, 16, 32, 32, 64, 64 };
+
+    /**
+     * The kind of each feature.
+     */
+    private final byte[] kinds;
+
+    /**
+     * The index into the objects array for unpacked features, the bit offset into the words array for packed features.
+     */
+    private final int[] slots;
+
+    /**
+     * The index of the exception bit for packed features.
+     */
+    private final int[] packedIndices;
+
+    private final int packedCount;
+
+    private final int objectCount;
+
+    private final int dataWords;
+
+    public Layout(EStructuralFeature[] features)
+    {
+      int length = features.length;
+      kinds = new byte[length];
+      slots = new int[length];
+      packedIndices = new int[length];
+
+      int objectCount = 0;
+      int packedCount = 0;
+
+      for (int i = 0; i < length; i++)
+      {
+        byte kind = getKind(features[i]);
+        kinds[i] = kind;
+
+        if (kind == OBJECT)
+        {
+          slots[i] = objectCount++;
+        }
+        else
+        {
+          packedIndices[i] = packedCount++;
+        }
+      }
+
+      int offset = 0;
+      for (int width = 64; width >= 1; width >>>= 1)
+      {
+        for (int i = 0; i < length; i++)
+        {
+          byte kind = kinds[i];
+          if (kind != OBJECT && WIDTHS[kind] == width)
+          {
+            slots[i] = offset;
+            offset += width;
+          }
+        }
+      }
+
+      this.objectCount = objectCount;
+      this.packedCount = packedCount;
+      dataWords = offset + 63 >>> 6;
+    }
+
+    public int getPackedCount()
+    {
+      return packedCount;
+    }
+
+    public int getObjectCount()
+    {
+      return objectCount;
+    }
+
+    /**
+     * Returns the number of words that are needed for the packed values and their exception bits.
+     */
+    public int getWordCount()
+    {
+      return dataWords + (packedCount + 63 >>> 6);
+    }
+
+    static int getWidth(byte kind)
+    {
+      return WIDTHS[kind];
+    }
+
+    static boolean isPackable(byte kind, Object value)
+    {
+      if (value == null)
+      {
+        return false;
+      }
+
+      Class<?> c = value.getClass();
+      switch (kind)
+      {
+      case BOOLEAN:
+        return c == Boolean.class;
+      case BYTE:
+        return c == Byte.class;
+      case CHAR:
+        return c == Character.class;
+      case SHORT:
+        return c == Short.class;
+      case INT:
+        return c == Integer.class;
+      case FLOAT:
+        return c == Float.class;
+      case LONG:
+        return c == Long.class;
+      case DOUBLE:
+        return c == Double.class;
+      default:
+        return false;
+      }
+    }
+
+    static long encode(byte kind, Object value)
+    {
+      switch (kind)
+      {
+      case BOOLEAN:
+        return (Boolean)value ? 1L : 0L;
+      case BYTE:
+        return (Byte)value & 0xffL;
+      case CHAR:
+        return (Character)value;
+      case SHORT:
+        return (Short)value & 0xffffL;
+      case INT:
+        return (Integer)value & 0xffffffffL;
+      case FLOAT:
+        return Float.floatToRawIntBits((Float)value) & 0xffffffffL;
+      case LONG:
+        return (Long)value;
+      case DOUBLE:
+        return Double.doubleToRawLongBits((Double)value);
+      default:
+        throw new IllegalArgumentException("Invalid kind: " + kind); //$NON-NLS-1$
+      }
+    }
+
+    static Object decode(byte kind, long bits)
+    {
+      switch (kind)
+      {
+      case BOOLEAN:
+        return bits != 0L;
+      case BYTE:
+        return (byte)bits;
+      case CHAR:
+        return (char)bits;
+      case SHORT:
+        return (short)bits;
+      case INT:
+        return (int)bits;
+      case FLOAT:
+        return Float.intBitsToFloat((int)bits);
+      case LONG:
+        return bits;
+      case DOUBLE:
+        return Double.longBitsToDouble(bits);
+      default:
+        throw new IllegalArgumentException("Invalid kind: " + kind); //$NON-NLS-1$
+      }
+    }
+
+    /**
+     * Returns <code>true</code> if the decoded values of the given bits are {@link Object#equals(Object) equal},
+     * without decoding them.
+     */
+    static boolean equalBits(byte kind, long bits1, long bits2)
+    {
+      switch (kind)
+      {
+      case FLOAT:
+        return Float.floatToIntBits(Float.intBitsToFloat((int)bits1)) == Float.floatToIntBits(Float.intBitsToFloat((int)bits2));
+      case DOUBLE:
+        return Double.doubleToLongBits(Double.longBitsToDouble(bits1)) == Double.doubleToLongBits(Double.longBitsToDouble(bits2));
+      default:
+        return bits1 == bits2;
+      }
+    }
+
+    static byte getKind(Class<?> instanceClass)
+    {
+      if (instanceClass == boolean.class || instanceClass == Boolean.class)
+      {
+        return BOOLEAN;
+      }
+
+      if (instanceClass == byte.class || instanceClass == Byte.class)
+      {
+        return BYTE;
+      }
+
+      if (instanceClass == char.class || instanceClass == Character.class)
+      {
+        return CHAR;
+      }
+
+      if (instanceClass == short.class || instanceClass == Short.class)
+      {
+        return SHORT;
+      }
+
+      if (instanceClass == int.class || instanceClass == Integer.class)
+      {
+        return INT;
+      }
+
+      if (instanceClass == float.class || instanceClass == Float.class)
+      {
+        return FLOAT;
+      }
+
+      if (instanceClass == long.class || instanceClass == Long.class)
+      {
+        return LONG;
+      }
+
+      if (instanceClass == double.class || instanceClass == Double.class)
+      {
+        return DOUBLE;
+      }
+
+      return OBJECT;
+    }
+
+    private static byte getKind(EStructuralFeature feature)
+    {
+      if (feature.isMany())
+      {
+        return OBJECT;
+      }
+
+      if (feature instanceof EAttribute)
+      {
+        return getKind(feature.getEType().getInstanceClass());
+      }
+
+      return OBJECT;
+    }
+  }
+}
@@ -24,6 +24,22 @@ import java.io.IOException;
  */
 public interface CDORawReplicationContext extends CDOReplicationInfo
 {
+  /**
+   * Returns the maximum number of commits that are replicated in one chunk, or zero if all missing commits are replicated in a single chunk.
+   * <p>
+   * Each chunk is received completely and verified before it's passed to {@link #replicateRaw(CDODataInput, OMMonitor) replicateRaw()}.
+   * After each chunk the {@link #getLastReplicatedCommitTime() last replicated commit time} must reflect the end of the chunk,
+   * so that the next chunk is requested from there.
+   * <p>
+   * The default implementation returns zero.
+   *
+   * @since 4.25
+   */
+  public default int getRawReplicationChunkSize()
+  {
+    return 0;
+  }
+
   /**
    * @since 4.0
    */
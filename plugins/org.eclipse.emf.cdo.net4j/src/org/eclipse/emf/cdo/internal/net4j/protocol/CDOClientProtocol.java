@@ -535,7 +535,28 @@ public class CDOClientProtocol extends AuthenticatingSignalProtocol<InternalCDOS
   @Override
   public void replicateRepositoryRaw(CDORawReplicationContext context, OMMonitor monitor)
   {
-    send(new ReplicateRepositoryRawRequest(this, context), monitor);
+    monitor.begin();
+
+    try
+    {
+      // The number of chunks is unknown upfront, so each chunk gets half of the remaining work.
+      double remainingWork = OMMonitor.ONE;
+      for (;;)
+      {
+        double work = remainingWork / 2;
+        remainingWork -= work;
+
+        boolean moreChunks = send(new ReplicateRepositoryRawRequest(this, context), monitor.fork(work));
+        if (!moreChunks)
+        {
+          break;
+        }
+      }
+    }
+    finally
+    {
+      monitor.done();
+    }
   }
 
   @Override
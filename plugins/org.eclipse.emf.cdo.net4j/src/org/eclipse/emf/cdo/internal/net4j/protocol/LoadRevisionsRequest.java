@@ -51,7 +51,7 @@ public class LoadRevisionsRequest extends CDOClientRequest<List<RevisionInfo>>
 
   private final int referenceChunk;
 
-  private final int prefetchDepth;
+  private int prefetchDepth;
 
   private final boolean prefetchLockStates;
 
@@ -79,8 +79,21 @@ public class LoadRevisionsRequest extends CDOClientRequest<List<RevisionInfo>>
     out.writeBoolean(prefetchLockStates);
 
     InternalCDOSession session = getSession();
+    CDOFetchRuleManager ruleManager = session.getFetchRuleManager();
     int size = infos.size();
 
+    Collection<CDOID> ids = new ArrayList<>(size);
+    for (RevisionInfo info : infos)
+    {
+      ids.add(info.getID());
+    }
+
+    if (prefetchDepth == CDORevision.DEPTH_NONE)
+    {
+      // Let the fetch rule manager predict the containment subtrees that are going to be traversed.
+      prefetchDepth = ruleManager.getPrefetchDepth(ids);
+    }
+
     if (prefetchDepth == CDORevision.DEPTH_NONE)
     {
       out.writeXInt(size);
@@ -136,14 +149,11 @@ public class LoadRevisionsRequest extends CDOClientRequest<List<RevisionInfo>>
       out.writeCDORevisionKey(null);
     }
 
-    Collection<CDOID> ids = new ArrayList<>(size);
     for (RevisionInfo info : infos)
     {
       info.write(out);
-      ids.add(info.getID());
     }
 
-    CDOFetchRuleManager ruleManager = session.getFetchRuleManager();
     List<CDOFetchRule> fetchRules = ruleManager.getFetchRules(ids);
     if (fetchRules == null || fetchRules.size() <= 0)
     {
@@ -38,14 +38,19 @@ public class ReplicateRepositoryRawRequest extends CDOClientRequestWithMonitorin
     int lastReplicatedBranchID = context.getLastReplicatedBranchID();
     long lastReplicatedCommitTime = context.getLastReplicatedCommitTime();
 
+    int chunkSize = context.getRawReplicationChunkSize();
+
     out.writeXInt(lastReplicatedBranchID);
     out.writeXLong(lastReplicatedCommitTime);
+    out.writeXInt(chunkSize);
   }
 
   @Override
   protected Boolean confirming(CDODataInput in, OMMonitor monitor) throws IOException
   {
     context.replicateRaw(in, monitor);
-    return true;
+
+    // Tell the caller whether more chunks are available.
+    return in.readBoolean();
   }
 }
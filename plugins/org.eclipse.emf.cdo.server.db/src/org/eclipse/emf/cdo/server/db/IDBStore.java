@@ -187,5 +187,55 @@ public interface IDBStore extends IStore, IDBConnectionProvider, CanHandleClient
      * @since 4.4
      */
     public static final String JDBC_FETCH_SIZE = "jdbcFetchSize"; //$NON-NLS-1$
+
+    /**
+     * The number of milliseconds that a group commit waits for concurrent commits to join it. If this property is
+     * specified the commits of concurrent transactions are written by a committer thread through one connection and
+     * committed in one database transaction. A value of <code>0</code> coalesces only the commits that are already in
+     * flight. While a group is written, the committer thread uses one connection in addition to the connections of the
+     * store accessors.
+     * <p>
+     * The write of each commit in a group is isolated by a savepoint, so that a failing commit doesn't fail the others.
+     * If the database doesn't support savepoints, a failing commit rolls back its whole group.
+     *
+     * @since 4.14
+     */
+    public static final String GROUP_COMMIT_WINDOW = "groupCommitWindow"; //$NON-NLS-1$
+
+    /**
+     * If set to <code>true</code> the store maintains a reverse reference index that maps the target IDs of the
+     * stored references to their sources. Cross reference queries are then answered with one indexed lookup
+     * instead of one query per source class and reference. If the index is enabled for an existing repository it is
+     * built from all stored revisions when the repository is activated.
+     *
+     * @since 4.14
+     */
+    public static final String XREF_INDEX = "xrefIndex"; //$NON-NLS-1$
+
+    /**
+     * The maximum number of DB connections that the store accessors use at the same time. If this property is
+     * specified the connections are pooled in the {@link IDBDatabase#getConnectionPool() connection pool} of the database
+     * and idle store accessors return their connections to the pool. Accessors that need a connection while all are in
+     * use wait in FIFO order.
+     *
+     * @since 4.14
+     */
+    public static final String CONNECTION_POOL_CAPACITY = "connectionPoolCapacity"; //$NON-NLS-1$
+
+    /**
+     * The number of milliseconds after which a pooled DB connection is closed and replaced by a new one.
+     *
+     * @since 4.14
+     * @see #CONNECTION_POOL_CAPACITY
+     */
+    public static final String CONNECTION_POOL_MAX_LIFETIME = "connectionPoolMaxLifetime"; //$NON-NLS-1$
+
+    /**
+     * The number of milliseconds that a store accessor waits for a pooled DB connection to become available.
+     *
+     * @since 4.14
+     * @see #CONNECTION_POOL_CAPACITY
+     */
+    public static final String CONNECTION_POOL_MAX_WAIT = "connectionPoolMaxWait"; //$NON-NLS-1$
   }
 }
@@ -13,10 +13,13 @@ package org.eclipse.emf.cdo.server.db;
 import org.eclipse.emf.cdo.common.id.CDOID;
 import org.eclipse.emf.cdo.server.IStoreAccessor;
 import org.eclipse.emf.cdo.server.IStoreAccessor.UnitSupport;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
 
+import org.eclipse.net4j.db.BatchedStatement;
 import org.eclipse.net4j.db.IDBConnection;
 import org.eclipse.net4j.db.IDBSchemaTransaction;
 import org.eclipse.net4j.db.ddl.IDBTable;
+import org.eclipse.net4j.util.om.monitor.OMMonitor;
 
 import org.eclipse.emf.ecore.EClass;
 
@@ -29,7 +32,7 @@ import java.sql.Connection;
  * @noextend This interface is not intended to be extended by clients.
  * @noimplement This interface is not intended to be implemented by clients.
  */
-public interface IDBStoreAccessor extends IStoreAccessor.Raw2, UnitSupport
+public interface IDBStoreAccessor extends IStoreAccessor.Raw3, UnitSupport
 {
   @Override
   public IDBStore getStore();
@@ -62,4 +65,14 @@ public interface IDBStoreAccessor extends IStoreAccessor.Raw2, UnitSupport
    * @since 4.9
    */
   public IDBSchemaTransaction openSchemaTransaction();
+
+  /**
+   * Returns a {@link BatchedStatement batched statement} for the given SQL INSERT statement if this accessor is
+   * currently storing a batch of {@link IStoreAccessor.Raw3#rawStore(InternalCDORevision[], OMMonitor) raw revisions},
+   * <code>null</code> otherwise. The returned statement is owned by this accessor and must not be closed by the caller.
+   * Its pending updates are executed at the end of the batch, so their update counts can't be checked.
+   *
+   * @since 4.14
+   */
+  public BatchedStatement getBatchedStatement(String sql);
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.server.db.mapping;
+
+import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
+import org.eclipse.emf.cdo.server.db.IDBStoreAccessor;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
+
+import java.util.List;
+
+/**
+ * An extension interface for {@link IClassMapping class mappings} that can read the revisions of many objects with a
+ * few <code>IN (...)</code> queries.
+ *
+ * @see org.eclipse.emf.cdo.server.IStoreAccessor.BulkReading
+ * @author Eike Stepper
+ * @since 4.14
+ */
+public interface IClassMappingBulkReadSupport extends IClassMapping
+{
+  /**
+   * Read multiple revisions at the same branch point.
+   *
+   * @param accessor
+   *          the accessor to use.
+   * @param revisions
+   *          the revision objects into which the data should be read. The revisions have to have their IDs set to the
+   *          requested objects' IDs.
+   * @param branchPoint
+   *          the branch point to read the revisions from. Note that non-audit stores only support
+   *          {@link CDOBranchPoint#UNSPECIFIED_DATE} and non-branching stores only support the main branch.
+   * @param listChunk
+   *          the chunk size to read attribute lists.
+   * @return the revisions that have been found and read correctly, or <code>null</code> if this mapping can not read
+   *         the given revisions in bulk, in which case the caller must read them one by one. The content of revisions
+   *         that are not contained in the returned list is undefined.
+   */
+  public List<InternalCDORevision> readRevisions(IDBStoreAccessor accessor, List<InternalCDORevision> revisions, CDOBranchPoint branchPoint, int listChunk);
+}
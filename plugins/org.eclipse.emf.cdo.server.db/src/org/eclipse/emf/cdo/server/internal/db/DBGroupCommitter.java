@@ -0,0 +1,452 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.server.internal.db;
+
+import org.eclipse.emf.cdo.server.db.IDBStore;
+import org.eclipse.emf.cdo.server.internal.db.bundle.OM;
+import org.eclipse.emf.cdo.spi.server.InternalCommitContext;
+
+import org.eclipse.net4j.db.DBException;
+import org.eclipse.net4j.db.DBUtil;
+import org.eclipse.net4j.db.IDBConnection;
+import org.eclipse.net4j.util.concurrent.Worker;
+import org.eclipse.net4j.util.lifecycle.Lifecycle;
+import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
+import org.eclipse.net4j.util.om.trace.ContextTracer;
+
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces the commits of concurrent {@link DBStoreAccessor accessors} into a single database transaction.
+ * <p>
+ * The accessors keep their own connections. In its commit phase an accessor hands its pending write to the committer
+ * thread and waits. The committer thread runs the writes of all commits that arrive within the
+ * {@link IDBStore.Props#GROUP_COMMIT_WINDOW group commit window} through one connection, which it takes from the
+ * database for each group, and then commits them together. Commits that arrive later join the next group.
+ * <p>
+ * Each write is guarded by a savepoint. A failing write is undone and reported to its own accessor, while the other
+ * members of the group are committed. Only if the database commit itself fails, all members of the group fail.
+ * If the database doesn't support savepoints, a failing write undoes the writes of the whole group and all members that
+ * have been written so far fail, too.
+ *
+ * @author Eike Stepper
+ */
+public class DBGroupCommitter extends Lifecycle
+{
+  private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG, DBGroupCommitter.class);
+
+  private final DBStore store;
+
+  private final long window;
+
+  private final BlockingQueue<Member> queue = new LinkedBlockingQueue<>();
+
+  private boolean savepoints;
+
+  private CommitterWorker worker;
+
+  private long groupCount;
+
+  private long memberCount;
+
+  public DBGroupCommitter(DBStore store, long window)
+  {
+    this.store = store;
+    this.window = window;
+  }
+
+  public DBStore getStore()
+  {
+    return store;
+  }
+
+  public long getWindow()
+  {
+    return window;
+  }
+
+  /**
+   * Returns <code>true</code> if the writes of the group members are isolated by savepoints, <code>false</code>
+   * otherwise.
+   */
+  public boolean isSavepoints()
+  {
+    return savepoints;
+  }
+
+  public synchronized long getGroupCount()
+  {
+    return groupCount;
+  }
+
+  public synchronized long getMemberCount()
+  {
+    return memberCount;
+  }
+
+  /**
+   * Runs the write of the given commit context in the next group and returns when the group has been committed to the
+   * database. The write is run on the committer thread while the calling thread waits.
+   *
+   * @throws RuntimeException if the write of the given commit context failed.
+   * @throws DBException if the group could not be committed.
+   */
+  public void commit(DBStoreAccessor accessor, InternalCommitContext context)
+  {
+    checkActive();
+
+    Member member = new Member(accessor, context);
+    queue.add(member);
+
+    if (!isActive() && queue.remove(member))
+    {
+      throw new DBException("Group committer has been deactivated"); //$NON-NLS-1$
+    }
+
+    member.await();
+  }
+
+  @Override
+  protected void doBeforeActivate() throws Exception
+  {
+    super.doBeforeActivate();
+    checkState(window >= 0, "window"); //$NON-NLS-1$
+  }
+
+  @Override
+  protected void doActivate() throws Exception
+  {
+    super.doActivate();
+
+    IDBConnection connection = store.getDatabase().getConnection();
+
+    try
+    {
+      savepoints = connection.getMetaData().supportsSavepoints();
+    }
+    finally
+    {
+      DBUtil.close(connection);
+    }
+
+    if (!savepoints)
+    {
+      OM.LOG.warn("The database doesn't support savepoints; a failing commit fails its whole commit group"); //$NON-NLS-1$
+    }
+
+    worker = new CommitterWorker();
+    worker.setDaemon(true);
+    worker.activate();
+  }
+
+  @Override
+  protected void doDeactivate() throws Exception
+  {
+    LifecycleUtil.deactivate(worker);
+
+    DBException exception = new DBException("Group committer has been deactivated"); //$NON-NLS-1$
+    if (worker.lateMember != null)
+    {
+      worker.lateMember.done(exception);
+    }
+
+    worker = null;
+
+    for (Member member; (member = queue.poll()) != null;)
+    {
+      member.done(exception);
+    }
+
+    super.doDeactivate();
+  }
+
+  /**
+   * Called on the committer thread.
+   */
+  private void commitGroup(Member first, CommitterWorker worker) throws InterruptedException
+  {
+    IDBConnection connection;
+
+    try
+    {
+      connection = store.getDatabase().getConnection();
+    }
+    catch (RuntimeException ex)
+    {
+      first.done(ex);
+      return;
+    }
+
+    List<Member> written = new ArrayList<>();
+    int members = 0;
+    DBException failure = null;
+    boolean committed = false;
+
+    try
+    {
+      long end = first.time + window;
+      for (Member member = first; member != null; member = worker.nextMember(end))
+      {
+        ++members;
+
+        if (write(connection, member))
+        {
+          written.add(member);
+        }
+        else if (member.failure instanceof BrokenGroupException)
+        {
+          // The writes of the other members were rolled back, too.
+          finishMembers(written, member.failure);
+          written.clear();
+        }
+      }
+
+      if (!written.isEmpty())
+      {
+        connection.commit();
+      }
+
+      committed = true;
+
+      if (TRACER.isEnabled())
+      {
+        TRACER.format("Group commit of {0} members, {1} committed", members, written.size()); //$NON-NLS-1$
+      }
+    }
+    catch (SQLException ex)
+    {
+      OM.LOG.error(ex);
+      failure = new DBException(ex);
+    }
+    finally
+    {
+      if (!committed)
+      {
+        rollback(connection);
+        if (failure == null)
+        {
+          failure = new DBException("Group commit has been interrupted"); //$NON-NLS-1$
+        }
+      }
+
+      DBUtil.close(connection);
+
+      synchronized (this)
+      {
+        ++groupCount;
+        memberCount += members;
+      }
+
+      finishMembers(written, failure);
+    }
+  }
+
+  /**
+   * Runs the write of the given member in a savepoint of the given connection, if the database supports savepoints.
+   *
+   * @return <code>true</code> if the write was successful, <code>false</code> otherwise.
+   */
+  private boolean write(IDBConnection connection, Member member)
+  {
+    Savepoint savepoint = null;
+
+    try
+    {
+      if (savepoints)
+      {
+        savepoint = connection.setSavepoint();
+      }
+
+      member.accessor.writeGrouped(connection, member.context);
+      return true;
+    }
+    catch (Throwable t)
+    {
+      if (savepoint == null)
+      {
+        // The changes of this member can't be isolated from the rest of the group.
+        rollback(connection);
+        t = new BrokenGroupException(t);
+      }
+      else
+      {
+        try
+        {
+          connection.rollback(savepoint);
+        }
+        catch (SQLException ex)
+        {
+          OM.LOG.error(ex);
+          rollback(connection);
+          t = new BrokenGroupException(t);
+        }
+      }
+
+      member.done(t);
+      return false;
+    }
+  }
+
+  /**
+   * Reports the given failure to the given members, or their success if the failure is <code>null</code>.
+   */
+  private static void finishMembers(List<Member> members, Throwable failure)
+  {
+    for (Member member : members)
+    {
+      member.done(failure);
+    }
+  }
+
+  private static void rollback(IDBConnection connection)
+  {
+    try
+    {
+      connection.rollback();
+    }
+    catch (SQLException ex)
+    {
+      OM.LOG.error(ex);
+    }
+  }
+
+  /**
+   * A commit that is written and committed by the committer thread.
+   *
+   * @author Eike Stepper
+   */
+  private static final class Member
+  {
+    private final DBStoreAccessor accessor;
+
+    private final InternalCommitContext context;
+
+    private final long time = System.currentTimeMillis();
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    private Throwable failure;
+
+    public Member(DBStoreAccessor accessor, InternalCommitContext context)
+    {
+      this.accessor = accessor;
+      this.context = context;
+    }
+
+    public synchronized void done(Throwable failure)
+    {
+      if (latch.getCount() != 0)
+      {
+        this.failure = failure;
+        latch.countDown();
+      }
+    }
+
+    public void await()
+    {
+      try
+      {
+        latch.await();
+      }
+      catch (InterruptedException ex)
+      {
+        throw new DBException(ex);
+      }
+
+      if (failure instanceof RuntimeException)
+      {
+        throw (RuntimeException)failure;
+      }
+
+      if (failure instanceof Error)
+      {
+        throw (Error)failure;
+      }
+
+      if (failure != null)
+      {
+        throw new DBException(failure);
+      }
+    }
+  }
+
+  /**
+   * Reports to a member that its write failed and could not be undone without undoing the writes of the whole group.
+   *
+   * @author Eike Stepper
+   */
+  private static final class BrokenGroupException extends DBException
+  {
+    private static final long serialVersionUID = 1L;
+
+    public BrokenGroupException(Throwable cause)
+    {
+      super("Group commit has been rolled back", cause); //$NON-NLS-1$
+    }
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  private final class CommitterWorker extends Worker
+  {
+    /**
+     * The member that arrived too late for the previous group and starts the next one.
+     */
+    private Member lateMember;
+
+    @Override
+    protected String getThreadName()
+    {
+      return "DBGroupCommitter"; //$NON-NLS-1$
+    }
+
+    @Override
+    protected void work(WorkContext context) throws Exception
+    {
+      Member first = lateMember;
+      if (first == null)
+      {
+        first = queue.take();
+      }
+      else
+      {
+        lateMember = null;
+      }
+
+      commitGroup(first, this);
+    }
+
+    /**
+     * Returns the next member that arrived within the window of the current group, or <code>null</code> if the group
+     * is closed.
+     */
+    public Member nextMember(long end) throws InterruptedException
+    {
+      long remaining = end - System.currentTimeMillis();
+      Member member = remaining > 0 ? queue.poll(remaining, TimeUnit.MILLISECONDS) : queue.poll();
+      if (member != null && member.time > end)
+      {
+        lateMember = member;
+        return null;
+      }
+
+      return member;
+    }
+  }
+}
@@ -16,6 +16,8 @@ package org.eclipse.emf.cdo.server.internal.db;
 
 import org.eclipse.emf.cdo.common.CDOCommonRepository.CommitInfoStorage;
 import org.eclipse.emf.cdo.common.CDOCommonRepository.IDGenerationLocation;
+import org.eclipse.emf.cdo.common.CDOCommonRepository.State;
+import org.eclipse.emf.cdo.common.CDOCommonRepository.StateChangedEvent;
 import org.eclipse.emf.cdo.common.branch.CDOBranch;
 import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
 import org.eclipse.emf.cdo.common.branch.CDOBranchVersion;
@@ -28,6 +30,7 @@ import org.eclipse.emf.cdo.server.ITransaction;
 import org.eclipse.emf.cdo.server.IView;
 import org.eclipse.emf.cdo.server.StoreThreadLocal;
 import org.eclipse.emf.cdo.server.db.IDBStore;
+import org.eclipse.emf.cdo.server.db.IDBStoreAccessor;
 import org.eclipse.emf.cdo.server.db.IIDHandler;
 import org.eclipse.emf.cdo.server.db.IMetaDataManager;
 import org.eclipse.emf.cdo.server.db.mapping.IMappingStrategy;
@@ -48,6 +51,7 @@ import org.eclipse.net4j.db.DBException;
 import org.eclipse.net4j.db.DBType;
 import org.eclipse.net4j.db.DBUtil;
 import org.eclipse.net4j.db.IDBAdapter;
+import org.eclipse.net4j.db.IDBConnectionPool;
 import org.eclipse.net4j.db.IDBConnectionProvider;
 import org.eclipse.net4j.db.IDBDatabase;
 import org.eclipse.net4j.db.ddl.IDBField;
@@ -59,6 +63,8 @@ import org.eclipse.net4j.util.ReflectUtil.ExcludeFromDump;
 import org.eclipse.net4j.util.StringUtil;
 import org.eclipse.net4j.util.collection.Entity;
 import org.eclipse.net4j.util.concurrent.ConcurrencyUtil;
+import org.eclipse.net4j.util.event.IEvent;
+import org.eclipse.net4j.util.event.IListener;
 import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
 import org.eclipse.net4j.util.om.OMPlatform;
 import org.eclipse.net4j.util.om.monitor.ProgressDistributor;
@@ -96,6 +102,8 @@ public class DBStore extends Store implements IDBStore, CDOAllRevisionsProvider,
 
   private static final int FIRST_START = -1;
 
+  private static final int XREF_INDEX_REBUILD_ATTEMPTS = 3;
+
   private static final String PROP_SCHEMA_VERSION = "org.eclipse.emf.cdo.server.db.schemaVersion"; //$NON-NLS-1$
 
   private static final String PROP_REPOSITORY_CREATED = "org.eclipse.emf.cdo.server.db.repositoryCreated"; //$NON-NLS-1$
@@ -152,6 +160,8 @@ public class DBStore extends Store implements IDBStore, CDOAllRevisionsProvider,
 
   private UnitMappingTable unitMappingTable;
 
+  private XRefIndexTable xrefIndexTable;
+
   private IMappingStrategy mappingStrategy;
 
   private IDBDatabase database;
@@ -172,6 +182,26 @@ public class DBStore extends Store implements IDBStore, CDOAllRevisionsProvider,
   @ExcludeFromDump
   private transient Timer connectionKeepAliveTimer;
 
+  @ExcludeFromDump
+  private transient DBGroupCommitter groupCommitter;
+
+  /**
+   * Raw replications {@link XRefIndexTable#invalidate(IDBStoreAccessor) invalidate} the reverse reference index. It is
+   * rebuilt as soon as the replication is done and the clone is online again.
+   */
+  @ExcludeFromDump
+  private final transient IListener repositoryStateListener = new IListener()
+  {
+    @Override
+    public void notifyEvent(IEvent event)
+    {
+      if (event instanceof StateChangedEvent && ((StateChangedEvent)event).getNewState() == State.ONLINE)
+      {
+        rebuildXRefIndex();
+      }
+    }
+  };
+
   public DBStore()
   {
     super(TYPE, null, set(ChangeFormat.REVISION, ChangeFormat.DELTA), //
@@ -362,11 +392,31 @@ public class DBStore extends Store implements IDBStore, CDOAllRevisionsProvider,
     return unitMappingTable;
   }
 
+  /**
+   * Returns the reverse reference index of this store, or <code>null</code> if the index is not enabled.
+   *
+   * @see IDBStore.Props#XREF_INDEX
+   */
+  public XRefIndexTable getXRefIndexTable()
+  {
+    return xrefIndexTable;
+  }
+
   public Timer getConnectionKeepAliveTimer()
   {
     return connectionKeepAliveTimer;
   }
 
+  /**
+   * Returns the group committer of this store, or <code>null</code> if group commit is not enabled.
+   *
+   * @see IDBStore.Props#GROUP_COMMIT_WINDOW
+   */
+  public DBGroupCommitter getGroupCommitter()
+  {
+    return groupCommitter;
+  }
+
   @Override
   public Set<ChangeFormat> getSupportedChangeFormats()
   {
@@ -582,9 +632,48 @@ public class DBStore extends Store implements IDBStore, CDOAllRevisionsProvider,
     return firstTime;
   }
 
+  private void rebuildXRefIndex()
+  {
+    if (xrefIndexTable == null || xrefIndexTable.isComplete())
+    {
+      return;
+    }
+
+    DBStoreAccessor reader = getReader(null);
+    StoreThreadLocal.setAccessor(reader);
+
+    try
+    {
+      // Concurrent commits can keep a rebuild from completing the index. It stays incomplete, and is not used for
+      // queries, until a later rebuild succeeds.
+      for (int i = 0; i < XREF_INDEX_REBUILD_ATTEMPTS && !xrefIndexTable.rebuild(reader); i++)
+      {
+        // Try again.
+      }
+    }
+    catch (RuntimeException ex)
+    {
+      OM.LOG.error(ex);
+    }
+    finally
+    {
+      StoreThreadLocal.release();
+    }
+  }
+
   @Override
   public void doPostActivate(InternalSession session)
   {
+    if (xrefIndexTable != null && !xrefIndexTable.isComplete())
+    {
+      xrefIndexTable.rebuild((IDBStoreAccessor)StoreThreadLocal.getAccessor());
+    }
+
+    if (xrefIndexTable != null)
+    {
+      getRepository().addListener(repositoryStateListener);
+    }
+
     // if (OMPlatform.INSTANCE.isProperty("org.eclipse.emf.cdo.server.db.MIGRATE_WRONG_CONTAINERS"))
     // {
     // DBStoreAccessor reader = getReader(session);
@@ -716,6 +805,7 @@ public class DBStore extends Store implements IDBStore, CDOAllRevisionsProvider,
 
     boolean fixNullableIndexColumns = schemaVersion != FIRST_START && schemaVersion < FIRST_VERSION_WITH_NULLABLE_CHECKS;
     database = openDatabase(dbAdapter, dbConnectionProvider, schemaName, prependSchemaName, fixNullableIndexColumns);
+    configureConnectionPool(database.getConnectionPool());
 
     tables = new DBStoreTables(this);
     tables.activate();
@@ -750,11 +840,36 @@ public class DBStore extends Store implements IDBStore, CDOAllRevisionsProvider,
     }
 
     putPersistentProperty(PROP_SCHEMA_VERSION, Integer.toString(SCHEMA_VERSION));
+
+    if (Boolean.parseBoolean(properties.get(Props.XREF_INDEX)))
+    {
+      xrefIndexTable = new XRefIndexTable(this);
+      xrefIndexTable.activate();
+      xrefIndexTable.initComplete(schemaVersion == FIRST_START);
+    }
+    else
+    {
+      // Make sure that a stale index is rebuilt if it's enabled again.
+      removePersistentProperties(Collections.singleton(XRefIndexTable.PROP_COMPLETE));
+    }
+
+    String groupCommitWindow = properties.get(Props.GROUP_COMMIT_WINDOW);
+    if (groupCommitWindow != null)
+    {
+      groupCommitter = new DBGroupCommitter(this, Long.parseLong(groupCommitWindow));
+      groupCommitter.activate();
+    }
   }
 
   @Override
   protected void doDeactivate() throws Exception
   {
+    getRepository().removeListener(repositoryStateListener);
+
+    LifecycleUtil.deactivate(groupCommitter);
+    groupCommitter = null;
+
+    LifecycleUtil.deactivate(xrefIndexTable);
     LifecycleUtil.deactivate(unitMappingTable);
     LifecycleUtil.deactivate(commitInfoTable);
     LifecycleUtil.deactivate(mappingStrategy);
@@ -791,6 +906,7 @@ public class DBStore extends Store implements IDBStore, CDOAllRevisionsProvider,
     connectionKeepAliveTimer.cancel();
     connectionKeepAliveTimer = null;
 
+    database.getConnectionPool().closeIdleConnections();
     super.doDeactivate();
   }
 
@@ -1072,6 +1188,30 @@ public class DBStore extends Store implements IDBStore, CDOAllRevisionsProvider,
     }
   }
 
+  protected void configureConnectionPool(IDBConnectionPool pool)
+  {
+    if (properties != null)
+    {
+      String value = properties.get(Props.CONNECTION_POOL_MAX_LIFETIME);
+      if (value != null)
+      {
+        pool.setMaxLifetime(Long.parseLong(value));
+      }
+
+      value = properties.get(Props.CONNECTION_POOL_MAX_WAIT);
+      if (value != null)
+      {
+        pool.setMaxWait(Long.parseLong(value));
+      }
+
+      value = properties.get(Props.CONNECTION_POOL_CAPACITY);
+      if (value != null)
+      {
+        pool.setCapacity(Integer.parseInt(value));
+      }
+    }
+  }
+
   protected int selectSchemaVersion(Connection connection, String schemaName) throws SQLException
   {
     Statement statement = null;
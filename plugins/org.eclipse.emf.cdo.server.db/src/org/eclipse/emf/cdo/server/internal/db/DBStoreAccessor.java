@@ -33,11 +33,15 @@ import org.eclipse.emf.cdo.common.revision.CDORevisionCacheAdder;
 import org.eclipse.emf.cdo.common.revision.CDORevisionHandler;
 import org.eclipse.emf.cdo.common.util.CDOQueryInfo;
 import org.eclipse.emf.cdo.eresource.EresourcePackage;
+import org.eclipse.emf.cdo.internal.server.XATransactionCommitContext;
 import org.eclipse.emf.cdo.server.IQueryHandler;
 import org.eclipse.emf.cdo.server.IRepository;
 import org.eclipse.emf.cdo.server.ISession;
 import org.eclipse.emf.cdo.server.IStoreAccessor;
+import org.eclipse.emf.cdo.server.IStoreAccessor.BulkReading;
+import org.eclipse.emf.cdo.server.IStoreAccessor.CombinedXRefs;
 import org.eclipse.emf.cdo.server.IStoreAccessor.DurableLocking2;
+import org.eclipse.emf.cdo.server.IStoreAccessor.InstanceClasses;
 import org.eclipse.emf.cdo.server.ITransaction;
 import org.eclipse.emf.cdo.server.IView;
 import org.eclipse.emf.cdo.server.StoreThreadLocal;
@@ -47,12 +51,15 @@ import org.eclipse.emf.cdo.server.db.IIDHandler;
 import org.eclipse.emf.cdo.server.db.IMetaDataManager;
 import org.eclipse.emf.cdo.server.db.mapping.IClassMapping;
 import org.eclipse.emf.cdo.server.db.mapping.IClassMappingAuditSupport;
+import org.eclipse.emf.cdo.server.db.mapping.IClassMappingBulkReadSupport;
 import org.eclipse.emf.cdo.server.db.mapping.IClassMappingDeltaSupport;
 import org.eclipse.emf.cdo.server.db.mapping.IMappingStrategy;
 import org.eclipse.emf.cdo.server.db.mapping.IMappingStrategy2;
 import org.eclipse.emf.cdo.server.internal.db.DBStoreTables.BranchesTable;
 import org.eclipse.emf.cdo.server.internal.db.bundle.OM;
+import org.eclipse.emf.cdo.server.internal.db.mapping.AbstractMappingStrategy;
 import org.eclipse.emf.cdo.server.internal.db.mapping.horizontal.AbstractHorizontalClassMapping;
+import org.eclipse.emf.cdo.server.internal.db.mapping.horizontal.AbstractHorizontalMappingStrategy;
 import org.eclipse.emf.cdo.server.internal.db.mapping.horizontal.UnitMappingTable;
 import org.eclipse.emf.cdo.spi.common.branch.InternalCDOBranchManager.BranchLoader5;
 import org.eclipse.emf.cdo.spi.common.commit.CDOChangeSetSegment;
@@ -72,8 +79,11 @@ import org.eclipse.net4j.db.BatchedStatement;
 import org.eclipse.net4j.db.DBException;
 import org.eclipse.net4j.db.DBUtil;
 import org.eclipse.net4j.db.IDBConnection;
+import org.eclipse.net4j.db.IDBConnectionPool;
 import org.eclipse.net4j.db.IDBDatabase;
+import org.eclipse.net4j.db.IDBPreparedStatement.ReuseProbability;
 import org.eclipse.net4j.db.IDBSchemaTransaction;
+import org.eclipse.net4j.db.ddl.IDBIndex;
 import org.eclipse.net4j.db.ddl.IDBTable;
 import org.eclipse.net4j.internal.db.ddl.DBField;
 import org.eclipse.net4j.spi.db.DBAdapter;
@@ -84,6 +94,7 @@ import org.eclipse.net4j.util.collection.Pair;
 import org.eclipse.net4j.util.concurrent.IRWLockManager.LockType;
 import org.eclipse.net4j.util.concurrent.TrackableTimerTask;
 import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
+import org.eclipse.net4j.util.om.monitor.Monitor;
 import org.eclipse.net4j.util.om.monitor.OMMonitor;
 import org.eclipse.net4j.util.om.monitor.OMMonitor.Async;
 import org.eclipse.net4j.util.om.trace.ContextTracer;
@@ -101,6 +112,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -111,10 +123,12 @@ import java.util.function.Consumer;
 /**
  * @author Eike Stepper
  */
-public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor, BranchLoader5, DurableLocking2
+public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor, BranchLoader5, DurableLocking2, BulkReading, CombinedXRefs, InstanceClasses
 {
   private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG, DBStoreAccessor.class);
 
+  private static final int RAW_STORE_BATCH_SIZE = 1000;
+
   private IDBConnection connection;
 
   private ConnectionKeepAliveTask connectionKeepAliveTask;
@@ -125,6 +139,39 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
 
   private List<IDBTable> createdTables;
 
+  /**
+   * The commit context whose write is run by the {@link DBGroupCommitter group committer} in the commit phase.
+   */
+  private InternalCommitContext groupCommitContext;
+
+  /**
+   * The connection of the {@link DBGroupCommitter group committer} while it runs the write of this accessor.
+   */
+  private IDBConnection groupConnection;
+
+  /**
+   * Whether the commit of this accessor has {@link XRefIndexTable#beginWrite() begun} to write to the reverse reference
+   * index.
+   */
+  private boolean writingXRefs;
+
+  private Map<String, BatchedStatement> batchedStatements;
+
+  /**
+   * The IDs of the objects whose types are inserted by the {@link #batchedStatements}.
+   */
+  private Set<CDOID> batchedObjectTypes;
+
+  /**
+   * The IDs of the objects whose types have been inserted during a bulk load by a revision other than the first one.
+   */
+  private Set<CDOID> objectTypesAhead;
+
+  /**
+   * The secondary indexes of the tables that have been created during a bulk load.
+   */
+  private List<IDBIndex> deferredIndexes;
+
   public DBStoreAccessor(DBStore store, ISession session) throws DBException
   {
     super(store, session);
@@ -144,13 +191,13 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
   @Override
   public final IDBConnection getDBConnection()
   {
-    return connection;
+    return groupConnection != null ? groupConnection : connection;
   }
 
   @Override
   public final Connection getConnection()
   {
-    return connection;
+    return getDBConnection();
   }
 
   @Override
@@ -182,6 +229,82 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
 
   @Override
   public EClass getObjectType(CDOID id)
+  {
+    EClass result = getKnownObjectType(id);
+    if (result != null)
+    {
+      return result;
+    }
+
+    IRepository repository = getStore().getRepository();
+    CDOClassifierRef type = readObjectType(id);
+    if (type != null)
+    {
+      CDOPackageRegistry packageRegistry = repository.getPackageRegistry();
+      return (EClass)type.resolve(packageRegistry);
+    }
+
+    return null;
+  }
+  /**
+   * Returns the types of the given objects. The types that are not known without a query are read with one bulk
+   * query per chunk of IDs, if the mapping strategy supports it.
+   */
+  private Map<CDOID, EClass> getObjectTypes(Collection<CDOID> ids)
+  {
+    Map<CDOID, EClass> result = CDOIDUtil.createMap();
+    List<CDOID> unknownIDs = new ArrayList<>();
+
+    for (CDOID id : ids)
+    {
+      EClass eClass = getKnownObjectType(id);
+      if (eClass != null)
+      {
+        result.put(id, eClass);
+      }
+      else
+      {
+        unknownIDs.add(id);
+      }
+    }
+
+    if (!unknownIDs.isEmpty())
+    {
+      IMappingStrategy mappingStrategy = getStore().getMappingStrategy();
+      if (unknownIDs.size() > 1 && mappingStrategy instanceof AbstractHorizontalMappingStrategy)
+      {
+        if (TRACER.isEnabled())
+        {
+          TRACER.format("Selecting {0} object types", unknownIDs.size()); //$NON-NLS-1$
+        }
+
+        CDOPackageRegistry packageRegistry = getStore().getRepository().getPackageRegistry();
+        Map<CDOID, CDOClassifierRef> types = ((AbstractHorizontalMappingStrategy)mappingStrategy).readObjectTypes(this, unknownIDs);
+        for (Map.Entry<CDOID, CDOClassifierRef> entry : types.entrySet())
+        {
+          result.put(entry.getKey(), (EClass)entry.getValue().resolve(packageRegistry));
+        }
+      }
+      else
+      {
+        for (CDOID id : unknownIDs)
+        {
+          EClass eClass = getObjectType(id);
+          if (eClass != null)
+          {
+            result.put(id, eClass);
+          }
+        }
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Returns the type of the given object if it is known without a query, <code>null</code> otherwise.
+   */
+  private EClass getKnownObjectType(CDOID id)
   {
     IRepository repository = getStore().getRepository();
     if (id.equals(repository.getRootResourceID()))
@@ -205,16 +328,10 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
       }
     }
 
-    CDOClassifierRef type = readObjectType(id);
-    if (type != null)
-    {
-      CDOPackageRegistry packageRegistry = repository.getPackageRegistry();
-      return (EClass)type.resolve(packageRegistry);
-    }
-
     return null;
   }
 
+
   @Override
   public InternalCDORevision readRevision(CDOID id, CDOBranchPoint branchPoint, int listChunk, CDORevisionCacheAdder cache)
   {
@@ -248,6 +365,75 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
     return null;
   }
 
+  @Override
+  public Map<CDOID, InternalCDORevision> readRevisions(Collection<CDOID> ids, CDOBranchPoint branchPoint, int listChunk, CDORevisionCacheAdder cache)
+  {
+    if (TRACER.isEnabled())
+    {
+      TRACER.format("Selecting {0} revisions from {1}", ids.size(), branchPoint); //$NON-NLS-1$
+    }
+
+    DBStore store = getStore();
+    IMappingStrategy mappingStrategy = store.getMappingStrategy();
+
+    // Group the requested revisions by their class mappings, i.e., by their attribute tables.
+    Map<IClassMapping, List<InternalCDORevision>> mappingRevisions = new HashMap<>();
+    Map<CDOID, EClass> objectTypes = getObjectTypes(ids);
+    for (CDOID id : ids)
+    {
+      EClass eClass = objectTypes.get(id);
+      if (eClass != null)
+      {
+        InternalCDORevision revision = store.createRevision(eClass, id);
+        revision.setBranchPoint(branchPoint); // This is part of the search criterion, being replaced later
+
+        IClassMapping mapping = mappingStrategy.getClassMapping(eClass);
+        mappingRevisions.computeIfAbsent(mapping, k -> new ArrayList<>()).add(revision);
+      }
+    }
+
+    Map<CDOID, InternalCDORevision> result = CDOIDUtil.createMap();
+    for (Map.Entry<IClassMapping, List<InternalCDORevision>> entry : mappingRevisions.entrySet())
+    {
+      IClassMapping mapping = entry.getKey();
+      List<InternalCDORevision> revisions = entry.getValue();
+      List<InternalCDORevision> readRevisions = null;
+
+      if (revisions.size() > 1 && mapping instanceof IClassMappingBulkReadSupport)
+      {
+        readRevisions = ((IClassMappingBulkReadSupport)mapping).readRevisions(this, revisions, branchPoint, listChunk);
+      }
+
+      if (readRevisions == null)
+      {
+        readRevisions = new ArrayList<>(revisions.size());
+        for (InternalCDORevision revision : revisions)
+        {
+          if (mapping.readRevision(this, revision, listChunk))
+          {
+            readRevisions.add(revision);
+          }
+        }
+      }
+
+      for (InternalCDORevision revision : readRevisions)
+      {
+        CDOID id = revision.getID();
+
+        int version = revision.getVersion();
+        if (version < CDOBranchVersion.UNSPECIFIED_VERSION)
+        {
+          EClass eClass = revision.getEClass();
+          revision = new DetachedCDORevision(eClass, id, revision.getBranch(), -version, revision.getTimeStamp(), revision.getRevised());
+        }
+
+        result.put(id, revision);
+      }
+    }
+
+    return result;
+  }
+
   @Override
   public InternalCDORevision readRevisionByVersion(CDOID id, CDOBranchVersion branchVersion, int listChunk, CDORevisionCacheAdder cache)
   {
@@ -317,10 +503,59 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
   @Override
   public void queryXRefs(QueryXRefsContext context)
   {
+    XRefIndexTable xrefIndexTable = getStore().getXRefIndexTable();
+    if (xrefIndexTable != null && xrefIndexTable.isComplete())
+    {
+      xrefIndexTable.queryXRefs(this, context);
+      return;
+    }
+
     IMappingStrategy mappingStrategy = getStore().getMappingStrategy();
     mappingStrategy.queryXRefs(this, context);
   }
 
+  /**
+   * Only the {@link XRefIndexTable reverse reference index} answers XRefs queries in one combined pass. Without it the
+   * mapping strategy issues one query per source class and reference.
+   */
+  @Override
+  public boolean isCombiningXRefs()
+  {
+    XRefIndexTable xrefIndexTable = getStore().getXRefIndexTable();
+    return xrefIndexTable != null && xrefIndexTable.isComplete();
+  }
+
+  /**
+   * Each parallel reader holds a connection while this accessor holds its own. With a connection pool the readers are
+   * limited to the connections that are currently available, so that a query doesn't wait for connections that are only
+   * released by other queries that wait, too.
+   */
+  @Override
+  public int getXRefsParallelism(int parallelism)
+  {
+    IDBConnectionPool pool = getStore().getDatabase().getConnectionPool();
+    int capacity = pool.getCapacity();
+    if (capacity == 0)
+    {
+      return parallelism;
+    }
+
+    int available = capacity - pool.getActiveConnections();
+    return Math.max(1, Math.min(parallelism, 1 + available));
+  }
+
+  @Override
+  public Collection<EClass> getInstanceClasses()
+  {
+    IMappingStrategy mappingStrategy = getStore().getMappingStrategy();
+    if (mappingStrategy instanceof AbstractMappingStrategy)
+    {
+      return ((AbstractMappingStrategy)mappingStrategy).getMappedClasses();
+    }
+
+    return mappingStrategy.getClassMappings().keySet();
+  }
+
   @Override
   public IQueryHandler getQueryHandler(CDOQueryInfo info)
   {
@@ -477,23 +712,40 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
   @Override
   protected boolean needsRevisionPostProcessing()
   {
-    IMappingStrategy mappingStrategy = getStore().getMappingStrategy();
-    if (mappingStrategy instanceof IMappingStrategy2)
+    if (getStore().getXRefIndexTable() != null)
     {
-      return ((IMappingStrategy2)mappingStrategy).needsRevisionPostProcessing();
+      return true;
     }
 
-    return super.needsRevisionPostProcessing();
+    return needsMappingPostProcessing();
   }
 
   @Override
   protected void postProcessRevisions(InternalCommitContext context, OMMonitor monitor)
+  {
+    if (needsMappingPostProcessing())
+    {
+      IMappingStrategy mappingStrategy = getStore().getMappingStrategy();
+      ((IMappingStrategy2)mappingStrategy).postProcessRevisions(this, context, monitor);
+    }
+
+    // The index is maintained from the commit context, because dirty objects may have been written as deltas.
+    XRefIndexTable xrefIndexTable = getStore().getXRefIndexTable();
+    if (xrefIndexTable != null)
+    {
+      xrefIndexTable.writeXRefs(this, context);
+    }
+  }
+
+  private boolean needsMappingPostProcessing()
   {
     IMappingStrategy mappingStrategy = getStore().getMappingStrategy();
     if (mappingStrategy instanceof IMappingStrategy2)
     {
-      ((IMappingStrategy2)mappingStrategy).postProcessRevisions(this, context, monitor);
+      return ((IMappingStrategy2)mappingStrategy).needsRevisionPostProcessing();
     }
+
+    return super.needsRevisionPostProcessing();
   }
 
   /*
@@ -544,13 +796,13 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
   @Override
   protected void writeBlob(byte[] id, long size, InputStream inputStream) throws IOException
   {
-    getStore().tables().lobs().writeBlob(connection, id, size, inputStream);
+    getStore().tables().lobs().writeBlob(getDBConnection(), id, size, inputStream);
   }
 
   @Override
   protected void writeClob(byte[] id, long size, Reader reader) throws IOException
   {
-    getStore().tables().lobs().writeClob(connection, id, size, reader);
+    getStore().tables().lobs().writeClob(getDBConnection(), id, size, reader);
   }
 
   @Override
@@ -569,7 +821,17 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
       try
       {
         async = monitor.forkAsync();
-        connection.commit();
+
+        if (groupCommitContext != null)
+        {
+          InternalCommitContext context = groupCommitContext;
+          groupCommitContext = null;
+          getStore().getGroupCommitter().commit(this, context);
+        }
+        else
+        {
+          connection.commit();
+        }
 
         if (maxID != CDOID.NULL)
         {
@@ -598,6 +860,7 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
     }
     finally
     {
+      endXRefsWrite();
       monitor.done();
     }
   }
@@ -622,18 +885,33 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
 
     try
     {
+      // A grouped write has either not been run yet or has been undone by the group committer.
+      groupCommitContext = null;
       connection.rollback();
     }
     catch (SQLException ex)
     {
       throw new DBException(ex);
     }
+    finally
+    {
+      endXRefsWrite();
+    }
 
     // Bug 298632: Must rollback DBSchema to its prior state and drop the tables
     IMappingStrategy mappingStrategy = store.getMappingStrategy();
     mappingStrategy.removeMapping(connection, commitContext.getNewPackageUnits());
   }
 
+  private void endXRefsWrite()
+  {
+    if (writingXRefs)
+    {
+      writingXRefs = false;
+      getStore().getXRefIndexTable().endWrite();
+    }
+  }
+
   @Override
   protected void doActivate() throws Exception
   {
@@ -641,9 +919,16 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
 
     DBStore store = getStore();
     connection = store.getDatabase().getConnection();
-    connectionKeepAliveTask = new ConnectionKeepAliveTask(this);
     objectAttacher = null;
 
+    if (isConnectionPooled())
+    {
+      // The connection pool validates idle connections before it hands them out again.
+      return;
+    }
+
+    connectionKeepAliveTask = new ConnectionKeepAliveTask(this);
+
     long keepAlivePeriod = ConnectionKeepAliveTask.EXECUTION_PERIOD;
     Map<String, String> storeProps = store.getProperties();
     if (storeProps != null)
@@ -661,8 +946,11 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
   @Override
   protected void doDeactivate() throws Exception
   {
-    connectionKeepAliveTask.cancel();
-    connectionKeepAliveTask = null;
+    if (connectionKeepAliveTask != null)
+    {
+      connectionKeepAliveTask.cancel();
+      connectionKeepAliveTask = null;
+    }
 
     DBUtil.close(connection);
     connection = null;
@@ -676,18 +964,39 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
     // this is called when the accessor is put back into the pool
     // we want to make sure that no DB lock is held (see Bug 276926)
     connection.rollback();
+    groupCommitContext = null;
+    endXRefsWrite();
 
     if (createdTables != null)
     {
       createdTables.clear();
       createdTables = null;
     }
+
+    closeBatchedStatements();
+    objectTypesAhead = null;
+    deferredIndexes = null;
+
+    if (isConnectionPooled())
+    {
+      // Let other accessors use the connection and its statement cache while this accessor is idle.
+      DBUtil.close(connection);
+      connection = null;
+    }
   }
 
   @Override
   protected void doUnpassivate() throws Exception
   {
-    // do nothing
+    if (connection == null)
+    {
+      connection = getStore().getDatabase().getConnection();
+    }
+  }
+
+  private boolean isConnectionPooled()
+  {
+    return getStore().getDatabase().getConnectionPool().getCapacity() > 0;
   }
 
   @Override
@@ -706,6 +1015,63 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
 
   @Override
   protected void doWrite(InternalCommitContext context, OMMonitor monitor)
+  {
+    XRefIndexTable xrefIndexTable = getStore().getXRefIndexTable();
+    if (xrefIndexTable != null && !writingXRefs)
+    {
+      xrefIndexTable.beginWrite();
+      writingXRefs = true;
+    }
+
+    DBGroupCommitter groupCommitter = getStore().getGroupCommitter();
+    if (groupCommitter != null && isGroupCommittable(context))
+    {
+      // The group committer runs the write in the commit phase, see writeGrouped().
+      groupCommitContext = context;
+    }
+    else
+    {
+      writeDirectly(context, monitor);
+    }
+  }
+
+  /**
+   * Commits that create new mappings can't be grouped because many databases implicitly commit DDL statements.
+   * XA commits can't be grouped because they must detect write failures before their commit phase.
+   */
+  protected boolean isGroupCommittable(InternalCommitContext context)
+  {
+    if (context instanceof XATransactionCommitContext)
+    {
+      return false;
+    }
+
+    InternalCDOPackageUnit[] newPackageUnits = context.getNewPackageUnits();
+    return newPackageUnits == null || newPackageUnits.length == 0;
+  }
+
+  /**
+   * Runs the write of the given commit context through the given connection of the {@link DBGroupCommitter group committer}.
+   * Called on the committer thread while the thread of this accessor waits in {@link #doCommit(OMMonitor) doCommit()}.
+   */
+  void writeGrouped(IDBConnection groupConnection, InternalCommitContext context)
+  {
+    this.groupConnection = groupConnection;
+    StoreThreadLocal.setAccessor(this);
+    StoreThreadLocal.setCommitContext(context);
+
+    try
+    {
+      writeDirectly(context, new Monitor());
+    }
+    finally
+    {
+      StoreThreadLocal.remove();
+      this.groupConnection = null;
+    }
+  }
+
+  private void writeDirectly(InternalCommitContext context, OMMonitor monitor)
   {
     boolean wasTrackConstruction = DBField.isTrackConstruction();
 
@@ -739,10 +1105,10 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
       DBStore store = getStore();
 
       IMetaDataManager metaDataManager = store.getMetaDataManager();
-      metaDataManager.writePackageUnits(connection, packageUnits, monitor.fork());
+      metaDataManager.writePackageUnits(getDBConnection(), packageUnits, monitor.fork());
 
       IMappingStrategy mappingStrategy = store.getMappingStrategy();
-      mappingStrategy.createMapping(connection, packageUnits, monitor.fork());
+      mappingStrategy.createMapping(getDBConnection(), packageUnits, monitor.fork());
     }
     finally
     {
@@ -893,6 +1259,8 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
       idHandler.setLastObjectID(in.readCDOID()); // See bug 325097
     }
 
+    invalidateXRefIndex();
+
     IMappingStrategy mappingStrategy = store.getMappingStrategy();
     int size = mappingStrategy.getClassMappings().size();
     int commitWork = 5;
@@ -1035,25 +1403,211 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
   @Override
   public void rawStore(InternalCDORevision revision, OMMonitor monitor)
   {
+    invalidateXRefIndex();
+
     CDOID id = revision.getID();
-    EClass eClass = revision.getEClass();
+    boolean firstRevision = isFirstRevision(id, revision.getEClass());
+
+    writeRevision(revision, firstRevision, false, monitor);
+    getStore().getIDHandler().adjustLastObjectID(id);
+  }
+
+  /**
+   * Stores the given revisions with {@link #getBatchedStatement(String) batched} inserts. The first revisions of new
+   * objects on the main branch don't need to look up existing object types. Detached revisions and resource nodes
+   * depend on previously stored rows, so the pending batches are executed before they're stored one by one.
+   * <p>
+   * The secondary indexes of the tables that are created during a bulk load are created in the next
+   * {@link #rawCommit(double, OMMonitor) raw commit}, after all rows have been inserted.
+   */
+  @Override
+  public void rawStore(InternalCDORevision[] revisions, OMMonitor monitor)
+  {
+    invalidateXRefIndex();
+
+    if (deferredIndexes == null)
+    {
+      deferredIndexes = new ArrayList<>();
+      objectTypesAhead = new HashSet<>();
+    }
+
+    IIDHandler idHandler = getStore().getIDHandler();
+    monitor.begin(revisions.length);
+
+    try
+    {
+      for (InternalCDORevision revision : revisions)
+      {
+        if (revision instanceof DetachedCDORevision || revision.isResourceNode())
+        {
+          executeBatchedStatements();
+          rawStore(revision, monitor.fork());
+          continue;
+        }
+
+        if (batchedStatements == null)
+        {
+          batchedStatements = new HashMap<>();
+          batchedObjectTypes = new HashSet<>();
+        }
+
+        CDOID id = revision.getID();
+        boolean firstRevision;
+
+        if (batchedObjectTypes.contains(id))
+        {
+          firstRevision = false;
+        }
+        else if (revision.getVersion() == CDOBranchVersion.FIRST_VERSION && revision.getBranch().isMainBranch())
+        {
+          firstRevision = !objectTypesAhead.remove(id);
+        }
+        else
+        {
+          // The types of all other objects are either pending in the batch or already stored.
+          firstRevision = isFirstRevision(id, revision.getEClass());
+          if (firstRevision)
+          {
+            objectTypesAhead.add(id);
+          }
+        }
 
+        if (firstRevision)
+        {
+          batchedObjectTypes.add(id);
+        }
+
+        writeRevision(revision, firstRevision, false, monitor.fork());
+        idHandler.adjustLastObjectID(id);
+      }
+    }
+    finally
+    {
+      executeBatchedStatements();
+      monitor.done();
+    }
+  }
+
+  private boolean isFirstRevision(CDOID id, EClass eClass)
+  {
     IMappingStrategy mappingStrategy = getStore().getMappingStrategy();
     CDOClassifierRef classifierRef = mappingStrategy.readObjectType(this, id);
+    if (classifierRef == null)
+    {
+      return true;
+    }
+
+    boolean namesMatch = classifierRef.getClassifierName().equals(eClass.getName());
+    boolean packagesMatch = classifierRef.getPackageURI().equals(eClass.getEPackage().getNsURI());
+    if (!namesMatch || !packagesMatch)
+    {
+      throw new IllegalStateException();
+    }
+
+    return false;
+  }
+
+  @Override
+  public BatchedStatement getBatchedStatement(String sql)
+  {
+    if (batchedStatements == null)
+    {
+      return null;
+    }
 
-    boolean firstRevision = classifierRef == null;
-    if (!firstRevision)
+    return batchedStatements.computeIfAbsent(sql,
+        key -> DBUtil.batched(connection.prepareStatement(key, ReuseProbability.HIGH), RAW_STORE_BATCH_SIZE));
+  }
+
+  private void executeBatchedStatements()
+  {
+    if (batchedStatements != null)
     {
-      boolean namesMatch = classifierRef.getClassifierName().equals(eClass.getName());
-      boolean packagesMatch = classifierRef.getPackageURI().equals(eClass.getEPackage().getNsURI());
-      if (!namesMatch || !packagesMatch)
+      SQLException exception = null;
+      for (BatchedStatement stmt : batchedStatements.values())
       {
-        throw new IllegalStateException();
+        try
+        {
+          // Executes the pending updates.
+          stmt.close();
+        }
+        catch (SQLException ex)
+        {
+          if (exception == null)
+          {
+            exception = ex;
+          }
+        }
+      }
+
+      batchedStatements = null;
+      batchedObjectTypes = null;
+
+      if (exception != null)
+      {
+        throw new DBException(exception);
       }
     }
+  }
 
-    writeRevision(revision, firstRevision, false, monitor);
-    getStore().getIDHandler().adjustLastObjectID(id);
+  private void closeBatchedStatements()
+  {
+    if (batchedStatements != null)
+    {
+      for (BatchedStatement stmt : batchedStatements.values())
+      {
+        try
+        {
+          stmt.clearBatch();
+        }
+        catch (SQLException ex)
+        {
+          //$FALL-THROUGH$
+        }
+
+        DBUtil.close(stmt);
+      }
+
+      batchedStatements = null;
+      batchedObjectTypes = null;
+    }
+  }
+
+  private void deferIndexes(IDBTable table)
+  {
+    DBAdapter dbAdapter = (DBAdapter)getStore().getDBAdapter();
+    for (IDBIndex index : table.getIndices())
+    {
+      // Optional indexes may not exist at all.
+      if (index.getType() == IDBIndex.Type.NON_UNIQUE && !DBUtil.isOptional(index))
+      {
+        try
+        {
+          dbAdapter.dropIndex(connection, index);
+          deferredIndexes.add(index);
+        }
+        catch (DBException ex)
+        {
+          // The adapter doesn't know the DROP INDEX syntax of this database. Keep the index, it only slows the load down.
+          OM.LOG.warn("Index " + index + " is kept during the bulk load: " + ex.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+      }
+    }
+  }
+
+  private void createDeferredIndexes()
+  {
+    if (deferredIndexes != null)
+    {
+      DBAdapter dbAdapter = (DBAdapter)getStore().getDBAdapter();
+      for (IDBIndex index : deferredIndexes)
+      {
+        dbAdapter.createIndex(connection, index);
+      }
+
+      deferredIndexes = null;
+      objectTypesAhead = null;
+    }
   }
 
   @Override
@@ -1083,6 +1637,8 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
   @Override
   public void rawDelete(CDOID id, int version, CDOBranch branch, EClass eClass, OMMonitor monitor)
   {
+    invalidateXRefIndex();
+
     if (eClass == null)
     {
       eClass = getObjectType(id);
@@ -1101,6 +1657,19 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
     }
   }
 
+  /**
+   * Raw replication bypasses the commit contexts that maintain the reverse reference index, so the index is rebuilt
+   * when the replication is done and the repository is online again, or when it's activated the next time.
+   */
+  private void invalidateXRefIndex()
+  {
+    XRefIndexTable xrefIndexTable = getStore().getXRefIndexTable();
+    if (xrefIndexTable != null)
+    {
+      xrefIndexTable.invalidate(this);
+    }
+  }
+
   @Override
   public void rawCommit(double commitWork, OMMonitor monitor)
   {
@@ -1109,6 +1678,7 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
 
     try
     {
+      createDeferredIndexes();
       connection.commit();
     }
     catch (SQLException ex)
@@ -1221,6 +1791,11 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
     }
 
     createdTables.add(table);
+
+    if (deferredIndexes != null)
+    {
+      deferIndexes(table);
+    }
   }
 
   /**
@@ -1257,7 +1832,8 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
           TRACER.trace("DB connection keep-alive task activated"); //$NON-NLS-1$
         }
 
-        Connection connection = accessor.getConnection();
+        // Not getConnection(), which returns the connection of the group committer while it writes for the accessor.
+        Connection connection = accessor.connection;
         stmt = connection.createStatement();
         stmt.executeQuery(sql);
       }
@@ -15,6 +15,7 @@ import org.eclipse.emf.cdo.server.StoreThreadLocal;
 import org.eclipse.emf.cdo.server.db.IDBStore;
 import org.eclipse.emf.cdo.server.db.IDBStoreAccessor;
 
+import org.eclipse.net4j.db.DBUtil;
 import org.eclipse.net4j.db.IDBConnection;
 import org.eclipse.net4j.db.IDBDatabase;
 import org.eclipse.net4j.db.IDBDatabase.RunnableWithSchema;
@@ -98,11 +99,47 @@ public abstract class DBStoreTable extends Lifecycle
     super.doDeactivate();
   }
 
+  /**
+   * Returns a new connection that the caller must commit, if needed, and close.
+   */
   protected final IDBConnection getConnection()
   {
     return store.getDatabase().getConnection();
   }
 
+  /**
+   * Returns the connection of the {@link IDBStoreAccessor accessor} of the current thread, if there is one for this store,
+   * or a {@link #getConnection() new connection} otherwise. The returned connection must not be committed and must be
+   * released with {@link #releaseReadConnection(IDBConnection)}.
+   */
+  protected final IDBConnection getReadConnection()
+  {
+    IDBConnection connection = getAccessorConnection();
+    return connection != null ? connection : getConnection();
+  }
+
+  protected final void releaseReadConnection(IDBConnection connection)
+  {
+    if (connection != getAccessorConnection())
+    {
+      DBUtil.close(connection);
+    }
+  }
+
+  private IDBConnection getAccessorConnection()
+  {
+    if (StoreThreadLocal.hasAccessor())
+    {
+      IStoreAccessor accessor = StoreThreadLocal.getAccessor();
+      if (accessor.getStore() == store && accessor instanceof IDBStoreAccessor)
+      {
+        return ((IDBStoreAccessor)accessor).getDBConnection();
+      }
+    }
+
+    return null;
+  }
+
   protected static IDBStoreAccessor accessor()
   {
     IStoreAccessor accessor = StoreThreadLocal.getAccessor();
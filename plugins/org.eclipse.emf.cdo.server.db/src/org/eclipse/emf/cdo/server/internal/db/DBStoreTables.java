@@ -166,7 +166,7 @@ public class DBStoreTables extends Lifecycle
 
     public Map<String, String> getPersistentProperties(Set<String> names)
     {
-      IDBConnection connection = getConnection();
+      IDBConnection connection = getReadConnection();
       IDBPreparedStatement stmt = null;
       String sql = null;
 
@@ -227,13 +227,68 @@ public class DBStoreTables extends Lifecycle
       finally
       {
         DBUtil.close(stmt);
-        DBUtil.close(connection);
+        releaseReadConnection(connection);
       }
     }
 
     public void setPersistentProperties(Map<String, String> properties)
     {
       IDBConnection connection = getConnection();
+
+      try
+      {
+        setPersistentProperties(connection, properties);
+        connection.commit();
+      }
+      catch (SQLException ex)
+      {
+        throw new DBException(ex, "COMMIT");
+      }
+      finally
+      {
+        DBUtil.close(connection);
+      }
+    }
+
+    /**
+     * Writes the given properties through the connection of the given accessor, so that they're committed together with
+     * the other changes of the accessor.
+     */
+    public void setPersistentProperties(IDBStoreAccessor accessor, Map<String, String> properties)
+    {
+      setPersistentProperties(accessor.getDBConnection(), properties);
+    }
+
+    public void removePersistentProperties(Set<String> names)
+    {
+      IDBConnection connection = getConnection();
+
+      try
+      {
+        removePersistentProperties(connection, names);
+        connection.commit();
+      }
+      catch (SQLException ex)
+      {
+        throw new DBException(ex, "COMMIT");
+      }
+      finally
+      {
+        DBUtil.close(connection);
+      }
+    }
+
+    /**
+     * Removes the given properties through the connection of the given accessor, so that they're committed together with
+     * the other changes of the accessor.
+     */
+    public void removePersistentProperties(IDBStoreAccessor accessor, Set<String> names)
+    {
+      removePersistentProperties(accessor.getDBConnection(), names);
+    }
+
+    private void setPersistentProperties(IDBConnection connection, Map<String, String> properties)
+    {
       IDBPreparedStatement deleteStmt = connection.prepareStatement(sqlDeleteProperties, ReuseProbability.MEDIUM);
       IDBPreparedStatement insertStmt = connection.prepareStatement(sqlInsertProperties, ReuseProbability.MEDIUM);
       String msg = null;
@@ -254,9 +309,6 @@ public class DBStoreTables extends Lifecycle
           insertStmt.setString(2, value);
           insertStmt.executeUpdate();
         }
-
-        msg = "COMMIT";
-        connection.commit();
       }
       catch (SQLException ex)
       {
@@ -266,13 +318,11 @@ public class DBStoreTables extends Lifecycle
       {
         DBUtil.close(insertStmt);
         DBUtil.close(deleteStmt);
-        DBUtil.close(connection);
       }
     }
 
-    public void removePersistentProperties(Set<String> names)
+    private void removePersistentProperties(IDBConnection connection, Set<String> names)
     {
-      IDBConnection connection = getConnection();
       IDBPreparedStatement stmt = connection.prepareStatement(sqlDeleteProperties, ReuseProbability.MEDIUM);
 
       try
@@ -282,8 +332,6 @@ public class DBStoreTables extends Lifecycle
           stmt.setString(1, name);
           stmt.executeUpdate();
         }
-
-        connection.commit();
       }
       catch (SQLException ex)
       {
@@ -292,7 +340,6 @@ public class DBStoreTables extends Lifecycle
       finally
       {
         DBUtil.close(stmt);
-        DBUtil.close(connection);
       }
     }
 
@@ -716,6 +763,13 @@ public class DBStoreTables extends Lifecycle
         // Delete the locks and lock areas.
         store.getDurableLockingManager().deleteBranches(accessor, batch, idList);
 
+        // Delete the cross reference index entries.
+        XRefIndexTable xrefIndexTable = store.getXRefIndexTable();
+        if (xrefIndexTable != null)
+        {
+          xrefIndexTable.deleteBranches(accessor, batch, idList);
+        }
+
         monitor.begin();
         Async async = monitor.forkAsync();
 
@@ -12,6 +12,7 @@
 package org.eclipse.emf.cdo.server.internal.db;
 
 import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.common.id.CDOIDUtil;
 import org.eclipse.emf.cdo.common.model.CDOClassifierRef;
 import org.eclipse.emf.cdo.common.protocol.CDODataInput;
 import org.eclipse.emf.cdo.common.protocol.CDODataOutput;
@@ -24,6 +25,8 @@ import org.eclipse.emf.ecore.EClass;
 
 import java.io.IOException;
 import java.sql.Connection;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * @author Eike Stepper
@@ -33,6 +36,24 @@ public interface IObjectTypeMapper
 {
   public CDOClassifierRef getObjectType(IDBStoreAccessor accessor, CDOID id);
 
+  /**
+   * Returns the types of the given objects. Objects without a known type are not contained in the returned map.
+   */
+  public default Map<CDOID, CDOClassifierRef> getObjectTypes(IDBStoreAccessor accessor, Collection<CDOID> ids)
+  {
+    Map<CDOID, CDOClassifierRef> result = CDOIDUtil.createMap();
+    for (CDOID id : ids)
+    {
+      CDOClassifierRef type = getObjectType(accessor, id);
+      if (type != null)
+      {
+        result.put(id, type);
+      }
+    }
+
+    return result;
+  }
+
   public boolean putObjectType(IDBStoreAccessor accessor, long timeStamp, CDOID id, EClass type);
 
   public boolean removeObjectType(IDBStoreAccessor accessor, CDOID id);
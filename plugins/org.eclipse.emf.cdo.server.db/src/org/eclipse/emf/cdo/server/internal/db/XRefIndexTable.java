@@ -0,0 +1,756 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.server.internal.db;
+
+import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
+import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.common.model.CDOModelUtil;
+import org.eclipse.emf.cdo.common.revision.CDOList;
+import org.eclipse.emf.cdo.common.revision.CDORevision;
+import org.eclipse.emf.cdo.common.revision.delta.CDOFeatureDelta;
+import org.eclipse.emf.cdo.server.IStoreAccessor.QueryXRefsContext;
+import org.eclipse.emf.cdo.server.db.IDBStore;
+import org.eclipse.emf.cdo.server.db.IDBStoreAccessor;
+import org.eclipse.emf.cdo.server.db.IIDHandler;
+import org.eclipse.emf.cdo.server.db.IMetaDataManager;
+import org.eclipse.emf.cdo.server.db.mapping.IBranchDeletionSupport;
+import org.eclipse.emf.cdo.server.internal.db.bundle.OM;
+import org.eclipse.emf.cdo.spi.common.revision.DetachedCDORevision;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevisionDelta;
+import org.eclipse.emf.cdo.spi.server.InternalCommitContext;
+
+import org.eclipse.net4j.db.Batch;
+import org.eclipse.net4j.db.DBException;
+import org.eclipse.net4j.db.DBType;
+import org.eclipse.net4j.db.DBUtil;
+import org.eclipse.net4j.db.IDBConnection;
+import org.eclipse.net4j.db.IDBPreparedStatement;
+import org.eclipse.net4j.db.IDBPreparedStatement.ReuseProbability;
+import org.eclipse.net4j.db.ddl.IDBField;
+import org.eclipse.net4j.db.ddl.IDBIndex;
+import org.eclipse.net4j.db.ddl.IDBTable;
+import org.eclipse.net4j.util.om.trace.ContextTracer;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A reverse reference index that maps the target IDs of the stored references to their source objects, references,
+ * branches and time ranges.
+ * <p>
+ * The index is maintained from the {@link InternalCommitContext commit contexts} of all commits and answers
+ * {@link #queryXRefs(IDBStoreAccessor, QueryXRefsContext) cross reference queries} with one indexed lookup. It is only
+ * used for queries while it is {@link #isComplete() complete}, i.e., if it was enabled when the repository was created
+ * or after it has been {@link #rebuild(IDBStoreAccessor) rebuilt} from all stored revisions.
+ * <p>
+ * A rebuild only completes the index if no commit has written to it during the rebuild. The writing commits are
+ * tracked with {@link #beginWrite()} and {@link #endWrite()}.
+ *
+ * @author Eike Stepper
+ * @see IDBStore.Props#XREF_INDEX
+ */
+public class XRefIndexTable extends DBStoreTable implements IBranchDeletionSupport
+{
+  static final String PROP_COMPLETE = "org.eclipse.emf.cdo.server.db.xrefIndexComplete"; //$NON-NLS-1$
+
+  private static final int REBUILD_BATCH_SIZE = 1000;
+
+  private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG, XRefIndexTable.class);
+
+  private boolean auditing;
+
+  private volatile boolean complete;
+
+  /**
+   * The number of commits that have begun to write to this index.
+   */
+  private final AtomicLong writes = new AtomicLong();
+
+  /**
+   * The number of commits that have begun to write to this index and are not committed or rolled back, yet.
+   */
+  private final AtomicInteger pendingWrites = new AtomicInteger();
+
+  private IDBField target;
+
+  private IDBField source;
+
+  private IDBField sourceClass;
+
+  private IDBField feature;
+
+  private IDBField index;
+
+  private IDBField branch;
+
+  private IDBField created;
+
+  private IDBField revised;
+
+  private String sqlInsert;
+
+  private String sqlRevise;
+
+  private String sqlReviseFeature;
+
+  private String sqlDelete;
+
+  private String sqlDeleteFeature;
+
+  public XRefIndexTable(IDBStore store)
+  {
+    super(store, NAMES.XREF_INDEX);
+  }
+
+  public boolean isComplete()
+  {
+    return complete;
+  }
+
+  /**
+   * Marks this index as complete, if the repository has just been created and contains no revisions, yet.
+   */
+  public void initComplete(boolean firstStart)
+  {
+    DBStore store = (DBStore)store();
+    if (firstStart)
+    {
+      store.putPersistentProperty(PROP_COMPLETE, Boolean.TRUE.toString());
+      complete = true;
+    }
+    else
+    {
+      Map<String, String> properties = store.getPersistentProperties(Collections.singleton(PROP_COMPLETE));
+      complete = Boolean.parseBoolean(properties.get(PROP_COMPLETE));
+    }
+  }
+
+  /**
+   * Marks this index as incomplete, so that it is not used for queries anymore and rebuilt when the repository is
+   * activated the next time. The mark is committed together with the other changes of the given accessor.
+   */
+  public void invalidate(IDBStoreAccessor accessor)
+  {
+    if (complete)
+    {
+      complete = false;
+      ((DBStore)store()).tables().properties().removePersistentProperties(accessor, Collections.singleton(PROP_COMPLETE));
+    }
+  }
+
+  /**
+   * Called by a writing accessor before it writes a commit that may change this index.
+   */
+  public void beginWrite()
+  {
+    writes.incrementAndGet();
+    pendingWrites.incrementAndGet();
+  }
+
+  /**
+   * Called by a writing accessor after the commit that it has {@link #beginWrite() begun} is committed or rolled back.
+   */
+  public void endWrite()
+  {
+    pendingWrites.decrementAndGet();
+  }
+
+  /**
+   * Adds the references of the new objects of the given commit context to this index and removes the references of
+   * the detached objects.
+   * <p>
+   * For the dirty objects only the references whose values have changed, according to the
+   * {@link InternalCommitContext#getDirtyObjectDeltas() revision deltas}, are replaced. The entries of unchanged
+   * references stay valid, i.e., their time ranges span all revisions in which the reference values are the same.
+   * Dirty objects without a delta and the first revisions of objects in a branch are written with all their references.
+   */
+  public void writeXRefs(IDBStoreAccessor accessor, InternalCommitContext context)
+  {
+    IDBConnection connection = accessor.getDBConnection();
+    CDOBranchPoint branchPoint = context.getBranchPoint();
+    int branchID = branchPoint.getBranch().getID();
+    long timeStamp = branchPoint.getTimeStamp();
+
+    InternalCDORevision[] dirtyObjects = context.getDirtyObjects();
+    InternalCDORevisionDelta[] dirtyObjectDeltas = context.getDirtyObjectDeltas();
+    CDOID[] detachedObjects = context.getDetachedObjects();
+
+    // The changed references of each dirty object, or null if all references of the object are written.
+    List<Set<EReference>> changedReferences = new ArrayList<>(dirtyObjects.length);
+    for (int i = 0; i < dirtyObjects.length; i++)
+    {
+      InternalCDORevisionDelta delta = dirtyObjectDeltas != null && i < dirtyObjectDeltas.length ? dirtyObjectDeltas[i] : null;
+      changedReferences.add(getChangedReferences(dirtyObjects[i], delta));
+    }
+
+    if (dirtyObjects.length != 0 || detachedObjects.length != 0)
+    {
+      removeXRefs(connection, dirtyObjects, changedReferences, detachedObjects, branchID, timeStamp);
+    }
+
+    IDBPreparedStatement stmt = connection.prepareStatement(sqlInsert, ReuseProbability.HIGH);
+
+    try
+    {
+      int count = addXRefs(stmt, context.getNewObjects(), CDORevision.UNSPECIFIED_DATE);
+
+      for (int i = 0; i < dirtyObjects.length; i++)
+      {
+        Set<EReference> references = changedReferences.get(i);
+        if (references == null)
+        {
+          count += addXRefs(stmt, dirtyObjects[i], CDORevision.UNSPECIFIED_DATE);
+        }
+        else
+        {
+          for (EReference reference : references)
+          {
+            count += addXRefs(stmt, dirtyObjects[i], reference, CDORevision.UNSPECIFIED_DATE);
+          }
+        }
+      }
+
+      if (count != 0)
+      {
+        DBUtil.executeBatch(stmt, count);
+      }
+    }
+    finally
+    {
+      DBUtil.close(stmt);
+    }
+  }
+
+  public void queryXRefs(IDBStoreAccessor accessor, QueryXRefsContext context)
+  {
+    IIDHandler idHandler = store().getIDHandler();
+    StringBuilder builder = new StringBuilder();
+    builder.append("SELECT "); //$NON-NLS-1$
+    builder.append(target);
+    builder.append(", "); //$NON-NLS-1$
+    builder.append(source);
+    builder.append(", "); //$NON-NLS-1$
+    builder.append(sourceClass);
+    builder.append(", "); //$NON-NLS-1$
+    builder.append(feature);
+    builder.append(", "); //$NON-NLS-1$
+    builder.append(index);
+    builder.append(" FROM "); //$NON-NLS-1$
+    builder.append(table());
+    builder.append(" WHERE "); //$NON-NLS-1$
+    builder.append(target);
+    builder.append(" IN ("); //$NON-NLS-1$
+
+    boolean first = true;
+    for (CDOID targetID : context.getTargetObjects().keySet())
+    {
+      if (targetID.isExternal())
+      {
+        continue;
+      }
+
+      if (first)
+      {
+        first = false;
+      }
+      else
+      {
+        builder.append(","); //$NON-NLS-1$
+      }
+
+      idHandler.appendCDOID(builder, targetID);
+    }
+
+    if (first)
+    {
+      return;
+    }
+
+    builder.append(") AND "); //$NON-NLS-1$
+    builder.append(branch);
+    builder.append("="); //$NON-NLS-1$
+    builder.append(context.getBranch().getID());
+    builder.append(" AND "); //$NON-NLS-1$
+
+    long timeStamp = context.getTimeStamp();
+    if (timeStamp == CDORevision.UNSPECIFIED_DATE || !auditing)
+    {
+      builder.append(revised);
+      builder.append("=0"); //$NON-NLS-1$
+    }
+    else
+    {
+      builder.append(created);
+      builder.append("<="); //$NON-NLS-1$
+      builder.append(timeStamp);
+      builder.append(" AND ("); //$NON-NLS-1$
+      builder.append(revised);
+      builder.append("=0 OR "); //$NON-NLS-1$
+      builder.append(revised);
+      builder.append(">="); //$NON-NLS-1$
+      builder.append(timeStamp);
+      builder.append(")"); //$NON-NLS-1$
+    }
+
+    String sql = builder.toString();
+    if (TRACER.isEnabled())
+    {
+      TRACER.format("Query XRefs (index): {0}", sql); //$NON-NLS-1$
+    }
+
+    IMetaDataManager metaDataManager = store().getMetaDataManager();
+    Map<EClass, List<EReference>> sourceCandidates = context.getSourceCandidates();
+
+    IDBPreparedStatement stmt = accessor.getDBConnection().prepareStatement(sql, ReuseProbability.MEDIUM);
+    ResultSet resultSet = null;
+
+    try
+    {
+      resultSet = stmt.executeQuery();
+      while (resultSet.next())
+      {
+        EClass eClass = (EClass)metaDataManager.getMetaInstance(idHandler.getCDOID(resultSet, 3));
+        EReference reference = getSourceReference(sourceCandidates.get(eClass), resultSet.getString(4));
+        if (reference == null)
+        {
+          continue;
+        }
+
+        CDOID targetID = idHandler.getCDOID(resultSet, 1);
+        CDOID sourceID = idHandler.getCDOID(resultSet, 2);
+        int sourceIndex = resultSet.getInt(5);
+
+        if (!context.addXRef(targetID, sourceID, reference, sourceIndex))
+        {
+          // Max results reached or user canceled.
+          return;
+        }
+      }
+    }
+    catch (SQLException ex)
+    {
+      throw new DBException(ex);
+    }
+    finally
+    {
+      DBUtil.close(resultSet);
+      DBUtil.close(stmt);
+    }
+  }
+
+  /**
+   * Replaces the content of this index with the references of all revisions that the given accessor can
+   * {@link IDBStoreAccessor#handleRevisions(EClass, org.eclipse.emf.cdo.common.branch.CDOBranch, long, boolean, org.eclipse.emf.cdo.common.revision.CDORevisionHandler)
+   * handle}.
+   * <p>
+   * The index is written through the connection of the given accessor, which must not have uncommitted changes.
+   * Commits can write to the index concurrently. If a commit was pending when the rebuild started, or a commit began
+   * during the rebuild, the rebuilt index may miss its references and stays incomplete.
+   *
+   * @return <code>true</code> if the index is complete after the rebuild, <code>false</code> otherwise.
+   */
+  public boolean rebuild(IDBStoreAccessor accessor)
+  {
+    OM.LOG.info("Building cross reference index of repository " + store().getRepository().getName() + "..."); //$NON-NLS-1$ //$NON-NLS-2$
+    IDBConnection connection = accessor.getDBConnection();
+
+    // Read the counters in the reverse order of beginWrite(), so that a commit that begins in between is detected.
+    long startWrites = writes.get();
+    boolean quiet = pendingWrites.get() == 0;
+    boolean rebuilt;
+
+    try (Batch batch = new Batch(connection))
+    {
+      batch.add("DELETE FROM " + table()); //$NON-NLS-1$
+      batch.execute();
+
+      IDBPreparedStatement stmt = connection.prepareStatement(sqlInsert, ReuseProbability.LOW);
+      int[] count = { 0 };
+
+      try
+      {
+        accessor.handleRevisions(null, null, CDOBranchPoint.INVALID_DATE, false, revision -> {
+          if (!(revision instanceof DetachedCDORevision))
+          {
+            count[0] += addXRefs(stmt, (InternalCDORevision)revision, revision.getRevised());
+            if (count[0] >= REBUILD_BATCH_SIZE)
+            {
+              DBUtil.executeBatch(stmt, count[0]);
+              count[0] = 0;
+            }
+          }
+
+          return true;
+        });
+
+        if (count[0] != 0)
+        {
+          DBUtil.executeBatch(stmt, count[0]);
+        }
+      }
+      finally
+      {
+        DBUtil.close(stmt);
+      }
+
+      rebuilt = quiet && writes.get() == startWrites;
+      if (rebuilt)
+      {
+        ((DBStore)store()).tables().properties().setPersistentProperties(accessor, Collections.singletonMap(PROP_COMPLETE, Boolean.TRUE.toString()));
+      }
+
+      connection.commit();
+    }
+    catch (SQLException ex)
+    {
+      throw new DBException(ex);
+    }
+
+    if (rebuilt)
+    {
+      complete = true;
+    }
+    else
+    {
+      OM.LOG.info("Cross reference index of repository " + store().getRepository().getName() + " is incomplete due to concurrent commits"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    return rebuilt;
+  }
+
+  @Override
+  public void deleteBranches(IDBStoreAccessor accessor, Batch batch, String idList)
+  {
+    batch.add("DELETE FROM " + table() + " WHERE " + branch + " IN (" + idList + ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+  }
+
+  @Override
+  protected void doActivate() throws Exception
+  {
+    auditing = store().getMappingStrategy().hasAuditSupport();
+    super.doActivate();
+  }
+
+  @Override
+  protected void firstActivate(IDBTable table)
+  {
+    DBType idType = store().getIDHandler().getDBType();
+    int idLength = store().getIDColumnLength();
+
+    target = table.addField(NAMES.TARGET, idType, idLength, true);
+    source = table.addField(NAMES.SOURCE, idType, idLength, true);
+    sourceClass = table.addField(NAMES.SOURCE_CLASS, idType, idLength, true);
+    feature = table.addField(NAMES.FEATURE, DBType.VARCHAR, 255, true);
+    index = table.addField(NAMES.INDEX, DBType.INTEGER, true);
+    branch = table.addField(NAMES.BRANCH, DBType.INTEGER, true);
+    created = table.addField(NAMES.CREATED, DBType.BIGINT, true);
+    revised = table.addField(NAMES.REVISED, DBType.BIGINT, true);
+
+    table.addIndex(IDBIndex.Type.NON_UNIQUE, target, branch);
+    table.addIndex(IDBIndex.Type.NON_UNIQUE, source, branch);
+  }
+
+  @Override
+  protected void reActivate(IDBTable table)
+  {
+    target = table.getField(NAMES.TARGET);
+    source = table.getField(NAMES.SOURCE);
+    sourceClass = table.getField(NAMES.SOURCE_CLASS);
+    feature = table.getField(NAMES.FEATURE);
+    index = table.getField(NAMES.INDEX);
+    branch = table.getField(NAMES.BRANCH);
+    created = table.getField(NAMES.CREATED);
+    revised = table.getField(NAMES.REVISED);
+  }
+
+  @Override
+  protected void initSQL(IDBTable table)
+  {
+    sqlInsert = "INSERT INTO " + table + " (" + target + ", " + source + ", " + sourceClass + ", " + feature + ", " + index + ", " + branch + ", " + created
+        + ", " + revised + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    sqlRevise = "UPDATE " + table + " SET " + revised + "=? WHERE " + source + "=? AND " + branch + "=? AND " + revised + "=0";
+    sqlReviseFeature = sqlRevise + " AND " + feature + "=?";
+    sqlDelete = "DELETE FROM " + table + " WHERE " + source + "=?";
+    sqlDeleteFeature = sqlDelete + " AND " + feature + "=?";
+  }
+
+  @Override
+  protected void doDeactivate() throws Exception
+  {
+    sqlInsert = null;
+    sqlRevise = null;
+    sqlReviseFeature = null;
+    sqlDelete = null;
+    sqlDeleteFeature = null;
+    super.doDeactivate();
+  }
+
+  /**
+   * Returns the indexed references whose values the given delta changes, or <code>null</code> if all references of the
+   * given revision must be written, i.e., if there's no delta or the revision is the first one in its branch.
+   */
+  private static Set<EReference> getChangedReferences(InternalCDORevision revision, InternalCDORevisionDelta delta)
+  {
+    if (delta == null || delta.getID() != revision.getID() || delta.getBranch() != revision.getBranch())
+    {
+      return null;
+    }
+
+    Set<EReference> references = new LinkedHashSet<>();
+    for (CDOFeatureDelta featureDelta : delta.getFeatureDeltas())
+    {
+      EStructuralFeature feature = featureDelta.getFeature();
+      if (feature instanceof EReference && isIndexed((EReference)feature))
+      {
+        references.add((EReference)feature);
+      }
+    }
+
+    return references;
+  }
+
+  private void removeXRefs(IDBConnection connection, InternalCDORevision[] dirtyObjects, List<Set<EReference>> changedReferences, CDOID[] detachedObjects,
+      int branchID, long timeStamp)
+  {
+    IIDHandler idHandler = store().getIDHandler();
+    IDBPreparedStatement stmt = connection.prepareStatement(auditing ? sqlRevise : sqlDelete, ReuseProbability.HIGH);
+    IDBPreparedStatement featureStmt = null;
+
+    try
+    {
+      int count = 0;
+      int featureCount = 0;
+
+      for (int i = 0; i < dirtyObjects.length; i++)
+      {
+        CDOID id = dirtyObjects[i].getID();
+        Set<EReference> references = changedReferences.get(i);
+        if (references == null)
+        {
+          addRemoval(stmt, idHandler, id, null, branchID, timeStamp);
+          ++count;
+        }
+        else if (!references.isEmpty())
+        {
+          if (featureStmt == null)
+          {
+            featureStmt = connection.prepareStatement(auditing ? sqlReviseFeature : sqlDeleteFeature, ReuseProbability.HIGH);
+          }
+
+          for (EReference reference : references)
+          {
+            addRemoval(featureStmt, idHandler, id, reference, branchID, timeStamp);
+            ++featureCount;
+          }
+        }
+      }
+
+      for (CDOID id : detachedObjects)
+      {
+        addRemoval(stmt, idHandler, id, null, branchID, timeStamp);
+        ++count;
+      }
+
+      DBUtil.executeBatch(stmt, count, false);
+
+      if (featureStmt != null)
+      {
+        DBUtil.executeBatch(featureStmt, featureCount, false);
+      }
+    }
+    catch (SQLException ex)
+    {
+      throw new DBException(ex);
+    }
+    finally
+    {
+      DBUtil.close(featureStmt);
+      DBUtil.close(stmt);
+    }
+  }
+
+  private void addRemoval(IDBPreparedStatement stmt, IIDHandler idHandler, CDOID id, EReference reference, int branchID, long timeStamp)
+      throws SQLException
+  {
+    int column = 1;
+    if (auditing)
+    {
+      stmt.setLong(column++, timeStamp - 1);
+      idHandler.setCDOID(stmt, column++, id);
+      stmt.setInt(column++, branchID);
+    }
+    else
+    {
+      idHandler.setCDOID(stmt, column++, id);
+    }
+
+    if (reference != null)
+    {
+      stmt.setString(column, reference.getName());
+    }
+
+    stmt.addBatch();
+  }
+
+  private int addXRefs(IDBPreparedStatement stmt, InternalCDORevision[] revisions, long revisedTime)
+  {
+    int count = 0;
+    for (InternalCDORevision revision : revisions)
+    {
+      count += addXRefs(stmt, revision, revisedTime);
+    }
+
+    return count;
+  }
+
+  private int addXRefs(IDBPreparedStatement stmt, InternalCDORevision revision, long revisedTime)
+  {
+    EClass eClass = revision.getEClass();
+    int count = 0;
+
+    for (EReference reference : CDOModelUtil.getClassInfo(eClass).getAllPersistentReferences())
+    {
+      if (isIndexed(reference))
+      {
+        count += addXRefs(stmt, revision, reference, revisedTime);
+      }
+    }
+
+    return count;
+  }
+
+  private int addXRefs(IDBPreparedStatement stmt, InternalCDORevision revision, EReference reference, long revisedTime)
+  {
+    int count = 0;
+
+    if (reference.isMany())
+    {
+      CDOList list = revision.getListOrNull(reference);
+      if (list != null)
+      {
+        for (int i = 0, size = list.size(); i < size; i++)
+        {
+          count += addXRef(stmt, revision, reference, list.get(i), i, revisedTime);
+        }
+      }
+    }
+    else
+    {
+      count += addXRef(stmt, revision, reference, revision.getValue(reference), 0, revisedTime);
+    }
+
+    return count;
+  }
+
+  private int addXRef(IDBPreparedStatement stmt, InternalCDORevision revision, EReference reference, Object value, int sourceIndex, long revisedTime)
+  {
+    if (!(value instanceof CDOID))
+    {
+      return 0;
+    }
+
+    CDOID targetID = (CDOID)value;
+    if (targetID.isNull() || targetID.isExternal())
+    {
+      return 0;
+    }
+
+    IIDHandler idHandler = store().getIDHandler();
+    long timeStamp = revision.getTimeStamp();
+
+    try
+    {
+      idHandler.setCDOID(stmt, 1, targetID);
+      idHandler.setCDOID(stmt, 2, revision.getID());
+      idHandler.setCDOID(stmt, 3, store().getMetaDataManager().getMetaID(revision.getEClass(), timeStamp));
+      stmt.setString(4, reference.getName());
+      stmt.setInt(5, sourceIndex);
+      stmt.setInt(6, revision.getBranch().getID());
+      stmt.setLong(7, timeStamp);
+      stmt.setLong(8, revisedTime);
+      stmt.addBatch();
+      return 1;
+    }
+    catch (SQLException ex)
+    {
+      throw new DBException(ex);
+    }
+  }
+
+  private static boolean isIndexed(EReference reference)
+  {
+    // Same filter as XRefsQueryHandler.collectSourceCandidates().
+    if (reference.isContainer())
+    {
+      return false;
+    }
+
+    return !reference.isContainment() || reference.isResolveProxies();
+  }
+
+  private static EReference getSourceReference(List<EReference> references, String name)
+  {
+    if (references != null)
+    {
+      for (EReference reference : references)
+      {
+        if (reference.getName().equals(name))
+        {
+          return reference;
+        }
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  private static final class NAMES
+  {
+    private static final String XREF_INDEX = name("cdo_xref_index"); //$NON-NLS-1$
+
+    private static final String TARGET = name("target_id"); //$NON-NLS-1$
+
+    private static final String SOURCE = name("source_id"); //$NON-NLS-1$
+
+    private static final String SOURCE_CLASS = name("source_class"); //$NON-NLS-1$
+
+    private static final String FEATURE = name("feature_name"); //$NON-NLS-1$
+
+    private static final String INDEX = name("list_idx"); //$NON-NLS-1$
+
+    private static final String BRANCH = name("branch_id"); //$NON-NLS-1$
+
+    private static final String CREATED = name("created_time"); //$NON-NLS-1$
+
+    private static final String REVISED = name("revised_time"); //$NON-NLS-1$
+
+    private static String name(String name)
+    {
+      return DBUtil.name(name, XRefIndexTable.class);
+    }
+  }
+}
@@ -69,10 +69,12 @@ import org.eclipse.emf.ecore.EStructuralFeature;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -699,6 +701,42 @@ public abstract class AbstractMappingStrategy extends Lifecycle implements IMapp
     }
   }
 
+  /**
+   * Returns the concrete classes that this mapping strategy has already mapped, without creating new mappings or
+   * persistent structures for the other classes.
+   */
+  public List<EClass> getMappedClasses()
+  {
+    List<EClass> result = new ArrayList<>();
+
+    InternalRepository repository = (InternalRepository)getStore().getRepository();
+    InternalCDOPackageRegistry packageRegistry = repository.getPackageRegistry(false);
+    for (InternalCDOPackageInfo packageInfo : packageRegistry.getPackageInfos())
+    {
+      for (EClassifier eClassifier : packageInfo.getEPackage().getEClassifiers())
+      {
+        if (eClassifier instanceof EClass)
+        {
+          EClass eClass = (EClass)eClassifier;
+          if (isMapped(eClass) && hasMapping(eClass))
+          {
+            result.add(eClass);
+          }
+        }
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Returns <code>true</code> if the given mapped class has a mapping already, <code>false</code> otherwise.
+   */
+  protected boolean hasMapping(EClass eClass)
+  {
+    return classMappings.containsKey(eClass);
+  }
+
   protected abstract boolean isMapped(EClass eClass);
 
   @Override
@@ -38,6 +38,7 @@ import org.eclipse.emf.cdo.server.db.IDBStoreAccessor;
 import org.eclipse.emf.cdo.server.db.IIDHandler;
 import org.eclipse.emf.cdo.server.db.IMetaDataManager;
 import org.eclipse.emf.cdo.server.db.mapping.IClassMapping;
+import org.eclipse.emf.cdo.server.db.mapping.IClassMappingBulkReadSupport;
 import org.eclipse.emf.cdo.server.db.mapping.IListMapping;
 import org.eclipse.emf.cdo.server.db.mapping.IListMapping3;
 import org.eclipse.emf.cdo.server.db.mapping.IListMapping4;
@@ -82,6 +83,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -91,10 +93,24 @@ import java.util.Set;
  * @author Eike Stepper
  * @since 2.0
  */
-public abstract class AbstractHorizontalClassMapping implements IClassMapping, IDeactivateable
+public abstract class AbstractHorizontalClassMapping implements IClassMapping, IClassMappingBulkReadSupport, IDeactivateable
 {
   protected static final int UNSET_LIST = -1;
 
+  /**
+   * The maximum number of IDs in the <code>IN (...)</code> clause of a single bulk read query.
+   *
+   * @since 4.14
+   */
+  protected static final int BULK_READ_CHUNK = 500;
+
+  /**
+   * The numbers of parameters in the <code>IN (...)</code> clauses of bulk read queries, in ascending order. Shorter
+   * parameter lists are padded to the next of these sizes, so that only a few different statements are prepared and
+   * cached.
+   */
+  private static final int[] BULK_READ_SIZES = { 10, 50, 100, BULK_READ_CHUNK };
+
   private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG, AbstractHorizontalClassMapping.class);
 
   protected IDBTable table;
@@ -131,6 +147,8 @@ public abstract class AbstractHorizontalClassMapping implements IClassMapping, I
 
   private String sqlSelectForChangeSet;
 
+  private String sqlSelectForBulkRead;
+
   public AbstractHorizontalClassMapping(AbstractHorizontalMappingStrategy mappingStrategy, EClass eClass)
   {
     this.mappingStrategy = mappingStrategy;
@@ -381,6 +399,31 @@ public abstract class AbstractHorizontalClassMapping implements IClassMapping, I
     builder.append(table);
     builder.append(" WHERE "); //$NON-NLS-1$
     sqlSelectForChangeSet = builder.toString();
+
+    // ----------- Select revisions (for readRevisions) ---
+    builder = new StringBuilder("SELECT "); //$NON-NLS-1$
+    builder.append(idField);
+    builder.append(", "); //$NON-NLS-1$
+    builder.append(versionField);
+    builder.append(", "); //$NON-NLS-1$
+    builder.append(createdField);
+    builder.append(", "); //$NON-NLS-1$
+    builder.append(revisedField);
+    builder.append(", "); //$NON-NLS-1$
+    builder.append(resourceField);
+    builder.append(", "); //$NON-NLS-1$
+    builder.append(containerField);
+    builder.append(", "); //$NON-NLS-1$
+    builder.append(featureField);
+    appendTypeMappingNames(builder, valueMappings);
+    appendFieldNames(builder, unsettableFields);
+    appendFieldNames(builder, listSizeFields);
+    builder.append(" FROM "); //$NON-NLS-1$
+    builder.append(table);
+    builder.append(" WHERE "); //$NON-NLS-1$
+    builder.append(idField);
+    builder.append(" IN ("); //$NON-NLS-1$
+    sqlSelectForBulkRead = builder.toString();
   }
 
   protected void appendSelectForHandleFields(StringBuilder builder)
@@ -398,6 +441,29 @@ public abstract class AbstractHorizontalClassMapping implements IClassMapping, I
     return sqlSelectForChangeSet;
   }
 
+  /**
+   * Appends the conditions that restrict a bulk read query to the given branch point.
+   *
+   * @return <code>true</code> if this mapping supports bulk reads at the given branch point, <code>false</code>
+   *         otherwise.
+   * @since 4.14
+   */
+  protected boolean appendBulkReadConditions(StringBuilder builder, CDOBranchPoint branchPoint)
+  {
+    return false;
+  }
+
+  /**
+   * Sets the parameters of the conditions that have been appended by
+   * {@link #appendBulkReadConditions(StringBuilder, CDOBranchPoint) appendBulkReadConditions()}.
+   *
+   * @since 4.14
+   */
+  protected void setBulkReadParameters(IDBPreparedStatement stmt, int column, CDOBranchPoint branchPoint) throws SQLException
+  {
+    // Do nothing.
+  }
+
   protected IDBField addContainerField(IDBTable table, DBType idType, int idLength)
   {
     return table.addField(MappingNames.ATTRIBUTES_CONTAINER, idType, idLength, true);
@@ -463,69 +529,225 @@ public abstract class AbstractHorizontalClassMapping implements IClassMapping, I
     {
       if (resultSet.next())
       {
-        long timeStamp = resultSet.getLong(MappingNames.ATTRIBUTES_CREATED);
-        CDOBranchPoint branchPoint = revision.getBranch().getPoint(timeStamp);
-
         if (forUnit)
         {
           revision.setID(idHandler.getCDOID(resultSet, MappingNames.ATTRIBUTES_ID));
         }
 
-        revision.setBranchPoint(branchPoint);
-        revision.setVersion(resultSet.getInt(MappingNames.ATTRIBUTES_VERSION));
-        revision.setRevised(resultSet.getLong(MappingNames.ATTRIBUTES_REVISED));
-        revision.setResourceID(idHandler.getCDOID(resultSet, MappingNames.ATTRIBUTES_RESOURCE));
-        revision.setContainerID(idHandler.getCDOID(resultSet, MappingNames.ATTRIBUTES_CONTAINER));
-        revision.setContainingFeatureID(resultSet.getInt(MappingNames.ATTRIBUTES_FEATURE));
+        readValuesFromRow(resultSet, idHandler, revision);
+        return true;
+      }
+
+      return false;
+    }
+    catch (SQLException ex)
+    {
+      throw new DBException(ex);
+    }
+  }
+
+  private void readValuesFromRow(ResultSet resultSet, IIDHandler idHandler, InternalCDORevision revision) throws SQLException
+  {
+    long timeStamp = resultSet.getLong(MappingNames.ATTRIBUTES_CREATED);
+    CDOBranchPoint branchPoint = revision.getBranch().getPoint(timeStamp);
+
+    revision.setBranchPoint(branchPoint);
+    revision.setVersion(resultSet.getInt(MappingNames.ATTRIBUTES_VERSION));
+    revision.setRevised(resultSet.getLong(MappingNames.ATTRIBUTES_REVISED));
+    revision.setResourceID(idHandler.getCDOID(resultSet, MappingNames.ATTRIBUTES_RESOURCE));
+    revision.setContainerID(idHandler.getCDOID(resultSet, MappingNames.ATTRIBUTES_CONTAINER));
+    revision.setContainingFeatureID(resultSet.getInt(MappingNames.ATTRIBUTES_FEATURE));
+
+    for (ITypeMapping mapping : valueMappings)
+    {
+      EStructuralFeature feature = mapping.getFeature();
+      if (feature.isUnsettable())
+      {
+        IDBField field = unsettableFields.get(feature);
+        if (!resultSet.getBoolean(field.getName()))
+        {
+          // isSet==false -- setValue: null
+          revision.setValue(feature, null);
+          continue;
+        }
+      }
+
+      mapping.readValueToRevision(resultSet, revision);
+    }
+
+    if (listSizeFields != null)
+    {
+      for (Map.Entry<EStructuralFeature, IDBField> listSizeEntry : listSizeFields.entrySet())
+      {
+        EStructuralFeature feature = listSizeEntry.getKey();
+        IDBField field = listSizeEntry.getValue();
+
+        int size = resultSet.getInt(field.getName());
+        if (size == UNSET_LIST)
+        {
+          // Leave the list slot in the revision null.
+          continue;
+        }
 
-        for (ITypeMapping mapping : valueMappings)
+        // Ensure the list size.
+        CDOList list = revision.getOrCreateList(feature, size);
+        for (int i = 0; i < size; i++)
         {
-          EStructuralFeature feature = mapping.getFeature();
-          if (feature.isUnsettable())
+          list.add(InternalCDOList.UNINITIALIZED);
+        }
+      }
+    }
+  }
+
+  @Override
+  public List<InternalCDORevision> readRevisions(IDBStoreAccessor accessor, List<InternalCDORevision> revisions, CDOBranchPoint branchPoint, int listChunk)
+  {
+    if (table == null)
+    {
+      return null;
+    }
+
+    StringBuilder conditions = new StringBuilder();
+    if (!appendBulkReadConditions(conditions, branchPoint))
+    {
+      return null;
+    }
+
+    IIDHandler idHandler = getMappingStrategy().getStore().getIDHandler();
+    List<InternalCDORevision> result = new ArrayList<>(revisions.size());
+
+    for (int start = 0, size = revisions.size(); start < size; start += BULK_READ_CHUNK)
+    {
+      int end = Math.min(start + BULK_READ_CHUNK, size);
+
+      Map<CDOID, InternalCDORevision> chunk = new HashMap<>();
+      for (int i = start; i < end; i++)
+      {
+        InternalCDORevision revision = revisions.get(i);
+        chunk.put(revision.getID(), revision);
+      }
+
+      int parameters = getBulkReadSize(chunk.size());
+
+      StringBuilder builder = new StringBuilder(sqlSelectForBulkRead);
+      appendBulkReadParameters(builder, parameters);
+      builder.append(")"); //$NON-NLS-1$
+      builder.append(conditions);
+      String sql = builder.toString();
+
+      IDBPreparedStatement stmt = accessor.getDBConnection().prepareStatement(sql, ReuseProbability.MEDIUM);
+      ResultSet resultSet = null;
+
+      try
+      {
+        int column = 1;
+        CDOID parameterID = null;
+        for (Iterator<CDOID> it = chunk.keySet().iterator(); column <= parameters; column++)
+        {
+          if (it.hasNext())
           {
-            IDBField field = unsettableFields.get(feature);
-            if (!resultSet.getBoolean(field.getName()))
-            {
-              // isSet==false -- setValue: null
-              revision.setValue(feature, null);
-              continue;
-            }
+            parameterID = it.next();
           }
 
-          mapping.readValueToRevision(resultSet, revision);
+          // The padding repeats the last ID.
+          idHandler.setCDOID(stmt, column, parameterID);
         }
 
-        if (listSizeFields != null)
+        setBulkReadParameters(stmt, column, branchPoint);
+
+        if (TRACER.isEnabled())
         {
-          for (Map.Entry<EStructuralFeature, IDBField> listSizeEntry : listSizeFields.entrySet())
-          {
-            EStructuralFeature feature = listSizeEntry.getKey();
-            IDBField field = listSizeEntry.getValue();
+          TRACER.format("Executing Query: {0}", stmt.toString()); //$NON-NLS-1$
+        }
 
-            int size = resultSet.getInt(field.getName());
-            if (size == UNSET_LIST)
-            {
-              // Leave the list slot in the revision null.
-              continue;
-            }
+        resultSet = stmt.executeQuery();
+        while (resultSet.next())
+        {
+          CDOID id = idHandler.getCDOID(resultSet, MappingNames.ATTRIBUTES_ID);
 
-            // Ensure the list size.
-            CDOList list = revision.getOrCreateList(feature, size);
-            for (int i = 0; i < size; i++)
-            {
-              list.add(InternalCDOList.UNINITIALIZED);
-            }
+          // Remove the revision from the chunk so that possible duplicate rows are ignored.
+          InternalCDORevision revision = chunk.remove(id);
+          if (revision != null)
+          {
+            readValuesFromRow(resultSet, idHandler, revision);
+            result.add(revision);
           }
         }
+      }
+      catch (SQLException ex)
+      {
+        throw new DBException(ex);
+      }
+      finally
+      {
+        DBUtil.close(resultSet);
+        DBUtil.close(stmt);
+      }
+    }
 
-        return true;
+    // Read multival tables only for revisions that exist and are not detached.
+    List<InternalCDORevision> existingRevisions = new ArrayList<>(result.size());
+    for (InternalCDORevision revision : result)
+    {
+      if (revision.getVersion() >= CDOBranchVersion.FIRST_VERSION)
+      {
+        existingRevisions.add(revision);
       }
+    }
 
-      return false;
+    if (!existingRevisions.isEmpty())
+    {
+      for (IListMapping listMapping : listMappings)
+      {
+        if (listMapping instanceof AbstractListTableMapping)
+        {
+          ((AbstractListTableMapping)listMapping).readValues(accessor, existingRevisions, listChunk);
+        }
+        else
+        {
+          for (InternalCDORevision revision : existingRevisions)
+          {
+            listMapping.readValues(accessor, revision, listChunk);
+          }
+        }
+      }
     }
-    catch (SQLException ex)
+
+    return result;
+  }
+
+  /**
+   * Returns the number of parameters for a bulk read of the given number of objects, i.e., the given number padded to
+   * the next of a few fixed sizes.
+   *
+   * @since 4.14
+   */
+  protected static int getBulkReadSize(int size)
+  {
+    for (int bulkReadSize : BULK_READ_SIZES)
     {
-      throw new DBException(ex);
+      if (size <= bulkReadSize)
+      {
+        return bulkReadSize;
+      }
+    }
+
+    throw new IllegalArgumentException("Too many objects for a bulk read: " + size); //$NON-NLS-1$
+  }
+
+  /**
+   * @since 4.14
+   */
+  protected static void appendBulkReadParameters(StringBuilder builder, int parameters)
+  {
+    for (int i = 0; i < parameters; i++)
+    {
+      if (i != 0)
+      {
+        builder.append(", "); //$NON-NLS-1$
+      }
+
+      builder.append("?"); //$NON-NLS-1$
     }
   }
 
@@ -51,6 +51,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * * This abstract base class refines {@link AbstractMappingStrategy} by implementing aspects common to horizontal
@@ -102,6 +103,15 @@ public abstract class AbstractHorizontalMappingStrategy extends AbstractMappingS
     return objectTypeMapper.getObjectType(accessor, id);
   }
 
+  /**
+   * Returns the types of the given objects, read with as few queries as possible. Objects without a type are not
+   * contained in the returned map.
+   */
+  public Map<CDOID, CDOClassifierRef> readObjectTypes(IDBStoreAccessor accessor, Collection<CDOID> ids)
+  {
+    return objectTypeMapper.getObjectTypes(accessor, ids);
+  }
+
   public boolean putObjectType(IDBStoreAccessor accessor, long timeStamp, CDOID id, EClass type)
   {
     return objectTypeMapper.putObjectType(accessor, timeStamp, id, type);
@@ -406,6 +416,16 @@ public abstract class AbstractHorizontalMappingStrategy extends AbstractMappingS
     return !eClass.isAbstract() && !eClass.isInterface();
   }
 
+  /**
+   * Returns <code>true</code> if the table of the given class exists. Class mappings create their tables lazily, so the
+   * table is the only indication of a mapping that survives a restart.
+   */
+  @Override
+  protected boolean hasMapping(EClass eClass)
+  {
+    return getStore().getDatabase().getSchema().getTable(getTableName(eClass)) != null;
+  }
+
   @Override
   protected Collection<EClass> getClassesWithObjectInfo()
   {
@@ -14,6 +14,7 @@
 package org.eclipse.emf.cdo.server.internal.db.mapping.horizontal;
 
 import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.common.id.CDOIDUtil;
 import org.eclipse.emf.cdo.common.revision.CDOList;
 import org.eclipse.emf.cdo.common.revision.CDORevision;
 import org.eclipse.emf.cdo.server.IStoreAccessor.QueryXRefsContext;
@@ -28,6 +29,7 @@ import org.eclipse.emf.cdo.server.db.mapping.ITypeMapping;
 import org.eclipse.emf.cdo.server.internal.db.bundle.OM;
 import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
 
+import org.eclipse.net4j.db.BatchedStatement;
 import org.eclipse.net4j.db.DBException;
 import org.eclipse.net4j.db.DBType;
 import org.eclipse.net4j.db.DBUtil;
@@ -53,6 +55,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This abstract base class provides basic behavior needed for mapping many-valued attributes to tables.
@@ -64,6 +67,11 @@ public abstract class AbstractListTableMapping extends AbstractBasicListTableMap
 {
   private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG, AbstractListTableMapping.class);
 
+  /**
+   * The maximum number of revisions whose list values are read with a single bulk read query.
+   */
+  private static final int BULK_READ_CHUNK = 100;
+
   protected IDBTable table;
 
   protected IDBField sourceField;
@@ -82,6 +90,12 @@ public abstract class AbstractListTableMapping extends AbstractBasicListTableMap
   // --------- SQL strings - see initSQLStrings() -----------------
   private String sqlSelectChunksPrefix;
 
+  private String sqlSelectBulkPrefix;
+
+  private String sqlSelectBulkKey;
+
+  private String sqlOrderBySourceAndIndex;
+
   private String sqlOrderByIndex;
 
   private String sqlInsertEntry;
@@ -201,6 +215,26 @@ public abstract class AbstractListTableMapping extends AbstractBasicListTableMap
 
     sqlOrderByIndex = " ORDER BY " + indexField; //$NON-NLS-1$
 
+    // ---------------- SELECT to read the lists of many revisions ----------------------------
+    sqlSelectBulkPrefix = "SELECT " + sourceField + ", " + valueField + " FROM " + table + " WHERE "; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+    builder = new StringBuilder("("); //$NON-NLS-1$
+    for (int i = 0; i < fields.length; i++)
+    {
+      if (i != 0)
+      {
+        builder.append(" AND "); //$NON-NLS-1$
+      }
+
+      builder.append(DBUtil.quoted(fields[i].getName()));
+      builder.append("=?"); //$NON-NLS-1$
+    }
+
+    builder.append(")"); //$NON-NLS-1$
+    sqlSelectBulkKey = builder.toString();
+
+    sqlOrderBySourceAndIndex = " ORDER BY " + sourceField + ", " + indexField; //$NON-NLS-1$ //$NON-NLS-2$
+
     // ----------------- INSERT - reference entry -----------------
     builder = new StringBuilder("INSERT INTO "); //$NON-NLS-1$
     builder.append(table);
@@ -254,6 +288,14 @@ public abstract class AbstractListTableMapping extends AbstractBasicListTableMap
 
   protected abstract void setKeyFields(PreparedStatement stmt, CDORevision revision) throws SQLException;
 
+  /**
+   * Sets the key fields of the given revision as the parameters of the given statement, starting at the given column,
+   * and returns the next column.
+   *
+   * @since 4.14
+   */
+  protected abstract int setKeyFields(PreparedStatement stmt, int column, CDORevision revision) throws SQLException;
+
   @Override
   public Collection<IDBTable> getDBTables()
   {
@@ -357,6 +399,120 @@ public abstract class AbstractListTableMapping extends AbstractBasicListTableMap
     }
   }
 
+  /**
+   * Reads the list values of the given revisions with one query per chunk of revisions, instead of one query per
+   * revision. The rows of a chunk are selected by the keys of its revisions and ordered by revision and index.
+   *
+   * @since 4.14
+   */
+  public void readValues(IDBStoreAccessor accessor, List<InternalCDORevision> revisions, int listChunk)
+  {
+    if (table == null || listChunk == 0)
+    {
+      // Nothing to read. Take shortcut.
+      return;
+    }
+
+    EStructuralFeature feature = getFeature();
+    List<InternalCDORevision> nonEmptyRevisions = new ArrayList<>(revisions.size());
+    for (InternalCDORevision revision : revisions)
+    {
+      MoveableList<Object> list = revision.getListOrNull(feature);
+      if (list != null && list.size() != 0)
+      {
+        nonEmptyRevisions.add(revision);
+      }
+    }
+
+    if (nonEmptyRevisions.size() <= 1)
+    {
+      for (InternalCDORevision revision : nonEmptyRevisions)
+      {
+        readValues(accessor, revision, listChunk);
+      }
+
+      return;
+    }
+
+    IIDHandler idHandler = getMappingStrategy().getStore().getIDHandler();
+
+    for (int start = 0, size = nonEmptyRevisions.size(); start < size; start += BULK_READ_CHUNK)
+    {
+      int end = Math.min(start + BULK_READ_CHUNK, size);
+      int parameters = AbstractHorizontalClassMapping.getBulkReadSize(end - start);
+
+      Map<CDOID, InternalCDORevision> chunk = CDOIDUtil.createMap();
+      for (int i = start; i < end; i++)
+      {
+        InternalCDORevision revision = nonEmptyRevisions.get(i);
+        chunk.put(revision.getID(), revision);
+      }
+
+      StringBuilder builder = new StringBuilder(sqlSelectBulkPrefix);
+      for (int i = 0; i < parameters; i++)
+      {
+        if (i != 0)
+        {
+          builder.append(" OR "); //$NON-NLS-1$
+        }
+
+        builder.append(sqlSelectBulkKey);
+      }
+
+      builder.append(sqlOrderBySourceAndIndex);
+      String sql = builder.toString();
+
+      IDBPreparedStatement stmt = accessor.getDBConnection().prepareStatement(sql, ReuseProbability.MEDIUM);
+      ResultSet resultSet = null;
+
+      try
+      {
+        int column = 1;
+        for (int i = 0; i < parameters; i++)
+        {
+          // The padding repeats the key of the last revision.
+          column = setKeyFields(stmt, column, nonEmptyRevisions.get(Math.min(start + i, end - 1)));
+        }
+
+        if (TRACER.isEnabled())
+        {
+          TRACER.trace(stmt.toString());
+        }
+
+        resultSet = stmt.executeQuery();
+
+        CDOID currentID = null;
+        MoveableList<Object> list = null;
+        int currentIndex = 0;
+
+        while (resultSet.next())
+        {
+          CDOID id = idHandler.getCDOID(resultSet, 1);
+          if (id != currentID)
+          {
+            currentID = id;
+            list = chunk.get(id).getListOrNull(feature);
+            currentIndex = 0;
+          }
+
+          if (listChunk == CDORevision.UNCHUNKED || currentIndex < listChunk)
+          {
+            list.set(currentIndex++, typeMapping.readValue(resultSet));
+          }
+        }
+      }
+      catch (SQLException ex)
+      {
+        throw new DBException(ex);
+      }
+      finally
+      {
+        DBUtil.close(resultSet);
+        DBUtil.close(stmt);
+      }
+    }
+  }
+
   @Override
   public final void readChunks(IDBStoreChunkReader chunkReader, List<Chunk> chunks, String where)
   {
@@ -468,7 +624,8 @@ public abstract class AbstractListTableMapping extends AbstractBasicListTableMap
           revision.getID(), revision.getVersion(), value);
     }
 
-    IDBPreparedStatement stmt = accessor.getDBConnection().prepareStatement(sqlInsertEntry, ReuseProbability.HIGH);
+    BatchedStatement batchedStmt = accessor.getBatchedStatement(sqlInsertEntry);
+    PreparedStatement stmt = batchedStmt != null ? batchedStmt : accessor.getDBConnection().prepareStatement(sqlInsertEntry, ReuseProbability.HIGH);
 
     try
     {
@@ -476,7 +633,15 @@ public abstract class AbstractListTableMapping extends AbstractBasicListTableMap
       int column = getKeyFields().length + 1;
       stmt.setInt(column++, idx);
       typeMapping.setValue(stmt, column++, value);
-      DBUtil.update(stmt, true);
+
+      if (batchedStmt != null)
+      {
+        batchedStmt.executeUpdate();
+      }
+      else
+      {
+        DBUtil.update(stmt, true);
+      }
     }
     catch (SQLException e)
     {
@@ -484,7 +649,10 @@ public abstract class AbstractListTableMapping extends AbstractBasicListTableMap
     }
     finally
     {
-      DBUtil.close(stmt);
+      if (batchedStmt == null)
+      {
+        DBUtil.close(stmt);
+      }
     }
   }
 
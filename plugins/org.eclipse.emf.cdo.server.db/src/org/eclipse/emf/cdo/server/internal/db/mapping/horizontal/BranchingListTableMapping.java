@@ -88,11 +88,18 @@ public class BranchingListTableMapping extends AbstractListTableMapping implemen
 
   @Override
   protected void setKeyFields(PreparedStatement stmt, CDORevision revision) throws SQLException
+  {
+    setKeyFields(stmt, 1, revision);
+  }
+
+  @Override
+  protected int setKeyFields(PreparedStatement stmt, int column, CDORevision revision) throws SQLException
   {
     IIDHandler idHandler = getMappingStrategy().getStore().getIDHandler();
-    idHandler.setCDOID(stmt, 1, revision.getID());
-    stmt.setInt(2, revision.getBranch().getID());
-    stmt.setInt(3, revision.getVersion());
+    idHandler.setCDOID(stmt, column++, revision.getID());
+    stmt.setInt(column++, revision.getBranch().getID());
+    stmt.setInt(column++, revision.getVersion());
+    return column;
   }
 
   @Override
@@ -44,6 +44,7 @@ import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevisionDelta;
 import org.eclipse.emf.cdo.spi.common.revision.StubCDORevision;
 import org.eclipse.emf.cdo.spi.server.InternalRepository;
 
+import org.eclipse.net4j.db.BatchedStatement;
 import org.eclipse.net4j.db.DBException;
 import org.eclipse.net4j.db.DBUtil;
 import org.eclipse.net4j.db.IDBPreparedStatement;
@@ -62,6 +63,7 @@ import org.eclipse.net4j.util.om.trace.ContextTracer;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -333,6 +335,41 @@ public class HorizontalAuditClassMapping extends AbstractHorizontalClassMapping
     }
   }
 
+  @Override
+  protected boolean appendBulkReadConditions(StringBuilder builder, CDOBranchPoint branchPoint)
+  {
+    builder.append(" AND "); //$NON-NLS-1$
+
+    if (branchPoint.getTimeStamp() != CDOBranchPoint.UNSPECIFIED_DATE)
+    {
+      builder.append("("); //$NON-NLS-1$
+      builder.append(createdField);
+      builder.append("<=? AND ("); //$NON-NLS-1$
+      builder.append(revisedField);
+      builder.append("=0 OR "); //$NON-NLS-1$
+      builder.append(revisedField);
+      builder.append(">=?))"); //$NON-NLS-1$
+    }
+    else
+    {
+      builder.append(revisedField);
+      builder.append("=0"); //$NON-NLS-1$
+    }
+
+    return true;
+  }
+
+  @Override
+  protected void setBulkReadParameters(IDBPreparedStatement stmt, int column, CDOBranchPoint branchPoint) throws SQLException
+  {
+    long timeStamp = branchPoint.getTimeStamp();
+    if (timeStamp != CDOBranchPoint.UNSPECIFIED_DATE)
+    {
+      stmt.setLong(column++, timeStamp);
+      stmt.setLong(column++, timeStamp);
+    }
+  }
+
   @Override
   public boolean readRevisionByVersion(IDBStoreAccessor accessor, InternalCDORevision revision, int listChunk)
   {
@@ -469,7 +506,8 @@ public class HorizontalAuditClassMapping extends AbstractHorizontalClassMapping
   protected final void writeValues(IDBStoreAccessor accessor, InternalCDORevision revision)
   {
     IIDHandler idHandler = getMappingStrategy().getStore().getIDHandler();
-    IDBPreparedStatement stmt = accessor.getDBConnection().prepareStatement(sqlInsertAttributes, ReuseProbability.HIGH);
+    BatchedStatement batchedStmt = accessor.getBatchedStatement(sqlInsertAttributes);
+    PreparedStatement stmt = batchedStmt != null ? batchedStmt : accessor.getDBConnection().prepareStatement(sqlInsertAttributes, ReuseProbability.HIGH);
 
     try
     {
@@ -519,7 +557,14 @@ public class HorizontalAuditClassMapping extends AbstractHorizontalClassMapping
         }
       }
 
-      DBUtil.update(stmt, true);
+      if (batchedStmt != null)
+      {
+        batchedStmt.executeUpdate();
+      }
+      else
+      {
+        DBUtil.update(stmt, true);
+      }
     }
     catch (SQLException e)
     {
@@ -527,7 +572,10 @@ public class HorizontalAuditClassMapping extends AbstractHorizontalClassMapping
     }
     finally
     {
-      DBUtil.close(stmt);
+      if (batchedStmt == null)
+      {
+        DBUtil.close(stmt);
+      }
     }
   }
 
@@ -47,6 +47,7 @@ import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevisionDelta;
 import org.eclipse.emf.cdo.spi.server.InternalRepository;
 
 import org.eclipse.net4j.db.Batch;
+import org.eclipse.net4j.db.BatchedStatement;
 import org.eclipse.net4j.db.DBException;
 import org.eclipse.net4j.db.DBType;
 import org.eclipse.net4j.db.DBUtil;
@@ -62,6 +63,7 @@ import org.eclipse.net4j.util.om.trace.ContextTracer;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.HashSet;
@@ -279,6 +281,45 @@ public class HorizontalBranchingClassMapping extends AbstractHorizontalClassMapp
     return success;
   }
 
+  @Override
+  protected boolean appendBulkReadConditions(StringBuilder builder, CDOBranchPoint branchPoint)
+  {
+    builder.append(" AND "); //$NON-NLS-1$
+    builder.append(branchField);
+    builder.append("=? AND "); //$NON-NLS-1$
+
+    if (branchPoint.getTimeStamp() != CDOBranchPoint.UNSPECIFIED_DATE)
+    {
+      builder.append("("); //$NON-NLS-1$
+      builder.append(createdField);
+      builder.append("<=? AND ("); //$NON-NLS-1$
+      builder.append(revisedField);
+      builder.append("=0 OR "); //$NON-NLS-1$
+      builder.append(revisedField);
+      builder.append(">=?))"); //$NON-NLS-1$
+    }
+    else
+    {
+      builder.append(revisedField);
+      builder.append("=0"); //$NON-NLS-1$
+    }
+
+    return true;
+  }
+
+  @Override
+  protected void setBulkReadParameters(IDBPreparedStatement stmt, int column, CDOBranchPoint branchPoint) throws SQLException
+  {
+    stmt.setInt(column++, branchPoint.getBranch().getID());
+
+    long timeStamp = branchPoint.getTimeStamp();
+    if (timeStamp != CDOBranchPoint.UNSPECIFIED_DATE)
+    {
+      stmt.setLong(column++, timeStamp);
+      stmt.setLong(column++, timeStamp);
+    }
+  }
+
   @Override
   public boolean readRevisionByVersion(IDBStoreAccessor accessor, InternalCDORevision revision, int listChunk)
   {
@@ -423,7 +464,8 @@ public class HorizontalBranchingClassMapping extends AbstractHorizontalClassMapp
   protected final void writeValues(IDBStoreAccessor accessor, InternalCDORevision revision)
   {
     IIDHandler idHandler = getMappingStrategy().getStore().getIDHandler();
-    IDBPreparedStatement stmt = accessor.getDBConnection().prepareStatement(sqlInsertAttributes, ReuseProbability.HIGH);
+    BatchedStatement batchedStmt = accessor.getBatchedStatement(sqlInsertAttributes);
+    PreparedStatement stmt = batchedStmt != null ? batchedStmt : accessor.getDBConnection().prepareStatement(sqlInsertAttributes, ReuseProbability.HIGH);
 
     try
     {
@@ -473,7 +515,14 @@ public class HorizontalBranchingClassMapping extends AbstractHorizontalClassMapp
         }
       }
 
-      DBUtil.update(stmt, true);
+      if (batchedStmt != null)
+      {
+        batchedStmt.executeUpdate();
+      }
+      else
+      {
+        DBUtil.update(stmt, true);
+      }
     }
     catch (SQLException e)
     {
@@ -481,7 +530,10 @@ public class HorizontalBranchingClassMapping extends AbstractHorizontalClassMapp
     }
     finally
     {
-      DBUtil.close(stmt);
+      if (batchedStmt == null)
+      {
+        DBUtil.close(stmt);
+      }
     }
   }
 
@@ -36,6 +36,7 @@ import org.eclipse.emf.cdo.server.internal.db.mapping.horizontal.AbstractBasicLi
 import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
 import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevisionDelta;
 
+import org.eclipse.net4j.db.BatchedStatement;
 import org.eclipse.net4j.db.DBException;
 import org.eclipse.net4j.db.DBUtil;
 import org.eclipse.net4j.db.IDBPreparedStatement;
@@ -50,6 +51,7 @@ import org.eclipse.net4j.util.om.trace.ContextTracer;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -200,7 +202,8 @@ public class HorizontalNonAuditClassMapping extends AbstractHorizontalClassMappi
   protected void writeValues(IDBStoreAccessor accessor, InternalCDORevision revision)
   {
     IIDHandler idHandler = getMappingStrategy().getStore().getIDHandler();
-    IDBPreparedStatement stmt = accessor.getDBConnection().prepareStatement(sqlInsertAttributes, ReuseProbability.HIGH);
+    BatchedStatement batchedStmt = accessor.getBatchedStatement(sqlInsertAttributes);
+    PreparedStatement stmt = batchedStmt != null ? batchedStmt : accessor.getDBConnection().prepareStatement(sqlInsertAttributes, ReuseProbability.HIGH);
 
     try
     {
@@ -249,7 +252,14 @@ public class HorizontalNonAuditClassMapping extends AbstractHorizontalClassMappi
         }
       }
 
-      DBUtil.update(stmt, true);
+      if (batchedStmt != null)
+      {
+        batchedStmt.executeUpdate();
+      }
+      else
+      {
+        DBUtil.update(stmt, true);
+      }
     }
     catch (SQLException e)
     {
@@ -257,7 +267,10 @@ public class HorizontalNonAuditClassMapping extends AbstractHorizontalClassMappi
     }
     finally
     {
-      DBUtil.close(stmt);
+      if (batchedStmt == null)
+      {
+        DBUtil.close(stmt);
+      }
     }
   }
 
@@ -343,6 +356,13 @@ public class HorizontalNonAuditClassMapping extends AbstractHorizontalClassMappi
     }
   }
 
+  @Override
+  protected boolean appendBulkReadConditions(StringBuilder builder, CDOBranchPoint branchPoint)
+  {
+    // Reading all list rows of an object is not atomic, see readRevision().
+    return !hasLists && branchPoint.getTimeStamp() == CDOBranchPoint.UNSPECIFIED_DATE;
+  }
+
   @Override
   public boolean readRevision(IDBStoreAccessor accessor, InternalCDORevision revision, int listChunk)
   {
@@ -189,9 +189,16 @@ public class NonAuditListTableMapping extends AbstractListTableMapping implement
 
   @Override
   protected void setKeyFields(PreparedStatement stmt, CDORevision revision) throws SQLException
+  {
+    setKeyFields(stmt, 1, revision);
+  }
+
+  @Override
+  protected int setKeyFields(PreparedStatement stmt, int column, CDORevision revision) throws SQLException
   {
     IIDHandler idHandler = getMappingStrategy().getStore().getIDHandler();
-    idHandler.setCDOID(stmt, 1, revision.getID());
+    idHandler.setCDOID(stmt, column++, revision.getID());
+    return column;
   }
 
   @Override
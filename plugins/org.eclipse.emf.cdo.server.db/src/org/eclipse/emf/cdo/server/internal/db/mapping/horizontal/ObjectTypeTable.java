@@ -14,16 +14,19 @@
 package org.eclipse.emf.cdo.server.internal.db.mapping.horizontal;
 
 import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.common.id.CDOIDUtil;
 import org.eclipse.emf.cdo.common.model.CDOClassifierRef;
 import org.eclipse.emf.cdo.common.protocol.CDODataInput;
 import org.eclipse.emf.cdo.common.protocol.CDODataOutput;
 import org.eclipse.emf.cdo.server.db.IDBStore;
 import org.eclipse.emf.cdo.server.db.IDBStoreAccessor;
 import org.eclipse.emf.cdo.server.db.IIDHandler;
+import org.eclipse.emf.cdo.server.db.IMetaDataManager;
 import org.eclipse.emf.cdo.server.internal.db.DBStoreTable;
 import org.eclipse.emf.cdo.server.internal.db.IObjectTypeMapper;
 import org.eclipse.emf.cdo.spi.server.InternalRepository;
 
+import org.eclipse.net4j.db.BatchedStatement;
 import org.eclipse.net4j.db.DBException;
 import org.eclipse.net4j.db.DBType;
 import org.eclipse.net4j.db.DBUtil;
@@ -38,9 +41,14 @@ import org.eclipse.emf.ecore.EClass;
 
 import java.io.IOException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 /**
  * @author Eike Stepper
@@ -60,6 +68,8 @@ public class ObjectTypeTable extends DBStoreTable implements IObjectTypeMapper
 
   private String sqlSelect;
 
+  private String sqlSelectBulkPrefix;
+
   public ObjectTypeTable(IDBStore store)
   {
     super(store, MappingNames.CDO_OBJECTS);
@@ -116,11 +126,72 @@ public class ObjectTypeTable extends DBStoreTable implements IObjectTypeMapper
     }
   }
 
+  /**
+   * Reads the types of the given objects with one <code>IN (...)</code> query per
+   * {@link AbstractHorizontalClassMapping#BULK_READ_CHUNK chunk} of IDs.
+   */
+  @Override
+  public final Map<CDOID, CDOClassifierRef> getObjectTypes(IDBStoreAccessor accessor, Collection<CDOID> ids)
+  {
+    IIDHandler idHandler = store().getIDHandler();
+    IMetaDataManager metaDataManager = store().getMetaDataManager();
+    Map<CDOID, CDOClassifierRef> result = CDOIDUtil.createMap();
+
+    List<CDOID> list = new ArrayList<>(ids);
+    for (int start = 0, size = list.size(); start < size; start += AbstractHorizontalClassMapping.BULK_READ_CHUNK)
+    {
+      int end = Math.min(start + AbstractHorizontalClassMapping.BULK_READ_CHUNK, size);
+      int parameters = AbstractHorizontalClassMapping.getBulkReadSize(end - start);
+
+      StringBuilder builder = new StringBuilder(sqlSelectBulkPrefix);
+      AbstractHorizontalClassMapping.appendBulkReadParameters(builder, parameters);
+      builder.append(")"); //$NON-NLS-1$
+
+      IDBPreparedStatement stmt = accessor.getDBConnection().prepareStatement(builder.toString(), ReuseProbability.MEDIUM);
+      ResultSet resultSet = null;
+
+      try
+      {
+        for (int i = 0; i < parameters; i++)
+        {
+          // The padding repeats the last ID.
+          idHandler.setCDOID(stmt, i + 1, list.get(Math.min(start + i, end - 1)));
+        }
+
+        if (DBUtil.isTracerEnabled())
+        {
+          DBUtil.trace(stmt.toString());
+        }
+
+        resultSet = stmt.executeQuery();
+        while (resultSet.next())
+        {
+          CDOID id = idHandler.getCDOID(resultSet, 1);
+          CDOID classID = idHandler.getCDOID(resultSet, 2);
+          EClass eClass = (EClass)metaDataManager.getMetaInstance(classID);
+          result.put(id, new CDOClassifierRef(eClass));
+        }
+      }
+      catch (SQLException ex)
+      {
+        throw new DBException(ex);
+      }
+      finally
+      {
+        DBUtil.close(resultSet);
+        DBUtil.close(stmt);
+      }
+    }
+
+    return result;
+  }
+
   @Override
   public final boolean putObjectType(IDBStoreAccessor accessor, long timeStamp, CDOID id, EClass type)
   {
     IIDHandler idHandler = store().getIDHandler();
-    IDBPreparedStatement stmt = accessor.getDBConnection().prepareStatement(sqlInsert, ReuseProbability.MAX);
+    BatchedStatement batchedStmt = accessor.getBatchedStatement(sqlInsert);
+    PreparedStatement stmt = batchedStmt != null ? batchedStmt : accessor.getDBConnection().prepareStatement(sqlInsert, ReuseProbability.MAX);
 
     try
     {
@@ -133,6 +204,13 @@ public class ObjectTypeTable extends DBStoreTable implements IObjectTypeMapper
         DBUtil.trace(stmt.toString());
       }
 
+      if (batchedStmt != null)
+      {
+        // The accessor only batches the types of new objects.
+        batchedStmt.executeUpdate();
+        return true;
+      }
+
       int result = stmt.executeUpdate();
       if (result != 1)
       {
@@ -153,7 +231,10 @@ public class ObjectTypeTable extends DBStoreTable implements IObjectTypeMapper
     }
     finally
     {
-      DBUtil.close(stmt);
+      if (batchedStmt == null)
+      {
+        DBUtil.close(stmt);
+      }
     }
   }
 
@@ -258,6 +339,7 @@ public class ObjectTypeTable extends DBStoreTable implements IObjectTypeMapper
   protected void initSQL(IDBTable table)
   {
     sqlSelect = "SELECT " + clazz + " FROM " + table + " WHERE " + id + "=?";
+    sqlSelectBulkPrefix = "SELECT " + id + ", " + clazz + " FROM " + table + " WHERE " + id + " IN (";
     sqlInsert = "INSERT INTO " + table + "(" + id + "," + clazz + "," + created + ") VALUES (?, ?, ?)";
     sqlDelete = "DELETE FROM " + table + " WHERE " + id + "=?";
   }
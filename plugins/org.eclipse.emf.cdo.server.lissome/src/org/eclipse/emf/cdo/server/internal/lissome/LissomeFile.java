@@ -30,6 +30,8 @@ public class LissomeFile extends File
 
   protected final LissomeStore store;
 
+  private transient LissomeFileMapping mapping;
+
   public LissomeFile(LissomeStore store, String path) throws FileNotFoundException
   {
     super(store.getFolder(), path);
@@ -51,6 +53,28 @@ public class LissomeFile extends File
     return openHandle(WRITE_MODE);
   }
 
+  /**
+   * Returns the memory mapping that the {@link #openReader() readers} of this file share.
+   */
+  public synchronized LissomeFileMapping getMapping()
+  {
+    if (mapping == null)
+    {
+      mapping = new LissomeFileMapping(this);
+    }
+
+    return mapping;
+  }
+
+  public synchronized void closeMapping()
+  {
+    if (mapping != null)
+    {
+      mapping.close();
+      mapping = null;
+    }
+  }
+
   protected LissomeFileHandle openHandle(String mode)
   {
     try
@@ -57,6 +57,7 @@ import org.eclipse.net4j.util.io.DataInputExtender;
 import org.eclipse.net4j.util.io.DataInputOutputFile;
 import org.eclipse.net4j.util.io.DataOutputExtender;
 import org.eclipse.net4j.util.io.ExtendedDataInput;
+import org.eclipse.net4j.util.io.ExtendedDataInputStream;
 import org.eclipse.net4j.util.io.ExtendedDataOutput;
 import org.eclipse.net4j.util.io.ExtendedIOUtil;
 import org.eclipse.net4j.util.io.ExtendedIOUtil.ClassResolver;
@@ -79,16 +80,25 @@ public class LissomeFileHandle extends DataInputOutputFile implements CDODataInp
 {
   private static final boolean X_COMPRESSION = OMPlatform.INSTANCE.isProperty("org.eclipse.emf.cdo.server.lissome.X_COMPRESSION");
 
+  private static final boolean MAPPED_READS = OMPlatform.INSTANCE.isProperty("org.eclipse.emf.cdo.server.lissome.MAPPED_READS", true);
+
   private LissomeFile file;
 
   private CDODataInput in;
 
   private CDODataOutput out;
 
+  private final boolean mapped;
+
+  private LissomeFileMapping.Input mappedInput;
+
+  private CDODataInput mappedIn;
+
   public LissomeFileHandle(LissomeFile file, String mode) throws FileNotFoundException
   {
     super(file, mode);
     this.file = file;
+    mapped = MAPPED_READS && LissomeFile.READ_MODE.equals(mode);
   }
 
   public LissomeFile getFile()
@@ -161,8 +171,7 @@ public class LissomeFileHandle extends DataInputOutputFile implements CDODataInp
   {
     try
     {
-      seek(pointer);
-      return readCDORevision();
+      return readRevision(pointer);
     }
     catch (IOException ex)
     {
@@ -170,6 +179,28 @@ public class LissomeFileHandle extends DataInputOutputFile implements CDODataInp
     }
   }
 
+  /**
+   * Reads the revision at the given file pointer. Reader handles decode the revision directly from the
+   * {@link LissomeFile#getMapping() memory mapping} of the file, unless mapped reads are disabled.
+   */
+  public CDORevision readRevision(long pointer) throws IOException
+  {
+    if (mapped)
+    {
+      if (mappedInput == null)
+      {
+        mappedInput = file.getMapping().openInput();
+        mappedIn = createDataInput(new ExtendedDataInputStream(mappedInput));
+      }
+
+      mappedInput.seek(pointer);
+      return mappedIn.readCDORevision();
+    }
+
+    seek(pointer);
+    return readCDORevision();
+  }
+
   private CDODataInput in()
   {
     if (in == null)
@@ -182,7 +213,11 @@ public class LissomeFileHandle extends DataInputOutputFile implements CDODataInp
 
   protected CDODataInput createDataInput()
   {
-    ExtendedDataInput extendedDataInput = new DataInputExtender(this);
+    return createDataInput(new DataInputExtender(this));
+  }
+
+  protected CDODataInput createDataInput(ExtendedDataInput extendedDataInput)
+  {
     return new CDODataInputImpl(extendedDataInput)
     {
       @Override
@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.server.internal.lissome;
+
+import org.eclipse.net4j.util.io.IOUtil;
+import org.eclipse.net4j.util.om.OMPlatform;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * Maps a {@link LissomeFile} into memory in fixed-size segments, so that random reads don't need a system call and a copy each.
+ * <p>
+ * Segments are mapped on demand and only when they are complete. The incomplete last segment of a file that is still
+ * growing is read through the file channel, so that a growing file is never mapped more than once per segment.
+ *
+ * @author Eike Stepper
+ */
+public class LissomeFileMapping
+{
+  public static final int SEGMENT_SIZE = OMPlatform.INSTANCE.getProperty("org.eclipse.emf.cdo.server.lissome.MAPPED_SEGMENT_SIZE", 64 * 1024 * 1024);
+
+  private static final int TAIL_BUFFER_SIZE = 8 * 1024;
+
+  private static final MappedByteBuffer[] NO_SEGMENTS = {};
+
+  private final File file;
+
+  private final int segmentSize;
+
+  private RandomAccessFile raf;
+
+  private volatile FileChannel channel;
+
+  /**
+   * Copy-on-write, so that mapped segments can be looked up without synchronization.
+   */
+  private volatile MappedByteBuffer[] segments = NO_SEGMENTS;
+
+  private boolean closed;
+
+  public LissomeFileMapping(File file, int segmentSize)
+  {
+    if (segmentSize <= 0)
+    {
+      throw new IllegalArgumentException("segmentSize: " + segmentSize);
+    }
+
+    this.file = file;
+    this.segmentSize = segmentSize;
+  }
+
+  public LissomeFileMapping(File file)
+  {
+    this(file, SEGMENT_SIZE);
+  }
+
+  public File getFile()
+  {
+    return file;
+  }
+
+  public int getSegmentSize()
+  {
+    return segmentSize;
+  }
+
+  /**
+   * Returns the number of segments that are currently mapped.
+   */
+  public int getMappedSegments()
+  {
+    int count = 0;
+    for (MappedByteBuffer segment : segments)
+    {
+      if (segment != null)
+      {
+        ++count;
+      }
+    }
+
+    return count;
+  }
+
+  /**
+   * Returns a new, unpositioned input stream on this mapping. The stream is not thread-safe; the mapping is.
+   */
+  public Input openInput()
+  {
+    return new Input();
+  }
+
+  /**
+   * Drops all segments and closes the underlying channel.
+   * The mapped memory is released when the segments are garbage collected.
+   */
+  public synchronized void close()
+  {
+    closed = true;
+    segments = NO_SEGMENTS;
+
+    IOUtil.close(channel);
+    IOUtil.close(raf);
+    channel = null;
+    raf = null;
+  }
+
+  @Override
+  public String toString()
+  {
+    return "LissomeFileMapping[" + file.getName() + ", segments=" + segments.length + "]";
+  }
+
+  /**
+   * Returns the complete segment with the given index, or <code>null</code> if the file doesn't contain the complete segment (yet).
+   */
+  protected ByteBuffer getSegment(int index) throws IOException
+  {
+    MappedByteBuffer[] segments = this.segments;
+    if (index < segments.length)
+    {
+      MappedByteBuffer segment = segments[index];
+      if (segment != null)
+      {
+        return segment;
+      }
+    }
+
+    return mapSegment(index);
+  }
+
+  /**
+   * Reads bytes at the given position through the file channel into the given buffer and returns the number of bytes read,
+   * or <code>-1</code> if the position is beyond the end of the file.
+   */
+  protected int readTail(long position, ByteBuffer buffer) throws IOException
+  {
+    return getChannel().read(buffer, position);
+  }
+
+  private FileChannel getChannel() throws IOException
+  {
+    FileChannel channel = this.channel;
+    if (channel == null)
+    {
+      channel = openChannel();
+    }
+
+    return channel;
+  }
+
+  private synchronized FileChannel openChannel() throws IOException
+  {
+    if (closed)
+    {
+      throw new IOException("Mapping is closed: " + file);
+    }
+
+    if (channel == null)
+    {
+      raf = new RandomAccessFile(file, LissomeFile.READ_MODE);
+      channel = raf.getChannel();
+    }
+
+    return channel;
+  }
+
+  private synchronized ByteBuffer mapSegment(int index) throws IOException
+  {
+    FileChannel channel = openChannel();
+
+    MappedByteBuffer[] segments = this.segments;
+    if (index < segments.length)
+    {
+      MappedByteBuffer segment = segments[index];
+      if (segment != null)
+      {
+        // Mapped by another thread in the meantime.
+        return segment;
+      }
+    }
+
+    long position = (long)index * segmentSize;
+    if (channel.size() < position + segmentSize)
+    {
+      // Incomplete segments are never mapped.
+      return null;
+    }
+
+    MappedByteBuffer segment = channel.map(MapMode.READ_ONLY, position, segmentSize);
+
+    MappedByteBuffer[] newSegments;
+    if (index >= segments.length)
+    {
+      newSegments = new MappedByteBuffer[index + 1];
+      System.arraycopy(segments, 0, newSegments, 0, segments.length);
+    }
+    else
+    {
+      newSegments = segments.clone();
+    }
+
+    newSegments[index] = segment;
+    this.segments = newSegments;
+    return segment;
+  }
+
+  /**
+   * Reads bytes from the mapped segments, starting at the last {@link #seek(long) seek} position and continuing across
+   * segment boundaries. Bytes in the incomplete last segment are read through a small buffer.
+   *
+   * @author Eike Stepper
+   */
+  public final class Input extends InputStream
+  {
+    private long pointer;
+
+    /**
+     * The file position of the first byte in the current segment or tail buffer.
+     */
+    private long segmentStart = -1;
+
+    /**
+     * A private view of the current segment, so that its position can be changed without affecting other inputs,
+     * or the tail buffer.
+     */
+    private ByteBuffer segment;
+
+    private ByteBuffer tailBuffer;
+
+    private Input()
+    {
+    }
+
+    public long getPointer()
+    {
+      return pointer;
+    }
+
+    public void seek(long pointer)
+    {
+      this.pointer = pointer;
+
+      if (segment != null)
+      {
+        long offset = pointer - segmentStart;
+        if (offset >= 0 && offset < segment.limit())
+        {
+          segment.position((int)offset);
+          return;
+        }
+
+        segment = null;
+      }
+    }
+
+    @Override
+    public int read() throws IOException
+    {
+      ByteBuffer segment = getCurrentSegment();
+      if (segment == null)
+      {
+        return -1;
+      }
+
+      ++pointer;
+      return segment.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException
+    {
+      if (len == 0)
+      {
+        return 0;
+      }
+
+      int total = 0;
+      while (len > 0)
+      {
+        ByteBuffer segment = getCurrentSegment();
+        if (segment == null)
+        {
+          break;
+        }
+
+        int n = Math.min(len, segment.remaining());
+        segment.get(b, off, n);
+        pointer += n;
+        total += n;
+        off += n;
+        len -= n;
+      }
+
+      return total == 0 ? -1 : total;
+    }
+
+    @Override
+    public long skip(long n) throws IOException
+    {
+      if (n <= 0)
+      {
+        return 0;
+      }
+
+      seek(pointer + n);
+      return n;
+    }
+
+    private ByteBuffer getCurrentSegment() throws IOException
+    {
+      if (segment == null || !segment.hasRemaining())
+      {
+        int index = (int)(pointer / segmentSize);
+        int offset = (int)(pointer % segmentSize);
+
+        ByteBuffer mappedSegment = getSegment(index);
+        if (mappedSegment != null)
+        {
+          segment = mappedSegment.duplicate();
+          segment.position(offset);
+          segmentStart = pointer - offset;
+        }
+        else
+        {
+          segment = readTail();
+        }
+      }
+
+      return segment;
+    }
+
+    private ByteBuffer readTail() throws IOException
+    {
+      if (tailBuffer == null)
+      {
+        tailBuffer = ByteBuffer.allocate(TAIL_BUFFER_SIZE);
+      }
+
+      tailBuffer.clear();
+
+      int n = LissomeFileMapping.this.readTail(pointer, tailBuffer);
+      if (n <= 0)
+      {
+        return null;
+      }
+
+      tailBuffer.flip();
+      segmentStart = pointer;
+      return tailBuffer;
+    }
+  }
+}
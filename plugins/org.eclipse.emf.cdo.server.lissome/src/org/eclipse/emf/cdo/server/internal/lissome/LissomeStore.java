@@ -416,6 +416,8 @@ public class LissomeStore extends Store
     }
 
     optimizer.deactivate();
+    journal.closeMapping();
+    vob.closeMapping();
     super.doDeactivate();
   }
 
@@ -200,9 +200,7 @@ public class LissomeStoreReader extends StoreAccessorBase implements ILissomeSto
 
     try
     {
-      reader.seek(pointer);
-
-      InternalCDORevision revision = (InternalCDORevision)reader.readCDORevision();
+      InternalCDORevision revision = (InternalCDORevision)reader.readRevision(pointer);
       if (revision != null)
       {
         long revised = info.getRevised();
@@ -123,7 +123,11 @@ public class LoadRevisionsIndication extends CDOServerReadIndication
     if (fetchRulesCount > 0)
     {
       loadRevisionCollectionChunkSize = in.readXInt();
-      if (loadRevisionCollectionChunkSize < 1)
+      if (loadRevisionCollectionChunkSize == CDORevision.UNCHUNKED)
+      {
+        loadRevisionCollectionChunkSize = Integer.MAX_VALUE;
+      }
+      else if (loadRevisionCollectionChunkSize < 1)
       {
         loadRevisionCollectionChunkSize = 1;
       }
@@ -331,6 +335,7 @@ public class LoadRevisionsIndication extends CDOServerReadIndication
             InternalCDORevision containedRevision = info.getResult();
             if (containedRevision != null)
             {
+              additionalInfos.add(info);
               revisions.add(containedRevision.getID());
               additionalRevisions.add(containedRevision);
               collectRevisions(containedRevision, revisions, additionalInfos, additionalRevisions, visitedFetchRules);
@@ -349,7 +354,10 @@ public class LoadRevisionsIndication extends CDOServerReadIndication
     Map<CDOID, CDORevision> map = CDOIDUtil.createMap();
     for (CDORevision revision : revisions)
     {
-      map.put(revision.getID(), revision);
+      if (revision != null)
+      {
+        map.put(revision.getID(), revision);
+      }
     }
 
     for (CDORevision revision : additionalRevisions)
@@ -361,7 +369,14 @@ public class LoadRevisionsIndication extends CDOServerReadIndication
 
     for (CDORevision revision : revisions)
     {
-      prefetchRevision(depth, (InternalCDORevision)revision, additionalInfos, additionalRevisions, map, monitor.fork());
+      if (revision != null)
+      {
+        prefetchRevision(depth, (InternalCDORevision)revision, additionalInfos, additionalRevisions, map, monitor.fork());
+      }
+      else
+      {
+        monitor.worked();
+      }
     }
   }
 
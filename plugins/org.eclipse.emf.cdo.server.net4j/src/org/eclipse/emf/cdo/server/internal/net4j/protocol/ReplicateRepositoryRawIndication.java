@@ -13,6 +13,7 @@ package org.eclipse.emf.cdo.server.internal.net4j.protocol;
 import org.eclipse.emf.cdo.common.protocol.CDODataInput;
 import org.eclipse.emf.cdo.common.protocol.CDODataOutput;
 import org.eclipse.emf.cdo.common.protocol.CDOProtocolConstants;
+import org.eclipse.emf.cdo.spi.common.CDOReplicationInfo;
 import org.eclipse.emf.cdo.spi.server.InternalRepository;
 
 import org.eclipse.net4j.util.om.monitor.OMMonitor;
@@ -29,6 +30,8 @@ public class ReplicateRepositoryRawIndication extends CDOServerReadIndicationWit
 
   private long lastReplicatedCommitTime;
 
+  private int chunkSize;
+
   public ReplicateRepositoryRawIndication(CDOServerProtocol protocol)
   {
     super(protocol, CDOProtocolConstants.SIGNAL_REPLICATE_REPOSITORY_RAW);
@@ -49,6 +52,7 @@ public class ReplicateRepositoryRawIndication extends CDOServerReadIndicationWit
 
       lastReplicatedBranchID = in.readXInt();
       lastReplicatedCommitTime = in.readXLong();
+      chunkSize = in.readXInt();
     }
     finally
     {
@@ -67,7 +71,10 @@ public class ReplicateRepositoryRawIndication extends CDOServerReadIndicationWit
       try
       {
         InternalRepository repository = getRepository();
-        repository.replicateRaw(out, lastReplicatedBranchID, lastReplicatedCommitTime);
+        CDOReplicationInfo info = repository.replicateRaw(out, lastReplicatedBranchID, lastReplicatedCommitTime, chunkSize);
+
+        boolean moreChunks = info.getLastReplicatedCommitTime() < repository.getStore().getLastCommitTime();
+        out.writeBoolean(moreChunks);
       }
       finally
       {
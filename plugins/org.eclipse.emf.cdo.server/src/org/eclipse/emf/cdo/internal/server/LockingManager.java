@@ -49,7 +49,6 @@ import org.eclipse.net4j.util.CheckUtil;
 import org.eclipse.net4j.util.ReflectUtil.ExcludeFromDump;
 import org.eclipse.net4j.util.WrappedException;
 import org.eclipse.net4j.util.collection.ConcurrentArray;
-import org.eclipse.net4j.util.concurrent.Access;
 import org.eclipse.net4j.util.concurrent.RWOLockManager;
 import org.eclipse.net4j.util.concurrent.TimeoutRuntimeException;
 import org.eclipse.net4j.util.container.ContainerEventAdapter;
@@ -178,17 +177,25 @@ public class LockingManager extends RWOLockManager<Object, IView> implements Int
     return lockBranchExtractor.apply(key);
   }
 
-  /**
-   * @category Read Access
-   */
   @Override
   public Map<CDOID, LockGrade> getLocks(final IView view)
   {
     final Map<CDOID, LockGrade> result = CDOIDUtil.createMap();
 
-    try (Access access = read.access())
+    Set<LockState<Object, IView>> lockStates = getContextToLocksMap().get(view);
+    if (lockStates == null)
     {
-      for (LockState<Object, IView> lockState : getObjectToLocksMap().values())
+      return result;
+    }
+
+    List<Object> keys = new ArrayList<>(lockStates.size());
+    for (LockState<Object, IView> lockState : lockStates)
+    {
+      keys.add(lockState.getLockedObject());
+    }
+
+    getLockStates(keys, (key, lockState) -> {
+      if (lockState != null)
       {
         LockGrade grade = LockGrade.NONE;
         if (lockState.hasLock(LockType.READ, view, false))
@@ -208,11 +215,11 @@ public class LockingManager extends RWOLockManager<Object, IView> implements Int
 
         if (grade != LockGrade.NONE)
         {
-          CDOID id = getLockKeyID(lockState.getLockedObject());
+          CDOID id = getLockKeyID(key);
           result.put(id, grade);
         }
       }
-    }
+    });
 
     return result;
   }
@@ -255,26 +262,19 @@ public class LockingManager extends RWOLockManager<Object, IView> implements Int
     }
   }
 
-  /**
-   * @category Write Access
-   */
   @Override
   public long lock(IView view, Collection<? extends Object> objects, LockType lockType, int count, long timeout, //
       boolean recursive, boolean explicit, //
       LockDeltaHandler<Object, IView> deltaHandler, Consumer<LockState<Object, IView>> stateHandler) //
       throws InterruptedException, TimeoutRuntimeException
   {
-    long modCount;
-    try (Access access = write.access())
+    if (recursive)
     {
-      if (recursive)
-      {
-        objects = createContentSet(objects, view);
-      }
-
-      modCount = super.lock(view, objects, lockType, count, timeout, deltaHandler, stateHandler);
+      objects = createContentSet(objects, view);
     }
 
+    long modCount = super.lock(view, objects, lockType, count, timeout, deltaHandler, stateHandler);
+
     if (explicit)
     {
       try
@@ -301,25 +301,18 @@ public class LockingManager extends RWOLockManager<Object, IView> implements Int
     }
   }
 
-  /**
-   * @category Write Access
-   */
   @Override
   public long unlock(IView view, Collection<? extends Object> objects, LockType lockType, int count, //
       boolean recursive, boolean explicit, //
       LockDeltaHandler<Object, IView> deltaHandler, Consumer<LockState<Object, IView>> stateHandler)
   {
-    long modCount;
-    try (Access access = write.access())
+    if (recursive)
     {
-      if (recursive)
-      {
-        objects = createContentSet(objects, view);
-      }
-
-      modCount = super.unlock(view, objects, lockType, count, deltaHandler, stateHandler);
+      objects = createContentSet(objects, view);
     }
 
+    long modCount = super.unlock(view, objects, lockType, count, deltaHandler, stateHandler);
+
     if (explicit)
     {
       unlockDurably(view, objects, lockType);
@@ -639,29 +632,24 @@ public class LockingManager extends RWOLockManager<Object, IView> implements Int
     return durableViewHandlers.get();
   }
 
-  /**
-   * @category Read Access
-   */
   @Override
   public LockGrade getLockGrade(Object key)
   {
-    try (Access access = read.access())
-    {
-      LockState<Object, IView> lockState = getObjectToLocksMap().get(key);
-      LockGrade grade = LockGrade.NONE;
+    LockGrade[] grade = { LockGrade.NONE };
+    getLockStates(Collections.singleton(key), (k, lockState) -> {
       if (lockState != null)
       {
         for (LockType type : ALL_LOCK_TYPES)
         {
           if (lockState.hasLock(type))
           {
-            grade = grade.getUpdated(type, true);
+            grade[0] = grade[0].getUpdated(type, true);
           }
         }
       }
+    });
 
-      return grade;
-    }
+    return grade[0];
   }
 
   private LockArea getLockAreaNoEx(String durableLockingID)
@@ -1041,17 +1029,13 @@ public class LockingManager extends RWOLockManager<Object, IView> implements Int
 
   /**
    * @deprecated
-   * @category Read Access
    */
   @Deprecated
   @Override
   public Object getLockEntryObject(Object key)
   {
-    try (Access access = read.access())
-    {
-      LockState<Object, IView> lockState = getObjectToLocksMap().get(key);
-      return lockState == null ? null : lockState.getLockedObject();
-    }
+    LockState<Object, IView> lockState = getLockState(key);
+    return lockState == null ? null : lockState.getLockedObject();
   }
 
   @Override
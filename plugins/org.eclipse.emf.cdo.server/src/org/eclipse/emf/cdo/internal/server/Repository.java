@@ -58,9 +58,13 @@ import org.eclipse.emf.cdo.common.util.RepositoryTypeChangedEvent;
 import org.eclipse.emf.cdo.eresource.EresourcePackage;
 import org.eclipse.emf.cdo.etypes.EtypesPackage;
 import org.eclipse.emf.cdo.internal.common.model.CDOPackageRegistryImpl;
+import org.eclipse.emf.cdo.internal.common.revision.CDORevisionCacheBounded;
+import org.eclipse.emf.cdo.internal.common.revision.CDORevisionManagerImpl;
+import org.eclipse.emf.cdo.internal.common.revision.CDORevisionOffHeapCache;
 import org.eclipse.emf.cdo.internal.server.LockingManager.LockDeltaCollector;
 import org.eclipse.emf.cdo.internal.server.LockingManager.LockStateCollector;
 import org.eclipse.emf.cdo.internal.server.bundle.OM;
+import org.eclipse.emf.cdo.internal.server.syncing.RawReplicationChunk;
 import org.eclipse.emf.cdo.server.IQueryHandler;
 import org.eclipse.emf.cdo.server.IQueryHandlerProvider;
 import org.eclipse.emf.cdo.server.IRepositoryProtector;
@@ -151,6 +155,7 @@ import org.eclipse.emf.spi.cdo.CDOSessionProtocol.UnlockObjectsResult;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.text.MessageFormat;
@@ -231,6 +236,8 @@ public class Repository extends Container<Object> implements InternalRepository
 
   private boolean serializingCommits;
 
+  private boolean pipeliningCommits;
+
   private boolean ensuringReferentialIntegrity;
 
   private IDGenerationLocation idGenerationLocation;
@@ -239,6 +246,16 @@ public class Repository extends Container<Object> implements InternalRepository
 
   private long optimisticLockingTimeout = 10000L;
 
+  private int revisionCacheConcurrencyLevel;
+
+  private long revisionCacheMaxBytes;
+
+  private long revisionCacheOffHeapBytes;
+
+  private File revisionCacheOffHeapFolder;
+
+  private CDORevisionOffHeapCache revisionCacheSecondLevel;
+
   private Entity.Store entityStore;
 
   private CDOTimeProvider timeProvider;
@@ -248,6 +265,8 @@ public class Repository extends Container<Object> implements InternalRepository
    */
   private final Semaphore packageRegistryCommitLock = new Semaphore(1);
 
+  private final Semaphore commitStageLock = new Semaphore(1, true);
+
   private InternalCDOPackageRegistry packageRegistry;
 
   private InternalCDOBranchManager branchManager;
@@ -461,6 +480,12 @@ public class Repository extends Container<Object> implements InternalRepository
     return serializingCommits;
   }
 
+  @Override
+  public boolean isPipeliningCommits()
+  {
+    return pipeliningCommits;
+  }
+
   @Override
   public boolean isEnsuringReferentialIntegrity()
   {
@@ -803,6 +828,9 @@ public class Repository extends Container<Object> implements InternalRepository
   public List<RevisionInfo> loadRevisions(List<RevisionInfo> infos, CDOBranchPoint branchPoint, int referenceChunk, int prefetchDepth,
       boolean prefetchLockStates)
   {
+    IStoreAccessor accessor = StoreThreadLocal.getAccessor();
+    List<RevisionInfo> infosToRead = new ArrayList<>(infos.size());
+
     for (RevisionInfo info : infos)
     {
       CDOID id = info.getID();
@@ -853,47 +881,75 @@ public class Repository extends Container<Object> implements InternalRepository
         throw new IllegalStateException("Invalid revision info type: " + type);
       }
 
-      IStoreAccessor accessor = StoreThreadLocal.getAccessor();
-      InternalCDORevision revision = accessor.readRevision(id, branchPoint, referenceChunk, revisionManager);
-      if (revision == null)
+      infosToRead.add(info);
+    }
+
+    if (infosToRead.size() > 1 && accessor instanceof IStoreAccessor.BulkReading)
+    {
+      List<CDOID> ids = new ArrayList<>(infosToRead.size());
+      for (RevisionInfo info : infosToRead)
       {
-        if (isSupportingAudits())
-        {
-          InternalCDORevision target = loadRevisionTarget(id, branchPoint, referenceChunk, accessor);
-          if (target != null)
-          {
-            target = normalizeRevision(target, info, referenceChunk);
+        ids.add(info.getID());
+      }
 
-            CDOBranch branch = branchPoint.getBranch();
-            long revised = loadRevisionRevised(id, branch);
-            PointerCDORevision pointer = new PointerCDORevision(target.getEClass(), id, branch, revised, target);
-            info.setSynthetic(pointer);
-          }
+      Map<CDOID, InternalCDORevision> revisions = ((IStoreAccessor.BulkReading)accessor).readRevisions(ids, branchPoint, referenceChunk, revisionManager);
+      for (RevisionInfo info : infosToRead)
+      {
+        InternalCDORevision revision = revisions.get(info.getID());
+        loadRevision(info, revision, branchPoint, referenceChunk, accessor);
+      }
+    }
+    else
+    {
+      for (RevisionInfo info : infosToRead)
+      {
+        InternalCDORevision revision = accessor.readRevision(info.getID(), branchPoint, referenceChunk, revisionManager);
+        loadRevision(info, revision, branchPoint, referenceChunk, accessor);
+      }
+    }
 
-          info.setResult(target);
-        }
-        else
+    return null;
+  }
+
+  private void loadRevision(RevisionInfo info, InternalCDORevision revision, CDOBranchPoint branchPoint, int referenceChunk, IStoreAccessor accessor)
+  {
+    CDOID id = info.getID();
+    if (revision == null)
+    {
+      if (isSupportingAudits())
+      {
+        InternalCDORevision target = loadRevisionTarget(id, branchPoint, referenceChunk, accessor);
+        if (target != null)
         {
-          DetachedCDORevision detachedRevision = new DetachedCDORevision(EcorePackage.Literals.ECLASS, id, branchPoint.getBranch(), 0,
-              CDORevision.UNSPECIFIED_DATE);
-          info.setSynthetic(detachedRevision);
+          target = normalizeRevision(target, info, referenceChunk);
+
+          CDOBranch branch = branchPoint.getBranch();
+          long revised = loadRevisionRevised(id, branch);
+          PointerCDORevision pointer = new PointerCDORevision(target.getEClass(), id, branch, revised, target);
+          info.setSynthetic(pointer);
         }
-      }
-      else if (revision instanceof DetachedCDORevision)
-      {
-        DetachedCDORevision detached = (DetachedCDORevision)revision;
-        info.setSynthetic(detached);
+
+        info.setResult(target);
       }
       else
       {
-        revision.freeze();
-
-        revision = normalizeRevision(revision, info, referenceChunk);
-        info.setResult(revision);
+        DetachedCDORevision detachedRevision = new DetachedCDORevision(EcorePackage.Literals.ECLASS, id, branchPoint.getBranch(), 0,
+            CDORevision.UNSPECIFIED_DATE);
+        info.setSynthetic(detachedRevision);
       }
     }
+    else if (revision instanceof DetachedCDORevision)
+    {
+      DetachedCDORevision detached = (DetachedCDORevision)revision;
+      info.setSynthetic(detached);
+    }
+    else
+    {
+      revision.freeze();
 
-    return null;
+      revision = normalizeRevision(revision, info, referenceChunk);
+      info.setResult(revision);
+    }
   }
 
   private InternalCDORevision normalizeRevision(InternalCDORevision revision, RevisionInfo info, int referenceChunk)
@@ -1295,6 +1351,12 @@ public class Repository extends Container<Object> implements InternalRepository
     return packageRegistryCommitLock;
   }
 
+  @Override
+  public Semaphore getCommitStageLock()
+  {
+    return commitStageLock;
+  }
+
   @Override
   public InternalCDOPackageRegistry getPackageRegistry()
   {
@@ -1559,8 +1621,9 @@ public class Repository extends Container<Object> implements InternalRepository
           lastTreeRestructuringCommit = commitContext.getTimeStamp();
         }
       }
-      else if (serializingCommits)
+      else if (serializingCommits && !pipeliningCommits)
       {
+        // Pipelined commits serialize only their later stages, see TransactionCommitContext.write().
         synchronized (commitTransactionLock)
         {
           commitUnsynced(commitContext, monitor);
@@ -1948,18 +2011,27 @@ public class Repository extends Container<Object> implements InternalRepository
 
   @Override
   public CDOReplicationInfo replicateRaw(CDODataOutput out, int lastReplicatedBranchID, long lastReplicatedCommitTime) throws IOException
+  {
+    return replicateRaw(out, lastReplicatedBranchID, lastReplicatedCommitTime, 0);
+  }
+
+  @Override
+  public CDOReplicationInfo replicateRaw(CDODataOutput out, int lastReplicatedBranchID, long lastReplicatedCommitTime, int maxCommits) throws IOException
   {
     final int fromBranchID = lastReplicatedBranchID + 1;
     final int toBranchID = store.getLastBranchID();
 
     final long fromCommitTime = lastReplicatedCommitTime + 1L;
-    final long toCommitTime = store.getLastCommitTime();
+    final long toCommitTime = getRawReplicationChunkEnd(fromCommitTime, store.getLastCommitTime(), maxCommits);
 
     out.writeXInt(toBranchID);
     out.writeXLong(toCommitTime);
 
+    RawReplicationChunk.Output chunk = createRawReplicationChunk(out);
+
     IStoreAccessor.Raw accessor = (IStoreAccessor.Raw)StoreThreadLocal.getAccessor();
-    accessor.rawExport(out, fromBranchID, toBranchID, fromCommitTime, toCommitTime);
+    accessor.rawExport(chunk, fromBranchID, toBranchID, fromCommitTime, toCommitTime);
+    chunk.finish();
 
     return new CDOReplicationInfo()
     {
@@ -1983,6 +2055,35 @@ public class Repository extends Container<Object> implements InternalRepository
     };
   }
 
+  protected RawReplicationChunk.Output createRawReplicationChunk(CDODataOutput out)
+  {
+    return new RawReplicationChunk.Output(out);
+  }
+
+  private long getRawReplicationChunkEnd(long fromCommitTime, long lastCommitTime, int maxCommits)
+  {
+    if (maxCommits <= 0)
+    {
+      return lastCommitTime;
+    }
+
+    long[] chunkEnd = { CDOBranchPoint.UNSPECIFIED_DATE };
+    int[] commits = { 0 };
+
+    commitInfoManager.getCommitInfos(null, fromCommitTime, null, null, maxCommits, commitInfo -> {
+      chunkEnd[0] = Math.max(chunkEnd[0], commitInfo.getTimeStamp());
+      ++commits[0];
+    });
+
+    if (commits[0] < maxCommits || chunkEnd[0] >= lastCommitTime)
+    {
+      // All remaining commits fit into this chunk.
+      return lastCommitTime;
+    }
+
+    return chunkEnd[0];
+  }
+
   @Override
   public void replicate(CDOReplicationContext context)
   {
@@ -2503,6 +2604,13 @@ public class Repository extends Container<Object> implements InternalRepository
       serializingCommits = Boolean.valueOf(valueCommits);
     }
 
+    // PIPELINE_COMMITS
+    String valuePipeline = properties.get(Props.PIPELINE_COMMITS);
+    if (valuePipeline != null)
+    {
+      pipeliningCommits = Boolean.valueOf(valuePipeline);
+    }
+
     // ENSURE_REFERENTIAL_INTEGRITY
     String valueIntegrity = properties.get(Props.ENSURE_REFERENTIAL_INTEGRITY);
     if (valueIntegrity != null)
@@ -2545,6 +2653,34 @@ public class Repository extends Container<Object> implements InternalRepository
     {
       optimisticLockingTimeout = Long.valueOf(valueTimeout);
     }
+
+    // REVISION_CACHE_CONCURRENCY_LEVEL
+    String valueCacheConcurrency = properties.get(Props.REVISION_CACHE_CONCURRENCY_LEVEL);
+    if (valueCacheConcurrency != null)
+    {
+      revisionCacheConcurrencyLevel = Integer.valueOf(valueCacheConcurrency);
+    }
+
+    // REVISION_CACHE_MAX_BYTES
+    String valueCacheMaxBytes = properties.get(Props.REVISION_CACHE_MAX_BYTES);
+    if (valueCacheMaxBytes != null)
+    {
+      revisionCacheMaxBytes = Long.valueOf(valueCacheMaxBytes);
+    }
+
+    // REVISION_CACHE_OFF_HEAP_BYTES
+    String valueOffHeapBytes = properties.get(Props.REVISION_CACHE_OFF_HEAP_BYTES);
+    if (valueOffHeapBytes != null)
+    {
+      revisionCacheOffHeapBytes = Long.valueOf(valueOffHeapBytes);
+    }
+
+    // REVISION_CACHE_OFF_HEAP_FOLDER
+    String valueOffHeapFolder = properties.get(Props.REVISION_CACHE_OFF_HEAP_FOLDER);
+    if (valueOffHeapFolder != null)
+    {
+      revisionCacheOffHeapFolder = new File(valueOffHeapFolder);
+    }
   }
 
   @Override
@@ -2863,6 +2999,16 @@ public class Repository extends Container<Object> implements InternalRepository
     revisionManager.setSupportingAudits(supportingAudits);
     revisionManager.setSupportingBranches(supportingBranches);
 
+    if (revisionCacheConcurrencyLevel > 0 && revisionManager instanceof CDORevisionManagerImpl)
+    {
+      ((CDORevisionManagerImpl)revisionManager).setCacheConcurrencyLevel(revisionCacheConcurrencyLevel);
+    }
+
+    if (revisionCacheMaxBytes > 0 && revisionManager instanceof CDORevisionManagerImpl)
+    {
+      ((CDORevisionManagerImpl)revisionManager).setCacheMaxBytes(revisionCacheMaxBytes);
+    }
+
     LifecycleUtil.activate(store);
 
     Map<String, String> persistentProperties = store.getPersistentProperties(Collections.singleton(PROP_UUID));
@@ -2894,6 +3040,7 @@ public class Repository extends Container<Object> implements InternalRepository
     LifecycleUtil.activate(commitInfoManager);
     LifecycleUtil.activate(commitManager);
     LifecycleUtil.activate(queryHandlerProvider);
+    activateRevisionCacheSecondLevel();
 
     if (supportingUnits)
     {
@@ -3015,6 +3162,8 @@ public class Repository extends Container<Object> implements InternalRepository
     LifecycleUtil.deactivate(commitInfoManager);
     LifecycleUtil.deactivate(queryManager);
     LifecycleUtil.deactivate(revisionManager);
+    LifecycleUtil.deactivate(revisionCacheSecondLevel);
+    revisionCacheSecondLevel = null;
     LifecycleUtil.deactivate(sessionManager);
     LifecycleUtil.deactivate(store);
     LifecycleUtil.deactivate(branchManager);
@@ -3022,6 +3171,27 @@ public class Repository extends Container<Object> implements InternalRepository
     super.doDeactivate();
   }
 
+  private void activateRevisionCacheSecondLevel()
+  {
+    if (revisionCacheOffHeapBytes > 0)
+    {
+      InternalCDORevisionCache cache = revisionManager.getCache();
+      if (cache instanceof CDORevisionCacheBounded)
+      {
+        revisionCacheSecondLevel = new CDORevisionOffHeapCache(revisionCacheOffHeapFolder, revisionCacheOffHeapBytes);
+        revisionCacheSecondLevel.setPackageRegistry(packageRegistry);
+        revisionCacheSecondLevel.setBranchManager(branchManager);
+        revisionCacheSecondLevel.activate();
+
+        ((CDORevisionCacheBounded)cache).setSecondLevel(revisionCacheSecondLevel);
+      }
+      else
+      {
+        OM.LOG.warn("Off-heap revision cache requires a bounded revision cache (" + Props.REVISION_CACHE_MAX_BYTES + "): " + this);
+      }
+    }
+  }
+
   private static boolean isSecurityManagerWrapper(IRepositoryProtector protector)
   {
     return protector != null && protector.getAuthorizationStrategy() == null;
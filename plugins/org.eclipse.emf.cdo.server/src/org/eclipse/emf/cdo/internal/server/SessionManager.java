@@ -20,18 +20,26 @@ import org.eclipse.emf.cdo.common.CDOCommonSession.Options.LockNotificationMode;
 import org.eclipse.emf.cdo.common.branch.CDOBranch;
 import org.eclipse.emf.cdo.common.branch.CDOBranchChangedEvent.ChangeKind;
 import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
+import org.eclipse.emf.cdo.common.commit.CDOCommitData;
 import org.eclipse.emf.cdo.common.commit.CDOCommitInfo;
 import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.common.id.CDOIDUtil;
 import org.eclipse.emf.cdo.common.lock.CDOLockChangeInfo;
 import org.eclipse.emf.cdo.common.lock.CDOLockOwner;
 import org.eclipse.emf.cdo.common.protocol.CDOProtocol.CommitNotificationInfo;
 import org.eclipse.emf.cdo.common.protocol.CDOProtocolConstants;
+import org.eclipse.emf.cdo.common.revision.CDOIDAndVersion;
+import org.eclipse.emf.cdo.common.revision.CDORevision;
+import org.eclipse.emf.cdo.common.revision.CDORevisionKey;
+import org.eclipse.emf.cdo.common.revision.CDORevisionProvider;
+import org.eclipse.emf.cdo.internal.common.commit.CDOCommitInfoImpl;
 import org.eclipse.emf.cdo.internal.server.bundle.OM;
 import org.eclipse.emf.cdo.server.IPermissionManager;
 import org.eclipse.emf.cdo.server.IRepository;
 import org.eclipse.emf.cdo.server.ISession;
 import org.eclipse.emf.cdo.session.remote.CDORemoteSessionMessage;
 import org.eclipse.emf.cdo.spi.common.branch.InternalCDOBranch;
+import org.eclipse.emf.cdo.spi.common.commit.CDOCommitInfoUtil;
 import org.eclipse.emf.cdo.spi.server.IAuthenticationProtocol;
 import org.eclipse.emf.cdo.spi.server.ISessionProtocol;
 import org.eclipse.emf.cdo.spi.server.InternalRepository;
@@ -41,12 +49,14 @@ import org.eclipse.emf.cdo.spi.server.InternalTopic;
 import org.eclipse.emf.cdo.spi.server.InternalTopicManager;
 
 import org.eclipse.net4j.util.ObjectUtil;
+import org.eclipse.net4j.util.concurrent.ThreadPool;
 import org.eclipse.net4j.util.container.Container;
 import org.eclipse.net4j.util.event.IListener;
 import org.eclipse.net4j.util.io.ExtendedDataInputStream;
 import org.eclipse.net4j.util.lifecycle.ILifecycle;
 import org.eclipse.net4j.util.lifecycle.LifecycleEventAdapter;
 import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
+import org.eclipse.net4j.util.om.OMPlatform;
 import org.eclipse.net4j.util.om.trace.ContextTracer;
 import org.eclipse.net4j.util.security.CredentialsUpdateOperation;
 import org.eclipse.net4j.util.security.DiffieHellman;
@@ -59,15 +69,19 @@ import org.eclipse.net4j.util.security.SecurityUtil;
 import org.eclipse.net4j.util.security.UserManagerAuthenticator;
 
 import java.io.ByteArrayInputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
@@ -78,6 +92,20 @@ public class SessionManager extends Container<ISession> implements InternalSessi
 {
   private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG_SESSION, SessionManager.class);
 
+  /**
+   * The number of threads that deliver commit notifications to the sessions. Zero, the default, means that commit
+   * notifications are delivered synchronously by the committing thread.
+   */
+  private static final int COMMIT_NOTIFICATION_THREADS = OMPlatform.INSTANCE
+      .getProperty("org.eclipse.emf.cdo.server.SessionManager.commitNotificationThreads", 0); //$NON-NLS-1$
+
+  /**
+   * The number of undelivered commit notifications of a session above which new commit notifications are coalesced
+   * with the last queued one.
+   */
+  private static final int MAX_QUEUED_COMMIT_NOTIFICATIONS = OMPlatform.INSTANCE
+      .getProperty("org.eclipse.emf.cdo.server.SessionManager.maxQueuedCommitNotifications", 100); //$NON-NLS-1$
+
   private InternalRepository repository;
 
   private DiffieHellman.Server authenticationServer;
@@ -94,6 +122,17 @@ public class SessionManager extends Container<ISession> implements InternalSessi
 
   private final Map<InternalSession, List<CommitNotificationInfo>> commitNotificationInfoQueues = new HashMap<>();
 
+  /**
+   * Guarded by {@link #sessions}, so that no queue is created for a session that has already been removed.
+   */
+  private final Map<InternalSession, CommitNotificationQueue> commitNotificationQueues = new HashMap<>();
+
+  private int commitNotificationThreads = COMMIT_NOTIFICATION_THREADS;
+
+  private int maxQueuedCommitNotifications = MAX_QUEUED_COMMIT_NOTIFICATIONS;
+
+  private ExecutorService commitNotificationExecutor;
+
   private final IListener sessionListener = new LifecycleEventAdapter()
   {
     @Override
@@ -140,6 +179,36 @@ public class SessionManager extends Container<ISession> implements InternalSessi
     return repository.getExecutorService();
   }
 
+  /**
+   * Returns the number of threads that deliver commit notifications to the sessions, or zero if commit notifications
+   * are delivered synchronously by the committing thread.
+   */
+  public int getCommitNotificationThreads()
+  {
+    return commitNotificationThreads;
+  }
+
+  public void setCommitNotificationThreads(int commitNotificationThreads)
+  {
+    checkInactive();
+    this.commitNotificationThreads = commitNotificationThreads;
+  }
+
+  /**
+   * Returns the number of undelivered commit notifications of a session above which new commit notifications are
+   * coalesced with the last queued one.
+   */
+  public int getMaxQueuedCommitNotifications()
+  {
+    return maxQueuedCommitNotifications;
+  }
+
+  public void setMaxQueuedCommitNotifications(int maxQueuedCommitNotifications)
+  {
+    checkInactive();
+    this.maxQueuedCommitNotifications = maxQueuedCommitNotifications;
+  }
+
   @Override
   @Deprecated
   public IUserManager getUserManager()
@@ -356,6 +425,7 @@ public class SessionManager extends Container<ISession> implements InternalSessi
       removedSession = sessions.remove(sessionID);
       if (removedSession != null)
       {
+        commitNotificationQueues.remove(removedSession);
         buildSessionsArray();
 
         for (InternalSession remainingSession : sessions.values())
@@ -512,7 +582,7 @@ public class SessionManager extends Container<ISession> implements InternalSessi
         if (session.isOpenOnClientSide())
         {
           processQueuedCommitNotifications(session);
-          doSendCommitNotification(session, info);
+          deliverCommitNotification(session, info);
         }
         else
         {
@@ -522,7 +592,35 @@ public class SessionManager extends Container<ISession> implements InternalSessi
     }
   }
 
-  private void doSendCommitNotification(InternalSession session, CommitNotificationInfo info)
+  private void deliverCommitNotification(InternalSession session, CommitNotificationInfo info)
+  {
+    ExecutorService executor = commitNotificationExecutor;
+    if (executor == null)
+    {
+      doSendCommitNotification(session, info);
+      return;
+    }
+
+    CommitNotificationQueue queue;
+    synchronized (sessions)
+    {
+      if (sessions.get(session.getSessionID()) != session)
+      {
+        // The session has been closed in the meantime.
+        return;
+      }
+
+      queue = commitNotificationQueues.computeIfAbsent(session, s -> new CommitNotificationQueue(s, executor));
+    }
+
+    queue.add(info);
+  }
+
+  /**
+   * Sends the given commit notification to the given session, either in the committing thread or, if
+   * {@link #getCommitNotificationThreads() commit notification threads} are configured, in one of them.
+   */
+  protected void doSendCommitNotification(InternalSession session, CommitNotificationInfo info)
   {
     try
     {
@@ -534,6 +632,109 @@ public class SessionManager extends Container<ISession> implements InternalSessi
     }
   }
 
+  /**
+   * Returns a commit notification that combines the given consecutive commit notifications, or <code>null</code> if
+   * they can't be combined without changing their meaning for the recipient.
+   * <p>
+   * The combined commit info carries the time stamp of the second commit and the previous time stamp of the first one.
+   * All other properties of the commit infos, e.g., the user ID and the comment, must be equal, so that no information
+   * about either commit is lost.
+   *
+   * @param firstIDs the IDs of all objects that are affected by the first commit notification.
+   */
+  private CommitNotificationInfo mergeCommitNotifications(CommitNotificationInfo first, CommitNotificationInfo second, Set<CDOID> firstIDs)
+  {
+    if (first.getSender() != second.getSender() //
+        || first.getLockChangeInfo() != null || second.getLockChangeInfo() != null //
+        || first.getSecurityImpact() != CommitNotificationInfo.IMPACT_NONE || second.getSecurityImpact() != CommitNotificationInfo.IMPACT_NONE //
+        || first.getNewPermissions() != null || second.getNewPermissions() != null)
+    {
+      return null;
+    }
+
+    CDOCommitInfo firstCommitInfo = first.getCommitInfo();
+    CDOCommitInfo secondCommitInfo = second.getCommitInfo();
+    if (firstCommitInfo.getBranch() != secondCommitInfo.getBranch() //
+        || secondCommitInfo.getPreviousTimeStamp() != firstCommitInfo.getTimeStamp() //
+        || !Objects.equals(firstCommitInfo.getUserID(), secondCommitInfo.getUserID()) //
+        || !Objects.equals(firstCommitInfo.getComment(), secondCommitInfo.getComment()) //
+        || firstCommitInfo.getMergeSource() != null || secondCommitInfo.getMergeSource() != null)
+    {
+      return null;
+    }
+
+    // Each object must be affected by at most one of the commits, so that all revision deltas stay applicable.
+    Set<CDOID> secondIDs = CDOIDUtil.createSet();
+    collectIDs(secondCommitInfo, secondIDs);
+    for (CDOID id : secondIDs)
+    {
+      if (firstIDs.contains(id))
+      {
+        return null;
+      }
+    }
+
+    CDOCommitData commitData = CDOCommitInfoUtil.createCommitData( //
+        concat(firstCommitInfo.getNewPackageUnits(), secondCommitInfo.getNewPackageUnits()), //
+        concat(firstCommitInfo.getNewObjects(), secondCommitInfo.getNewObjects()), //
+        concat(firstCommitInfo.getChangedObjects(), secondCommitInfo.getChangedObjects()), //
+        concat(firstCommitInfo.getDetachedObjects(), secondCommitInfo.getDetachedObjects()));
+
+    // Don't use the commit info manager to create the merged commit info. It would intern it by its time stamp.
+    CDOCommitInfo commitInfo = new CDOCommitInfoImpl(repository.getCommitInfoManager(), secondCommitInfo.getBranch(), secondCommitInfo.getTimeStamp(),
+        firstCommitInfo.getPreviousTimeStamp(), secondCommitInfo.getUserID(), secondCommitInfo.getComment(), null, commitData);
+
+    CDORevisionProvider firstProvider = first.getRevisionProvider();
+    CDORevisionProvider secondProvider = second.getRevisionProvider();
+
+    CommitNotificationInfo info = new CommitNotificationInfo();
+    info.setSender(second.getSender());
+    info.setCommitInfo(commitInfo);
+    info.setClearResourcePathCache(first.isClearResourcePathCache() || second.isClearResourcePathCache());
+    info.setModifiedByServer(first.isModifiedByServer() || second.isModifiedByServer());
+
+    if (firstProvider != null && secondProvider != null)
+    {
+      info.setRevisionProvider(id -> {
+        CDORevision revision = secondProvider.getRevision(id);
+        return revision != null ? revision : firstProvider.getRevision(id);
+      });
+    }
+    else
+    {
+      info.setRevisionProvider(secondProvider != null ? secondProvider : firstProvider);
+    }
+
+    firstIDs.addAll(secondIDs);
+    return info;
+  }
+
+  private static void collectIDs(CDOCommitInfo commitInfo, Set<CDOID> ids)
+  {
+    for (CDOIDAndVersion key : commitInfo.getNewObjects())
+    {
+      ids.add(key.getID());
+    }
+
+    for (CDORevisionKey key : commitInfo.getChangedObjects())
+    {
+      ids.add(key.getID());
+    }
+
+    for (CDOIDAndVersion key : commitInfo.getDetachedObjects())
+    {
+      ids.add(key.getID());
+    }
+  }
+
+  private static <T> List<T> concat(List<T> first, List<T> second)
+  {
+    List<T> result = new ArrayList<>(first.size() + second.size());
+    result.addAll(first);
+    result.addAll(second);
+    return result;
+  }
+
   private void queueCommitNotification(InternalSession session, CommitNotificationInfo info)
   {
     synchronized (commitNotificationInfoQueues)
@@ -565,7 +766,7 @@ public class SessionManager extends Container<ISession> implements InternalSessi
 
       for (CommitNotificationInfo queuedInfo : queue)
       {
-        doSendCommitNotification(session, queuedInfo);
+        deliverCommitNotification(session, queuedInfo);
       }
     }
   }
@@ -859,6 +1060,12 @@ public class SessionManager extends Container<ISession> implements InternalSessi
     super.doActivate();
     LifecycleUtil.activate(topicManager);
     initAuthentication();
+
+    if (commitNotificationThreads > 0)
+    {
+      commitNotificationExecutor = ThreadPool.create("CDOCommitNotifier-" + repository.getName(), commitNotificationThreads, //$NON-NLS-1$
+          commitNotificationThreads, ThreadPool.DEFAULT_KEEP_ALIVE_SECONDS);
+    }
   }
 
   protected void initAuthentication()
@@ -887,9 +1094,128 @@ public class SessionManager extends Container<ISession> implements InternalSessi
     }
 
     LifecycleUtil.deactivate(topicManager);
+
+    if (commitNotificationExecutor != null)
+    {
+      commitNotificationExecutor.shutdown();
+      commitNotificationExecutor = null;
+    }
+
+    synchronized (sessions)
+    {
+      commitNotificationQueues.clear();
+    }
+
     super.doDeactivate();
   }
 
+  /**
+   * Delivers the commit notifications of one session in order and without blocking the committing threads. If the
+   * session falls behind by more than {@link #getMaxQueuedCommitNotifications()} notifications, new notifications are
+   * coalesced with the last queued one where possible.
+   *
+   * @author Eike Stepper
+   */
+  private final class CommitNotificationQueue implements Runnable
+  {
+    private final InternalSession session;
+
+    private final ExecutorService executor;
+
+    private final Deque<CommitNotificationInfo> infos = new ArrayDeque<>();
+
+    /**
+     * The IDs of all objects that are affected by the last queued commit notification, or <code>null</code> if they
+     * haven't been collected, yet.
+     */
+    private Set<CDOID> lastIDs;
+
+    private boolean scheduled;
+
+    public CommitNotificationQueue(InternalSession session, ExecutorService executor)
+    {
+      this.session = session;
+      this.executor = executor;
+    }
+
+    public synchronized void add(CommitNotificationInfo info)
+    {
+      if (infos.size() < maxQueuedCommitNotifications || !coalesce(info))
+      {
+        infos.addLast(info);
+        lastIDs = null;
+      }
+
+      if (!scheduled)
+      {
+        try
+        {
+          executor.execute(this);
+          scheduled = true;
+        }
+        catch (RejectedExecutionException ex)
+        {
+          // The session manager is being deactivated.
+          infos.clear();
+          lastIDs = null;
+        }
+      }
+    }
+
+    @Override
+    public void run()
+    {
+      for (;;)
+      {
+        CommitNotificationInfo info;
+        synchronized (this)
+        {
+          info = infos.pollFirst();
+          if (info == null || session.isClosed())
+          {
+            infos.clear();
+            lastIDs = null;
+            scheduled = false;
+            return;
+          }
+
+          if (infos.isEmpty())
+          {
+            lastIDs = null;
+          }
+        }
+
+        doSendCommitNotification(session, info);
+      }
+    }
+
+    private boolean coalesce(CommitNotificationInfo info)
+    {
+      CommitNotificationInfo last = infos.peekLast();
+      if (lastIDs == null)
+      {
+        lastIDs = CDOIDUtil.createSet();
+        collectIDs(last.getCommitInfo(), lastIDs);
+      }
+
+      CommitNotificationInfo merged = mergeCommitNotifications(last, info, lastIDs);
+      if (merged == null)
+      {
+        return false;
+      }
+
+      infos.pollLast();
+      infos.addLast(merged);
+
+      if (TRACER.isEnabled())
+      {
+        TRACER.format("Coalesced commit notification {0} for {1}", info.getCommitInfo().getTimeStamp(), session); //$NON-NLS-1$
+      }
+
+      return true;
+    }
+  }
+
   @SuppressWarnings("deprecation")
   private SecurityException notAuthenticated()
   {
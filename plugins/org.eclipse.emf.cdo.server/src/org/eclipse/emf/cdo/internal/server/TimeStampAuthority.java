@@ -109,7 +109,8 @@ class TimeStampAuthority
       {
         while (lastIssuedTimeStamp == now)
         {
-          ConcurrencyUtil.sleep(1);
+          // Release the monitor while waiting for the clock, so that endCommit() and failCommit() aren't blocked.
+          waitForClock();
           now = repository.getTimeStamp();
           monitor.checkCanceled();
         }
@@ -231,6 +232,18 @@ class TimeStampAuthority
     repository.getStore().setLastCommitTime(lastFinishedTimeStamp);
   }
 
+  private void waitForClock()
+  {
+    try
+    {
+      wait(1);
+    }
+    catch (InterruptedException ex)
+    {
+      return;
+    }
+  }
+
   private void lockIfNeeded()
   {
     if (strictOrdering)
@@ -197,6 +197,13 @@ public class TransactionCommitContext implements InternalCommitContext
 
   private boolean serializingCommits;
 
+  private boolean pipeliningCommits;
+
+  /**
+   * Whether this commit holds the {@link InternalRepository#getCommitStageLock() commit stage lock}.
+   */
+  private boolean commitStageLocked;
+
   private boolean ensuringReferentialIntegrity;
 
   private ExtendedDataInputStream lobs;
@@ -254,6 +261,7 @@ public class TransactionCommitContext implements InternalCommitContext
     repository = transaction.getRepository();
     lockManager = repository.getLockingManager();
     serializingCommits = repository.isSerializingCommits();
+    pipeliningCommits = repository.isPipeliningCommits();
     ensuringReferentialIntegrity = repository.isEnsuringReferentialIntegrity();
 
     repositoryPackageRegistry = repository.getPackageRegistry(false);
@@ -839,17 +847,43 @@ public class TransactionCommitContext implements InternalCommitContext
       lockObjects(); // Can take long and must come before setTimeStamp()
       monitor.worked();
 
-      setTimeStamp(monitor.fork());
+      if (pipeliningCommits)
+      {
+        // The write locks keep conflicting commits out, so the revisions can be computed and validated
+        // before a timestamp is assigned. That keeps the window between startCommit() and endCommit() short.
+        computeDirtyObjects(monitor.fork());
 
-      adjustForCommit();
-      monitor.worked();
+        checkContainmentCycles();
+        checkXRefs();
+        checkUnitMoves();
+        monitor.worked();
 
-      computeDirtyObjects(monitor.fork());
+        if (serializingCommits)
+        {
+          // Only the stages from here on are serialized, so the next commit is validated while this one is written.
+          lockCommitStage();
+        }
 
-      checkContainmentCycles();
-      checkXRefs();
-      checkUnitMoves();
-      monitor.worked();
+        setTimeStamp(monitor.fork());
+
+        adjustForCommit();
+        adjustDirtyObjectsForCommit();
+        monitor.worked();
+      }
+      else
+      {
+        setTimeStamp(monitor.fork());
+
+        adjustForCommit();
+        monitor.worked();
+
+        computeDirtyObjects(monitor.fork());
+
+        checkContainmentCycles();
+        checkXRefs();
+        checkUnitMoves();
+        monitor.worked();
+      }
 
       detachObjects(monitor.fork());
       writeAccessor(monitor.fork(100));
@@ -902,6 +936,31 @@ public class TransactionCommitContext implements InternalCommitContext
     }
   }
 
+  /**
+   * Acquires the {@link InternalRepository#getCommitStageLock() commit stage lock} of the repository. It is released
+   * after the commit notifications have been sent, or when this commit is rolled back.
+   *
+   * @see IRepository.Props#PIPELINE_COMMITS
+   */
+  protected void lockCommitStage() throws InterruptedException
+  {
+    repository.getCommitStageLock().acquire();
+
+    synchronized (this)
+    {
+      commitStageLocked = true;
+    }
+  }
+
+  protected synchronized void unlockCommitStage()
+  {
+    if (commitStageLocked)
+    {
+      commitStageLocked = false;
+      repository.getCommitStageLock().release();
+    }
+  }
+
   protected void handleException(Throwable throwable)
   {
     try
@@ -1030,6 +1089,7 @@ public class TransactionCommitContext implements InternalCommitContext
     }
     finally
     {
+      unlockCommitStage();
       StoreThreadLocal.release();
       accessor = null;
       lockedTargets = null;
@@ -1142,6 +1202,19 @@ public class TransactionCommitContext implements InternalCommitContext
     }
   }
 
+  /**
+   * Stamps the dirty objects that {@link #computeDirtyObjects(OMMonitor)} has computed before the commit timestamp was known.
+   *
+   * @see IRepository.Props#PIPELINE_COMMITS
+   */
+  protected void adjustDirtyObjectsForCommit()
+  {
+    for (InternalCDORevision dirtyObject : dirtyObjects)
+    {
+      dirtyObject.setBranchPoint(branch.getPoint(timeStamp));
+    }
+  }
+
   protected void lockObjects() throws InterruptedException
   {
     lockedObjects.clear();
@@ -1150,9 +1223,9 @@ public class TransactionCommitContext implements InternalCommitContext
     try
     {
       CDOFeatureDeltaVisitor deltaTargetLocker = null;
-      if (ensuringReferentialIntegrity && !serializingCommits)
+      if (ensuringReferentialIntegrity && (!serializingCommits || pipeliningCommits))
       {
-        final Set<CDOID> newIDs = new HashSet<>();
+        final Set<CDOID> newIDs = CDOIDUtil.createSet();
         for (int i = 0; i < newObjects.length; i++)
         {
           InternalCDORevision newRevision = newObjects[i];
@@ -1501,7 +1574,7 @@ public class TransactionCommitContext implements InternalCommitContext
     {
       List<CDOID> detachedObjectsList = new ArrayList<>();
       List<CDOBranchVersion> detachedObjectVersionsList = new ArrayList<>();
-      detachedObjectTypes = new HashMap<>();
+      detachedObjectTypes = CDOIDUtil.createMap();
 
       List<CDOIDAndVersion> idAndVersions = newChangeSetData.getDetachedObjects();
       if (idAndVersions != null)
@@ -1581,7 +1654,7 @@ public class TransactionCommitContext implements InternalCommitContext
       return;
     }
 
-    Set<CDOID> objectsThatReachTheRoot = new HashSet<>();
+    Set<CDOID> objectsThatReachTheRoot = CDOIDUtil.createSet();
     for (int i = 0; i < dirtyObjectDeltas.length; i++)
     {
       InternalCDORevisionDelta revisionDelta = dirtyObjectDeltas[i];
@@ -1589,7 +1662,7 @@ public class TransactionCommitContext implements InternalCommitContext
       if (containerDelta != null)
       {
         InternalCDORevision revision = dirtyObjects[i];
-        if (!isTheRootReachable(revision, objectsThatReachTheRoot, new HashSet<>()))
+        if (!isTheRootReachable(revision, objectsThatReachTheRoot, CDOIDUtil.createSet()))
         {
           throw new RollbackException(CDOProtocolConstants.ROLLBACK_REASON_CONTAINMENT_CYCLE,
               "Attempt by " + transaction + " to introduce a containment cycle");
@@ -1687,6 +1760,7 @@ public class TransactionCommitContext implements InternalCommitContext
         }
       }
 
+      unlockCommitStage();
       releaseImplicitLocks();
     }
   }
@@ -2052,9 +2126,9 @@ public class TransactionCommitContext implements InternalCommitContext
   {
     private Map<EClass, List<EReference>> sourceCandidates = new HashMap<>();
 
-    private Set<CDOID> detachedIDs = new HashSet<>();
+    private Set<CDOID> detachedIDs = CDOIDUtil.createSet();
 
-    private Set<CDOID> dirtyIDs = new HashSet<>();
+    private Set<CDOID> dirtyIDs = CDOIDUtil.createSet();
 
     private List<CDOIDReference> result = new ArrayList<>();
 
@@ -2075,7 +2149,7 @@ public class TransactionCommitContext implements InternalCommitContext
 
     public List<CDOIDReference> getXRefs(IStoreAccessor accessor)
     {
-      accessor.queryXRefs(this);
+      XRefsQueryHandler.queryXRefs(repository, accessor, this);
       checkDirtyObjects();
       return result;
     }
@@ -30,6 +30,7 @@ import org.eclipse.emf.cdo.server.IQueryHandler;
 import org.eclipse.emf.cdo.server.IRepository;
 import org.eclipse.emf.cdo.server.IStore;
 import org.eclipse.emf.cdo.server.IStoreAccessor;
+import org.eclipse.emf.cdo.server.IStoreAccessor.QueryXRefsContext;
 import org.eclipse.emf.cdo.server.IView;
 import org.eclipse.emf.cdo.server.StoreThreadLocal;
 import org.eclipse.emf.cdo.server.StoreThreadLocal.NoSessionRegisteredException;
@@ -39,9 +40,12 @@ import org.eclipse.emf.cdo.spi.common.revision.DetachedCDORevision;
 import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevisionManager;
 import org.eclipse.emf.cdo.spi.common.revision.SyntheticCDORevision;
 import org.eclipse.emf.cdo.spi.server.InternalRepository;
+import org.eclipse.emf.cdo.spi.server.InternalSession;
 import org.eclipse.emf.cdo.spi.server.QueryHandlerFactory;
 
+import org.eclipse.net4j.util.WrappedException;
 import org.eclipse.net4j.util.factory.ProductCreationException;
+import org.eclipse.net4j.util.om.OMPlatform;
 
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EClassifier;
@@ -57,12 +61,21 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * @author Eike Stepper
  */
 public class XRefsQueryHandler implements IQueryHandler
 {
+  /**
+   * The maximum number of store accessors that query the cross references of disjoint source classes in parallel.
+   */
+  private static final int PARALLELISM = OMPlatform.INSTANCE.getProperty("org.eclipse.emf.cdo.internal.server.XRefsQueryHandler.PARALLELISM", //$NON-NLS-1$
+      Runtime.getRuntime().availableProcessors());
+
   public XRefsQueryHandler()
   {
   }
@@ -73,6 +86,7 @@ public class XRefsQueryHandler implements IQueryHandler
     try
     {
       IStoreAccessor accessor = StoreThreadLocal.getAccessor();
+      InternalRepository repository = (InternalRepository)context.getView().getRepository();
 
       CDOBranchPoint branchPoint = context;
       CDOBranch branch = branchPoint.getBranch();
@@ -80,12 +94,12 @@ public class XRefsQueryHandler implements IQueryHandler
       if (branch.isMainBranch())
       {
         QueryContext xrefsContext = new QueryContext(info, context);
-        accessor.queryXRefs(xrefsContext);
+        queryXRefs(repository, accessor, xrefsContext);
       }
       else
       {
         QueryContext xrefsContext = new QueryContextBranching(info, context);
-        accessor.queryXRefs(xrefsContext);
+        queryXRefs(repository, accessor, xrefsContext);
 
         int maxResults = info.getMaxResults();
         while (!branch.isMainBranch() && (maxResults == CDOQueryInfo.UNLIMITED_RESULTS || context.getResultCount() < maxResults))
@@ -94,7 +108,7 @@ public class XRefsQueryHandler implements IQueryHandler
           branch = branchPoint.getBranch();
 
           xrefsContext.setBranchPoint(branchPoint);
-          accessor.queryXRefs(xrefsContext);
+          queryXRefs(repository, accessor, xrefsContext);
         }
       }
     }
@@ -104,6 +118,117 @@ public class XRefsQueryHandler implements IQueryHandler
     }
   }
 
+  /**
+   * Queries the cross references that the given context asks for.
+   * <p>
+   * If the source candidates of the context span several classes, they are partitioned by class and the partitions are
+   * queried in parallel, each with a separate {@link IStore#getReader(org.eclipse.emf.cdo.server.ISession) reader} on
+   * the {@link InternalRepository#getExecutorService() executor service} of the repository. The given accessor queries
+   * the first partition in the calling thread. The results of all partitions are passed to the given context, one at a
+   * time, and all partitions stop as soon as the context doesn't accept more results.
+   * <p>
+   * Accessors that query all source candidates {@link IStoreAccessor.CombinedXRefs in one combined pass} are called
+   * directly, and they can {@link IStoreAccessor.CombinedXRefs#getXRefsParallelism(int) limit} the number of partitions.
+   */
+  public static void queryXRefs(InternalRepository repository, IStoreAccessor accessor, QueryXRefsContext context)
+  {
+    Map<EClass, List<EReference>> sourceCandidates = context.getSourceCandidates();
+    int parallelism = Math.min(PARALLELISM, sourceCandidates.size());
+    if (parallelism > 1 && accessor instanceof IStoreAccessor.CombinedXRefs)
+    {
+      IStoreAccessor.CombinedXRefs combinedXRefs = (IStoreAccessor.CombinedXRefs)accessor;
+      parallelism = combinedXRefs.isCombiningXRefs() ? 1 : Math.min(parallelism, combinedXRefs.getXRefsParallelism(parallelism));
+    }
+
+    if (parallelism <= 1)
+    {
+      accessor.queryXRefs(context);
+      return;
+    }
+
+    // Distribute the classes round-robin, so that the partitions have similar sizes.
+    List<Map<EClass, List<EReference>>> partitions = new ArrayList<>(parallelism);
+    for (int i = 0; i < parallelism; i++)
+    {
+      partitions.add(new HashMap<>());
+    }
+
+    int index = 0;
+    for (Map.Entry<EClass, List<EReference>> entry : sourceCandidates.entrySet())
+    {
+      partitions.get(index++ % parallelism).put(entry.getKey(), entry.getValue());
+    }
+
+    ParallelQuery parallelQuery = new ParallelQuery(context);
+    InternalSession session = StoreThreadLocal.hasSession() ? StoreThreadLocal.getSession() : null;
+    IStore store = repository.getStore();
+    ExecutorService executorService = repository.getExecutorService();
+
+    List<Future<?>> futures = new ArrayList<>(parallelism - 1);
+    Throwable exception = null;
+
+    try
+    {
+      for (int i = 1; i < parallelism; i++)
+      {
+        QueryXRefsContext partitionContext = parallelQuery.createPartition(partitions.get(i));
+        futures.add(executorService.submit(() -> {
+          IStoreAccessor reader = store.getReader(session);
+          StoreThreadLocal.setAccessor(reader);
+
+          try
+          {
+            reader.queryXRefs(partitionContext);
+          }
+          finally
+          {
+            StoreThreadLocal.release();
+          }
+        }));
+      }
+
+      accessor.queryXRefs(parallelQuery.createPartition(partitions.get(0)));
+    }
+    catch (RuntimeException | Error ex)
+    {
+      exception = ex;
+      parallelQuery.cancel();
+    }
+
+    for (Future<?> future : futures)
+    {
+      try
+      {
+        future.get();
+      }
+      catch (InterruptedException ex)
+      {
+        Thread.currentThread().interrupt();
+        parallelQuery.cancel();
+        exception = ex;
+        break;
+      }
+      catch (ExecutionException ex)
+      {
+        parallelQuery.cancel();
+        if (exception == null)
+        {
+          exception = ex.getCause();
+        }
+      }
+    }
+
+    if (exception instanceof Error)
+    {
+      throw (Error)exception;
+    }
+
+    if (exception != null)
+    {
+      throw WrappedException.wrap((Exception)exception);
+    }
+  }
+
   public static void collectSourceCandidates(IView view, Collection<EClass> concreteTypes, Map<EClass, List<EReference>> sourceCandidates)
   {
     InternalRepository repository = (InternalRepository)view.getRepository();
@@ -452,6 +577,100 @@ public class XRefsQueryHandler implements IQueryHandler
     }
   }
 
+  /**
+   * Serializes the results of the partitions of a parallel XRefs query into the context of that query.
+   *
+   * @author Eike Stepper
+   */
+  private static final class ParallelQuery
+  {
+    private final QueryXRefsContext context;
+
+    private final Map<CDOID, EClass> targetObjects;
+
+    private final EReference[] sourceReferences;
+
+    private volatile boolean done;
+
+    public ParallelQuery(QueryXRefsContext context)
+    {
+      this.context = context;
+
+      // Compute the lazily initialized data of the context before the partitions access it concurrently.
+      targetObjects = context.getTargetObjects();
+      sourceReferences = context.getSourceReferences();
+    }
+
+    public void cancel()
+    {
+      done = true;
+    }
+
+    public QueryXRefsContext createPartition(Map<EClass, List<EReference>> sourceCandidates)
+    {
+      return new QueryXRefsContext()
+      {
+        @Override
+        public CDOBranch getBranch()
+        {
+          return context.getBranch();
+        }
+
+        @Override
+        public long getTimeStamp()
+        {
+          return context.getTimeStamp();
+        }
+
+        @Override
+        public Map<CDOID, EClass> getTargetObjects()
+        {
+          return targetObjects;
+        }
+
+        @Override
+        public EReference[] getSourceReferences()
+        {
+          return sourceReferences;
+        }
+
+        @Override
+        public Map<EClass, List<EReference>> getSourceCandidates()
+        {
+          return sourceCandidates;
+        }
+
+        @Override
+        public int getMaxResults()
+        {
+          return context.getMaxResults();
+        }
+
+        @Override
+        public boolean addXRef(CDOID targetID, CDOID sourceID, EReference sourceReference, int sourceIndex)
+        {
+          return ParallelQuery.this.addXRef(targetID, sourceID, sourceReference, sourceIndex);
+        }
+      };
+    }
+
+    private synchronized boolean addXRef(CDOID targetID, CDOID sourceID, EReference sourceReference, int sourceIndex)
+    {
+      if (done)
+      {
+        return false;
+      }
+
+      if (!context.addXRef(targetID, sourceID, sourceReference, sourceIndex))
+      {
+        done = true;
+        return false;
+      }
+
+      return true;
+    }
+  }
+
   /**
    * @author Eike Stepper
    */
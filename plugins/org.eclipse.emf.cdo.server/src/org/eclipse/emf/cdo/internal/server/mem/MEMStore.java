@@ -83,16 +83,20 @@ import java.io.Reader;
 import java.io.Writer;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -105,25 +109,34 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
 
   private long creationTime;
 
-  private Map<String, String> properties = new HashMap<>();
+  /**
+   * Serializes the writers and lets the readers that scan several objects see either all or none of the changes of a
+   * commit. Readers of single objects, branches, commit infos and lobs don't acquire this lock at all.
+   */
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private Map<String, String> properties = new ConcurrentHashMap<>();
 
-  private Map<Integer, BranchInfo> branchInfos = new HashMap<>();
+  private Map<Integer, BranchInfo> branchInfos = new ConcurrentHashMap<>();
 
   private int lastBranchID;
 
   private int lastLocalBranchID;
 
-  private Map<Object, List<InternalCDORevision>> revisions = new HashMap<>();
+  /**
+   * The revision lists are immutable snapshots that are replaced, never modified, by the writers.
+   */
+  private Map<Object, List<InternalCDORevision>> revisions = new ConcurrentHashMap<>();
 
-  private List<CommitInfo> commitInfos = new ArrayList<>();
+  private volatile CommitInfos commitInfos = CommitInfos.EMPTY;
 
-  private Map<CDOID, EClass> objectTypes = CDOIDUtil.createMap();
+  private Map<CDOID, EClass> objectTypes = new ConcurrentHashMap<>();
 
-  private Map<String, LockArea> lockAreas = new HashMap<>();
+  private Map<String, LockArea> lockAreas = new ConcurrentHashMap<>();
 
-  private Map<String, Object> lobs = new HashMap<>();
+  private Map<String, Object> lobs = new ConcurrentHashMap<>();
 
-  private int listLimit;
+  private volatile int listLimit;
 
   @ExcludeFromDump
   private transient EStructuralFeature resourceNameFeature;
@@ -171,7 +184,7 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
   }
 
   @Override
-  public synchronized Map<String, String> getPersistentProperties(Set<String> names)
+  public Map<String, String> getPersistentProperties(Set<String> names)
   {
     if (ObjectUtil.isEmpty(names))
     {
@@ -192,13 +205,13 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
   }
 
   @Override
-  public synchronized void setPersistentProperties(Map<String, String> properties)
+  public void setPersistentProperties(Map<String, String> properties)
   {
     this.properties.putAll(properties);
   }
 
   @Override
-  public synchronized void removePersistentProperties(Set<String> names)
+  public void removePersistentProperties(Set<String> names)
   {
     for (String name : names)
     {
@@ -207,29 +220,39 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
   }
 
   @Override
-  public synchronized Pair<Integer, Long> createBranch(int branchID, BranchInfo branchInfo)
+  public Pair<Integer, Long> createBranch(int branchID, BranchInfo branchInfo)
   {
-    if (branchID == NEW_BRANCH)
+    Lock writeLock = lock.writeLock();
+    writeLock.lock();
+
+    try
     {
-      branchID = ++lastBranchID;
+      if (branchID == NEW_BRANCH)
+      {
+        branchID = ++lastBranchID;
+      }
+      else if (branchID == NEW_LOCAL_BRANCH)
+      {
+        branchID = --lastLocalBranchID;
+      }
+
+      branchInfos.put(branchID, branchInfo);
+      return Pair.create(branchID, branchInfo.getBaseTimeStamp());
     }
-    else if (branchID == NEW_LOCAL_BRANCH)
+    finally
     {
-      branchID = --lastLocalBranchID;
+      writeLock.unlock();
     }
-
-    branchInfos.put(branchID, branchInfo);
-    return Pair.create(branchID, branchInfo.getBaseTimeStamp());
   }
 
   @Override
-  public synchronized BranchInfo loadBranch(int branchID)
+  public BranchInfo loadBranch(int branchID)
   {
     return branchInfos.get(branchID);
   }
 
   @Override
-  public synchronized int loadBranches(int startID, int endID, CDOBranchHandler handler)
+  public int loadBranches(int startID, int endID, CDOBranchHandler handler)
   {
     int count = 0;
     InternalCDOBranchManager branchManager = getRepository().getBranchManager();
@@ -249,7 +272,7 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
   }
 
   @Override
-  public synchronized SubBranchInfo[] loadSubBranches(int branchID)
+  public SubBranchInfo[] loadSubBranches(int branchID)
   {
     List<SubBranchInfo> result = new ArrayList<>();
     for (Map.Entry<Integer, BranchInfo> entry : branchInfos.entrySet())
@@ -266,50 +289,53 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
   }
 
   @Override
-  public synchronized CDOBranch[] deleteBranches(int branchID, OMMonitor monitor)
+  public CDOBranch[] deleteBranches(int branchID, OMMonitor monitor)
   {
-    Set<CDOBranch> deletedBranches = getRepository().getBranchManager().getBranches(branchID);
-
-    monitor.begin(revisions.size());
+    Lock writeLock = lock.writeLock();
+    writeLock.lock();
 
-    for (Iterator<Map.Entry<Object, List<InternalCDORevision>>> it = revisions.entrySet().iterator(); it.hasNext();)
+    try
     {
-      Map.Entry<Object, List<InternalCDORevision>> entry = it.next();
+      Set<CDOBranch> deletedBranches = getRepository().getBranchManager().getBranches(branchID);
 
-      CDOBranch revisionBranch = getBranch(entry.getKey());
-      if (deletedBranches.contains(revisionBranch))
+      monitor.begin(revisions.size());
+
+      for (Iterator<Map.Entry<Object, List<InternalCDORevision>>> it = revisions.entrySet().iterator(); it.hasNext();)
       {
-        it.remove();
+        Map.Entry<Object, List<InternalCDORevision>> entry = it.next();
+
+        CDOBranch revisionBranch = getBranch(entry.getKey());
+        if (deletedBranches.contains(revisionBranch))
+        {
+          it.remove();
+        }
+
+        monitor.worked();
       }
 
-      monitor.worked();
-    }
+      commitInfos = commitInfos.remove(commitInfo -> deletedBranches.contains(commitInfo.getBranch()));
 
-    for (Iterator<CommitInfo> it = commitInfos.iterator(); it.hasNext();)
-    {
-      CommitInfo commitInfo = it.next();
-      if (deletedBranches.contains(commitInfo.getBranch()))
+      for (Iterator<Map.Entry<String, LockArea>> it = lockAreas.entrySet().iterator(); it.hasNext();)
       {
-        it.remove();
+        Map.Entry<String, LockArea> entry = it.next();
+        LockArea lockArea = entry.getValue();
+        if (deletedBranches.contains(lockArea.getBranch()))
+        {
+          it.remove();
+        }
       }
-    }
 
-    for (Iterator<Map.Entry<String, LockArea>> it = lockAreas.entrySet().iterator(); it.hasNext();)
-    {
-      Map.Entry<String, LockArea> entry = it.next();
-      LockArea lockArea = entry.getValue();
-      if (deletedBranches.contains(lockArea.getBranch()))
+      for (CDOBranch branch : deletedBranches)
       {
-        it.remove();
+        branchInfos.remove(branch.getID());
       }
-    }
 
-    for (CDOBranch branch : deletedBranches)
+      return deletedBranches.toArray(new CDOBranch[deletedBranches.size()]);
+    }
+    finally
     {
-      branchInfos.remove(branch.getID());
+      writeLock.unlock();
     }
-
-    return deletedBranches.toArray(new CDOBranch[deletedBranches.size()]);
   }
 
   @Override
@@ -340,9 +366,10 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
     throw new UnsupportedOperationException();
   }
 
-  public synchronized void loadCommitInfos(final CDOBranch branch, long startTime, final long endTime, CDOCommitInfoHandler handler)
+  public void loadCommitInfos(final CDOBranch branch, long startTime, final long endTime, CDOCommitInfoHandler handler)
   {
     InternalCDOCommitInfoManager manager = getRepository().getCommitInfoManager();
+    List<CommitInfo> commitInfos = this.commitInfos.asList();
 
     // Optimize the getCommitInfo(timeStamp) case.
     if (startTime == endTime && startTime > CDOBranchPoint.UNSPECIFIED_DATE)
@@ -421,18 +448,28 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
     }
   }
 
-  public synchronized Set<CDOID> readChangeSet(CDOChangeSetSegment[] segments)
+  public Set<CDOID> readChangeSet(CDOChangeSetSegment[] segments)
   {
-    Set<CDOID> ids = new HashSet<>();
-    for (CDOChangeSetSegment segment : segments)
+    Lock readLock = lock.readLock();
+    readLock.lock();
+
+    try
     {
-      for (List<InternalCDORevision> list : revisions.values())
+      Set<CDOID> ids = CDOIDUtil.createSet();
+      for (CDOChangeSetSegment segment : segments)
       {
-        readChangeSet(segment, list, ids);
+        for (List<InternalCDORevision> list : revisions.values())
+        {
+          readChangeSet(segment, list, ids);
+        }
       }
-    }
 
-    return ids;
+      return ids;
+    }
+    finally
+    {
+      readLock.unlock();
+    }
   }
 
   private void readChangeSet(CDOChangeSetSegment segment, List<InternalCDORevision> list, Set<CDOID> ids)
@@ -466,18 +503,28 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
     }
   }
 
-  public synchronized void handleRevisions(EClass eClass, CDOBranch branch, long timeStamp, boolean exactTime, CDORevisionHandler handler)
+  public void handleRevisions(EClass eClass, CDOBranch branch, long timeStamp, boolean exactTime, CDORevisionHandler handler)
   {
-    for (List<InternalCDORevision> list : revisions.values())
+    Lock readLock = lock.readLock();
+    readLock.lock();
+
+    try
     {
-      for (InternalCDORevision revision : list)
+      for (List<InternalCDORevision> list : revisions.values())
       {
-        if (!handleRevision(revision, eClass, branch, timeStamp, exactTime, handler))
+        for (InternalCDORevision revision : list)
         {
-          return;
+          if (!handleRevision(revision, eClass, branch, timeStamp, exactTime, handler))
+          {
+            return;
+          }
         }
       }
     }
+    finally
+    {
+      readLock.unlock();
+    }
   }
 
   private boolean handleRevision(InternalCDORevision revision, EClass eClass, CDOBranch branch, long timeStamp, boolean exactTime, CDORevisionHandler handler)
@@ -526,37 +573,56 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
    * @since 2.0
    */
   @Override
-  public synchronized void setListLimit(int listLimit)
+  public void setListLimit(int listLimit)
   {
-    if (listLimit != UNLIMITED && this.listLimit != listLimit)
+    Lock writeLock = lock.writeLock();
+    writeLock.lock();
+
+    try
     {
-      for (List<InternalCDORevision> list : revisions.values())
+      this.listLimit = listLimit;
+      if (listLimit != UNLIMITED)
       {
-        enforceListLimit(list);
+        revisions.replaceAll((listKey, list) -> enforceListLimit(list));
       }
     }
-
-    this.listLimit = listLimit;
+    finally
+    {
+      writeLock.unlock();
+    }
   }
 
   /**
    * @since 2.0
    */
-  public synchronized List<InternalCDORevision> getCurrentRevisions()
+  public List<InternalCDORevision> getCurrentRevisions()
   {
-    ArrayList<InternalCDORevision> simpleRevisions = new ArrayList<>();
-    Iterator<List<InternalCDORevision>> itr = revisions.values().iterator();
-    while (itr.hasNext())
+    Lock readLock = lock.readLock();
+    readLock.lock();
+
+    try
     {
-      List<InternalCDORevision> list = itr.next();
-      InternalCDORevision revision = list.get(list.size() - 1);
-      simpleRevisions.add(revision);
-    }
+      ArrayList<InternalCDORevision> simpleRevisions = new ArrayList<>();
+      Iterator<List<InternalCDORevision>> itr = revisions.values().iterator();
+      while (itr.hasNext())
+      {
+        List<InternalCDORevision> list = itr.next();
+        if (!list.isEmpty())
+        {
+          InternalCDORevision revision = list.get(list.size() - 1);
+          simpleRevisions.add(revision);
+        }
+      }
 
-    return simpleRevisions;
+      return simpleRevisions;
+    }
+    finally
+    {
+      readLock.unlock();
+    }
   }
 
-  public synchronized InternalCDORevision getRevisionByVersion(CDOID id, CDOBranchVersion branchVersion)
+  public InternalCDORevision getRevisionByVersion(CDOID id, CDOBranchVersion branchVersion)
   {
     Object listKey = createListKey(id, branchVersion.getBranch());
     List<InternalCDORevision> list = revisions.get(listKey);
@@ -571,13 +637,13 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
   /**
    * @since 2.0
    */
-  public synchronized InternalCDORevision getRevision(CDOID id, CDOBranchPoint branchPoint)
+  public InternalCDORevision getRevision(CDOID id, CDOBranchPoint branchPoint)
   {
     Object listKey = createListKey(id, branchPoint.getBranch());
     if (branchPoint.getTimeStamp() == CDORevision.UNSPECIFIED_DATE)
     {
       List<InternalCDORevision> list = revisions.get(listKey);
-      if (list == null)
+      if (list == null || list.isEmpty())
       {
         return null;
       }
@@ -599,7 +665,7 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
     return getRevision(list, branchPoint);
   }
 
-  public synchronized void addRevision(InternalCDORevision revision, boolean raw)
+  public void addRevision(InternalCDORevision revision, boolean raw)
   {
     InternalCDOBranch branch = revision.getBranch();
     if (branch.getBranchManager().getRepository() != getRepository())
@@ -607,225 +673,265 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
       throw new IllegalArgumentException("Branch does not belong to this repository: " + branch);
     }
 
-    Object listKey = createListKey(revision.getID(), branch);
-    List<InternalCDORevision> list = revisions.get(listKey);
-    if (list == null)
-    {
-      list = new ArrayList<>();
-      revisions.put(listKey, list);
-    }
+    Lock writeLock = lock.writeLock();
+    writeLock.lock();
 
-    addRevision(list, revision, raw);
+    try
+    {
+      Object listKey = createListKey(revision.getID(), branch);
+      addRevision(listKey, revision, raw);
 
-    if (raw)
+      if (raw)
+      {
+        ensureLastObjectID(revision.getID());
+      }
+    }
+    finally
     {
-      ensureLastObjectID(revision.getID());
+      writeLock.unlock();
     }
   }
 
-  public synchronized void addCommitInfo(CDOBranch branch, long timeStamp, long previousTimeStamp, String userID, String comment, CDOBranchPoint mergeSource)
+  public void addCommitInfo(CDOBranch branch, long timeStamp, long previousTimeStamp, String userID, String comment, CDOBranchPoint mergeSource)
   {
-    int index = commitInfos.size() - 1;
-    while (index >= 0)
-    {
-      CommitInfo info = commitInfos.get(index);
-      if (timeStamp > info.getTimeStamp())
-      {
-        break;
-      }
+    Lock writeLock = lock.writeLock();
+    writeLock.lock();
 
-      --index;
+    try
+    {
+      CommitInfo commitInfo = new CommitInfo(branch, timeStamp, previousTimeStamp, userID, comment, mergeSource);
+      commitInfos = commitInfos.add(commitInfo);
+    }
+    finally
+    {
+      writeLock.unlock();
     }
-
-    CommitInfo commitInfo = new CommitInfo(branch, timeStamp, previousTimeStamp, userID, comment, mergeSource);
-    commitInfos.add(index + 1, commitInfo);
   }
 
   /**
    * @since 2.0
    */
-  public synchronized boolean rollbackRevision(InternalCDORevision revision)
+  public boolean rollbackRevision(InternalCDORevision revision)
   {
     CDOID id = revision.getID();
     CDOBranch branch = revision.getBranch();
     int version = revision.getVersion();
 
-    Object listKey = createListKey(id, branch);
-    List<InternalCDORevision> list = revisions.get(listKey);
-    if (list == null)
-    {
-      return false;
-    }
+    Lock writeLock = lock.writeLock();
+    writeLock.lock();
 
-    for (Iterator<InternalCDORevision> it = list.iterator(); it.hasNext();)
+    try
     {
-      InternalCDORevision rev = it.next();
-      if (rev.getVersion() == version)
+      Object listKey = createListKey(id, branch);
+      List<InternalCDORevision> list = revisions.get(listKey);
+      if (list == null)
       {
-        it.remove();
-        return true;
+        return false;
       }
-      else if (rev.getVersion() == version - 1)
+
+      for (InternalCDORevision rev : list)
       {
-        rev.setRevised(CDORevision.UNSPECIFIED_DATE);
+        if (rev.getVersion() == version)
+        {
+          removeRevision(listKey, list, rev);
+          return true;
+        }
+        else if (rev.getVersion() == version - 1)
+        {
+          rev.setRevised(CDORevision.UNSPECIFIED_DATE);
+        }
       }
-    }
 
-    return false;
+      return false;
+    }
+    finally
+    {
+      writeLock.unlock();
+    }
   }
 
   /**
    * @since 3.0
    */
-  public synchronized DetachedCDORevision detachObject(CDOID id, CDOBranch branch, long timeStamp)
+  public DetachedCDORevision detachObject(CDOID id, CDOBranch branch, long timeStamp)
   {
-    Object listKey = createListKey(id, branch);
-    List<InternalCDORevision> list = revisions.get(listKey);
-    if (list != null)
+    Lock writeLock = lock.writeLock();
+    writeLock.lock();
+
+    try
     {
-      InternalCDORevision revision = getRevision(list, branch.getHead());
+      Object listKey = createListKey(id, branch);
+      List<InternalCDORevision> list = revisions.get(listKey);
+
+      InternalCDORevision revision = null;
+      int version;
+      if (list == null)
+      {
+        version = CDOBranchVersion.FIRST_VERSION;
+      }
+      else
+      {
+        revision = getRevision(list, branch.getHead());
+        version = getHighestVersion(list) + 1;
+      }
+
+      EClass eClass = getObjectType(id);
+      DetachedCDORevision detached = new DetachedCDORevision(eClass, id, branch, version, timeStamp);
+      addRevision(listKey, detached, false);
+
+      // Revise the former revision after the detached revision is published, so that concurrent readers don't miss
+      // both of them.
       if (revision != null)
       {
         revision.setRevised(timeStamp - 1);
       }
-    }
 
-    int version;
-    if (list == null)
-    {
-      list = new ArrayList<>();
-      revisions.put(listKey, list);
-      version = CDOBranchVersion.FIRST_VERSION;
+      return detached;
     }
-    else
+    finally
     {
-      version = getHighestVersion(list) + 1;
+      writeLock.unlock();
     }
-
-    EClass eClass = getObjectType(id);
-    DetachedCDORevision detached = new DetachedCDORevision(eClass, id, branch, version, timeStamp);
-    addRevision(list, detached, false);
-    return detached;
   }
 
   /**
    * @since 2.0
    */
-  public synchronized void queryResources(IStoreAccessor.QueryResourcesContext context)
+  public void queryResources(IStoreAccessor.QueryResourcesContext context)
   {
-    CDOID folderID = context.getFolderID();
-    String name = context.getName();
-    boolean exactMatch = context.exactMatch();
-    for (Map.Entry<Object, List<InternalCDORevision>> entry : revisions.entrySet())
+    Lock readLock = lock.readLock();
+    readLock.lock();
+
+    try
     {
-      CDOBranch branch = getBranch(entry.getKey());
-      if (branch != context.getBranch())
+      CDOID folderID = context.getFolderID();
+      String name = context.getName();
+      boolean exactMatch = context.exactMatch();
+      for (Map.Entry<Object, List<InternalCDORevision>> entry : revisions.entrySet())
       {
-        continue;
-      }
+        CDOBranch branch = getBranch(entry.getKey());
+        if (branch != context.getBranch())
+        {
+          continue;
+        }
 
-      List<InternalCDORevision> list = entry.getValue();
-      if (list.isEmpty())
-      {
-        continue;
-      }
+        List<InternalCDORevision> list = entry.getValue();
+        if (list.isEmpty())
+        {
+          continue;
+        }
 
-      InternalCDORevision revision = list.get(0);
-      if (revision instanceof SyntheticCDORevision)
-      {
-        continue;
-      }
+        InternalCDORevision revision = list.get(0);
+        if (revision instanceof SyntheticCDORevision)
+        {
+          continue;
+        }
 
-      if (!revision.isResourceNode())
-      {
-        continue;
-      }
+        if (!revision.isResourceNode())
+        {
+          continue;
+        }
 
-      revision = getRevision(list, context);
-      if (revision == null || revision instanceof DetachedCDORevision)
-      {
-        continue;
-      }
+        revision = getRevision(list, context);
+        if (revision == null || revision instanceof DetachedCDORevision)
+        {
+          continue;
+        }
 
-      CDOID revisionFolder = (CDOID)revision.data().getContainerID();
-      if (!CDOIDUtil.equals(revisionFolder, folderID))
-      {
-        continue;
-      }
+        CDOID revisionFolder = (CDOID)revision.data().getContainerID();
+        if (!CDOIDUtil.equals(revisionFolder, folderID))
+        {
+          continue;
+        }
 
-      String revisionName = (String)revision.data().get(resourceNameFeature, 0);
-      if (CDOTransactionImpl.isResourceMatch(revisionName, name, exactMatch))
-      {
-        if (!context.addResource(revision.getID()))
+        String revisionName = (String)revision.data().get(resourceNameFeature, 0);
+        if (CDOTransactionImpl.isResourceMatch(revisionName, name, exactMatch))
         {
-          // No more results allowed
-          break;
+          if (!context.addResource(revision.getID()))
+          {
+            // No more results allowed
+            break;
+          }
         }
       }
     }
+    finally
+    {
+      readLock.unlock();
+    }
   }
 
-  public synchronized void queryXRefs(QueryXRefsContext context)
+  public void queryXRefs(QueryXRefsContext context)
   {
-    Set<CDOID> targetIDs = context.getTargetObjects().keySet();
-    Map<EClass, List<EReference>> sourceCandidates = context.getSourceCandidates();
+    Lock readLock = lock.readLock();
+    readLock.lock();
 
-    for (Map.Entry<Object, List<InternalCDORevision>> entry : revisions.entrySet())
+    try
     {
-      CDOBranch branch = getBranch(entry.getKey());
-      if (branch != context.getBranch())
-      {
-        continue;
-      }
+      Set<CDOID> targetIDs = context.getTargetObjects().keySet();
+      Map<EClass, List<EReference>> sourceCandidates = context.getSourceCandidates();
 
-      List<InternalCDORevision> list = entry.getValue();
-      if (list.isEmpty())
+      for (Map.Entry<Object, List<InternalCDORevision>> entry : revisions.entrySet())
       {
-        continue;
-      }
+        CDOBranch branch = getBranch(entry.getKey());
+        if (branch != context.getBranch())
+        {
+          continue;
+        }
 
-      InternalCDORevision revision = getRevision(list, context);
-      if (revision == null || revision instanceof SyntheticCDORevision)
-      {
-        continue;
-      }
+        List<InternalCDORevision> list = entry.getValue();
+        if (list.isEmpty())
+        {
+          continue;
+        }
 
-      EClass eClass = revision.getEClass();
-      CDOID sourceID = revision.getID();
+        InternalCDORevision revision = getRevision(list, context);
+        if (revision == null || revision instanceof SyntheticCDORevision)
+        {
+          continue;
+        }
 
-      List<EReference> eReferences = sourceCandidates.get(eClass);
-      if (eReferences != null)
-      {
-        for (EReference eReference : eReferences)
+        EClass eClass = revision.getEClass();
+        CDOID sourceID = revision.getID();
+
+        List<EReference> eReferences = sourceCandidates.get(eClass);
+        if (eReferences != null)
         {
-          Object value = revision.getValue(eReference);
-          if (value != null)
+          for (EReference eReference : eReferences)
           {
-            if (eReference.isMany())
+            Object value = revision.getValue(eReference);
+            if (value != null)
             {
-              @SuppressWarnings("unchecked")
-              List<CDOID> ids = (List<CDOID>)value;
-              int index = 0;
-              for (CDOID id : ids)
+              if (eReference.isMany())
               {
-                if (!queryXRefs(context, targetIDs, id, sourceID, eReference, index++))
+                @SuppressWarnings("unchecked")
+                List<CDOID> ids = (List<CDOID>)value;
+                int index = 0;
+                for (CDOID id : ids)
                 {
-                  return;
+                  if (!queryXRefs(context, targetIDs, id, sourceID, eReference, index++))
+                  {
+                    return;
+                  }
                 }
               }
-            }
-            else
-            {
-              CDOID id = (CDOID)value;
-              if (!queryXRefs(context, targetIDs, id, sourceID, eReference, 0))
+              else
               {
-                return;
+                CDOID id = (CDOID)value;
+                if (!queryXRefs(context, targetIDs, id, sourceID, eReference, 0))
+                {
+                  return;
+                }
               }
             }
           }
         }
       }
     }
+    finally
+    {
+      readLock.unlock();
+    }
   }
 
   private boolean queryXRefs(QueryXRefsContext context, Set<CDOID> targetIDs, CDOID targetID, CDOID sourceID, EReference sourceReference, int index)
@@ -845,75 +951,91 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
     return true;
   }
 
-  public synchronized void rawExport(CDODataOutput out, int fromBranchID, int toBranchID, long fromCommitTime, long toCommitTime)
+  public void rawExport(CDODataOutput out, int fromBranchID, int toBranchID, long fromCommitTime, long toCommitTime)
   {
     // TODO: implement MEMStore.rawExport(out, fromBranchID, toBranchID, fromCommitTime, toCommitTime)
     throw new UnsupportedOperationException();
   }
 
-  public synchronized void rawImport(CDODataInput in, int fromBranchID, int toBranchID, long fromCommitTime, long toCommitTime, OMMonitor monitor)
+  public void rawImport(CDODataInput in, int fromBranchID, int toBranchID, long fromCommitTime, long toCommitTime, OMMonitor monitor)
   {
     // TODO: implement MEMStore.rawImport(in, fromBranchID, toBranchID, fromCommitTime, toCommitTime, monitor)
     throw new UnsupportedOperationException();
   }
 
-  public synchronized void rawDelete(CDOID id, int version, CDOBranch branch)
+  public void rawDelete(CDOID id, int version, CDOBranch branch)
   {
-    Object listKey = createListKey(id, branch);
-    List<InternalCDORevision> list = revisions.get(listKey);
-    if (list != null)
+    Lock writeLock = lock.writeLock();
+    writeLock.lock();
+
+    try
     {
-      for (Iterator<InternalCDORevision> it = list.iterator(); it.hasNext();)
+      Object listKey = createListKey(id, branch);
+      List<InternalCDORevision> list = revisions.get(listKey);
+      if (list != null)
       {
-        InternalCDORevision rev = it.next();
-        if (rev.getVersion() == version)
+        InternalCDORevision rev = getRevisionByVersion(list, version);
+        if (rev != null)
         {
-          it.remove();
-          break;
+          removeRevision(listKey, list, rev);
         }
       }
     }
+    finally
+    {
+      writeLock.unlock();
+    }
   }
 
   @Override
-  public synchronized LockArea createLockArea(String userID, CDOBranchPoint branchPoint, boolean readOnly, Map<CDOID, LockGrade> locks)
+  public LockArea createLockArea(String userID, CDOBranchPoint branchPoint, boolean readOnly, Map<CDOID, LockGrade> locks)
   {
     return createLockArea(null, userID, branchPoint, readOnly, locks);
   }
 
   @Override
-  public synchronized LockArea createLockArea(String durableLockingID, String userID, CDOBranchPoint branchPoint, boolean readOnly, Map<CDOID, LockGrade> locks)
+  public LockArea createLockArea(String durableLockingID, String userID, CDOBranchPoint branchPoint, boolean readOnly, Map<CDOID, LockGrade> locks)
   {
-    if (durableLockingID != null)
+    Lock writeLock = lock.writeLock();
+    writeLock.lock();
+
+    try
     {
-      // If the caller is specifying the ID, make sure there is no area with this ID yet
-      if (lockAreas.containsKey(durableLockingID))
+      if (durableLockingID != null)
       {
-        throw new LockAreaAlreadyExistsException(durableLockingID);
+        // If the caller is specifying the ID, make sure there is no area with this ID yet
+        if (lockAreas.containsKey(durableLockingID))
+        {
+          throw new LockAreaAlreadyExistsException(durableLockingID);
+        }
       }
+      else
+      {
+        do
+        {
+          durableLockingID = CDOLockUtil.createDurableLockingID();
+        } while (lockAreas.containsKey(durableLockingID));
+      }
+
+      LockArea area = CDOLockUtil.createLockArea(durableLockingID, userID, branchPoint, readOnly, locks);
+      lockAreas.put(durableLockingID, area);
+      return area;
     }
-    else
+    finally
     {
-      do
-      {
-        durableLockingID = CDOLockUtil.createDurableLockingID();
-      } while (lockAreas.containsKey(durableLockingID));
+      writeLock.unlock();
     }
-
-    LockArea area = CDOLockUtil.createLockArea(durableLockingID, userID, branchPoint, readOnly, locks);
-    lockAreas.put(durableLockingID, area);
-    return area;
   }
 
   @Override
-  public synchronized void updateLockArea(LockArea lockArea)
+  public void updateLockArea(LockArea lockArea)
   {
     String durableLockingID = lockArea.getDurableLockingID();
     lockAreas.put(durableLockingID, lockArea);
   }
 
   @Override
-  public synchronized LockArea getLockArea(String durableLockingID) throws LockAreaNotFoundException
+  public LockArea getLockArea(String durableLockingID) throws LockAreaNotFoundException
   {
     LockArea area = lockAreas.get(durableLockingID);
     if (area == null)
@@ -925,7 +1047,7 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
   }
 
   @Override
-  public synchronized void getLockAreas(String userIDPrefix, Handler handler)
+  public void getLockAreas(String userIDPrefix, Handler handler)
   {
     for (LockArea area : lockAreas.values())
     {
@@ -941,69 +1063,89 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
   }
 
   @Override
-  public synchronized void deleteLockArea(String durableLockingID)
+  public void deleteLockArea(String durableLockingID)
   {
     lockAreas.remove(durableLockingID);
   }
 
   @Override
-  public synchronized void lock(String durableLockingID, LockType type, Collection<? extends Object> objectsToLock)
+  public void lock(String durableLockingID, LockType type, Collection<? extends Object> objectsToLock)
   {
-    LockArea area = getLockArea(durableLockingID);
-    Map<CDOID, LockGrade> locks = area.getLocks();
+    Lock writeLock = lock.writeLock();
+    writeLock.lock();
 
-    InternalLockManager lockManager = getRepository().getLockingManager();
-    for (Object objectToLock : objectsToLock)
+    try
     {
-      CDOID id = lockManager.getLockKeyID(objectToLock);
-      LockGrade grade = locks.get(id);
-      if (grade != null)
-      {
-        grade = grade.getUpdated(type, true);
-      }
-      else
+      LockArea area = getLockArea(durableLockingID);
+      Map<CDOID, LockGrade> locks = area.getLocks();
+
+      InternalLockManager lockManager = getRepository().getLockingManager();
+      for (Object objectToLock : objectsToLock)
       {
-        grade = LockGrade.get(type);
-      }
+        CDOID id = lockManager.getLockKeyID(objectToLock);
+        LockGrade grade = locks.get(id);
+        if (grade != null)
+        {
+          grade = grade.getUpdated(type, true);
+        }
+        else
+        {
+          grade = LockGrade.get(type);
+        }
 
-      locks.put(id, grade);
+        locks.put(id, grade);
+      }
+    }
+    finally
+    {
+      writeLock.unlock();
     }
   }
 
   @Override
-  public synchronized void unlock(String durableLockingID, LockType type, Collection<? extends Object> objectsToUnlock)
+  public void unlock(String durableLockingID, LockType type, Collection<? extends Object> objectsToUnlock)
   {
-    LockArea area = getLockArea(durableLockingID);
-    Map<CDOID, LockGrade> locks = area.getLocks();
+    Lock writeLock = lock.writeLock();
+    writeLock.lock();
 
-    if (objectsToUnlock == null)
+    try
     {
-      locks.clear();
-    }
-    else
-    {
-      InternalLockManager lockManager = getRepository().getLockingManager();
-      for (Object objectToUnlock : objectsToUnlock)
+      LockArea area = getLockArea(durableLockingID);
+      Map<CDOID, LockGrade> locks = area.getLocks();
+
+      if (objectsToUnlock == null)
       {
-        CDOID id = lockManager.getLockKeyID(objectToUnlock);
-        LockGrade grade = locks.get(id);
-        if (grade != null)
+        locks.clear();
+      }
+      else
+      {
+        InternalLockManager lockManager = getRepository().getLockingManager();
+        for (Object objectToUnlock : objectsToUnlock)
         {
-          grade = grade.getUpdated(type, false);
-          if (grade == LockGrade.NONE)
+          CDOID id = lockManager.getLockKeyID(objectToUnlock);
+          LockGrade grade = locks.get(id);
+          if (grade != null)
           {
-            locks.remove(id);
-          }
-          else
-          {
-            locks.put(id, grade);
+            grade = grade.getUpdated(type, false);
+            if (grade == LockGrade.NONE)
+            {
+              locks.remove(id);
+            }
+            else
+            {
+              locks.put(id, grade);
+            }
           }
         }
       }
     }
+    finally
+    {
+      writeLock.unlock();
+    }
   }
 
-  public synchronized void queryLobs(List<byte[]> ids)
+  public void queryLobs(List<byte[]> ids)
   {
     for (Iterator<byte[]> it = ids.iterator(); it.hasNext();)
     {
@@ -1059,7 +1201,7 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
     }
   }
 
-  public synchronized void loadLob(byte[] id, OutputStream out) throws IOException
+  public void loadLob(byte[] id, OutputStream out) throws IOException
   {
     String key = HexUtil.bytesToHex(id);
     Object lob = lobs.get(key);
@@ -1082,14 +1224,14 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
     }
   }
 
-  public synchronized void writeBlob(byte[] id, long size, InputStream inputStream) throws IOException
+  public void writeBlob(byte[] id, long size, InputStream inputStream) throws IOException
   {
     ByteArrayOutputStream out = new ByteArrayOutputStream();
     IOUtil.copyBinary(inputStream, out, size);
     lobs.put(HexUtil.bytesToHex(id), out.toByteArray());
   }
 
-  public synchronized void writeClob(byte[] id, long size, Reader reader) throws IOException
+  public void writeClob(byte[] id, long size, Reader reader) throws IOException
   {
     CharArrayWriter out = new CharArrayWriter();
     IOUtil.copyCharacter(reader, out, size);
@@ -1133,33 +1275,43 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
   }
 
   @Override
-  public synchronized Map<CDOBranch, List<CDORevision>> getAllRevisions()
+  public Map<CDOBranch, List<CDORevision>> getAllRevisions()
   {
-    Map<CDOBranch, List<CDORevision>> result = new HashMap<>();
-    InternalCDOBranchManager branchManager = getRepository().getBranchManager();
-    result.put(branchManager.getMainBranch(), new ArrayList<CDORevision>());
+    Lock readLock = lock.readLock();
+    readLock.lock();
 
-    for (Integer branchID : branchInfos.keySet())
+    try
     {
-      InternalCDOBranch branch = branchManager.getBranch(branchID);
-      result.put(branch, new ArrayList<CDORevision>());
-    }
+      Map<CDOBranch, List<CDORevision>> result = new HashMap<>();
+      InternalCDOBranchManager branchManager = getRepository().getBranchManager();
+      result.put(branchManager.getMainBranch(), new ArrayList<CDORevision>());
 
-    for (List<InternalCDORevision> list : revisions.values())
-    {
-      for (InternalCDORevision revision : list)
+      for (Integer branchID : branchInfos.keySet())
       {
-        CDOBranch branch = revision.getBranch();
-        List<CDORevision> resultList = result.get(branch);
-        resultList.add(revision);
+        InternalCDOBranch branch = branchManager.getBranch(branchID);
+        result.put(branch, new ArrayList<CDORevision>());
       }
-    }
 
-    return result;
+      for (List<InternalCDORevision> list : revisions.values())
+      {
+        for (InternalCDORevision revision : list)
+        {
+          CDOBranch branch = revision.getBranch();
+          List<CDORevision> resultList = result.get(branch);
+          resultList.add(revision);
+        }
+      }
+
+      return result;
+    }
+    finally
+    {
+      readLock.unlock();
+    }
   }
 
   @Override
-  public synchronized EClass getObjectType(CDOID id)
+  public EClass getObjectType(CDOID id)
   {
     return objectTypes.get(id);
   }
@@ -1182,17 +1334,36 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
   @Override
   protected void doDeactivate() throws Exception
   {
-    revisions.clear();
-    branchInfos.clear();
-    commitInfos.clear();
-    objectTypes.clear();
-    properties.clear();
-    resourceNameFeature = null;
-    lastBranchID = 0;
-    lastLocalBranchID = 0;
+    Lock writeLock = lock.writeLock();
+    writeLock.lock();
+
+    try
+    {
+      revisions.clear();
+      branchInfos.clear();
+      commitInfos = CommitInfos.EMPTY;
+      objectTypes.clear();
+      properties.clear();
+      resourceNameFeature = null;
+      lastBranchID = 0;
+      lastLocalBranchID = 0;
+    }
+    finally
+    {
+      writeLock.unlock();
+    }
+
     super.doDeactivate();
   }
 
+  /**
+   * Returns the lock that a {@link MEMStoreAccessor writer} holds while it writes the changes of a commit.
+   */
+  Lock getWriteLock()
+  {
+    return lock.writeLock();
+  }
+
   @Override
   protected StoreAccessorPool getReaderPool(ISession session, boolean forReleasing)
   {
@@ -1257,8 +1428,11 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
   private InternalCDORevision getRevision(List<InternalCDORevision> list, CDOBranchPoint branchPoint)
   {
     long timeStamp = branchPoint.getTimeStamp();
-    for (InternalCDORevision revision : list)
+
+    // Search backwards because a writer publishes a new revision before it revises the former one.
+    for (int i = list.size() - 1; i >= 0; --i)
     {
+      InternalCDORevision revision = list.get(i);
       if (timeStamp == CDORevision.UNSPECIFIED_DATE)
       {
         if (!revision.isHistorical())
@@ -1278,7 +1452,10 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
     return null;
   }
 
-  private void addRevision(List<InternalCDORevision> list, InternalCDORevision revision, boolean raw)
+  /**
+   * Must be called with the write lock held.
+   */
+  private void addRevision(Object listKey, InternalCDORevision revision, boolean raw)
   {
     boolean resource = !(revision instanceof SyntheticCDORevision) && revision.isResourceNode();
     if (resource && resourceNameFeature == null)
@@ -1286,6 +1463,10 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
       resourceNameFeature = revision.getEClass().getEStructuralFeature(CDOModelConstants.RESOURCE_NODE_NAME_ATTRIBUTE);
     }
 
+    List<InternalCDORevision> oldList = revisions.get(listKey);
+    List<InternalCDORevision> list = oldList == null ? new ArrayList<>() : new ArrayList<>(oldList);
+    InternalCDORevision revisedRevision = null;
+
     if (!raw)
     {
       // Check version conflict
@@ -1306,7 +1487,7 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
         {
           if (getRepository().isSupportingAudits())
           {
-            oldRevision.setRevised(revision.getTimeStamp() - 1);
+            revisedRevision = oldRevision;
           }
           else
           {
@@ -1322,20 +1503,33 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
       }
     }
 
-    // Adjust the list
+    // Publish the new list
     list.add(revision);
-    if (listLimit != UNLIMITED)
+    revisions.put(listKey, enforceListLimit(Collections.unmodifiableList(list)));
+
+    EClass eClass = revision.getEClass();
+    if (eClass != null)
     {
-      enforceListLimit(list);
+      // Detached revisions of unknown objects have no class.
+      objectTypes.putIfAbsent(revision.getID(), eClass);
     }
 
-    CDOID id = revision.getID();
-    if (!objectTypes.containsKey(id))
+    if (revisedRevision != null)
     {
-      objectTypes.put(id, revision.getEClass());
+      revisedRevision.setRevised(revision.getTimeStamp() - 1);
     }
   }
 
+  /**
+   * Must be called with the write lock held.
+   */
+  private void removeRevision(Object listKey, List<InternalCDORevision> oldList, InternalCDORevision revision)
+  {
+    List<InternalCDORevision> list = new ArrayList<>(oldList);
+    list.remove(revision);
+    revisions.put(listKey, Collections.unmodifiableList(list));
+  }
+
   private void checkDuplicateResource(InternalCDORevision revision)
   {
     CDOID revisionFolder = (CDOID)revision.data().getContainerID();
@@ -1350,12 +1544,16 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
     }
   }
 
-  private void enforceListLimit(List<InternalCDORevision> list)
+  private List<InternalCDORevision> enforceListLimit(List<InternalCDORevision> list)
   {
-    while (list.size() > listLimit)
+    int listLimit = this.listLimit;
+    int size = list.size();
+    if (listLimit != UNLIMITED && size > listLimit)
     {
-      list.remove(0);
+      return Collections.unmodifiableList(new ArrayList<>(list.subList(size - listLimit, size)));
     }
+
+    return list;
   }
 
   /**
@@ -1396,6 +1594,79 @@ public class MEMStore extends LongIDStore implements IMEMStore, BranchLoader5, D
     }
   }
 
+  /**
+   * An immutable, sorted snapshot of the commit infos. The common case, appending a commit info with the highest time
+   * stamp, shares the array with the previous snapshot, which never looks beyond its own size.
+   *
+   * @author Eike Stepper
+   */
+  private static final class CommitInfos
+  {
+    public static final CommitInfos EMPTY = new CommitInfos(new CommitInfo[0], 0);
+
+    private final CommitInfo[] array;
+
+    private final int size;
+
+    private CommitInfos(CommitInfo[] array, int size)
+    {
+      this.array = array;
+      this.size = size;
+    }
+
+    public List<CommitInfo> asList()
+    {
+      return Collections.unmodifiableList(Arrays.asList(array).subList(0, size));
+    }
+
+    /**
+     * Must be called with the write lock held.
+     */
+    public CommitInfos add(CommitInfo commitInfo)
+    {
+      long timeStamp = commitInfo.getTimeStamp();
+
+      int index = size - 1;
+      while (index >= 0 && timeStamp <= array[index].getTimeStamp())
+      {
+        --index;
+      }
+
+      ++index;
+      if (index == size && size < array.length)
+      {
+        array[size] = commitInfo;
+        return new CommitInfos(array, size + 1);
+      }
+
+      CommitInfo[] newArray = new CommitInfo[Math.max(16, size + (size >> 1) + 1)];
+      System.arraycopy(array, 0, newArray, 0, index);
+      newArray[index] = commitInfo;
+      System.arraycopy(array, index, newArray, index + 1, size - index);
+      return new CommitInfos(newArray, size + 1);
+    }
+
+    /**
+     * Must be called with the write lock held.
+     */
+    public CommitInfos remove(Predicate<CommitInfo> filter)
+    {
+      CommitInfo[] newArray = new CommitInfo[array.length];
+      int newSize = 0;
+
+      for (int i = 0; i < size; i++)
+      {
+        CommitInfo commitInfo = array[i];
+        if (!filter.test(commitInfo))
+        {
+          newArray[newSize++] = commitInfo;
+        }
+      }
+
+      return newSize == size ? this : new CommitInfos(newArray, newSize);
+    }
+  }
+
   /**
    * @author Eike Stepper
    */
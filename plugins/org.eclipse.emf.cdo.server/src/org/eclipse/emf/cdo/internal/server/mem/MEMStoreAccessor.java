@@ -27,8 +27,9 @@ import org.eclipse.emf.cdo.common.revision.CDORevisionHandler;
 import org.eclipse.emf.cdo.common.util.CDOQueryInfo;
 import org.eclipse.emf.cdo.server.IQueryHandler;
 import org.eclipse.emf.cdo.server.ISession;
+import org.eclipse.emf.cdo.server.IStoreAccessor.CombinedXRefs;
 import org.eclipse.emf.cdo.server.IStoreAccessor.DurableLocking2;
-import org.eclipse.emf.cdo.server.IStoreAccessor.Raw2;
+import org.eclipse.emf.cdo.server.IStoreAccessor.Raw3;
 import org.eclipse.emf.cdo.server.ITransaction;
 import org.eclipse.emf.cdo.spi.common.branch.InternalCDOBranchManager.BranchLoader5;
 import org.eclipse.emf.cdo.spi.common.commit.CDOChangeSetSegment;
@@ -58,12 +59,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Consumer;
 
 /**
  * @author Simon McDuff
  */
-public class MEMStoreAccessor extends LongIDStoreAccessor implements Raw2, DurableLocking2, BranchLoader5
+public class MEMStoreAccessor extends LongIDStoreAccessor implements Raw3, DurableLocking2, BranchLoader5, CombinedXRefs
 {
   private final MEMStore store;
 
@@ -206,10 +208,18 @@ public class MEMStoreAccessor extends LongIDStoreAccessor implements Raw2, Durab
   @Override
   public void doWrite(InternalCommitContext context, OMMonitor monitor)
   {
-    synchronized (store)
+    // Readers that scan the store see either all or none of the changes of this commit.
+    Lock writeLock = store.getWriteLock();
+    writeLock.lock();
+
+    try
     {
       super.doWrite(context, monitor);
     }
+    finally
+    {
+      writeLock.unlock();
+    }
   }
 
   @Override
@@ -224,13 +234,20 @@ public class MEMStoreAccessor extends LongIDStoreAccessor implements Raw2, Durab
   {
     if (newRevisions != null)
     {
-      synchronized (store)
+      Lock writeLock = store.getWriteLock();
+      writeLock.lock();
+
+      try
       {
         for (InternalCDORevision revision : newRevisions)
         {
           store.rollbackRevision(revision);
         }
       }
+      finally
+      {
+        writeLock.unlock();
+      }
     }
   }
 
@@ -354,6 +371,25 @@ public class MEMStoreAccessor extends LongIDStoreAccessor implements Raw2, Durab
     store.addRevision(revision, true);
   }
 
+  @Override
+  public void rawStore(InternalCDORevision[] revisions, OMMonitor monitor)
+  {
+    Lock lock = store.getWriteLock();
+    lock.lock();
+
+    try
+    {
+      for (InternalCDORevision revision : revisions)
+      {
+        store.addRevision(revision, true);
+      }
+    }
+    finally
+    {
+      lock.unlock();
+    }
+  }
+
   @Override
   public void rawStore(byte[] id, long size, InputStream inputStream) throws IOException
   {
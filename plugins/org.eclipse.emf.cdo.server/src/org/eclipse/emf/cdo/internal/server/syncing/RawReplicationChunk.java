@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.internal.server.syncing;
+
+import org.eclipse.emf.cdo.common.branch.CDOBranchManager;
+import org.eclipse.emf.cdo.common.commit.CDOCommitInfoManager;
+import org.eclipse.emf.cdo.common.id.CDOIDProvider;
+import org.eclipse.emf.cdo.common.lob.CDOLobStore;
+import org.eclipse.emf.cdo.common.model.CDOPackageRegistry;
+import org.eclipse.emf.cdo.common.protocol.CDODataInput;
+import org.eclipse.emf.cdo.common.protocol.CDODataOutput;
+import org.eclipse.emf.cdo.common.revision.CDOListFactory;
+import org.eclipse.emf.cdo.common.revision.CDORevisionFactory;
+import org.eclipse.emf.cdo.common.security.CDOPermissionProvider;
+import org.eclipse.emf.cdo.spi.common.protocol.CDODataInputImpl;
+import org.eclipse.emf.cdo.spi.common.protocol.CDODataOutputImpl;
+import org.eclipse.emf.cdo.spi.server.InternalRepository;
+
+import org.eclipse.net4j.util.io.ExtendedDataInputStream;
+import org.eclipse.net4j.util.io.ExtendedDataOutputStream;
+import org.eclipse.net4j.util.io.IOUtil;
+import org.eclipse.net4j.util.io.TMPUtil;
+import org.eclipse.net4j.util.om.OMPlatform;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+
+/**
+ * The wire format of one chunk of a raw replication.
+ * <p>
+ * The master writes the chunk data as a sequence of length-prefixed frames, followed by an empty frame and a CRC-32 checksum.
+ * The clone spools the frames into a temporary file and verifies the checksum before the chunk data is imported,
+ * so that a broken or corrupted transfer never reaches the store.
+ *
+ * @author Eike Stepper
+ */
+public final class RawReplicationChunk
+{
+  private static final int FRAME_SIZE = OMPlatform.INSTANCE.getProperty("org.eclipse.emf.cdo.internal.server.syncing.RawReplicationChunk.FRAME_SIZE", //$NON-NLS-1$
+      64 * 1024);
+
+  private RawReplicationChunk()
+  {
+  }
+
+  /**
+   * Writes the data of a chunk on the master.
+   *
+   * @author Eike Stepper
+   */
+  public static class Output extends CDODataOutputImpl
+  {
+    private final CDODataOutput out;
+
+    private final FrameOutputStream frames;
+
+    public Output(CDODataOutput out)
+    {
+      this(out, new FrameOutputStream(out));
+    }
+
+    private Output(CDODataOutput out, FrameOutputStream frames)
+    {
+      super(new ExtendedDataOutputStream(frames));
+      this.out = out;
+      this.frames = frames;
+      frames.output = this;
+    }
+
+    /**
+     * Writes the last frame, the end marker and the checksum of this chunk.
+     */
+    public void finish() throws IOException
+    {
+      frames.finish();
+    }
+
+    @Override
+    public CDOPackageRegistry getPackageRegistry()
+    {
+      return out.getPackageRegistry();
+    }
+
+    @Override
+    public CDOIDProvider getIDProvider()
+    {
+      return out.getIDProvider();
+    }
+
+    @Override
+    public CDOPermissionProvider getPermissionProvider()
+    {
+      return out.getPermissionProvider();
+    }
+
+    @Override
+    protected boolean isXCompression()
+    {
+      return true;
+    }
+
+    /**
+     * Writes one frame of chunk data, after it has been added to the checksum, to the underlying output.
+     */
+    protected void writeFrame(byte[] buffer, int length) throws IOException
+    {
+      out.writeXInt(length);
+      out.write(buffer, 0, length);
+    }
+  }
+
+  /**
+   * Reads the data of a received and verified chunk on the clone.
+   *
+   * @author Eike Stepper
+   */
+  public static final class Input extends CDODataInputImpl
+  {
+    private final CDODataInput in;
+
+    private final InternalRepository repository;
+
+    private final File file;
+
+    private Input(CDODataInput in, InternalRepository repository, File file) throws IOException
+    {
+      super(new ExtendedDataInputStream(new BufferedInputStream(new FileInputStream(file))));
+      this.in = in;
+      this.repository = repository;
+      this.file = file;
+    }
+
+    @Override
+    public CDOPackageRegistry getPackageRegistry()
+    {
+      return in.getPackageRegistry();
+    }
+
+    @Override
+    protected CDOBranchManager getBranchManager()
+    {
+      return repository.getBranchManager();
+    }
+
+    @Override
+    protected CDOCommitInfoManager getCommitInfoManager()
+    {
+      return repository.getCommitInfoManager();
+    }
+
+    @Override
+    protected CDORevisionFactory getRevisionFactory()
+    {
+      return repository.getRevisionManager().getFactory();
+    }
+
+    @Override
+    protected CDOListFactory getListFactory()
+    {
+      return CDOListFactory.DEFAULT;
+    }
+
+    @Override
+    protected CDOLobStore getLobStore()
+    {
+      return null; // Not used on server
+    }
+
+    @Override
+    protected boolean isXCompression()
+    {
+      return true;
+    }
+
+    /**
+     * Closes this input and deletes the spooled chunk data.
+     */
+    @Override
+    public void close() throws IOException
+    {
+      try
+      {
+        super.close();
+      }
+      finally
+      {
+        IOUtil.delete(file);
+      }
+    }
+
+    /**
+     * Spools the frames of a chunk from the given input into a temporary file, verifies their checksum and returns an input
+     * that reads the chunk data from the file.
+     */
+    public static Input receive(CDODataInput in, InternalRepository repository) throws IOException
+    {
+      File file = TMPUtil.createTempFile("cdo_raw_replication_", ".chunk");
+      boolean success = false;
+
+      try
+      {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[FRAME_SIZE];
+
+        try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(file)))
+        {
+          for (;;)
+          {
+            int length = in.readXInt();
+            if (length == 0)
+            {
+              break;
+            }
+
+            if (length < 0)
+            {
+              throw new IOException("Invalid frame length in raw replication chunk: " + length); //$NON-NLS-1$
+            }
+
+            if (length > buffer.length)
+            {
+              buffer = new byte[length];
+            }
+
+            in.readFully(buffer, 0, length);
+            checksum.update(buffer, 0, length);
+            stream.write(buffer, 0, length);
+          }
+        }
+
+        long expectedChecksum = in.readLong();
+        if (checksum.getValue() != expectedChecksum)
+        {
+          throw new IOException("Checksum mismatch in raw replication chunk: expected " + expectedChecksum + ", actual " + checksum.getValue()); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        Input input = new Input(in, repository, file);
+        success = true;
+        return input;
+      }
+      finally
+      {
+        if (!success)
+        {
+          IOUtil.delete(file);
+        }
+      }
+    }
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  private static final class FrameOutputStream extends OutputStream
+  {
+    private final CDODataOutput out;
+
+    private final CRC32 checksum = new CRC32();
+
+    private final byte[] buffer = new byte[FRAME_SIZE];
+
+    private int length;
+
+    private Output output;
+
+    public FrameOutputStream(CDODataOutput out)
+    {
+      this.out = out;
+    }
+
+    @Override
+    public void write(int b) throws IOException
+    {
+      if (length == buffer.length)
+      {
+        writeFrame();
+      }
+
+      buffer[length++] = (byte)b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException
+    {
+      while (len > 0)
+      {
+        if (length == buffer.length)
+        {
+          writeFrame();
+        }
+
+        int n = Math.min(len, buffer.length - length);
+        System.arraycopy(b, off, buffer, length, n);
+        length += n;
+        off += n;
+        len -= n;
+      }
+    }
+
+    public void finish() throws IOException
+    {
+      writeFrame();
+      out.writeXInt(0);
+      out.writeLong(checksum.getValue());
+    }
+
+    private void writeFrame() throws IOException
+    {
+      if (length != 0)
+      {
+        checksum.update(buffer, 0, length);
+        output.writeFrame(buffer, length);
+        length = 0;
+      }
+    }
+  }
+}
@@ -17,6 +17,7 @@ import org.eclipse.emf.cdo.common.CDOCommonSession.Options.PassiveUpdateMode;
 import org.eclipse.emf.cdo.common.branch.CDOBranch;
 import org.eclipse.emf.cdo.common.branch.CDOBranchChangedEvent;
 import org.eclipse.emf.cdo.common.branch.CDOBranchChangedEvent.ChangeKind;
+import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
 import org.eclipse.emf.cdo.common.commit.CDOCommitInfo;
 import org.eclipse.emf.cdo.common.id.CDOID;
 import org.eclipse.emf.cdo.common.lock.CDOLockChangeInfo;
@@ -52,6 +53,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Eike Stepper
@@ -89,12 +91,25 @@ public class RepositorySynchronizer extends PriorityQueueRunner implements Inter
 
   private boolean rawReplication = true;
 
+  private int rawReplicationChunkSize = DEFAULT_RAW_REPLICATION_CHUNK_SIZE;
+
   private int maxRecommits = DEFAULT_MAX_RECOMMITS;
 
   private int recommitInterval = DEFAULT_RECOMMIT_INTERVAL;
 
   private Timer recommitTimer;
 
+  private int catchUpThreshold = DEFAULT_CATCH_UP_THRESHOLD;
+
+  private volatile boolean catchingUp;
+
+  private final AtomicInteger pendingCommits = new AtomicInteger();
+
+  /**
+   * The time stamp of the last master commit that this synchronizer knows of.
+   */
+  private volatile long lastMasterCommitTime = CDOBranchPoint.UNSPECIFIED_DATE;
+
   public RepositorySynchronizer()
   {
     setDaemon(true);
@@ -157,6 +172,18 @@ public class RepositorySynchronizer extends PriorityQueueRunner implements Inter
     this.rawReplication = rawReplication;
   }
 
+  @Override
+  public int getRawReplicationChunkSize()
+  {
+    return rawReplicationChunkSize;
+  }
+
+  @Override
+  public void setRawReplicationChunkSize(int rawReplicationChunkSize)
+  {
+    this.rawReplicationChunkSize = Math.max(rawReplicationChunkSize, 0);
+  }
+
   @Override
   public int getMaxRecommits()
   {
@@ -181,6 +208,37 @@ public class RepositorySynchronizer extends PriorityQueueRunner implements Inter
     this.recommitInterval = recommitInterval;
   }
 
+  @Override
+  public int getCatchUpThreshold()
+  {
+    return catchUpThreshold;
+  }
+
+  @Override
+  public void setCatchUpThreshold(int catchUpThreshold)
+  {
+    this.catchUpThreshold = catchUpThreshold;
+  }
+
+  @Override
+  public boolean isCatchingUp()
+  {
+    return catchingUp;
+  }
+
+  @Override
+  public int getPendingCommits()
+  {
+    return pendingCommits.get();
+  }
+
+  @Override
+  public long getReplicationLag()
+  {
+    long lastReplicatedCommitTime = localRepository.getLastReplicatedCommitTime();
+    return Math.max(0L, lastMasterCommitTime - lastReplicatedCommitTime);
+  }
+
   @Override
   public boolean isEmpty()
   {
@@ -247,6 +305,7 @@ public class RepositorySynchronizer extends PriorityQueueRunner implements Inter
 
   protected void handleConnect()
   {
+    updateLastMasterCommitTime(remoteSession.getLastUpdateTime());
     scheduleReplicate();
 
     remoteSession.addListener(remoteSessionListener);
@@ -292,6 +351,8 @@ public class RepositorySynchronizer extends PriorityQueueRunner implements Inter
   private void reconnect()
   {
     clearQueue();
+    pendingCommits.set(0);
+
     if (isActive())
     {
       scheduleConnect();
@@ -319,10 +380,19 @@ public class RepositorySynchronizer extends PriorityQueueRunner implements Inter
   {
     if (isActive())
     {
+      catchingUp = true;
       addWork(new ReplicateRunnable());
     }
   }
 
+  private void updateLastMasterCommitTime(long timeStamp)
+  {
+    if (timeStamp > lastMasterCommitTime)
+    {
+      lastMasterCommitTime = timeStamp;
+    }
+  }
+
   private void sleepRetryInterval()
   {
     long end = System.currentTimeMillis() + 1000L * retryInterval;
@@ -369,6 +439,8 @@ public class RepositorySynchronizer extends PriorityQueueRunner implements Inter
         CDOSessionInvalidationEvent e = (CDOSessionInvalidationEvent)event;
         if (e.isRemote())
         {
+          updateLastMasterCommitTime(e.getTimeStamp());
+          pendingCommits.incrementAndGet();
           addWork(new CommitRunnable(e));
         }
       }
@@ -529,6 +601,10 @@ public class RepositorySynchronizer extends PriorityQueueRunner implements Inter
           handleDisconnect();
         }
       }
+      finally
+      {
+        catchingUp = false;
+      }
     }
 
     @Override
@@ -667,6 +743,8 @@ public class RepositorySynchronizer extends PriorityQueueRunner implements Inter
   {
     private CDOCommitInfo commitInfo;
 
+    private boolean dequeued;
+
     public CommitRunnable(CDOCommitInfo commitInfo)
     {
       this.commitInfo = commitInfo;
@@ -675,6 +753,37 @@ public class RepositorySynchronizer extends PriorityQueueRunner implements Inter
     @Override
     protected void doRun()
     {
+      if (!dequeued)
+      {
+        dequeued = true;
+        pendingCommits.decrementAndGet();
+      }
+
+      if (commitInfo.getTimeStamp() <= localRepository.getLastReplicatedCommitTime())
+      {
+        // This commit has already been replicated in catch-up mode.
+        return;
+      }
+
+      if (catchingUp)
+      {
+        // The queued replication covers this commit.
+        return;
+      }
+
+      int threshold = catchUpThreshold;
+      if (threshold > 0 && pendingCommits.get() >= threshold)
+      {
+        if (TRACER.isEnabled())
+        {
+          TRACER.format("{0} master commits are pending. Catching up...", pendingCommits.get() + 1); //$NON-NLS-1$
+        }
+
+        // Replicate this and all pending commits in one batch. The pending commits are skipped afterwards.
+        scheduleReplicate();
+        return;
+      }
+
       localRepository.handleCommitInfo(commitInfo);
     }
 
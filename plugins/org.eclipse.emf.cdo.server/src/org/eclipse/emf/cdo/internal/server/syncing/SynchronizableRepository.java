@@ -440,9 +440,13 @@ public abstract class SynchronizableRepository extends Repository.Default implem
       long fromCommitTime = lastReplicatedCommitTime + 1L;
       long toCommitTime = in.readXLong();
 
-      StoreThreadLocal.setSession(replicatorSession);
-      IStoreAccessor.Raw accessor = (IStoreAccessor.Raw)StoreThreadLocal.getAccessor();
-      accessor.rawImport(in, fromBranchID, toBranchID, fromCommitTime, toCommitTime, monitor);
+      // Receive and verify the complete chunk before anything is imported.
+      try (RawReplicationChunk.Input chunk = RawReplicationChunk.Input.receive(in, this))
+      {
+        StoreThreadLocal.setSession(replicatorSession);
+        IStoreAccessor.Raw accessor = (IStoreAccessor.Raw)StoreThreadLocal.getAccessor();
+        accessor.rawImport(chunk, fromBranchID, toBranchID, fromCommitTime, toCommitTime, monitor);
+      }
 
       replicateRawReviseRevisions();
       replicateRawReloadLocks();
@@ -451,6 +455,7 @@ public abstract class SynchronizableRepository extends Repository.Default implem
       setLastReplicatedBranchID(toBranchID);
       setLastReplicatedCommitTime(toCommitTime);
       setLastCommitTimeStamp(toCommitTime);
+      saveReplicationCheckpoint();
     }
     finally
     {
@@ -458,6 +463,12 @@ public abstract class SynchronizableRepository extends Repository.Default implem
     }
   }
 
+  @Override
+  public int getRawReplicationChunkSize()
+  {
+    return synchronizer.getRawReplicationChunkSize();
+  }
+
   @Override
   public void goOnline()
   {
@@ -613,19 +624,27 @@ public abstract class SynchronizableRepository extends Repository.Default implem
     if (!store.isFirstStart())
     {
       Map<String, String> map = store.getPersistentProperties(Collections.singleton(PROP_GRACEFULLY_SHUT_DOWN));
-      if (!map.containsKey(PROP_GRACEFULLY_SHUT_DOWN))
+      // The counters are persisted on shutdown and after each raw replication chunk.
+      Set<String> names = new HashSet<>();
+      names.add(PROP_LAST_REPLICATED_BRANCH_ID);
+      names.add(PROP_LAST_REPLICATED_COMMIT_TIME);
+
+      Map<String, String> counters = store.getPersistentProperties(names);
+      boolean checkpoint = counters.containsKey(PROP_LAST_REPLICATED_BRANCH_ID) && counters.containsKey(PROP_LAST_REPLICATED_COMMIT_TIME);
+      if (checkpoint)
       {
-        setReplicationCountersToLatest();
+        setLastReplicatedBranchID(Integer.valueOf(counters.get(PROP_LAST_REPLICATED_BRANCH_ID)));
+        setLastReplicatedCommitTime(Long.valueOf(counters.get(PROP_LAST_REPLICATED_COMMIT_TIME)));
       }
-      else
-      {
-        Set<String> names = new HashSet<>();
-        names.add(PROP_LAST_REPLICATED_BRANCH_ID);
-        names.add(PROP_LAST_REPLICATED_COMMIT_TIME);
 
-        map = store.getPersistentProperties(names);
-        setLastReplicatedBranchID(Integer.valueOf(map.get(PROP_LAST_REPLICATED_BRANCH_ID)));
-        setLastReplicatedCommitTime(Long.valueOf(map.get(PROP_LAST_REPLICATED_COMMIT_TIME)));
+      if (!map.containsKey(PROP_GRACEFULLY_SHUT_DOWN))
+      {
+        // After a crash the checkpoint of the last raw replication chunk wins, unless commits have been replicated
+        // one by one after that chunk. Only those leave the checkpoint behind the store.
+        if (!checkpoint || store.getLastNonLocalCommitTime() > lastReplicatedCommitTime)
+        {
+          setReplicationCountersToLatest();
+        }
       }
     }
 
@@ -698,6 +717,19 @@ public abstract class SynchronizableRepository extends Repository.Default implem
     // Do nothing (keep INITIAL)
   }
 
+  /**
+   * Persists the replication counters, so that a replication that is interrupted by a crash resumes from here.
+   */
+  protected void saveReplicationCheckpoint()
+  {
+    Map<String, String> map = new HashMap<>();
+    map.put(PROP_LAST_REPLICATED_BRANCH_ID, Integer.toString(lastReplicatedBranchID));
+    map.put(PROP_LAST_REPLICATED_COMMIT_TIME, Long.toString(lastReplicatedCommitTime));
+
+    InternalStore store = getStore();
+    store.setPersistentProperties(map);
+  }
+
   protected void setReplicationCountersToLatest()
   {
     setLastReplicatedBranchID(getStore().getLastBranchID());
@@ -49,20 +49,34 @@ import org.eclipse.net4j.util.WrappedException;
 import org.eclipse.net4j.util.io.ExtendedDataOutputStream;
 import org.eclipse.net4j.util.io.XMLOutput;
 import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
+import org.eclipse.net4j.util.om.OMPlatform;
 
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
 import org.xml.sax.SAXException;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 /**
@@ -988,11 +1002,37 @@ public abstract class CDOServerExporter<OUT>
    */
   public static class Binary extends CDOServerExporter<CDODataOutput> implements BinaryConstants
   {
+    private static final int PARALLELISM = OMPlatform.INSTANCE.getProperty("org.eclipse.emf.cdo.server.CDOServerExporter.Binary.PARALLELISM", 1); //$NON-NLS-1$
+
+    private static final int CHUNK_SIZE = 1 << 20;
+
+    private int parallelism = PARALLELISM;
+
     public Binary(IRepository repository)
     {
       super(repository);
     }
 
+    /**
+     * @since 4.23
+     */
+    public int getParallelism()
+    {
+      return parallelism;
+    }
+
+    /**
+     * Sets the maximum number of store readers that export the revisions of a branch in parallel, one concrete class at
+     * a time. All revisions of a class are exported by the same reader, so that the versions of an object keep their
+     * order in the output. The default is <code>1</code>, which exports the revisions of a branch sequentially.
+     *
+     * @since 4.23
+     */
+    public void setParallelism(int parallelism)
+    {
+      this.parallelism = parallelism;
+    }
+
     @Override
     protected CDODataOutput createOutput(OutputStream out) throws Exception
     {
@@ -1104,6 +1144,201 @@ public abstract class CDOServerExporter<OUT>
       }
     }
 
+    @Override
+    protected void exportRevisions(CDODataOutput out, CDOBranch branch) throws Exception
+    {
+      if (parallelism > 1)
+      {
+        exportRevisionsInParallel(out, branch);
+      }
+      else
+      {
+        super.exportRevisions(out, branch);
+      }
+    }
+
+    /**
+     * Encodes the revisions of the given branch class by class, for the {@link #getInstanceClasses() classes that can
+     * have instances}, with up to {@link #getParallelism()} separate
+     * {@link IStore#getReader(ISession) readers} on the {@link InternalRepository#getExecutorService() executor
+     * service} of the repository. The encoded revisions are passed to the calling thread in chunks of about
+     * {@link #CHUNK_SIZE} bytes and written to the given output there.
+     */
+    private void exportRevisionsInParallel(CDODataOutput out, CDOBranch branch) throws Exception
+    {
+      Queue<EClass> eClasses = new ConcurrentLinkedQueue<>(getInstanceClasses());
+      int workers = Math.min(parallelism, eClasses.size());
+
+      BlockingQueue<RevisionChunk> chunks = new ArrayBlockingQueue<>(2 * workers);
+      AtomicBoolean canceled = new AtomicBoolean();
+
+      InternalSession session = StoreThreadLocal.getSession();
+      IStore store = repository.getStore();
+      ExecutorService executorService = repository.getExecutorService();
+
+      List<Future<?>> futures = new ArrayList<>(workers);
+      for (int i = 0; i < workers; i++)
+      {
+        futures.add(executorService.submit(() -> {
+          IStoreAccessor reader = store.getReader(session);
+          StoreThreadLocal.setAccessor(reader);
+
+          try
+          {
+            exportClasses(eClasses, branch, chunks, canceled);
+          }
+          catch (Exception | Error ex)
+          {
+            canceled.set(true);
+            throw ex;
+          }
+          finally
+          {
+            StoreThreadLocal.release();
+            chunks.put(RevisionChunk.END);
+          }
+
+          return null;
+        }));
+      }
+
+      Throwable exception = null;
+      Statistics statistics = getStatistics();
+
+      for (int finished = 0; finished < workers;)
+      {
+        RevisionChunk chunk;
+
+        try
+        {
+          chunk = chunks.take();
+        }
+        catch (InterruptedException ex)
+        {
+          canceled.set(true);
+          futures.forEach(future -> future.cancel(true));
+          throw ex;
+        }
+
+        if (chunk == RevisionChunk.END)
+        {
+          ++finished;
+        }
+        else if (exception == null)
+        {
+          try
+          {
+            out.write(chunk.bytes);
+            statistics.revisions += chunk.revisions;
+          }
+          catch (Exception | Error ex)
+          {
+            // Keep taking chunks until all workers are finished, so that none of them blocks forever.
+            exception = ex;
+            canceled.set(true);
+          }
+        }
+      }
+
+      for (Future<?> future : futures)
+      {
+        try
+        {
+          future.get();
+        }
+        catch (ExecutionException ex)
+        {
+          if (exception == null)
+          {
+            exception = ex.getCause();
+          }
+        }
+      }
+
+      if (exception instanceof Error)
+      {
+        throw (Error)exception;
+      }
+
+      if (exception != null)
+      {
+        throw (Exception)exception;
+      }
+    }
+
+    private void exportClasses(Queue<EClass> eClasses, CDOBranch branch, BlockingQueue<RevisionChunk> chunks, AtomicBoolean canceled) throws Exception
+    {
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream(CHUNK_SIZE);
+      CDODataOutput out = createOutput(buffer);
+      int[] revisions = { 0 };
+
+      EClass eClass;
+      while (!canceled.get() && (eClass = eClasses.poll()) != null)
+      {
+        repository.handleRevisions(eClass, branch, true, getTimeStamp(), false, new CDORevisionHandler()
+        {
+          @Override
+          public boolean handleRevision(CDORevision revision)
+          {
+            try
+            {
+              exportRevision(out, revision);
+              ++revisions[0];
+
+              if (buffer.size() >= CHUNK_SIZE)
+              {
+                chunks.put(new RevisionChunk(buffer.toByteArray(), revisions[0]));
+                buffer.reset();
+                revisions[0] = 0;
+              }
+
+              return !canceled.get();
+            }
+            catch (Exception ex)
+            {
+              throw WrappedException.wrap(ex);
+            }
+          }
+        });
+      }
+
+      if (revisions[0] != 0)
+      {
+        chunks.put(new RevisionChunk(buffer.toByteArray(), revisions[0]));
+      }
+    }
+
+    /**
+     * Returns the classes that the store can have instances of, so that no mappings or persistent structures are
+     * created for the other classes. Falls back to all concrete classes if the store doesn't know these classes.
+     */
+    private Collection<EClass> getInstanceClasses()
+    {
+      IStoreAccessor accessor = StoreThreadLocal.getAccessor();
+      if (accessor instanceof IStoreAccessor.InstanceClasses)
+      {
+        return ((IStoreAccessor.InstanceClasses)accessor).getInstanceClasses();
+      }
+
+      List<EClass> result = new ArrayList<>();
+      for (InternalCDOPackageInfo packageInfo : repository.getPackageRegistry(false).getPackageInfos())
+      {
+        for (EClassifier classifier : packageInfo.getEPackage().getEClassifiers())
+        {
+          if (classifier instanceof EClass)
+          {
+            EClass eClass = (EClass)classifier;
+            if (!eClass.isAbstract() && !eClass.isInterface())
+            {
+              result.add(eClass);
+            }
+          }
+        }
+      }
+
+      return result;
+    }
+
     @Override
     protected OutputStream startBlob(final CDODataOutput out, byte[] id, long size) throws Exception
     {
@@ -1188,5 +1423,23 @@ public abstract class CDOServerExporter<OUT>
         out.writeBoolean(false);
       }
     }
+
+    /**
+     * @author Eike Stepper
+     */
+    private static final class RevisionChunk
+    {
+      public static final RevisionChunk END = new RevisionChunk(null, 0);
+
+      public final byte[] bytes;
+
+      public final int revisions;
+
+      public RevisionChunk(byte[] bytes, int revisions)
+      {
+        this.bytes = bytes;
+        this.revisions = revisions;
+      }
+    }
   }
 }
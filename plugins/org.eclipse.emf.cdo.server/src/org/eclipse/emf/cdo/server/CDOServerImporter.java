@@ -36,6 +36,7 @@ import org.eclipse.emf.cdo.common.revision.CDORevisionHandler;
 import org.eclipse.emf.cdo.internal.server.ServerDebugUtil;
 import org.eclipse.emf.cdo.server.CDOServerExporter.Statistics;
 import org.eclipse.emf.cdo.server.IStoreAccessor.Raw2;
+import org.eclipse.emf.cdo.server.IStoreAccessor.Raw3;
 import org.eclipse.emf.cdo.spi.common.branch.InternalCDOBranch;
 import org.eclipse.emf.cdo.spi.common.branch.InternalCDOBranchManager;
 import org.eclipse.emf.cdo.spi.common.model.InternalCDOPackageInfo;
@@ -54,6 +55,7 @@ import org.eclipse.net4j.util.io.AsyncWriter;
 import org.eclipse.net4j.util.io.ExtendedDataInputStream;
 import org.eclipse.net4j.util.io.IOUtil;
 import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
+import org.eclipse.net4j.util.om.OMPlatform;
 import org.eclipse.net4j.util.om.monitor.Monitor;
 import org.eclipse.net4j.util.om.monitor.OMMonitor;
 
@@ -96,12 +98,16 @@ public abstract class CDOServerImporter
 {
   private static final boolean DEBUG_WITH_BROWSER = false;
 
+  private static final int BATCH_SIZE = OMPlatform.INSTANCE.getProperty("org.eclipse.emf.cdo.server.CDOServerImporter.BATCH_SIZE", 1000); //$NON-NLS-1$
+
   private InternalRepository repository;
 
   private String branchPath;
 
   private long timeStamp = CDOBranchPoint.INVALID_DATE;
 
+  private int batchSize = BATCH_SIZE;
+
   private final Statistics statistics = new Statistics();
 
   public CDOServerImporter(IRepository repository)
@@ -142,6 +148,25 @@ public abstract class CDOServerImporter
     this.timeStamp = timeStamp;
   }
 
+  /**
+   * @since 4.23
+   */
+  public int getBatchSize()
+  {
+    return batchSize;
+  }
+
+  /**
+   * Sets the number of revisions that are passed to the {@link IStoreAccessor.Raw3#rawStore(InternalCDORevision[], OMMonitor)
+   * rawStore()} method of the store at once, if the store supports it. The default is <code>1000</code>.
+   *
+   * @since 4.23
+   */
+  public void setBatchSize(int batchSize)
+  {
+    this.batchSize = batchSize;
+  }
+
   private void init()
   {
     LifecycleUtil.checkInactive(repository);
@@ -229,6 +254,8 @@ public abstract class CDOServerImporter
 
     private IStoreAccessor.Raw accessor;
 
+    private List<InternalCDORevision> revisions;
+
     private Map<String, String> models = new HashMap<>();
 
     private LinkedList<InternalCDOPackageUnit> packageUnits = new LinkedList<>();
@@ -260,6 +287,11 @@ public abstract class CDOServerImporter
       accessor = (IStoreAccessor.Raw)repository.getStore().getWriter(null);
       StoreThreadLocal.setAccessor(accessor);
 
+      if (accessor instanceof Raw3 && batchSize > 1)
+      {
+        revisions = new ArrayList<>(batchSize);
+      }
+
       if (DEBUG_WITH_BROWSER)
       {
         ServerDebugUtil.addAccessor(accessor);
@@ -336,6 +368,7 @@ public abstract class CDOServerImporter
     public InternalCDOBranch handleBranch(int id, String name, long time, int parentID)
     {
       ++statistics.branches;
+      storeRevisions();
 
       InternalCDOBranchManager branchManager = repository.getBranchManager();
       if (id == CDOBranch.MAIN_BRANCH_ID)
@@ -351,7 +384,20 @@ public abstract class CDOServerImporter
     public boolean handleRevision(CDORevision revision)
     {
       ++statistics.revisions;
-      accessor.rawStore((InternalCDORevision)revision, monitor);
+
+      if (revisions != null)
+      {
+        revisions.add((InternalCDORevision)revision);
+        if (revisions.size() >= batchSize)
+        {
+          storeRevisions();
+        }
+      }
+      else
+      {
+        accessor.rawStore((InternalCDORevision)revision, monitor);
+      }
+
       return true;
     }
 
@@ -359,6 +405,8 @@ public abstract class CDOServerImporter
     public OutputStream handleBlob(final byte[] id, final long size) throws IOException
     {
       ++statistics.blobs;
+      storeRevisions();
+
       return new AsyncOutputStream()
       {
         @Override
@@ -373,6 +421,8 @@ public abstract class CDOServerImporter
     public Writer handleClob(final byte[] id, final long size) throws IOException
     {
       ++statistics.clobs;
+      storeRevisions();
+
       return new AsyncWriter()
       {
         @Override
@@ -393,6 +443,7 @@ public abstract class CDOServerImporter
     public void handleCommitInfo(long time, long previous, int branchID, String user, String comment, int mergeSourceBranchID, long mergeSourceTime)
     {
       ++statistics.commits;
+      storeRevisions();
 
       CDOBranch branch = repository.getBranchManager().getBranch(branchID);
       if (mergeSourceBranchID != 0 && accessor instanceof Raw2)
@@ -412,9 +463,20 @@ public abstract class CDOServerImporter
     @Override
     public void flush()
     {
+      storeRevisions();
       accessor.rawCommit(1.0, monitor);
     }
 
+    private void storeRevisions()
+    {
+      if (revisions != null && !revisions.isEmpty())
+      {
+        Raw3 raw3 = (Raw3)accessor;
+        raw3.rawStore(revisions.toArray(new InternalCDORevision[revisions.size()]), monitor);
+        revisions.clear();
+      }
+    }
+
     private void collectPackageInfos()
     {
       if (packageInfos != null)
@@ -342,6 +342,15 @@ public interface IRepository extends CDOCommonRepository, IQueryHandlerProvider,
      */
     public static final String SERIALIZE_COMMITS = "serializeCommits"; //$NON-NLS-1$
 
+    /**
+     * If <code>true</code> the revisions of a commit are computed and validated before the commit timestamp is assigned.
+     * If the repository is also {@link #SERIALIZE_COMMITS serializing commits}, only the timestamp assignment, the store
+     * write and the commit notifications are serialized, so that a commit is validated while the previous one is written.
+     *
+     * @since 4.23
+     */
+    public static final String PIPELINE_COMMITS = "pipelineCommits"; //$NON-NLS-1$
+
     /**
      * @since 3.0
      */
@@ -369,6 +378,39 @@ public interface IRepository extends CDOCommonRepository, IQueryHandlerProvider,
      */
     public static final String OPTIMISTIC_LOCKING_TIMEOUT = "optimisticLockingTimeout"; //$NON-NLS-1$
 
+    /**
+     * The number of independently locked stripes of the server-side revision cache.
+     *
+     * @see org.eclipse.emf.cdo.common.revision.CDORevisionUtil#createRevisionCache(boolean, boolean, int)
+     * @since 4.23
+     */
+    public static final String REVISION_CACHE_CONCURRENCY_LEVEL = "revisionCacheConcurrencyLevel"; //$NON-NLS-1$
+
+    /**
+     * The memory budget in bytes of the server-side revision cache. If set to a positive value the cache evicts
+     * revisions when their estimated footprint exceeds the budget, independent of the garbage collector.
+     *
+     * @see org.eclipse.emf.cdo.common.revision.CDORevisionUtil#createRevisionCache(boolean, boolean, int, long)
+     * @since 4.23
+     */
+    public static final String REVISION_CACHE_MAX_BYTES = "revisionCacheMaxBytes"; //$NON-NLS-1$
+
+    /**
+     * The size in bytes of the memory-mapped file into which revisions are demoted when they are evicted from the
+     * server-side revision cache. Only effective together with {@link #REVISION_CACHE_MAX_BYTES}.
+     *
+     * @since 4.23
+     */
+    public static final String REVISION_CACHE_OFF_HEAP_BYTES = "revisionCacheOffHeapBytes"; //$NON-NLS-1$
+
+    /**
+     * The folder in which the memory-mapped file of {@link #REVISION_CACHE_OFF_HEAP_BYTES} is created. Defaults to the
+     * temporary folder of the JVM.
+     *
+     * @since 4.23
+     */
+    public static final String REVISION_CACHE_OFF_HEAP_FOLDER = "revisionCacheOffHeapFolder"; //$NON-NLS-1$
+
     /**
      * @since 4.0
      * @deprecated As of 4.2 instances of Ecore are always supported (on demand).
@@ -40,6 +40,16 @@ public interface IRepositorySynchronizer extends IContainer<CDOSession>
    */
   public static final int DEFAULT_RECOMMIT_INTERVAL = 1;
 
+  /**
+   * @since 4.23
+   */
+  public static final int DEFAULT_CATCH_UP_THRESHOLD = 100;
+
+  /**
+   * @since 4.23
+   */
+  public static final int DEFAULT_RAW_REPLICATION_CHUNK_SIZE = 1000;
+
   public int getRetryInterval();
 
   public void setRetryInterval(int retryInterval);
@@ -57,6 +67,22 @@ public interface IRepositorySynchronizer extends IContainer<CDOSession>
    */
   public void setRawReplication(boolean rawReplication);
 
+  /**
+   * Returns the maximum number of master commits that are transferred in one chunk of a {@link #isRawReplication() raw} replication,
+   * or zero if all missing commits are transferred in a single chunk.
+   * <p>
+   * Each chunk is verified with a checksum and imported in its own store transaction. After each chunk the local repository
+   * records a replication checkpoint, so that an interrupted replication resumes after the last imported chunk.
+   *
+   * @since 4.23
+   */
+  public int getRawReplicationChunkSize();
+
+  /**
+   * @since 4.23
+   */
+  public void setRawReplicationChunkSize(int rawReplicationChunkSize);
+
   public int getMaxRecommits();
 
   public void setMaxRecommits(int maxRecommits);
@@ -64,4 +90,45 @@ public interface IRepositorySynchronizer extends IContainer<CDOSession>
   public int getRecommitInterval();
 
   public void setRecommitInterval(int recommitInterval);
+
+  /**
+   * Returns the number of received master commits that can wait for replication before this synchronizer switches to
+   * catch-up mode, or zero if catch-up mode is disabled.
+   * <p>
+   * In catch-up mode the queued master commits are not applied one by one. Instead all commits that the local repository is missing
+   * are replicated in one batch, {@link #isRawReplication() raw} if enabled. Afterwards the synchronizer switches back to
+   * replicating the master commits one by one.
+   *
+   * @since 4.23
+   */
+  public int getCatchUpThreshold();
+
+  /**
+   * @since 4.23
+   */
+  public void setCatchUpThreshold(int catchUpThreshold);
+
+  /**
+   * Returns <code>true</code> if this synchronizer is currently replicating all missing master commits in one batch,
+   * <code>false</code> otherwise.
+   *
+   * @since 4.23
+   */
+  public boolean isCatchingUp();
+
+  /**
+   * Returns the number of master commits that have been received but not yet replicated.
+   * The commits that are replicated in catch-up mode are not counted.
+   *
+   * @since 4.23
+   */
+  public int getPendingCommits();
+
+  /**
+   * Returns the number of milliseconds between the last known master commit and the last commit that has been replicated
+   * into the local repository.
+   *
+   * @since 4.23
+   */
+  public long getReplicationLag();
 }
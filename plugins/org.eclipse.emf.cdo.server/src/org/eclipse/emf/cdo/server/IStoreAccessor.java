@@ -863,6 +863,35 @@ public interface IStoreAccessor extends IQueryHandlerProvider, BranchLoader, Com
         OMMonitor monitor);
   }
 
+  /**
+   * An extension interface for {@link IStoreAccessor store accessors} that can store <i>raw revisions</i> in batches,
+   * as needed by {@link CDOServerImporter server importers} that bulk load a new repository.
+   *
+   * @author Eike Stepper
+   * @since 4.23
+   */
+  public interface Raw3 extends Raw2
+  {
+    /**
+     * Stores the given {@link CDORevision revisions} in the backend represented by this {@link IStoreAccessor.Raw raw
+     * store accessor}, as if {@link #rawStore(InternalCDORevision, OMMonitor) rawStore()} was called for each of them
+     * in the given order.
+     * <p>
+     * The implementor of this method may defer the creation of secondary backend indexes until the next call to the
+     * {@link #rawCommit(double, OMMonitor) rawCommit()} method.
+     *
+     * @param revisions
+     *          the revisions to be stored in the backend represented by this {@link IStoreAccessor.Raw raw store
+     *          accessor}.
+     * @param monitor
+     *          a progress monitor that <b>may be</b> used to report proper progress of this operation to the caller and
+     *          <b>may be</b> used to react to cancelation requests of the caller and <b>must be</b> touched regularly
+     *          to prevent timeouts from expiring in the caller.
+     * @see #rawCommit(double, OMMonitor)
+     */
+    public void rawStore(InternalCDORevision[] revisions, OMMonitor monitor);
+  }
+
   /**
    * An extension interface for {@link IStoreAccessor store accessors} that support <i>durable locking</i>.
    *
@@ -914,4 +943,75 @@ public interface IStoreAccessor extends IQueryHandlerProvider, BranchLoader, Com
 
     public void writeUnits(Map<CDOID, CDOID> unitMappings, long timeStamp);
   }
+
+  /**
+   * An extension interface for {@link IStoreAccessor store accessors} that can read the revisions of many objects at
+   * the same {@link CDOBranchPoint branch point} with a few bulk queries instead of one query per object.
+   *
+   * @author Eike Stepper
+   * @since 4.23
+   */
+  public interface BulkReading extends IStoreAccessor
+  {
+    /**
+     * Reads the revisions of the given objects at the given branch point.
+     * <p>
+     * The result is equivalent to calling {@link #readRevision(CDOID, CDOBranchPoint, int, CDORevisionCacheAdder)
+     * readRevision()} once per ID. IDs for which no revision exists in the given branch are not contained in the
+     * returned map. Detached objects are mapped to {@link org.eclipse.emf.cdo.spi.common.revision.DetachedCDORevision
+     * detached revisions}.
+     */
+    public Map<CDOID, InternalCDORevision> readRevisions(Collection<CDOID> ids, CDOBranchPoint branchPoint, int listChunk, CDORevisionCacheAdder cache);
+  }
+
+  /**
+   * An extension interface for {@link IStoreAccessor store accessors} that {@link #queryXRefs(QueryXRefsContext) query
+   * cross references} with one combined pass over all {@link QueryXRefsContext#getSourceCandidates() source candidates}.
+   * <p>
+   * The source candidates of XRefs queries are not partitioned and queried in parallel for such accessors, as long as
+   * they {@link #isCombiningXRefs() combine} them. Otherwise they can {@link #getXRefsParallelism(int) limit} the number
+   * of partitions that are queried in parallel.
+   *
+   * @author Eike Stepper
+   * @since 4.23
+   */
+  public interface CombinedXRefs extends IStoreAccessor
+  {
+    /**
+     * Returns <code>true</code> if this accessor currently queries all source candidates in one combined pass,
+     * <code>false</code> otherwise.
+     */
+    public default boolean isCombiningXRefs()
+    {
+      return true;
+    }
+
+    /**
+     * Returns the number of accessors, including this one, that may query partitions of the source candidates in
+     * parallel, at most the given number. Each additional accessor may need resources, e.g., a database connection,
+     * that are only released by other threads.
+     */
+    public default int getXRefsParallelism(int parallelism)
+    {
+      return parallelism;
+    }
+  }
+
+  /**
+   * An extension interface for {@link IStoreAccessor store accessors} that know which classes can have instances in
+   * their store.
+   *
+   * @author Eike Stepper
+   * @since 4.23
+   */
+  public interface InstanceClasses extends IStoreAccessor
+  {
+    /**
+     * Returns the concrete classes that can have instances in the store of this accessor. The revisions of other
+     * classes need not be {@link #handleRevisions(EClass, CDOBranch, long, boolean, CDORevisionHandler) handled}.
+     * <p>
+     * Implementations must not create mappings or persistent structures for the classes that they don't return.
+     */
+    public Collection<EClass> getInstanceClasses();
+  }
 }
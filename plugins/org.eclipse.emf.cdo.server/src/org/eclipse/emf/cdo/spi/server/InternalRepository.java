@@ -125,6 +125,20 @@ public interface InternalRepository extends IRepository, //
    */
   public Semaphore getPackageRegistryCommitLock();
 
+  /**
+   * @since 4.23
+   * @see IRepository.Props#PIPELINE_COMMITS
+   */
+  public boolean isPipeliningCommits();
+
+  /**
+   * Returns the lock that serializes the timestamp assignment, the store write and the notifications of
+   * {@link #isPipeliningCommits() pipelined} commits if the repository is {@link #isSerializingCommits() serializing commits}.
+   *
+   * @since 4.23
+   */
+  public Semaphore getCommitStageLock();
+
   /**
    * Same as calling {@link #getPackageRegistry(boolean) getPackageRegistry(true)}.
    */
@@ -261,6 +275,15 @@ public interface InternalRepository extends IRepository, //
 
   public CDOReplicationInfo replicateRaw(CDODataOutput out, int lastReplicatedBranchID, long lastReplicatedCommitTime) throws IOException;
 
+  /**
+   * Writes the next chunk of a raw replication, i.e., the data of at most <code>maxCommits</code> commits after
+   * <code>lastReplicatedCommitTime</code>, or of all of them if <code>maxCommits</code> is zero.
+   * The chunk data is framed and followed by a checksum.
+   *
+   * @since 4.23
+   */
+  public CDOReplicationInfo replicateRaw(CDODataOutput out, int lastReplicatedBranchID, long lastReplicatedCommitTime, int maxCommits) throws IOException;
+
   public CDOChangeSetData getChangeSet(CDOBranchPoint startPoint, CDOBranchPoint endPoint);
 
   /**
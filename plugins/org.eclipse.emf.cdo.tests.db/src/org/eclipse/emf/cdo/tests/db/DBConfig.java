@@ -43,6 +43,8 @@ public abstract class DBConfig extends RepositoryConfig
 
   public static final String PROP_TEST_MAPPING_STRATEGY = "test.repository.MappingStrategy";
 
+  public static final String PROP_TEST_STORE_PROPERTIES = "test.repository.StoreProperties";
+
   private static final long serialVersionUID = 1L;
 
   private boolean withRanges;
@@ -196,6 +198,14 @@ public abstract class DBConfig extends RepositoryConfig
   {
     Map<String, String> props = new HashMap<>();
     // props.put(IDBStore.Props.ID_COLUMN_LENGTH, "66");
+
+    @SuppressWarnings("unchecked")
+    Map<String, String> testProps = (Map<String, String>)getTestProperty(PROP_TEST_STORE_PROPERTIES);
+    if (testProps != null)
+    {
+      props.putAll(testProps);
+    }
+
     return props;
   }
 
@@ -17,6 +17,7 @@ import org.eclipse.emf.cdo.tests.AuditSameSessionTest;
 import org.eclipse.emf.cdo.tests.AuditTest;
 import org.eclipse.emf.cdo.tests.BranchingSameSessionTest;
 import org.eclipse.emf.cdo.tests.BranchingTest;
+import org.eclipse.emf.cdo.tests.MEMStoreConcurrencyTest;
 import org.eclipse.emf.cdo.tests.MEMStoreQueryTest;
 import org.eclipse.emf.cdo.tests.MergingTest;
 import org.eclipse.emf.cdo.tests.bugzilla.Bugzilla_252214_Test;
@@ -49,8 +50,11 @@ public abstract class DBConfigs extends AllConfigs
     testClasses.add(DBStoreTest.class);
     testClasses.add(CustomTypeMappingTest.class);
     testClasses.add(SQLQueryTest.class);
+    testClasses.add(GroupCommitTest.class);
+    testClasses.add(XRefIndexTest.class);
 
     super.initTestClasses(testClasses, scenario);
+    testClasses.remove(MEMStoreConcurrencyTest.class);
     testClasses.remove(MEMStoreQueryTest.class);
 
     if (scenario.getRepositoryConfig().supportingBranches())
@@ -16,6 +16,7 @@ import org.eclipse.emf.cdo.eresource.CDOResource;
 import org.eclipse.emf.cdo.session.CDOSession;
 import org.eclipse.emf.cdo.tests.AbstractCDOTest;
 import org.eclipse.emf.cdo.tests.config.ISessionConfig;
+import org.eclipse.emf.cdo.tests.model1.Category;
 import org.eclipse.emf.cdo.tests.model1.Company;
 import org.eclipse.emf.cdo.tests.model1.Model1Factory;
 import org.eclipse.emf.cdo.tests.model1.PurchaseOrder;
@@ -185,6 +186,53 @@ public class DBStoreTest extends AbstractCDOTest
     assertEquals(new GregorianCalendar(2008, 11, 24, 12, 34, 56).getTime(), o.getDate());
   }
 
+  public void testBulkRead() throws CommitException
+  {
+    CDOSession session = openSession();
+    CDOTransaction transaction = session.openTransaction();
+    CDOResource resource = transaction.getOrCreateResource(getResourcePath("/test"));
+
+    // Enough companies for a padded bulk read, with empty and non-empty lists.
+    for (int i = 0; i < 30; i++)
+    {
+      Company company = Model1Factory.eINSTANCE.createCompany();
+      company.setName("company" + i);
+
+      for (int j = 0; j < i % 4; j++)
+      {
+        Category category = Model1Factory.eINSTANCE.createCategory();
+        category.setName("category" + i + "." + j);
+        company.getCategories().add(category);
+      }
+
+      resource.getContents().add(company);
+    }
+
+    transaction.commit();
+
+    transaction.close();
+    session.close();
+    clearCache(getRepository().getRevisionManager());
+
+    session = openSession();
+    CDOView view = session.openView();
+    view.options().setRevisionPrefetchingPolicy(CDOUtil.createRevisionPrefetchingPolicy(100));
+    resource = view.getResource(getResourcePath("/test"));
+
+    assertEquals(30, resource.getContents().size());
+    for (int i = 0; i < 30; i++)
+    {
+      Company company = (Company)resource.getContents().get(i);
+      assertEquals("company" + i, company.getName());
+      assertEquals(i % 4, company.getCategories().size());
+
+      for (int j = 0; j < i % 4; j++)
+      {
+        assertEquals("category" + i + "." + j, company.getCategories().get(j).getName());
+      }
+    }
+  }
+
   public void testStoreCustom() throws CommitException
   {
     EPackage pkg = createUniquePackage();
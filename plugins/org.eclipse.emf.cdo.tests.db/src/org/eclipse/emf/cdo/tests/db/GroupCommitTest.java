@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests.db;
+
+import org.eclipse.emf.cdo.common.revision.CDORevision;
+import org.eclipse.emf.cdo.eresource.CDOResource;
+import org.eclipse.emf.cdo.server.IRepository;
+import org.eclipse.emf.cdo.server.IStoreAccessor.CommitContext;
+import org.eclipse.emf.cdo.server.ITransaction;
+import org.eclipse.emf.cdo.server.db.IDBStore;
+import org.eclipse.emf.cdo.server.internal.db.DBGroupCommitter;
+import org.eclipse.emf.cdo.server.internal.db.DBStore;
+import org.eclipse.emf.cdo.session.CDOSession;
+import org.eclipse.emf.cdo.tests.AbstractCDOTest;
+import org.eclipse.emf.cdo.tests.model1.Company;
+import org.eclipse.emf.cdo.transaction.CDOTransaction;
+import org.eclipse.emf.cdo.util.CommitException;
+import org.eclipse.emf.cdo.view.CDOView;
+
+import org.eclipse.net4j.util.om.monitor.OMMonitor;
+
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * @author Eike Stepper
+ */
+public class GroupCommitTest extends AbstractCDOTest
+{
+  private static final int THREADS = 4;
+
+  private static final int COMMITS = 25;
+
+  private static final String FAILING_NAME = "Failing ";
+
+  @Override
+  public synchronized Map<String, Object> getTestProperties()
+  {
+    Map<String, Object> testProperties = super.getTestProperties();
+    testProperties.put(DBConfig.PROP_TEST_STORE_PROPERTIES, Collections.singletonMap(IDBStore.Props.GROUP_COMMIT_WINDOW, "5"));
+    return testProperties;
+  }
+
+  public void testConcurrentCommits() throws Exception
+  {
+    DBGroupCommitter groupCommitter = ((DBStore)getRepository().getStore()).getGroupCommitter();
+    assertNotNull(groupCommitter);
+
+    commitConcurrently(false);
+
+    assertEquals(THREADS * COMMITS, groupCommitter.getMemberCount());
+    assertTrue(groupCommitter.getGroupCount() <= groupCommitter.getMemberCount());
+  }
+
+  public void testFailingMember() throws Exception
+  {
+    DBGroupCommitter groupCommitter = ((DBStore)getRepository().getStore()).getGroupCommitter();
+
+    // Without savepoints a failing member fails its whole group.
+    skipTest(!groupCommitter.isSavepoints());
+
+    // Reject the commits of the first thread in the write phase, which the group committer runs.
+    IRepository.WriteAccessHandler handler = new IRepository.WriteAccessHandler()
+    {
+      @Override
+      public void handleTransactionBeforeCommitting(ITransaction transaction, CommitContext commitContext, OMMonitor monitor) throws RuntimeException
+      {
+        for (CDORevision revision : commitContext.getDirtyObjects())
+        {
+          EStructuralFeature nameFeature = revision.getEClass().getEStructuralFeature("name");
+          Object name = revision.data().get(nameFeature, 0);
+          if (name != null && name.toString().startsWith(FAILING_NAME))
+          {
+            throw new IllegalStateException("Rejected: " + name);
+          }
+        }
+      }
+
+      @Override
+      public void handleTransactionAfterCommitted(ITransaction transaction, CommitContext commitContext, OMMonitor monitor)
+      {
+      }
+    };
+
+    getRepository().addHandler(handler);
+
+    try
+    {
+      commitConcurrently(true);
+    }
+    finally
+    {
+      getRepository().removeHandler(handler);
+    }
+
+    // The failing commits went through the group committer, too.
+    assertEquals(THREADS * COMMITS, groupCommitter.getMemberCount());
+  }
+
+  /**
+   * Commits concurrently from {@link #THREADS} threads. If <code>withFailures</code> is <code>true</code> every other
+   * commit of the first thread is expected to fail. Checks that all other commits have been stored.
+   */
+  private void commitConcurrently(boolean withFailures) throws Exception
+  {
+    // Register the model outside of the group commits.
+    CDOSession session = openSession();
+    CDOTransaction transaction = session.openTransaction();
+    for (int i = 0; i < THREADS; i++)
+    {
+      transaction.createResource(getResourcePath("/res" + i)).getContents().add(getModel1Factory().createCompany());
+    }
+
+    transaction.commit();
+    session.close();
+
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+
+    try
+    {
+      for (int i = 0; i < THREADS; i++)
+      {
+        String path = getResourcePath("/res" + i);
+        boolean failing = withFailures && i == 0;
+
+        futures.add(executorService.submit(() -> {
+          CDOSession threadSession = openSession();
+          CDOTransaction threadTransaction = threadSession.openTransaction();
+          Company company = (Company)threadTransaction.getResource(path).getContents().get(0);
+          start.await();
+
+          for (int j = 0; j < COMMITS; j++)
+          {
+            if (failing && j % 2 == 1)
+            {
+              company.setName(FAILING_NAME + j);
+
+              try
+              {
+                threadTransaction.commit();
+                fail("CommitException expected");
+              }
+              catch (CommitException expected)
+              {
+                threadTransaction.rollback();
+              }
+            }
+            else
+            {
+              company.setName("Company " + j);
+              threadTransaction.commit();
+            }
+          }
+
+          threadSession.close();
+          return null;
+        }));
+      }
+
+      start.countDown();
+
+      for (Future<?> future : futures)
+      {
+        future.get();
+      }
+    }
+    finally
+    {
+      executorService.shutdownNow();
+    }
+
+    clearCache(getRepository().getRevisionManager());
+
+    session = openSession();
+    CDOView view = session.openView();
+
+    for (int i = 0; i < THREADS; i++)
+    {
+      CDOResource resource = view.getResource(getResourcePath("/res" + i));
+      Company company = (Company)resource.getContents().get(0);
+
+      int lastCommit = withFailures && i == 0 ? COMMITS - 2 : COMMITS - 1;
+      assertEquals("Company " + lastCommit, company.getName());
+    }
+  }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests.db;
+
+import org.eclipse.emf.cdo.common.commit.CDOCommitInfo;
+import org.eclipse.emf.cdo.eresource.CDOResource;
+import org.eclipse.emf.cdo.server.IRepository;
+import org.eclipse.emf.cdo.server.StoreThreadLocal;
+import org.eclipse.emf.cdo.server.db.IDBStore;
+import org.eclipse.emf.cdo.server.db.IDBStoreAccessor;
+import org.eclipse.emf.cdo.server.internal.db.DBStore;
+import org.eclipse.emf.cdo.server.internal.db.XRefIndexTable;
+import org.eclipse.emf.cdo.session.CDOSession;
+import org.eclipse.emf.cdo.tests.AbstractCDOTest;
+import org.eclipse.emf.cdo.tests.config.IRepositoryConfig;
+import org.eclipse.emf.cdo.tests.config.impl.ConfigTest.Requires;
+import org.eclipse.emf.cdo.tests.model1.PurchaseOrder;
+import org.eclipse.emf.cdo.tests.model1.Supplier;
+import org.eclipse.emf.cdo.transaction.CDOTransaction;
+import org.eclipse.emf.cdo.util.CDOUtil;
+import org.eclipse.emf.cdo.util.CommitException;
+import org.eclipse.emf.cdo.view.CDOView;
+
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @author Eike Stepper
+ */
+public class XRefIndexTest extends AbstractCDOTest
+{
+  private static final String RESOURCE_NAME = "/test1";
+
+  @Override
+  public synchronized Map<String, Object> getTestProperties()
+  {
+    Map<String, Object> testProperties = super.getTestProperties();
+    testProperties.put(DBConfig.PROP_TEST_STORE_PROPERTIES, Collections.singletonMap(IDBStore.Props.XREF_INDEX, "true"));
+    testProperties.put(IRepository.Props.ENSURE_REFERENTIAL_INTEGRITY, "true");
+    return testProperties;
+  }
+
+  public void testQueryXRefs() throws Exception
+  {
+    XRefIndexTable xrefIndexTable = getXRefIndexTable();
+    assertNotNull(xrefIndexTable);
+    assertTrue(xrefIndexTable.isComplete());
+
+    CDOSession session = openSession();
+    CDOTransaction transaction = session.openTransaction();
+    CDOResource resource = transaction.createResource(getResourcePath(RESOURCE_NAME));
+
+    Supplier supplier = getModel1Factory().createSupplier();
+    resource.getContents().add(supplier);
+    for (int i = 0; i < 4; i++)
+    {
+      addPurchaseOrder(resource, supplier);
+    }
+
+    transaction.commit();
+    assertXRefs(session.openView(), 4);
+
+    // Change the references of an existing source object.
+    PurchaseOrder purchaseOrder = supplier.getPurchaseOrders().get(0);
+    purchaseOrder.setSupplier(null);
+    transaction.commit();
+    assertXRefs(session.openView(), 3);
+
+    // Detach a source object.
+    resource.getContents().remove(purchaseOrder);
+    EcoreUtil.delete(supplier.getPurchaseOrders().get(0));
+    transaction.commit();
+    assertXRefs(session.openView(), 2);
+  }
+
+  @Requires(IRepositoryConfig.CAPABILITY_AUDITING)
+  public void testQueryXRefsInThePast() throws Exception
+  {
+    CDOSession session = openSession();
+    CDOTransaction transaction = session.openTransaction();
+    CDOResource resource = transaction.createResource(getResourcePath(RESOURCE_NAME));
+
+    Supplier supplier = getModel1Factory().createSupplier();
+    resource.getContents().add(supplier);
+    for (int i = 0; i < 4; i++)
+    {
+      addPurchaseOrder(resource, supplier);
+    }
+
+    CDOCommitInfo commitInfo = transaction.commit();
+
+    supplier.getPurchaseOrders().remove(0);
+    transaction.commit();
+
+    assertXRefs(session.openView(), 3);
+    assertXRefs(session.openView(commitInfo.getTimeStamp()), 4);
+  }
+
+  public void testChangeAttributesOnly() throws Exception
+  {
+    CDOSession session = openSession();
+    CDOTransaction transaction = session.openTransaction();
+    CDOResource resource = transaction.createResource(getResourcePath(RESOURCE_NAME));
+
+    Supplier supplier = getModel1Factory().createSupplier();
+    resource.getContents().add(supplier);
+    for (int i = 0; i < 4; i++)
+    {
+      addPurchaseOrder(resource, supplier);
+    }
+
+    CDOCommitInfo commitInfo = transaction.commit();
+
+    // The references of the dirty objects are unchanged, so their index entries must stay valid.
+    for (PurchaseOrder purchaseOrder : supplier.getPurchaseOrders())
+    {
+      purchaseOrder.setDate(new Date());
+    }
+
+    transaction.commit();
+    assertXRefs(session.openView(), 4);
+
+    if (getRepository().isSupportingAudits())
+    {
+      assertXRefs(session.openView(commitInfo.getTimeStamp()), 4);
+    }
+  }
+
+  public void testReferentialIntegrity() throws Exception
+  {
+    CDOSession session = openSession();
+    CDOTransaction transaction = session.openTransaction();
+    CDOResource resource = transaction.createResource(getResourcePath(RESOURCE_NAME));
+
+    Supplier supplier = getModel1Factory().createSupplier();
+    resource.getContents().add(supplier);
+    addPurchaseOrder(resource, supplier);
+    transaction.commit();
+
+    CDOTransaction transaction2 = session.openTransaction();
+    transaction2.getResource(getResourcePath(RESOURCE_NAME)).getContents().remove(0);
+
+    try
+    {
+      transaction2.commit();
+      fail("CommitException expected");
+    }
+    catch (CommitException expected)
+    {
+      // SUCCESS
+    }
+  }
+
+  public void testRebuild() throws Exception
+  {
+    CDOSession session = openSession();
+    CDOTransaction transaction = session.openTransaction();
+    CDOResource resource = transaction.createResource(getResourcePath(RESOURCE_NAME));
+
+    Supplier supplier = getModel1Factory().createSupplier();
+    resource.getContents().add(supplier);
+    for (int i = 0; i < 4; i++)
+    {
+      addPurchaseOrder(resource, supplier);
+    }
+
+    supplier.getPurchaseOrders().get(0).setSupplier(null);
+    transaction.commit();
+
+    XRefIndexTable xrefIndexTable = getXRefIndexTable();
+    IDBStoreAccessor reader = ((IDBStore)getRepository().getStore()).getReader(null);
+    StoreThreadLocal.setAccessor(reader);
+
+    try
+    {
+      xrefIndexTable.invalidate(reader);
+      reader.getDBConnection().commit();
+      assertFalse(xrefIndexTable.isComplete());
+      assertXRefs(session.openView(), 3);
+
+      assertTrue(xrefIndexTable.rebuild(reader));
+    }
+    finally
+    {
+      StoreThreadLocal.release();
+    }
+
+    assertTrue(xrefIndexTable.isComplete());
+    assertXRefs(session.openView(), 3);
+  }
+
+  public void testRebuildDuringCommit() throws Exception
+  {
+    CDOSession session = openSession();
+    CDOTransaction transaction = session.openTransaction();
+    CDOResource resource = transaction.createResource(getResourcePath(RESOURCE_NAME));
+
+    Supplier supplier = getModel1Factory().createSupplier();
+    resource.getContents().add(supplier);
+    addPurchaseOrder(resource, supplier);
+    transaction.commit();
+
+    XRefIndexTable xrefIndexTable = getXRefIndexTable();
+    IDBStoreAccessor reader = ((IDBStore)getRepository().getStore()).getReader(null);
+    StoreThreadLocal.setAccessor(reader);
+
+    try
+    {
+      xrefIndexTable.invalidate(reader);
+      reader.getDBConnection().commit();
+
+      // A pending commit may write references that the rebuild doesn't see.
+      xrefIndexTable.beginWrite();
+      assertFalse(xrefIndexTable.rebuild(reader));
+      assertFalse(xrefIndexTable.isComplete());
+
+      xrefIndexTable.endWrite();
+      assertTrue(xrefIndexTable.rebuild(reader));
+    }
+    finally
+    {
+      StoreThreadLocal.release();
+    }
+
+    assertTrue(xrefIndexTable.isComplete());
+    assertXRefs(session.openView(), 1);
+  }
+
+  private XRefIndexTable getXRefIndexTable()
+  {
+    return ((DBStore)getRepository().getStore()).getXRefIndexTable();
+  }
+
+  private void addPurchaseOrder(CDOResource resource, Supplier supplier)
+  {
+    PurchaseOrder purchaseOrder = getModel1Factory().createPurchaseOrder();
+    purchaseOrder.setSupplier(supplier);
+    resource.getContents().add(purchaseOrder);
+  }
+
+  private void assertXRefs(CDOView view, int expectedXRefs)
+  {
+    Supplier supplier = (Supplier)view.getResource(getResourcePath(RESOURCE_NAME)).getContents().get(0);
+    Map<String, Integer> counts = new HashMap<>();
+    view.queryXRefs(Collections.singleton(CDOUtil.getCDOObject(supplier))).forEach(xref -> {
+      counts.merge(xref.getSourceFeature().getName(), 1, Integer::sum);
+      assertInstanceOf(PurchaseOrder.class, CDOUtil.getEObject(xref.getSourceObject()));
+    });
+
+    assertEquals(Collections.singletonMap("supplier", expectedXRefs), counts);
+    view.close();
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests.lissome;
+
+import org.eclipse.emf.cdo.server.internal.lissome.LissomeFileMapping;
+
+import org.eclipse.net4j.util.io.IOUtil;
+import org.eclipse.net4j.util.tests.AbstractOMTest;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+/**
+ * @author Eike Stepper
+ */
+public class LissomeFileMappingTest extends AbstractOMTest
+{
+  private static final int SEGMENT_SIZE = 16;
+
+  private File file;
+
+  private LissomeFileMapping mapping;
+
+  @Override
+  protected void doSetUp() throws Exception
+  {
+    super.doSetUp();
+    file = createTempFile();
+    mapping = new LissomeFileMapping(file, SEGMENT_SIZE);
+  }
+
+  @Override
+  protected void doTearDown() throws Exception
+  {
+    mapping.close();
+    super.doTearDown();
+  }
+
+  public void testRecordAcrossSegmentBoundary() throws Exception
+  {
+    append(0, 40);
+
+    LissomeFileMapping.Input input = mapping.openInput();
+    input.seek(10);
+    assertBytes(input, 10, 20);
+    assertEquals(30, input.getPointer());
+
+    // Segments 0 and 1 are complete, segment 2 is read through the file.
+    assertEquals(2, mapping.getMappedSegments());
+
+    input.seek(SEGMENT_SIZE - 1);
+    assertBytes(input, SEGMENT_SIZE - 1, 40 - (SEGMENT_SIZE - 1));
+    assertEquals(-1, input.read());
+  }
+
+  public void testReadPastMappedEnd() throws Exception
+  {
+    append(0, 20);
+
+    LissomeFileMapping.Input input = mapping.openInput();
+    input.seek(0);
+    assertBytes(input, 0, 20);
+    assertEquals(-1, input.read());
+    assertEquals(1, mapping.getMappedSegments());
+
+    for (int length = 20; length < 20 * SEGMENT_SIZE; length += 7)
+    {
+      append(length, 7);
+
+      input.seek(length);
+      assertBytes(input, length, 7);
+      assertEquals(-1, input.read());
+
+      // Only complete segments are mapped, each of them once.
+      assertEquals((length + 7) / SEGMENT_SIZE, mapping.getMappedSegments());
+    }
+  }
+
+  public void testRandomReads() throws Exception
+  {
+    int length = 10 * SEGMENT_SIZE + 5;
+    append(0, length);
+
+    LissomeFileMapping.Input input = mapping.openInput();
+    for (int i = 0; i < 1000; i++)
+    {
+      int pointer = (i * 31) % length;
+      int count = Math.min((i * 7) % (3 * SEGMENT_SIZE) + 1, length - pointer);
+
+      input.seek(pointer);
+      assertBytes(input, pointer, count);
+    }
+  }
+
+  private void append(int start, int count) throws Exception
+  {
+    RandomAccessFile raf = new RandomAccessFile(file, "rw");
+
+    try
+    {
+      raf.seek(start);
+      for (int i = 0; i < count; i++)
+      {
+        raf.write(start + i);
+      }
+    }
+    finally
+    {
+      IOUtil.close(raf);
+    }
+  }
+
+  private static void assertBytes(LissomeFileMapping.Input input, int start, int count) throws Exception
+  {
+    byte[] buffer = new byte[count];
+    int read = 0;
+    while (read < count)
+    {
+      int n = input.read(buffer, read, count - read);
+      assertTrue("Unexpected end of file", n > 0);
+      read += n;
+    }
+
+    for (int i = 0; i < count; i++)
+    {
+      assertEquals("Byte at " + (start + i), (byte)(start + i), buffer[i]);
+    }
+  }
+}
@@ -12,6 +12,7 @@
 package org.eclipse.emf.cdo.tests.mongodb;
 
 import org.eclipse.emf.cdo.tests.AllConfigs;
+import org.eclipse.emf.cdo.tests.MEMStoreConcurrencyTest;
 import org.eclipse.emf.cdo.tests.MEMStoreQueryTest;
 import org.eclipse.emf.cdo.tests.config.IScenario;
 import org.eclipse.emf.cdo.tests.config.impl.ConfigTest;
@@ -43,6 +44,7 @@ public class AllTestsMongoDB extends AllConfigs
   {
     testClasses.add(MongoDBInitialTest.class);
     super.initTestClasses(testClasses, scenario);
+    testClasses.remove(MEMStoreConcurrencyTest.class);
     testClasses.remove(MEMStoreQueryTest.class);
   }
 }
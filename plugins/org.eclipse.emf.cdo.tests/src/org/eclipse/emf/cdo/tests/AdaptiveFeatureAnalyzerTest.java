@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests;
+
+import org.eclipse.emf.cdo.common.revision.CDORevision;
+import org.eclipse.emf.cdo.eresource.CDOResource;
+import org.eclipse.emf.cdo.internal.net4j.protocol.LoadRevisionsRequest;
+import org.eclipse.emf.cdo.net4j.CDONet4jSession;
+import org.eclipse.emf.cdo.session.CDOSession;
+import org.eclipse.emf.cdo.tests.config.ISessionConfig;
+import org.eclipse.emf.cdo.tests.config.impl.ConfigTest.Requires;
+import org.eclipse.emf.cdo.tests.model1.Category;
+import org.eclipse.emf.cdo.tests.model1.Company;
+import org.eclipse.emf.cdo.transaction.CDOTransaction;
+import org.eclipse.emf.cdo.util.CDOUtil;
+import org.eclipse.emf.cdo.view.CDOView;
+
+import org.eclipse.emf.internal.cdo.analyzer.CDOFeatureAnalyzerAdaptive;
+
+import org.eclipse.net4j.signal.ISignalProtocol;
+import org.eclipse.net4j.signal.SignalCounter;
+
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.spi.cdo.InternalCDOSession;
+
+/**
+ * @author Eike Stepper
+ */
+@Requires(ISessionConfig.CAPABILITY_NET4J)
+public class AdaptiveFeatureAnalyzerTest extends AbstractCDOTest
+{
+  private static final String RESOURCE_NAME = "/test1";
+
+  private static final int DEPTH = 4;
+
+  private static final int WIDTH = 3;
+
+  public void testDeepContainmentWalk() throws Exception
+  {
+    int categories = createCategoryTree();
+
+    int requestsWithoutAnalyzer = walkCategoryTree(null, categories);
+    CDOFeatureAnalyzerAdaptive analyzer = new CDOFeatureAnalyzerAdaptive(CDOFeatureAnalyzerAdaptive.DEFAULT_MAX_DEPTH, WIDTH);
+    int requestsWithAnalyzer = walkCategoryTree(analyzer, categories);
+
+    msg("Load requests without analyzer: " + requestsWithoutAnalyzer);
+    msg("Load requests with analyzer: " + requestsWithAnalyzer);
+    assertTrue(requestsWithAnalyzer < requestsWithoutAnalyzer);
+    assertTrue(analyzer.getDepth(getModel1Package().getCategory(), getModel1Package().getCategory_Categories()) != CDORevision.DEPTH_NONE);
+
+    // A warm analyzer predicts the traversals of a cold session right from the start.
+    int requestsWithWarmAnalyzer = walkCategoryTree(analyzer, categories);
+    msg("Load requests with warm analyzer: " + requestsWithWarmAnalyzer);
+    assertTrue(requestsWithWarmAnalyzer <= requestsWithAnalyzer);
+  }
+
+  private int createCategoryTree() throws Exception
+  {
+    CDOSession session = openSession();
+    CDOTransaction transaction = session.openTransaction();
+    CDOResource resource = transaction.createResource(getResourcePath(RESOURCE_NAME));
+
+    Company company = getModel1Factory().createCompany();
+    int categories = createCategories(company.getCategories(), DEPTH);
+    resource.getContents().add(company);
+
+    transaction.commit();
+    session.close();
+    return categories;
+  }
+
+  private int createCategories(EList<Category> categories, int depth)
+  {
+    int count = 0;
+    for (int i = 0; i < WIDTH; i++)
+    {
+      Category category = getModel1Factory().createCategory();
+      category.setName("category" + depth + "-" + i);
+      categories.add(category);
+      ++count;
+
+      if (depth > 1)
+      {
+        count += createCategories(category.getCategories(), depth - 1);
+      }
+    }
+
+    return count;
+  }
+
+  private int walkCategoryTree(CDOFeatureAnalyzerAdaptive analyzer, int expectedCategories) throws Exception
+  {
+    CDOSession session = openSession();
+    if (analyzer != null)
+    {
+      ((InternalCDOSession)session).setFetchRuleManager(CDOUtil.createThreadLocalFetchRuleManager());
+    }
+
+    CDOView view = session.openView();
+    if (analyzer != null)
+    {
+      view.options().setFeatureAnalyzer(analyzer);
+    }
+
+    CDOResource resource = view.getResource(getResourcePath(RESOURCE_NAME));
+
+    ISignalProtocol<?> protocol = ((CDONet4jSession)session).options().getNet4jProtocol();
+    SignalCounter signalCounter = new SignalCounter(protocol);
+
+    Company company = (Company)resource.getContents().get(0);
+    assertEquals(expectedCategories, walkCategories(company.getCategories()));
+
+    int requests = signalCounter.getCountFor(LoadRevisionsRequest.class);
+    protocol.removeListener(signalCounter);
+    session.close();
+    return requests;
+  }
+
+  private static int walkCategories(EList<Category> categories)
+  {
+    int count = 0;
+    for (Category category : categories)
+    {
+      assertNotNull(category.getName());
+      count += 1 + walkCategories(category.getCategories());
+    }
+
+    return count;
+  }
+}
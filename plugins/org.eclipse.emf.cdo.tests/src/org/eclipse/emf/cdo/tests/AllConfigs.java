@@ -45,16 +45,19 @@ public class AllConfigs extends ConfigTestSuite
 
     // General
     testClasses.add(AdapterManagerTest.class);
+    testClasses.add(AdaptiveFeatureAnalyzerTest.class);
     testClasses.add(AttributeTest.class);
     testClasses.add(AuditEMapTest.class);
     testClasses.add(AuditSameSessionTest.class);
     testClasses.add(AuditTest.class);
     testClasses.add(AutoAttacherTest.class);
     testClasses.add(BackupBinaryTest.class);
+    testClasses.add(BackupBinaryParallelTest.class);
     testClasses.add(BackupTest.class);
     testClasses.add(BranchingSameSessionTest.class);
     testClasses.add(BranchingTest.class);
     testClasses.add(BranchingWithCacheClearTest.class);
+    testClasses.add(CDOIDHashMapTest.class);
     testClasses.add(CDOIDTest.class);
     testClasses.add(CDOStaleReferencePolicyTest.class);
     testClasses.add(ChangeSubscriptionTest.class);
@@ -86,6 +89,7 @@ public class AllConfigs extends ConfigTestSuite
     testClasses.add(LockingManagerTest.class);
     testClasses.add(LockingNotificationsTest.class);
     testClasses.add(LockingSequenceTest.class);
+    testClasses.add(MEMStoreConcurrencyTest.class);
     testClasses.add(MEMStoreQueryTest.class);
     testClasses.add(MapTest.class);
     testClasses.add(MergingTest.class);
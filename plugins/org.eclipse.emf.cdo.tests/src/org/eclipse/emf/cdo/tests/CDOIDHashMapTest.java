@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests;
+
+import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.common.id.CDOIDUtil;
+import org.eclipse.emf.cdo.internal.common.id.CDOIDHashMap;
+import org.eclipse.emf.cdo.internal.common.id.CDOIDHashSet;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * @author Eike Stepper
+ */
+public class CDOIDHashMapTest extends AbstractCDOTest
+{
+  public void testPutGetRemove() throws Exception
+  {
+    CDOIDHashMap<Integer> map = new CDOIDHashMap<>();
+    Map<CDOID, Integer> expected = new HashMap<>();
+    Random random = new Random(4711);
+
+    for (int i = 0; i < 100000; i++)
+    {
+      CDOID id = CDOIDUtil.createLong(1 + random.nextInt(5000));
+      switch (random.nextInt(3))
+      {
+      case 0:
+        assertEquals(expected.put(id, i), map.put(id, i));
+        break;
+
+      case 1:
+        assertEquals(expected.remove(id), map.remove(id));
+        break;
+
+      default:
+        assertEquals(expected.get(id), map.get(id));
+      }
+    }
+
+    assertEquals(true, map.isPrimitive());
+    assertEquals(expected, map);
+    assertEquals(map, expected);
+    assertEquals(expected.hashCode(), map.hashCode());
+  }
+
+  public void testIteratorRemove() throws Exception
+  {
+    CDOIDHashMap<Integer> map = new CDOIDHashMap<>();
+    Map<CDOID, Integer> expected = new HashMap<>();
+
+    for (int i = 1; i <= 10000; i++)
+    {
+      CDOID id = CDOIDUtil.createLong(i * 31L);
+      map.put(id, i);
+      expected.put(id, i);
+    }
+
+    int visited = 0;
+    for (Iterator<Map.Entry<CDOID, Integer>> it = map.entrySet().iterator(); it.hasNext();)
+    {
+      Map.Entry<CDOID, Integer> entry = it.next();
+      assertEquals(expected.get(entry.getKey()), entry.getValue());
+      ++visited;
+
+      if (entry.getValue() % 3 == 0)
+      {
+        it.remove();
+        expected.remove(entry.getKey());
+      }
+    }
+
+    assertEquals(10000, visited);
+    assertEquals(expected, map);
+  }
+
+  public void testIteratorRemoveRandom() throws Exception
+  {
+    Random random = new Random(4711);
+
+    for (int round = 0; round < 100; round++)
+    {
+      CDOIDHashMap<Integer> map = new CDOIDHashMap<>();
+      Map<CDOID, Integer> expected = new HashMap<>();
+
+      for (int i = 0; i < 200; i++)
+      {
+        CDOID id = CDOIDUtil.createLong(1 + random.nextInt(300));
+        map.put(id, i);
+        expected.put(id, i);
+      }
+
+      List<Map.Entry<CDOID, Integer>> kept = new ArrayList<>();
+      for (Iterator<Map.Entry<CDOID, Integer>> it = map.entrySet().iterator(); it.hasNext();)
+      {
+        Map.Entry<CDOID, Integer> entry = it.next();
+        assertEquals(expected.get(entry.getKey()), entry.getValue());
+
+        if (random.nextInt(3) == 0)
+        {
+          it.remove();
+          expected.remove(entry.getKey());
+        }
+        else
+        {
+          kept.add(entry);
+        }
+      }
+
+      assertEquals(expected, map);
+
+      // Entries stay valid even if removals have shifted them to other slots.
+      for (Map.Entry<CDOID, Integer> entry : kept)
+      {
+        assertEquals(expected.get(entry.getKey()), entry.getValue());
+        assertEquals(expected.get(entry.getKey()), entry.setValue(-1));
+        expected.put(entry.getKey(), -1);
+      }
+
+      assertEquals(expected, map);
+    }
+  }
+
+  public void testKeysAreOriginalIDs() throws Exception
+  {
+    CDOIDHashMap<Integer> map = new CDOIDHashMap<>();
+    Map<CDOID, CDOID> ids = new HashMap<>();
+
+    for (int i = 1; i <= 1000; i++)
+    {
+      CDOID id = CDOIDUtil.createLong(i);
+      map.put(id, i);
+      ids.put(id, id);
+    }
+
+    for (CDOID key : map.keySet())
+    {
+      assertSame(ids.get(key), key);
+    }
+  }
+
+  public void testFallback() throws Exception
+  {
+    Map<CDOID, String> map = CDOIDUtil.createMap();
+    CDOID longID = CDOIDUtil.createLong(1);
+    CDOID uuid = CDOIDUtil.createUUID();
+
+    map.put(longID, "long");
+    assertEquals(true, ((CDOIDHashMap<String>)map).isPrimitive());
+
+    map.put(uuid, "uuid");
+    map.put(null, "null");
+    assertEquals(false, ((CDOIDHashMap<String>)map).isPrimitive());
+    assertEquals(3, map.size());
+    assertEquals("long", map.get(longID));
+    assertEquals("uuid", map.get(uuid));
+    assertEquals("null", map.get(null));
+
+    map.clear();
+    assertEquals(true, ((CDOIDHashMap<String>)map).isPrimitive());
+    assertEquals(0, map.size());
+  }
+
+  public void testSet() throws Exception
+  {
+    Set<CDOID> set = CDOIDUtil.createSet();
+    for (int i = 1; i <= 100000; i++)
+    {
+      assertEquals(true, set.add(CDOIDUtil.createLong(i)));
+    }
+
+    assertEquals(false, set.add(CDOIDUtil.createLong(4711)));
+    assertEquals(100000, set.size());
+    assertEquals(true, ((CDOIDHashSet)set).isPrimitive());
+
+    assertEquals(true, set.remove(CDOIDUtil.createLong(4711)));
+    assertEquals(false, set.contains(CDOIDUtil.createLong(4711)));
+    assertEquals(true, set.contains(CDOIDUtil.createLong(4712)));
+  }
+}
@@ -12,14 +12,21 @@
 package org.eclipse.emf.cdo.tests;
 
 import org.eclipse.emf.cdo.common.commit.CDOCommitInfo;
+import org.eclipse.emf.cdo.common.commit.CDOCommitInfoHandler;
 import org.eclipse.emf.cdo.eresource.CDOResource;
+import org.eclipse.emf.cdo.server.IRepository;
+import org.eclipse.emf.cdo.server.IStoreAccessor.CommitContext;
+import org.eclipse.emf.cdo.server.ITransaction;
 import org.eclipse.emf.cdo.session.CDOSession;
+import org.eclipse.emf.cdo.spi.server.InternalRepository;
 import org.eclipse.emf.cdo.tests.model1.Category;
 import org.eclipse.emf.cdo.tests.model1.Company;
 import org.eclipse.emf.cdo.tests.model1.Product1;
 import org.eclipse.emf.cdo.tests.model1.VAT;
 import org.eclipse.emf.cdo.transaction.CDOTransaction;
+import org.eclipse.emf.cdo.util.CDOUtil;
 
+import org.eclipse.net4j.util.om.monitor.OMMonitor;
 import org.eclipse.net4j.util.tests.Timer;
 
 import org.eclipse.emf.common.util.URI;
@@ -28,8 +35,18 @@ import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Eike Stepper
@@ -85,6 +102,146 @@ public class CommitPerformanceTest extends AbstractCDOTest
     timer.done();
   }
 
+  public void testConcurrentCommits() throws Exception
+  {
+    commitConcurrently(getRepository(), false);
+  }
+
+  public void testConcurrentCommitsPipelined() throws Exception
+  {
+    InternalRepository serializedRepository = getSerializingRepository("repo2", false); //$NON-NLS-1$
+    assertTrue(serializedRepository.isSerializingCommits());
+    assertFalse(serializedRepository.isPipeliningCommits());
+
+    InternalRepository pipelinedRepository = getSerializingRepository("repo3", true); //$NON-NLS-1$
+    assertTrue(pipelinedRepository.isSerializingCommits());
+    assertTrue(pipelinedRepository.isPipeliningCommits());
+
+    long serializedMillis = commitConcurrently(serializedRepository, false);
+
+    // A commit that waits for the commit stage has been validated while the previous commit is written.
+    Semaphore commitStageLock = pipelinedRepository.getCommitStageLock();
+    AtomicInteger overlaps = new AtomicInteger();
+    IRepository.WriteAccessHandler handler = new IRepository.WriteAccessHandler()
+    {
+      @Override
+      public void handleTransactionBeforeCommitting(ITransaction transaction, CommitContext commitContext, OMMonitor monitor) throws RuntimeException
+      {
+      }
+
+      @Override
+      public void handleTransactionAfterCommitted(ITransaction transaction, CommitContext commitContext, OMMonitor monitor)
+      {
+        // Called while this commit holds the commit stage.
+        if (commitStageLock.hasQueuedThreads())
+        {
+          overlaps.incrementAndGet();
+        }
+      }
+    };
+
+    long pipelinedMillis;
+    pipelinedRepository.addHandler(handler);
+
+    try
+    {
+      pipelinedMillis = commitConcurrently(pipelinedRepository, true);
+    }
+    finally
+    {
+      pipelinedRepository.removeHandler(handler);
+    }
+
+    msg("Serialized: " + serializedMillis + " ms, pipelined: " + pipelinedMillis + " ms, overlapping commits: " + overlaps.get());
+    assertTrue("No commit has been validated while another one was written", overlaps.get() > 0);
+  }
+
+  private InternalRepository getSerializingRepository(String name, boolean pipelining)
+  {
+    Map<String, Object> testProperties = getTestProperties();
+    testProperties.put(IRepository.Props.SERIALIZE_COMMITS, "true"); //$NON-NLS-1$
+    testProperties.put(IRepository.Props.PIPELINE_COMMITS, Boolean.toString(pipelining));
+    return getRepository(name);
+  }
+
+  /**
+   * Returns the time in milliseconds that the concurrent commits took.
+   */
+  private long commitConcurrently(InternalRepository repository, boolean ordered) throws Exception
+  {
+    int threads = 8;
+    int commits = 200;
+
+    List<Company> companies = new ArrayList<>();
+    for (int i = 0; i < threads; i++)
+    {
+      CDOSession session = openSession(repository.getName());
+      CDOTransaction transaction = session.openTransaction();
+
+      // Each thread modifies its own object, so that the commits don't conflict.
+      Company company = getModel1Factory().createCompany();
+      transaction.createResource(getResourcePath("/concurrent/resource" + i)).getContents().add(company);
+      transaction.commit();
+
+      companies.add(company);
+    }
+
+    List<Long> timeStamps = Collections.synchronizedList(new ArrayList<>());
+    CDOCommitInfoHandler handler = commitInfo -> timeStamps.add(commitInfo.getTimeStamp());
+    repository.getCommitInfoManager().addCommitInfoHandler(handler);
+
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    ExecutorService executorService = Executors.newFixedThreadPool(threads);
+
+    try
+    {
+      for (Company company : companies)
+      {
+        futures.add(executorService.submit(() -> {
+          CDOTransaction transaction = (CDOTransaction)CDOUtil.getView(company);
+          start.await();
+
+          for (int i = 0; i < commits; i++)
+          {
+            company.setName("Company " + i);
+            transaction.commit();
+          }
+
+          return null;
+        }));
+      }
+
+      long startMillis = System.currentTimeMillis();
+      start.countDown();
+
+      for (Future<?> future : futures)
+      {
+        future.get();
+      }
+
+      long millis = System.currentTimeMillis() - startMillis;
+
+      assertEquals(threads * commits, timeStamps.size());
+      if (ordered)
+      {
+        // Pipelined commits are stored and notified in the order of their timestamps.
+        for (int i = 1; i < timeStamps.size(); i++)
+        {
+          assertTrue(timeStamps.get(i - 1) < timeStamps.get(i));
+        }
+      }
+
+      assertEquals(Collections.max(timeStamps).longValue(), repository.getLastCommitTimeStamp());
+      return millis;
+    }
+    finally
+    {
+      repository.getCommitInfoManager().removeCommitInfoHandler(handler);
+      executorService.shutdownNow();
+    }
+  }
+
   private void createModel(int companies, int categories, int products)
   {
     for (int i = 0; i < companies; i++)
@@ -15,11 +15,21 @@ import org.eclipse.emf.cdo.CDOObject;
 import org.eclipse.emf.cdo.CDOState;
 import org.eclipse.emf.cdo.common.CDOCommonSession.Options.PassiveUpdateMode;
 import org.eclipse.emf.cdo.common.branch.CDOBranch;
+import org.eclipse.emf.cdo.common.commit.CDOCommitInfo;
 import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.common.protocol.CDOProtocol.CommitNotificationInfo;
+import org.eclipse.emf.cdo.common.revision.CDORevisionKey;
+import org.eclipse.emf.cdo.common.revision.delta.CDORevisionDelta;
+import org.eclipse.emf.cdo.common.revision.delta.CDOSetFeatureDelta;
 import org.eclipse.emf.cdo.eresource.CDOResource;
+import org.eclipse.emf.cdo.internal.server.SessionManager;
 import org.eclipse.emf.cdo.session.CDOSession;
 import org.eclipse.emf.cdo.session.CDOSessionInvalidationEvent;
+import org.eclipse.emf.cdo.spi.server.InternalSession;
 import org.eclipse.emf.cdo.tests.config.IRepositoryConfig;
+import org.eclipse.emf.cdo.tests.config.impl.ConfigTest.CleanRepositoriesAfter;
+import org.eclipse.emf.cdo.tests.config.impl.ConfigTest.CleanRepositoriesBefore;
+import org.eclipse.emf.cdo.tests.config.impl.RepositoryConfig;
 import org.eclipse.emf.cdo.tests.model1.Category;
 import org.eclipse.emf.cdo.tests.model1.Company;
 import org.eclipse.emf.cdo.tests.model1.Customer;
@@ -51,6 +61,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Eike Stepper
@@ -437,6 +448,148 @@ public class InvalidationTest extends AbstractCDOTest
     assertNoTimeout(() -> "CHANGED NAME".equals(category1B.getName()));
   }
 
+  public void testManySessionsManyCommits() throws Exception
+  {
+    int sessions = 5;
+    int commits = 50;
+
+    CDOSession sessionA = openSession();
+    CDOTransaction transaction = sessionA.openTransaction();
+    CDOResource resourceA = transaction.createResource(getResourcePath("/test1"));
+
+    List<Category> categoriesA = new ArrayList<>();
+    for (int i = 0; i < commits; i++)
+    {
+      Category category = getModel1Factory().createCategory();
+      category.setName("category" + i);
+      resourceA.getContents().add(category);
+      categoriesA.add(category);
+    }
+
+    transaction.commit();
+
+    List<CDOView> views = new ArrayList<>();
+    for (int i = 0; i < sessions; i++)
+    {
+      CDOView view = openSession().openView();
+      view.getResource(getResourcePath("/test1")).getContents().size();
+      views.add(view);
+    }
+
+    // Change distinct objects as well as the same object in a burst of commits.
+    long lastCommitTime = 0;
+    for (int i = 0; i < commits; i++)
+    {
+      categoriesA.get(i).setName("changed" + i);
+      categoriesA.get(0).getCategories().add(getModel1Factory().createCategory());
+      lastCommitTime = transaction.commit().getTimeStamp();
+    }
+
+    for (CDOView view : views)
+    {
+      assertEquals(true, view.waitForUpdate(lastCommitTime, DEFAULT_TIMEOUT));
+
+      EList<EObject> contents = view.getResource(getResourcePath("/test1")).getContents();
+      for (int i = 0; i < commits; i++)
+      {
+        assertEquals("changed" + i, ((Category)contents.get(i)).getName());
+      }
+
+      assertEquals(commits, ((Category)contents.get(0)).getCategories().size());
+    }
+  }
+
+  @CleanRepositoriesBefore(reason = "Asynchronous commit notifications")
+  @CleanRepositoriesAfter(reason = "Asynchronous commit notifications")
+  public void testCoalesceCommitNotifications() throws Exception
+  {
+    StallingSessionManager sessionManager = new StallingSessionManager();
+    getTestProperties().put(RepositoryConfig.PROP_TEST_SESSION_MANAGER, sessionManager);
+
+    // One notification is stalled in delivery, the next ones fill the queue, and the last three overflow it.
+    int maxQueued = sessionManager.getMaxQueuedCommitNotifications();
+    int commits = maxQueued + 3;
+
+    CDOSession sessionA = openSession();
+    CDOTransaction transaction = sessionA.openTransaction();
+    CDOResource resourceA = transaction.createResource(getResourcePath("/test1"));
+
+    List<Category> categories = new ArrayList<>();
+    for (int i = 0; i < commits; i++)
+    {
+      Category category = getModel1Factory().createCategory();
+      category.setName("category" + i);
+      resourceA.getContents().add(category);
+      categories.add(category);
+    }
+
+    transaction.commit();
+
+    CDOSession sessionB = openSession();
+    CDOView view = sessionB.openView();
+    view.getResource(getResourcePath("/test1")).getContents().size();
+    sessionManager.stalledSessionID = sessionB.getSessionID();
+
+    // Commits on disjoint objects. The last commit has a different comment and must not be coalesced.
+    List<CDOCommitInfo> commitInfos = new ArrayList<>();
+    for (int i = 0; i < commits; i++)
+    {
+      categories.get(i).setName("changed" + i);
+      if (i == commits - 1)
+      {
+        transaction.setCommitComment("last");
+      }
+
+      commitInfos.add(transaction.commit());
+
+      if (i == 0)
+      {
+        assertEquals(true, sessionManager.stalled.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+      }
+    }
+
+    sessionManager.released.countDown();
+    assertEquals(true, view.waitForUpdate(commitInfos.get(commits - 1).getTimeStamp(), DEFAULT_TIMEOUT));
+
+    EList<EObject> contents = view.getResource(getResourcePath("/test1")).getContents();
+    for (int i = 0; i < commits; i++)
+    {
+      assertEquals("changed" + i, ((Category)contents.get(i)).getName());
+    }
+
+    List<CommitNotificationInfo> deliveredInfos = sessionManager.getDeliveredInfos();
+    assertEquals(commits - 1, deliveredInfos.size());
+
+    for (int i = 0; i < maxQueued; i++)
+    {
+      assertEquals(commitInfos.get(i).getTimeStamp(), deliveredInfos.get(i).getCommitInfo().getTimeStamp());
+    }
+
+    CDOCommitInfo merged = deliveredInfos.get(maxQueued).getCommitInfo();
+    assertEquals(commitInfos.get(maxQueued + 1).getTimeStamp(), merged.getTimeStamp());
+    assertEquals(commitInfos.get(maxQueued).getPreviousTimeStamp(), merged.getPreviousTimeStamp());
+    assertEquals(commitInfos.get(maxQueued).getUserID(), merged.getUserID());
+    assertEquals(null, merged.getComment());
+
+    List<CDORevisionKey> changedObjects = merged.getChangedObjects();
+    assertEquals(2, changedObjects.size());
+
+    for (int i = 0; i < 2; i++)
+    {
+      int index = maxQueued + i;
+      CDORevisionDelta delta = (CDORevisionDelta)changedObjects.get(i);
+      assertEquals(CDOUtil.getCDOObject(categories.get(index)).cdoID(), delta.getID());
+
+      CDOSetFeatureDelta featureDelta = (CDOSetFeatureDelta)delta.getFeatureDelta(getModel1Package().getCategory_Name());
+      assertEquals("changed" + index, featureDelta.getValue());
+    }
+
+    CDOCommitInfo last = deliveredInfos.get(maxQueued + 1).getCommitInfo();
+    assertEquals(commitInfos.get(commits - 1).getTimeStamp(), last.getTimeStamp());
+    assertEquals(merged.getTimeStamp(), last.getPreviousTimeStamp());
+    assertEquals("last", last.getComment());
+  }
+
   /**
    * See bug 236784
    */
@@ -876,4 +1029,58 @@ public class InvalidationTest extends AbstractCDOTest
     assertEquals(branch1, cdoCompanyB.cdoRevision().getBranch());
     assertEquals(1, cdoCompanyB.cdoRevision().getVersion());
   }
+
+  /**
+   * Delivers commit notifications asynchronously and stalls the delivery to one session until it's released.
+   *
+   * @author Eike Stepper
+   */
+  private static final class StallingSessionManager extends SessionManager
+  {
+    private final List<CommitNotificationInfo> deliveredInfos = new ArrayList<>();
+
+    private final CountDownLatch stalled = new CountDownLatch(1);
+
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    private volatile int stalledSessionID;
+
+    public StallingSessionManager()
+    {
+      setCommitNotificationThreads(2);
+    }
+
+    public List<CommitNotificationInfo> getDeliveredInfos()
+    {
+      synchronized (deliveredInfos)
+      {
+        return new ArrayList<>(deliveredInfos);
+      }
+    }
+
+    @Override
+    protected void doSendCommitNotification(InternalSession session, CommitNotificationInfo info)
+    {
+      if (session.getSessionID() == stalledSessionID)
+      {
+        synchronized (deliveredInfos)
+        {
+          deliveredInfos.add(info);
+        }
+
+        stalled.countDown();
+
+        try
+        {
+          released.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException ex)
+        {
+          Thread.currentThread().interrupt();
+        }
+      }
+
+      super.doSendCommitNotification(session, info);
+    }
+  }
 }
@@ -13,7 +13,11 @@ package org.eclipse.emf.cdo.tests;
 import org.eclipse.emf.cdo.common.branch.CDOBranch;
 import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
 import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.common.id.CDOIDUtil;
+import org.eclipse.emf.cdo.common.lock.CDOLockDelta;
 import org.eclipse.emf.cdo.common.lock.CDOLockOwner;
+import org.eclipse.emf.cdo.common.lock.CDOLockState;
+import org.eclipse.emf.cdo.common.lock.CDOLockUtil;
 import org.eclipse.emf.cdo.session.CDOSession;
 import org.eclipse.emf.cdo.spi.common.lock.InternalCDOLockState;
 import org.eclipse.emf.cdo.tests.config.IRepositoryConfig;
@@ -26,7 +30,12 @@ import org.eclipse.net4j.util.io.IOUtil;
 
 import org.eclipse.emf.spi.cdo.CDOLockStateCache;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * @author Eike Stepper
@@ -767,6 +776,80 @@ public class LockStateCacheTest extends AbstractCDOTest
         .verifyUnmodified();
   }
 
+  public void testUpdateLockStatesConcurrently() throws Exception
+  {
+    CDOSession session = openSession();
+    CDOLockStateCache cache = new CDOLockStateCacheImpl(session);
+    CDOBranch branch = getTestBranch(session);
+
+    CDOView view = session.openView(branch.getHead());
+    CDOLockOwner owner = view.getLockOwner();
+
+    int count = 100000;
+    List<CDOID> ids = new ArrayList<>(count);
+    List<CDOLockDelta> lockDeltas = new ArrayList<>(count);
+    List<CDOLockState> lockStates = new ArrayList<>(count);
+    List<CDOLockDelta> unlockDeltas = new ArrayList<>(count);
+
+    for (int i = 0; i < count; i++)
+    {
+      CDOID id = CDOIDUtil.createLong(i + 1);
+      Object key = cache.createKey(branch, id);
+      ids.add(id);
+
+      InternalCDOLockState lockState = (InternalCDOLockState)CDOLockUtil.createLockState(key);
+      lockState.addOwner(owner, LockType.WRITE);
+      lockStates.add(lockState);
+
+      lockDeltas.add(CDOLockUtil.createLockDelta(key, LockType.WRITE, null, owner));
+      unlockDeltas.add(CDOLockUtil.createLockDelta(key, LockType.WRITE, owner, null));
+    }
+
+    cache.updateLockStates(branch, lockDeltas, lockStates, null);
+
+    AtomicBoolean done = new AtomicBoolean();
+    AtomicReference<Throwable> exception = new AtomicReference<>();
+
+    Thread reader = new Thread(() -> {
+      try
+      {
+        while (!done.get())
+        {
+          cache.getLockStates(branch, ids.subList(0, 1000), false, lockState -> assertNotNull(lockState));
+        }
+      }
+      catch (Throwable ex)
+      {
+        exception.set(ex);
+      }
+    });
+
+    reader.start();
+
+    try
+    {
+      cache.updateLockStates(branch, unlockDeltas, Collections.emptyList(), null);
+    }
+    finally
+    {
+      done.set(true);
+      reader.join(DEFAULT_TIMEOUT);
+    }
+
+    assertFalse("Reader did not finish", reader.isAlive());
+
+    Throwable ex = exception.get();
+    if (ex != null)
+    {
+      throw new AssertionError("Reader failed", ex);
+    }
+
+    for (CDOID id : ids)
+    {
+      assertNull(cache.getLockState(branch, id).getWriteLockOwner());
+    }
+  }
+
   protected CDOBranch getTestBranch(CDOSession session)
   {
     return session.getBranchManager().getMainBranch();
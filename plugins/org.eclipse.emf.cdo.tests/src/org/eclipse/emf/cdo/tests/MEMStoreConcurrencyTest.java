@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests;
+
+import org.eclipse.emf.cdo.common.branch.CDOBranch;
+import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.common.id.CDOIDUtil;
+import org.eclipse.emf.cdo.common.revision.CDORevision;
+import org.eclipse.emf.cdo.eresource.CDOResource;
+import org.eclipse.emf.cdo.internal.server.mem.MEMStore;
+import org.eclipse.emf.cdo.session.CDOSession;
+import org.eclipse.emf.cdo.spi.common.revision.DetachedCDORevision;
+import org.eclipse.emf.cdo.tests.config.IRepositoryConfig;
+import org.eclipse.emf.cdo.tests.config.impl.ConfigTest.Requires;
+import org.eclipse.emf.cdo.tests.model1.Company;
+import org.eclipse.emf.cdo.transaction.CDOTransaction;
+import org.eclipse.emf.cdo.view.CDOView;
+
+import org.eclipse.emf.ecore.EClass;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Reads from a {@link MEMStore} while another thread commits to it.
+ *
+ * @author Eike Stepper
+ */
+@Requires({ IRepositoryConfig.CAPABILITY_AUDITING, "MEM" })
+public class MEMStoreConcurrencyTest extends AbstractCDOTest
+{
+  private static final int READERS = 3;
+
+  private static final int COMMITS = 50;
+
+  public void testConcurrentReadsAndCommits() throws Exception
+  {
+    CDOSession session = openSession();
+    CDOTransaction transaction = session.openTransaction();
+    CDOResource resource = transaction.createResource(getResourcePath("/res"));
+    Company company = getModel1Factory().createCompany();
+    resource.getContents().add(company);
+    transaction.commit();
+
+    MEMStore store = (MEMStore)getRepository().getStore();
+    AtomicLongArray timeStamps = new AtomicLongArray(COMMITS);
+    AtomicInteger published = new AtomicInteger(-1);
+
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    ExecutorService executorService = Executors.newFixedThreadPool(READERS + 1);
+
+    try
+    {
+      // Each commit adds two categories.
+      futures.add(executorService.submit(() -> {
+        start.await();
+
+        for (int i = 0; i < COMMITS; i++)
+        {
+          company.getCategories().add(getModel1Factory().createCategory());
+          company.getCategories().add(getModel1Factory().createCategory());
+          timeStamps.set(i, transaction.commit().getTimeStamp());
+          published.set(i);
+        }
+
+        return null;
+      }));
+
+      for (int r = 0; r < READERS; r++)
+      {
+        futures.add(executorService.submit(() -> {
+          CDOSession readerSession = openSession();
+          start.await();
+
+          for (int i; (i = published.get()) < COMMITS - 1;)
+          {
+            if (i >= 0)
+            {
+              // The lock-free point-in-time reads see the state of that commit.
+              CDOView view = readerSession.openView(timeStamps.get(i));
+              Company readCompany = (Company)view.getResource(getResourcePath("/res")).getContents().get(0);
+              assertEquals(2 * (i + 1), readCompany.getCategories().size());
+              view.close();
+            }
+
+            // The scanning reads see all or none of the changes of a commit.
+            assertEquals(0, countCategories(store) % 2);
+          }
+
+          readerSession.close();
+          return null;
+        }));
+      }
+
+      start.countDown();
+
+      for (Future<?> future : futures)
+      {
+        future.get();
+      }
+    }
+    finally
+    {
+      executorService.shutdownNow();
+    }
+
+    assertEquals(2 * COMMITS, countCategories(store));
+    session.close();
+  }
+
+  public void testDetachUnknownObject() throws Exception
+  {
+    MEMStore store = (MEMStore)getRepository().getStore();
+    CDOBranch mainBranch = getRepository().getBranchManager().getMainBranch();
+    CDOID id = CDOIDUtil.createLong(Integer.MAX_VALUE);
+
+    // An unknown object has no class.
+    DetachedCDORevision detached = store.detachObject(id, mainBranch, getRepository().getTimeStamp());
+    assertNull(detached.getEClass());
+    assertNull(store.getObjectType(id));
+  }
+
+  private int countCategories(MEMStore store)
+  {
+    int count = 0;
+    for (Map.Entry<CDOBranch, List<CDORevision>> entry : store.getAllRevisions().entrySet())
+    {
+      for (CDORevision revision : entry.getValue())
+      {
+        EClass eClass = revision.getEClass();
+        if (eClass != null && "Category".equals(eClass.getName()))
+        {
+          ++count;
+        }
+      }
+    }
+
+    return count;
+  }
+}
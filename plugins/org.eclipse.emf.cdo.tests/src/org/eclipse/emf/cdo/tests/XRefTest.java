@@ -36,7 +36,9 @@ import org.eclipse.emf.ecore.util.EcoreUtil;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Bug 300149: Support remote cross referencing with a convenient API on the client and SPI on the server.
@@ -577,6 +579,68 @@ public class XRefTest extends AbstractCDOTest
     }
   }
 
+  @SuppressWarnings("unchecked")
+  public void testXRefsFromManyClasses() throws Exception
+  {
+    EClass target = EcoreFactory.eINSTANCE.createEClass();
+    target.setName("Target");
+
+    EPackage xref = createUniquePackage();
+    xref.getEClassifiers().add(target);
+
+    int classes = 16;
+    EClass[] sources = new EClass[classes];
+    EReference[] references = new EReference[classes];
+    for (int i = 0; i < classes; i++)
+    {
+      sources[i] = EcoreFactory.eINSTANCE.createEClass();
+      sources[i].setName("Source" + i);
+      xref.getEClassifiers().add(sources[i]);
+      references[i] = addReference(sources[i], target, i % 2 == 0);
+    }
+
+    CDOSession session = openSession();
+    session.getPackageRegistry().putEPackage(xref);
+
+    CDOTransaction transaction = session.openTransaction();
+    CDOResource resource = transaction.createResource(getResourcePath("/test1"));
+
+    EObject targetObject = addObject(resource, target);
+    for (int i = 0; i < classes; i++)
+    {
+      for (int j = 0; j < 3; j++)
+      {
+        EObject sourceObject = addObject(resource, sources[i]);
+        if (references[i].isMany())
+        {
+          ((EList<EObject>)sourceObject.eGet(references[i])).add(targetObject);
+        }
+        else
+        {
+          sourceObject.eSet(references[i], targetObject);
+        }
+      }
+    }
+
+    transaction.commit();
+
+    CDOSession session2 = openSession();
+    CDOView view = session2.openView();
+    EObject targetObject2 = view.getObject(targetObject);
+
+    List<CDOObjectReference> results = view.queryXRefs(CDOUtil.getCDOObject(targetObject2));
+    assertEquals(3 * classes, results.size());
+
+    Set<String> sourceClasses = new HashSet<>();
+    for (CDOObjectReference result : results)
+    {
+      assertEquals(targetObject2, result.getTargetObject());
+      sourceClasses.add(result.getSourceObject().eClass().getName());
+    }
+
+    assertEquals(classes, sourceClasses.size());
+  }
+
   private PurchaseOrder addPurchaseOrder(Supplier supplier)
   {
     PurchaseOrder purchaseOrder = getModel1Factory().createPurchaseOrder();
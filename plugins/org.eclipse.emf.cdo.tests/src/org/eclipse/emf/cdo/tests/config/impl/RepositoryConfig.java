@@ -21,6 +21,7 @@ import org.eclipse.emf.cdo.common.branch.CDODuplicateBranchException;
 import org.eclipse.emf.cdo.common.commit.CDOCommitInfo;
 import org.eclipse.emf.cdo.common.commit.CDOCommitInfoHandler;
 import org.eclipse.emf.cdo.common.commit.CDOCommitInfoManager;
+import org.eclipse.emf.cdo.common.protocol.CDODataOutput;
 import org.eclipse.emf.cdo.common.protocol.CDOProtocol.CommitNotificationInfo;
 import org.eclipse.emf.cdo.common.revision.CDORevisionUtil;
 import org.eclipse.emf.cdo.common.util.CDOQueryInfo;
@@ -32,6 +33,7 @@ import org.eclipse.emf.cdo.internal.server.Repository;
 import org.eclipse.emf.cdo.internal.server.mem.MEMStore;
 import org.eclipse.emf.cdo.internal.server.mem.MEMStoreAccessor;
 import org.eclipse.emf.cdo.internal.server.syncing.OfflineClone;
+import org.eclipse.emf.cdo.internal.server.syncing.RawReplicationChunk;
 import org.eclipse.emf.cdo.internal.server.syncing.RepositorySynchronizer;
 import org.eclipse.emf.cdo.net4j.CDONet4jSessionConfiguration;
 import org.eclipse.emf.cdo.server.CDOServerBrowser;
@@ -110,6 +112,7 @@ import org.eclipse.emf.spi.cdo.InternalCDOSession;
 import org.junit.Assert;
 
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
@@ -127,6 +130,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 
 /**
  * @author Eike Stepper
@@ -1170,13 +1174,65 @@ public abstract class RepositoryConfig extends Config implements IRepositoryConf
       }
       else
       {
-        repository = (InternalRepository)CDOServerUtil.createRepository(masterName, masterStore, props);
+        MasterRepository_UT master = new MasterRepository_UT();
+        master.setName(masterName);
+        master.setStore((InternalStore)masterStore);
+        master.setProperties(props);
+        repository = master;
       }
 
       setInitialPackages(repository);
       return repository;
     }
 
+    /**
+     * A master repository whose raw replication frames can be corrupted, so that tests can simulate a broken transfer.
+     *
+     * @author Eike Stepper
+     */
+    public static class MasterRepository_UT extends Repository.Default
+    {
+      private ObjIntConsumer<byte[]> rawReplicationFrameHandler;
+
+      public MasterRepository_UT()
+      {
+      }
+
+      /**
+       * Sets a handler that is called with the data and the length of each raw replication frame after the checksum has
+       * been updated and before the frame is written.
+       */
+      public synchronized void setRawReplicationFrameHandler(ObjIntConsumer<byte[]> rawReplicationFrameHandler)
+      {
+        this.rawReplicationFrameHandler = rawReplicationFrameHandler;
+      }
+
+      @Override
+      protected RawReplicationChunk.Output createRawReplicationChunk(CDODataOutput out)
+      {
+        ObjIntConsumer<byte[]> handler;
+        synchronized (this)
+        {
+          handler = rawReplicationFrameHandler;
+        }
+
+        if (handler == null)
+        {
+          return super.createRawReplicationChunk(out);
+        }
+
+        return new RawReplicationChunk.Output(out)
+        {
+          @Override
+          protected void writeFrame(byte[] buffer, int length) throws IOException
+          {
+            handler.accept(buffer, length);
+            super.writeFrame(buffer, length);
+          }
+        };
+      }
+    }
+
     @Override
     protected InternalRepository createRepository(String name)
     {
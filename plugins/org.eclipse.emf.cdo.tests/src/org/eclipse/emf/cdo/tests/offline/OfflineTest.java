@@ -13,6 +13,7 @@ package org.eclipse.emf.cdo.tests.offline;
 import org.eclipse.emf.cdo.CDOObject;
 import org.eclipse.emf.cdo.common.CDOCommonRepository.IDGenerationLocation;
 import org.eclipse.emf.cdo.common.CDOCommonSession.Options.PassiveUpdateMode;
+import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
 import org.eclipse.emf.cdo.common.commit.CDOCommitInfo;
 import org.eclipse.emf.cdo.common.commit.CDOCommitInfoHandler;
 import org.eclipse.emf.cdo.common.id.CDOID;
@@ -22,12 +23,17 @@ import org.eclipse.emf.cdo.common.revision.delta.CDOListFeatureDelta;
 import org.eclipse.emf.cdo.common.revision.delta.CDORevisionDelta;
 import org.eclipse.emf.cdo.eresource.CDOResource;
 import org.eclipse.emf.cdo.internal.server.syncing.OfflineClone;
+import org.eclipse.emf.cdo.server.IRepository;
+import org.eclipse.emf.cdo.server.IRepositorySynchronizer;
+import org.eclipse.emf.cdo.server.IStoreAccessor.CommitContext;
+import org.eclipse.emf.cdo.server.ITransaction;
 import org.eclipse.emf.cdo.session.CDOSession;
 import org.eclipse.emf.cdo.session.CDOSessionInvalidationEvent;
 import org.eclipse.emf.cdo.spi.server.InternalRepository;
 import org.eclipse.emf.cdo.spi.server.InternalSynchronizableRepository;
 import org.eclipse.emf.cdo.tests.AbstractSyncingTest;
 import org.eclipse.emf.cdo.tests.bundle.OM;
+import org.eclipse.emf.cdo.tests.config.impl.RepositoryConfig.OfflineConfig.MasterRepository_UT;
 import org.eclipse.emf.cdo.tests.model1.Company;
 import org.eclipse.emf.cdo.tests.model3.File;
 import org.eclipse.emf.cdo.tests.model3.Image;
@@ -35,8 +41,11 @@ import org.eclipse.emf.cdo.transaction.CDOTransaction;
 import org.eclipse.emf.cdo.view.CDOViewInvalidationEvent;
 
 import org.eclipse.net4j.util.event.IEvent;
+import org.eclipse.net4j.util.event.IListener;
+import org.eclipse.net4j.util.event.ThrowableEvent;
 import org.eclipse.net4j.util.io.IOUtil;
 import org.eclipse.net4j.util.om.monitor.NotifyingMonitor.ProgressEvent;
+import org.eclipse.net4j.util.om.monitor.OMMonitor;
 import org.eclipse.net4j.util.tests.TestListener;
 
 import org.eclipse.emf.spi.cdo.DefaultCDOMerger;
@@ -44,7 +53,13 @@ import org.eclipse.emf.spi.cdo.DefaultCDOMerger;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Eike Stepper
@@ -793,4 +808,279 @@ public class OfflineTest extends AbstractSyncingTest
     waitForOnline(clone);
     assertEquals(100, workPercent[0]);
   }
+
+  public void testCatchUp() throws Exception
+  {
+    InternalSynchronizableRepository clone = getRepository();
+    waitForOnline(clone);
+
+    final IRepositorySynchronizer synchronizer = clone.getSynchronizer();
+    synchronizer.setCatchUpThreshold(5);
+
+    CDOSession session = openSession();
+    List<Long> chunks = recordRawReplicationChunks(session);
+
+    // Stall the first replicated commit, so that the following master commits pile up in the synchronizer.
+    CountDownLatch stalled = new CountDownLatch(1);
+    CountDownLatch released = new CountDownLatch(1);
+    AtomicInteger commitsOneByOne = new AtomicInteger();
+    AtomicInteger commitsCatchingUp = new AtomicInteger();
+
+    IRepository.WriteAccessHandler handler = new IRepository.WriteAccessHandler()
+    {
+      @Override
+      public void handleTransactionBeforeCommitting(ITransaction transaction, CommitContext commitContext, OMMonitor monitor) throws RuntimeException
+      {
+        if (transaction.getSession() == clone.getReplicatorSession())
+        {
+          if (synchronizer.isCatchingUp())
+          {
+            commitsCatchingUp.incrementAndGet();
+          }
+          else
+          {
+            commitsOneByOne.incrementAndGet();
+          }
+
+          stalled.countDown();
+
+          try
+          {
+            released.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+          }
+          catch (InterruptedException ex)
+          {
+            Thread.currentThread().interrupt();
+          }
+        }
+      }
+
+      @Override
+      public void handleTransactionAfterCommitted(ITransaction transaction, CommitContext commitContext, OMMonitor monitor)
+      {
+      }
+    };
+
+    clone.addHandler(handler);
+
+    CDOSession masterSession = openSession("master");
+    CDOTransaction masterTransaction = masterSession.openTransaction();
+    CDOResource masterResource = masterTransaction.createResource(getResourcePath("/my/resource"));
+    long timeStamp = CDOBranchPoint.UNSPECIFIED_DATE;
+
+    try
+    {
+      for (int i = 0; i < 50; i++)
+      {
+        masterResource.getContents().add(getModel1Factory().createCompany());
+        timeStamp = masterTransaction.commit().getTimeStamp();
+
+        if (i == 0)
+        {
+          assertEquals(true, stalled.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+        }
+      }
+
+      new PollingTimeOuter()
+      {
+        @Override
+        protected boolean successful()
+        {
+          return synchronizer.getPendingCommits() >= 5;
+        }
+      }.assertNoTimeOut();
+    }
+    finally
+    {
+      released.countDown();
+    }
+
+    masterSession.close();
+
+    assertEquals(true, session.waitForUpdate(timeStamp, DEFAULT_TIMEOUT));
+
+    CDOResource resource = session.openView().getResource(getResourcePath("/my/resource"));
+    assertEquals(50, resource.getContents().size());
+
+    new PollingTimeOuter()
+    {
+      @Override
+      protected boolean successful()
+      {
+        return synchronizer.getPendingCommits() == 0 && !synchronizer.isCatchingUp();
+      }
+    }.assertNoTimeOut();
+
+    clone.removeHandler(handler);
+    assertEquals(0L, synchronizer.getReplicationLag());
+
+    // Only the stalled commit has been replicated one by one, all others in one catch-up batch.
+    assertEquals(1, commitsOneByOne.get());
+    if (synchronizer.isRawReplication())
+    {
+      assertEquals(false, chunks.isEmpty());
+    }
+    else
+    {
+      assertEquals(49, commitsCatchingUp.get());
+    }
+  }
+
+  public void testRawReplicationInChunks() throws Exception
+  {
+    InternalSynchronizableRepository clone = getRepository();
+    waitForOnline(clone);
+
+    IRepositorySynchronizer synchronizer = clone.getSynchronizer();
+    synchronizer.setRawReplicationChunkSize(3);
+
+    CDOSession session = openSession();
+    List<Long> chunks = recordRawReplicationChunks(session);
+
+    getOfflineConfig().stopMasterTransport();
+    waitForOffline(clone);
+
+    CDOSession masterSession = openSession("master");
+    CDOTransaction masterTransaction = masterSession.openTransaction();
+    CDOResource masterResource = masterTransaction.createResource(getResourcePath("/my/resource"));
+    long timeStamp = masterTransaction.commit().getTimeStamp();
+
+    for (int i = 0; i < 10; i++)
+    {
+      masterResource.getContents().add(getModel1Factory().createCompany());
+      timeStamp = masterTransaction.commit().getTimeStamp();
+    }
+
+    masterSession.close();
+
+    getOfflineConfig().startMasterTransport();
+    waitForOnline(clone);
+    assertEquals(timeStamp, clone.getLastReplicatedCommitTime());
+
+    if (synchronizer.isRawReplication())
+    {
+      // 11 commits in chunks of 3 commits.
+      int expectedChunks = 4;
+
+      new PollingTimeOuter()
+      {
+        @Override
+        protected boolean successful()
+        {
+          return chunks.size() >= expectedChunks;
+        }
+      }.assertNoTimeOut();
+
+      assertEquals(expectedChunks, chunks.size());
+      assertEquals(timeStamp, (long)chunks.get(expectedChunks - 1));
+
+      // The replication checkpoint of the last chunk has been persisted.
+      String name = "org.eclipse.emf.cdo.server.lastReplicatedCommitTime";
+      Map<String, String> properties = clone.getStore().getPersistentProperties(Collections.singleton(name));
+      assertEquals(Long.toString(timeStamp), properties.get(name));
+    }
+
+    CDOResource resource = session.openView().getResource(getResourcePath("/my/resource"));
+    assertEquals(10, resource.getContents().size());
+  }
+
+  public void testRawReplicationWithCorruptedChunk() throws Exception
+  {
+    InternalSynchronizableRepository clone = getRepository();
+    waitForOnline(clone);
+
+    IRepositorySynchronizer synchronizer = clone.getSynchronizer();
+    skipTest(!synchronizer.isRawReplication());
+
+    // The frames are corrupted through the test master repository.
+    InternalRepository repository = getRepository("master");
+    skipTest(!(repository instanceof MasterRepository_UT));
+    MasterRepository_UT master = (MasterRepository_UT)repository;
+
+    synchronizer.setRawReplicationChunkSize(3);
+
+    getOfflineConfig().stopMasterTransport();
+    waitForOffline(clone);
+
+    CDOSession masterSession = openSession("master");
+    CDOTransaction masterTransaction = masterSession.openTransaction();
+    CDOResource masterResource = masterTransaction.createResource(getResourcePath("/my/resource"));
+    long timeStamp = masterTransaction.commit().getTimeStamp();
+
+    for (int i = 0; i < 10; i++)
+    {
+      masterResource.getContents().add(getModel1Factory().createCompany());
+      timeStamp = masterTransaction.commit().getTimeStamp();
+    }
+
+    masterSession.close();
+
+    // Each chunk of 3 commits fits into a single frame.
+    List<Long> requestedFrom = Collections.synchronizedList(new ArrayList<>());
+    master.setRawReplicationFrameHandler((buffer, length) -> {
+      requestedFrom.add(clone.getLastReplicatedCommitTime());
+      if (requestedFrom.size() == 2)
+      {
+        // Corrupt the second chunk after its checksum has been computed.
+        buffer[length / 2] ^= 0xFF;
+      }
+    });
+
+    AtomicBoolean checksumMismatch = new AtomicBoolean();
+    IListener listener = event -> {
+      if (event instanceof ThrowableEvent)
+      {
+        for (Throwable t = ((ThrowableEvent)event).getThrowable(); t != null; t = t.getCause())
+        {
+          String message = t.getMessage();
+          if (message != null && message.contains("Checksum mismatch"))
+          {
+            checksumMismatch.set(true);
+          }
+        }
+      }
+    };
+
+    synchronizer.addListener(listener);
+
+    try
+    {
+      getOfflineConfig().startMasterTransport();
+      waitForOnline(clone);
+    }
+    finally
+    {
+      master.setRawReplicationFrameHandler(null);
+      synchronizer.removeListener(listener);
+    }
+
+    assertEquals(true, checksumMismatch.get());
+    assertEquals(timeStamp, clone.getLastReplicatedCommitTime());
+
+    // The corrupted chunk has been requested again from the end of the first chunk, not from the beginning.
+    assertTrue(requestedFrom.size() > 2);
+    assertTrue(requestedFrom.get(1) > requestedFrom.get(0));
+    assertEquals(requestedFrom.get(1), requestedFrom.get(2));
+
+    CDOSession session = openSession();
+    CDOResource resource = session.openView().getResource(getResourcePath("/my/resource"));
+    assertEquals(10, resource.getContents().size());
+  }
+
+  private static List<Long> recordRawReplicationChunks(CDOSession session)
+  {
+    List<Long> chunks = Collections.synchronizedList(new ArrayList<>());
+    session.addListener(event -> {
+      if (event instanceof CDOSessionInvalidationEvent)
+      {
+        CDOSessionInvalidationEvent e = (CDOSessionInvalidationEvent)event;
+        if ("<replicate raw commits>".equals(e.getComment()))
+        {
+          chunks.add(e.getTimeStamp());
+        }
+      }
+    });
+
+    return chunks;
+  }
 }
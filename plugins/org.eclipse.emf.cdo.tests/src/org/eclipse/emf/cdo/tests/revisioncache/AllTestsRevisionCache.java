@@ -25,6 +25,9 @@ public class AllTestsRevisionCache
 
     // $JUnit-BEGIN$
     suite.addTestSuite(DefaultRevisionCacheTest.class);
+    suite.addTestSuite(StripedRevisionCacheTest.class);
+    suite.addTestSuite(BoundedRevisionCacheTest.class);
+    suite.addTestSuite(CompactRevisionTest.class);
     // $JUnit-END$
 
     return suite;
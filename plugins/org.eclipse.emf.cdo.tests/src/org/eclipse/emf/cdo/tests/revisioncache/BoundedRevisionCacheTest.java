@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests.revisioncache;
+
+import org.eclipse.emf.cdo.common.branch.CDOBranch;
+import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
+import org.eclipse.emf.cdo.common.id.CDOIDUtil;
+import org.eclipse.emf.cdo.common.revision.CDORevision;
+import org.eclipse.emf.cdo.common.revision.CDORevisionCache.EvictionEvent;
+import org.eclipse.emf.cdo.common.revision.CDORevisionFactory;
+import org.eclipse.emf.cdo.common.revision.CDORevisionUtil;
+import org.eclipse.emf.cdo.internal.common.revision.CDORevisionCacheBounded;
+import org.eclipse.emf.cdo.internal.common.revision.CDORevisionImpl;
+import org.eclipse.emf.cdo.internal.common.revision.CDORevisionOffHeapCache;
+import org.eclipse.emf.cdo.internal.common.revision.CacheEvictionEvent;
+import org.eclipse.emf.cdo.internal.common.revision.CacheStatistics;
+import org.eclipse.emf.cdo.session.CDORepositoryInfo;
+import org.eclipse.emf.cdo.session.CDOSession;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevisionCache;
+import org.eclipse.emf.cdo.tests.model1.Model1Package;
+
+import org.eclipse.net4j.util.event.IListener;
+import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Eike Stepper
+ */
+public class BoundedRevisionCacheTest extends AbstractRevisionCacheTest
+{
+  private static final long MAX_BYTES = 64L * 1024 * 1024;
+
+  private CDOSession session;
+
+  @Override
+  protected InternalCDORevisionCache createRevisionCache(CDOSession session) throws Exception
+  {
+    this.session = session;
+
+    CDORepositoryInfo repositoryInfo = session.getRepositoryInfo();
+    boolean supportingAudits = repositoryInfo.isSupportingAudits();
+    boolean supportingBranches = repositoryInfo.isSupportingBranches();
+
+    return (InternalCDORevisionCache)CDORevisionUtil.createRevisionCache(supportingAudits, supportingBranches, 1, MAX_BYTES);
+  }
+
+  public void testBudgetIsNotExceeded() throws Exception
+  {
+    CDOBranch mainBranch = session.getBranchManager().getMainBranch();
+    long maxBytes = 10 * 1024;
+
+    CDORevisionCacheBounded cache = (CDORevisionCacheBounded)CDORevisionUtil.createRevisionCache(true, false, 1, maxBytes);
+    cache.setBranchManager(session.getBranchManager());
+    LifecycleUtil.activate(cache);
+
+    AtomicInteger evictions = new AtomicInteger();
+    cache.addListener((IListener)event -> {
+      if (event instanceof EvictionEvent)
+      {
+        evictions.incrementAndGet();
+        assertNotNull(((CacheEvictionEvent)event).getStatistics());
+      }
+    });
+
+    try
+    {
+      for (int i = 0; i < 1000; i++)
+      {
+        CDORevisionImpl revision = new CDORevisionImpl(Model1Package.eINSTANCE.getCompany());
+        revision.setID(CDOIDUtil.createLong(i + 1));
+        revision.setBranchPoint(mainBranch.getPoint(i + 1));
+        revision.setVersion(1);
+        revision.setValue(Model1Package.eINSTANCE.getAddress_Name(), "Company " + i);
+        cache.internRevision(revision);
+
+        assertTrue(cache.getCurrentBytes() <= maxBytes);
+      }
+
+      CacheStatistics statistics = cache.getStatistics();
+      assertTrue(statistics.getEvictionCount() > 0);
+      assertEquals(statistics.getEvictionCount(), evictions.get());
+      assertTrue(statistics.getRevisionCount() < 1000);
+      assertEquals(statistics.getRevisionCount(), cache.getAllRevisions().values().stream().mapToInt(list -> list.size()).sum());
+    }
+    finally
+    {
+      LifecycleUtil.deactivate(cache);
+    }
+  }
+
+  public void testFrequentlyUsedRevisionSurvives() throws Exception
+  {
+    CDOBranch mainBranch = session.getBranchManager().getMainBranch();
+    long maxBytes = 10 * 1024;
+
+    CDORevisionCacheBounded cache = (CDORevisionCacheBounded)CDORevisionUtil.createRevisionCache(true, false, 1, maxBytes);
+    LifecycleUtil.activate(cache);
+
+    try
+    {
+      CDORevisionImpl hot = null;
+      for (int i = 0; i < 1000; i++)
+      {
+        CDORevisionImpl revision = new CDORevisionImpl(Model1Package.eINSTANCE.getCompany());
+        revision.setID(CDOIDUtil.createLong(i + 1));
+        revision.setBranchPoint(mainBranch.getPoint(1));
+        revision.setVersion(1);
+        cache.internRevision(revision);
+
+        if (hot == null)
+        {
+          hot = revision;
+        }
+
+        assertSame(hot, cache.getRevision(hot.getID(), mainBranch.getHead()));
+      }
+
+      CacheStatistics statistics = cache.getStatistics();
+      assertEquals(1000, statistics.getHitCount());
+      assertTrue(statistics.getEvictionCount() > 0);
+    }
+    finally
+    {
+      LifecycleUtil.deactivate(cache);
+    }
+  }
+
+  public void testEvictedRevisionIsPromotedFromSecondLevel() throws Exception
+  {
+    CDOBranch mainBranch = session.getBranchManager().getMainBranch();
+    long maxBytes = 10 * 1024;
+
+    CDORevisionOffHeapCache secondLevel = new CDORevisionOffHeapCache(null, 1024 * 1024);
+    secondLevel.setPackageRegistry(session.getPackageRegistry());
+    secondLevel.setBranchManager(session.getBranchManager());
+    LifecycleUtil.activate(secondLevel);
+
+    CDORevisionCacheBounded cache = (CDORevisionCacheBounded)CDORevisionUtil.createRevisionCache(true, false, 1, maxBytes);
+    cache.setSecondLevel(secondLevel);
+    LifecycleUtil.activate(cache);
+
+    try
+    {
+      for (int i = 0; i < 1000; i++)
+      {
+        CDORevisionImpl revision = new CDORevisionImpl(Model1Package.eINSTANCE.getCompany());
+        revision.setID(CDOIDUtil.createLong(i + 1));
+        revision.setBranchPoint(mainBranch.getPoint(1));
+        revision.setVersion(1);
+        revision.setValue(Model1Package.eINSTANCE.getAddress_Name(), "Company " + i);
+        cache.internRevision(revision);
+      }
+
+      assertTrue(secondLevel.getRevisionCount() > 0);
+
+      for (int i = 0; i < 1000; i++)
+      {
+        CDORevision revision = cache.getRevision(CDOIDUtil.createLong(i + 1), mainBranch.getHead());
+        assertNotNull(revision);
+        assertEquals("Company " + i, revision.data().get(Model1Package.eINSTANCE.getAddress_Name(), 0));
+      }
+
+      assertTrue(secondLevel.getPromotionCount() > 0);
+      assertEquals(0, cache.getStatistics().getMissCount());
+    }
+    finally
+    {
+      LifecycleUtil.deactivate(cache);
+      LifecycleUtil.deactivate(secondLevel);
+    }
+  }
+
+  public void testSecondLevelIndex() throws Exception
+  {
+    CDOBranch mainBranch = session.getBranchManager().getMainBranch();
+
+    CDORevisionOffHeapCache secondLevel = new CDORevisionOffHeapCache(null, 4 * 1024 * 1024, 1024 * 1024);
+    secondLevel.setPackageRegistry(session.getPackageRegistry());
+    secondLevel.setBranchManager(session.getBranchManager());
+    LifecycleUtil.activate(secondLevel);
+
+    try
+    {
+      // More revisions than the initial index capacity, in two versions each.
+      for (int i = 0; i < 5000; i++)
+      {
+        for (int version = 1; version <= 2; version++)
+        {
+          CDORevisionImpl revision = new CDORevisionImpl(Model1Package.eINSTANCE.getCompany());
+          revision.setID(CDOIDUtil.createLong(i + 1));
+          revision.setBranchPoint(mainBranch.getPoint(10 * version));
+          revision.setVersion(version);
+          revision.setValue(Model1Package.eINSTANCE.getAddress_Name(), "Company " + i + " v" + version);
+          assertTrue(secondLevel.demote(revision));
+        }
+
+        secondLevel.revise(CDOIDUtil.createLong(i + 1), mainBranch, 2, 19);
+      }
+
+      assertEquals(10000, secondLevel.getRevisionCount());
+      assertEquals(0, secondLevel.getDropCount());
+      assertTrue(secondLevel.getIndexBytes() < secondLevel.getUsedBytes());
+
+      InternalCDORevision revision = secondLevel.promote(CDOIDUtil.createLong(42), mainBranch.getPoint(15));
+      assertEquals(1, revision.getVersion());
+      assertEquals(19, revision.getRevised());
+      assertEquals("Company 41 v1", revision.data().get(Model1Package.eINSTANCE.getAddress_Name(), 0));
+      assertNull(secondLevel.promote(CDOIDUtil.createLong(42), mainBranch.getPoint(15)));
+
+      revision = secondLevel.promoteByVersion(CDOIDUtil.createLong(42), mainBranch.getVersion(2));
+      assertEquals(CDOBranchPoint.UNSPECIFIED_DATE, revision.getRevised());
+      assertEquals(9998, secondLevel.getRevisionCount());
+
+      // Filling all segments again drops the oldest revisions.
+      for (int i = 0; i < 50000; i++)
+      {
+        CDORevisionImpl newRevision = new CDORevisionImpl(Model1Package.eINSTANCE.getCompany());
+        newRevision.setID(CDOIDUtil.createLong(100000 + i));
+        newRevision.setBranchPoint(mainBranch.getPoint(10));
+        newRevision.setVersion(1);
+        newRevision.setValue(Model1Package.eINSTANCE.getAddress_Name(), "Company " + i);
+        assertTrue(secondLevel.demote(newRevision));
+      }
+
+      assertTrue(secondLevel.getDropCount() > 0);
+      assertNull(secondLevel.promoteByVersion(CDOIDUtil.createLong(1), mainBranch.getVersion(1)));
+      assertNotNull(secondLevel.promoteByVersion(CDOIDUtil.createLong(100000 + 49999), mainBranch.getVersion(1)));
+      assertTrue(secondLevel.getUsedBytes() <= secondLevel.getMaxBytes());
+    }
+    finally
+    {
+      LifecycleUtil.deactivate(secondLevel);
+    }
+  }
+
+  public void testCompactRevisionsUseLessMemory() throws Exception
+  {
+    CDORevisionCacheBounded cache = (CDORevisionCacheBounded)CDORevisionUtil.createRevisionCache(true, false, 1, MAX_BYTES);
+    LifecycleUtil.activate(cache);
+
+    try
+    {
+      long defaultBytes = internOrderDetails(cache, CDORevisionFactory.DEFAULT);
+      cache.clear();
+
+      long compactBytes = internOrderDetails(cache, CDORevisionFactory.COMPACT);
+      msg("Default revisions: " + defaultBytes + " bytes");
+      msg("Compact revisions: " + compactBytes + " bytes");
+      assertTrue(compactBytes < defaultBytes);
+
+      CDORevision revision = cache.getRevision(CDOIDUtil.createLong(1), session.getBranchManager().getMainBranch().getHead());
+      assertEquals(1.5f, revision.data().get(Model1Package.eINSTANCE.getOrderDetail_Price(), 0));
+      assertEquals(CDOIDUtil.createLong(1001), revision.data().get(Model1Package.eINSTANCE.getOrderDetail_Product(), 0));
+    }
+    finally
+    {
+      LifecycleUtil.deactivate(cache);
+    }
+  }
+
+  private long internOrderDetails(CDORevisionCacheBounded cache, CDORevisionFactory factory)
+  {
+    CDOBranch mainBranch = session.getBranchManager().getMainBranch();
+    for (int i = 0; i < 100; i++)
+    {
+      InternalCDORevision revision = (InternalCDORevision)factory.createRevision(Model1Package.eINSTANCE.getOrderDetail());
+      revision.setID(CDOIDUtil.createLong(i + 1));
+      revision.setBranchPoint(mainBranch.getPoint(1));
+      revision.setVersion(1);
+      revision.setValue(Model1Package.eINSTANCE.getOrderDetail_Price(), 1.5f + i);
+      revision.setValue(Model1Package.eINSTANCE.getOrderDetail_Product(), CDOIDUtil.createLong(i + 1001));
+      revision.freeze();
+      cache.internRevision(revision);
+    }
+
+    return cache.getCurrentBytes();
+  }
+}
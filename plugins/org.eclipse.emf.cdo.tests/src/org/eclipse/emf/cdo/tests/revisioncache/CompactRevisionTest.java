@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests.revisioncache;
+
+import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.common.id.CDOIDUtil;
+import org.eclipse.emf.cdo.common.revision.CDOList;
+import org.eclipse.emf.cdo.common.revision.CDORevisionFactory;
+import org.eclipse.emf.cdo.internal.common.revision.CompactCDOList;
+import org.eclipse.emf.cdo.internal.common.revision.CompactCDORevision;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
+
+import org.eclipse.net4j.util.tests.AbstractOMTest;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+
+import java.util.Arrays;
+
+/**
+ * @author Eike Stepper
+ */
+public class CompactRevisionTest extends AbstractOMTest
+{
+  private EClass eClass;
+
+  private EAttribute name;
+
+  private EAttribute count;
+
+  private EAttribute size;
+
+  private EAttribute price;
+
+  private EAttribute enabled;
+
+  private EAttribute optional;
+
+  private EAttribute numbers;
+
+  private EReference parent;
+
+  private EReference children;
+
+  @Override
+  protected void doSetUp() throws Exception
+  {
+    super.doSetUp();
+
+    EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("compact");
+    ePackage.setNsURI("http://www.eclipse.org/emf/CDO/tests/compact/1.0.0");
+
+    eClass = EcoreFactory.eINSTANCE.createEClass();
+    eClass.setName("Thing");
+    ePackage.getEClassifiers().add(eClass);
+
+    EcorePackage ecore = EcorePackage.eINSTANCE;
+    name = createAttribute("name", ecore.getEString(), false);
+    count = createAttribute("count", ecore.getEInt(), false);
+    size = createAttribute("size", ecore.getELong(), false);
+    price = createAttribute("price", ecore.getEDouble(), false);
+    enabled = createAttribute("enabled", ecore.getEBoolean(), false);
+    optional = createAttribute("optional", ecore.getEIntegerObject(), false);
+    numbers = createAttribute("numbers", ecore.getEInt(), true);
+    parent = createReference("parent", false);
+    children = createReference("children", true);
+  }
+
+  public void testValues() throws Exception
+  {
+    InternalCDORevision revision = createRevision(CDORevisionFactory.COMPACT);
+    assertInstanceOf(CompactCDORevision.class, revision);
+    assertValues(revision);
+
+    revision.setValue(count, Integer.MIN_VALUE);
+    revision.setValue(optional, 42);
+    revision.setValue(parent, CDOID.NULL);
+    assertEquals(Integer.MIN_VALUE, revision.getValue(count));
+    assertEquals(42, revision.getValue(optional));
+    assertEquals(CDOID.NULL, revision.getValue(parent));
+
+    // References are not packed, so their IDs are returned as they are.
+    CDOID id = CDOIDUtil.createLong(4711);
+    revision.setValue(parent, id);
+    assertSame(id, revision.getValue(parent));
+
+    CDOID tempID = CDOIDUtil.createTempObject(1);
+    revision.setValue(parent, tempID);
+    assertSame(tempID, revision.getValue(parent));
+  }
+
+  public void testCopyAndFreeze() throws Exception
+  {
+    InternalCDORevision revision = createRevision(CDORevisionFactory.COMPACT);
+    InternalCDORevision copy = revision.copy();
+    copy.freeze();
+
+    assertInstanceOf(CompactCDOList.class, copy.getValue(numbers));
+    assertFalse(copy.getValue(children) instanceof CompactCDOList);
+    assertValues(copy);
+    assertValues(revision);
+
+    CDOList list = copy.getListOrNull(numbers);
+    assertEquals(Arrays.asList(1, -2, 300000), list);
+    assertTrue(list.contains(300000));
+    assertEquals(2, list.indexOf(300000));
+    assertEquals(1, list.lastIndexOf(-2));
+    assertFalse(list.contains(4));
+    assertFalse(list.contains(300000L));
+    assertFalse(list.contains(null));
+
+    // Searches don't inflate the list.
+    assertEquals(3, ((CompactCDOList)list).getPackedLength());
+
+    try
+    {
+      list.add(4);
+      fail("IllegalStateException expected");
+    }
+    catch (IllegalStateException expected)
+    {
+      // SUCCESS
+    }
+  }
+
+  private InternalCDORevision createRevision(CDORevisionFactory factory)
+  {
+    InternalCDORevision revision = (InternalCDORevision)factory.createRevision(eClass);
+    revision.setID(CDOIDUtil.createLong(1));
+    revision.setValue(name, "Thing 1");
+    revision.setValue(count, 7);
+    revision.setValue(size, Long.MAX_VALUE);
+    revision.setValue(price, -1.5);
+    revision.setValue(enabled, true);
+    revision.setValue(parent, CDOIDUtil.createLong(2));
+
+    CDOList list = revision.getOrCreateList(numbers);
+    list.add(1);
+    list.add(-2);
+    list.add(300000);
+
+    list = revision.getOrCreateList(children);
+    list.add(CDOIDUtil.createLong(3));
+    list.add(CDOIDUtil.createLong(4));
+    return revision;
+  }
+
+  private void assertValues(InternalCDORevision revision)
+  {
+    assertEquals("Thing 1", revision.getValue(name));
+    assertEquals(7, revision.getValue(count));
+    assertEquals(Long.MAX_VALUE, revision.getValue(size));
+    assertEquals(-1.5, revision.getValue(price));
+    assertEquals(true, revision.getValue(enabled));
+    assertEquals(null, revision.getValue(optional));
+    assertEquals(CDOIDUtil.createLong(2), revision.getValue(parent));
+    assertEquals(Arrays.asList(1, -2, 300000), revision.getValue(numbers));
+    assertEquals(Arrays.asList(CDOIDUtil.createLong(3), CDOIDUtil.createLong(4)), revision.getValue(children));
+  }
+
+  private EAttribute createAttribute(String name, EDataType type, boolean many)
+  {
+    EAttribute attribute = EcoreFactory.eINSTANCE.createEAttribute();
+    attribute.setName(name);
+    attribute.setEType(type);
+    if (many)
+    {
+      attribute.setUpperBound(EStructuralFeature.UNBOUNDED_MULTIPLICITY);
+    }
+
+    eClass.getEStructuralFeatures().add(attribute);
+    return attribute;
+  }
+
+  private EReference createReference(String name, boolean many)
+  {
+    EReference reference = EcoreFactory.eINSTANCE.createEReference();
+    reference.setName(name);
+    reference.setEType(eClass);
+    if (many)
+    {
+      reference.setUpperBound(EStructuralFeature.UNBOUNDED_MULTIPLICITY);
+    }
+
+    eClass.getEStructuralFeatures().add(reference);
+    return reference;
+  }
+}
@@ -59,6 +59,7 @@ import org.eclipse.emf.cdo.view.CDOViewContainer;
 import org.eclipse.emf.cdo.view.CDOViewProviderRegistry;
 import org.eclipse.emf.cdo.view.CDOViewSet;
 
+import org.eclipse.emf.internal.cdo.analyzer.CDOFeatureAnalyzerAdaptive;
 import org.eclipse.emf.internal.cdo.analyzer.CDOFeatureAnalyzerModelBased;
 import org.eclipse.emf.internal.cdo.analyzer.CDOFeatureAnalyzerUI;
 import org.eclipse.emf.internal.cdo.analyzer.CDOFetchRuleManagerThreadLocal;
@@ -423,6 +424,18 @@ public final class CDOUtil
     return new CDOFeatureAnalyzerUI(maxTimeBetweenOperation);
   }
 
+  /**
+   * Creates a feature analyzer that learns which references are traversed and predicts the objects to load with each
+   * load request. The session's fetch rule manager must be a {@link #createThreadLocalFetchRuleManager() thread-local}
+   * one for the predictions to be sent.
+   *
+   * @since 4.27
+   */
+  public static CDOFeatureAnalyzer createAdaptiveFeatureAnalyzer()
+  {
+    return new CDOFeatureAnalyzerAdaptive();
+  }
+
   /**
    * @since 4.0
    */
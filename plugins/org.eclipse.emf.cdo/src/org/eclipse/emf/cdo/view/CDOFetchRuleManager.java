@@ -36,4 +36,15 @@ public interface CDOFetchRuleManager
   public List<CDOFetchRule> getFetchRules(Collection<CDOID> ids);
 
   public CDOCollectionLoadingPolicy getCollectionLoadingPolicy();
+
+  /**
+   * Returns the depth of the containment subtrees that are to be loaded together with the revisions of the given IDs,
+   * or {@link CDORevision#DEPTH_NONE} if only the revisions themselves are to be loaded.
+   *
+   * @since 4.27
+   */
+  public default int getPrefetchDepth(Collection<CDOID> ids)
+  {
+    return CDORevision.DEPTH_NONE;
+  }
 }
@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.internal.cdo.analyzer;
+
+import org.eclipse.emf.cdo.CDOObject;
+import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.common.id.CDOIDUtil;
+import org.eclipse.emf.cdo.common.revision.CDORevision;
+import org.eclipse.emf.cdo.common.util.CDOFetchRule;
+
+import org.eclipse.emf.internal.cdo.bundle.OM;
+
+import org.eclipse.net4j.util.om.trace.ContextTracer;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A feature analyzer that records, per {@link EClass class} and {@link EReference reference}, which references are
+ * actually traversed after the objects of that class have been loaded.
+ * <p>
+ * The references that are traversed for most of the objects of a class are sent as {@link CDOFetchRule fetch rules} with
+ * each load request, so that the server loads their targets in the same round trip. For containment references the
+ * analyzer additionally predicts the {@link #getPrefetchDepth(Collection) depth} of the subtrees that are going to be
+ * traversed. The depth is doubled as long as traversals still miss the revision cache and halved when the prefetched
+ * objects are mostly not traversed.
+ * <p>
+ * The statistics are collected in windows of {@link #getWindowSize()} distinct objects per class. The analyzer is only
+ * consulted by load requests if the session's {@link org.eclipse.emf.cdo.view.CDOFetchRuleManager fetch rule manager}
+ * is a {@link CDOFetchRuleManagerThreadLocal thread-local} one.
+ *
+ * @author Eike Stepper
+ */
+public class CDOFeatureAnalyzerAdaptive extends CDOAbstractFeatureRuleAnalyzer
+{
+  public static final int DEFAULT_MAX_DEPTH = 8;
+
+  public static final int DEFAULT_WINDOW_SIZE = 64;
+
+  /**
+   * The ratio of objects that must have a reference traversed to keep the fetch rule of that reference active.
+   */
+  private static final double ACTIVE_RATIO = 0.25;
+
+  /**
+   * The ratio of objects that must have a containment reference traversed to keep the prefetch depth of that reference.
+   */
+  private static final double DEPTH_RATIO = 0.5;
+
+  /**
+   * The ratio of traversals that may miss the revision cache before the prefetch depth is increased.
+   */
+  private static final double MISS_RATIO = 0.1;
+
+  private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG, CDOFeatureAnalyzerAdaptive.class);
+
+  private final Map<EClass, ClassStatistics> classStatistics = new HashMap<>();
+
+  private final int maxDepth;
+
+  private final int windowSize;
+
+  public CDOFeatureAnalyzerAdaptive()
+  {
+    this(DEFAULT_MAX_DEPTH, DEFAULT_WINDOW_SIZE);
+  }
+
+  public CDOFeatureAnalyzerAdaptive(int maxDepth, int windowSize)
+  {
+    this.maxDepth = Math.max(maxDepth, 1);
+    this.windowSize = Math.max(windowSize, 1);
+  }
+
+  public int getMaxDepth()
+  {
+    return maxDepth;
+  }
+
+  public int getWindowSize()
+  {
+    return windowSize;
+  }
+
+  /**
+   * Returns the current prefetch depth of the given containment reference, or {@link CDORevision#DEPTH_NONE} if the
+   * containment subtrees below that reference are not prefetched.
+   */
+  public synchronized int getDepth(EClass eClass, EReference reference)
+  {
+    ClassStatistics statistics = classStatistics.get(eClass);
+    if (statistics != null)
+    {
+      ReferenceStatistics referenceStatistics = statistics.references.get(reference);
+      if (referenceStatistics != null)
+      {
+        return referenceStatistics.depth;
+      }
+    }
+
+    return CDORevision.DEPTH_NONE;
+  }
+
+  @Override
+  public CDOID getContext()
+  {
+    return CDOID.NULL;
+  }
+
+  @Override
+  public synchronized List<CDOFetchRule> getFetchRules(Collection<CDOID> ids)
+  {
+    fetchData();
+
+    List<CDOFetchRule> rules = new ArrayList<>();
+    for (ClassStatistics statistics : classStatistics.values())
+    {
+      CDOFetchRule rule = null;
+      for (ReferenceStatistics referenceStatistics : statistics.references.values())
+      {
+        if (referenceStatistics.active)
+        {
+          if (rule == null)
+          {
+            rule = new CDOFetchRule(statistics.eClass);
+            rules.add(rule);
+          }
+
+          rule.addFeature(referenceStatistics.reference);
+        }
+      }
+    }
+
+    return rules;
+  }
+
+  @Override
+  public int getPrefetchDepth(Collection<CDOID> ids)
+  {
+    if (lastTraverseCDOObject != null && lastTraverseFeature instanceof EReference)
+    {
+      return getDepth(lastTraverseCDOObject.eClass(), (EReference)lastTraverseFeature);
+    }
+
+    return CDORevision.DEPTH_NONE;
+  }
+
+  @Override
+  protected synchronized void doPreTraverseFeature(CDOObject cdoObject, EStructuralFeature feature, int index)
+  {
+    CDOID id = cdoObject.cdoID();
+    if (id != null && !id.isTemporary())
+    {
+      getClassStatistics(cdoObject.eClass()).addObject(id);
+    }
+  }
+
+  @Override
+  protected synchronized void doPostTraverseFeature(CDOObject cdoObject, EStructuralFeature feature, int index, Object value)
+  {
+    if (value == null || !(feature instanceof EReference))
+    {
+      return;
+    }
+
+    CDOID id = cdoObject.cdoID();
+    if (id == null || id.isTemporary())
+    {
+      return;
+    }
+
+    ClassStatistics statistics = getClassStatistics(cdoObject.eClass());
+    statistics.getReferenceStatistics((EReference)feature).traverse(id, didFetch());
+  }
+
+  private ClassStatistics getClassStatistics(EClass eClass)
+  {
+    return classStatistics.computeIfAbsent(eClass, ClassStatistics::new);
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  private final class ClassStatistics
+  {
+    private final EClass eClass;
+
+    private final Map<EReference, ReferenceStatistics> references = new HashMap<>();
+
+    private final Set<CDOID> objects = CDOIDUtil.createSet();
+
+    public ClassStatistics(EClass eClass)
+    {
+      this.eClass = eClass;
+    }
+
+    public ReferenceStatistics getReferenceStatistics(EReference reference)
+    {
+      return references.computeIfAbsent(reference, ReferenceStatistics::new);
+    }
+
+    public void addObject(CDOID id)
+    {
+      if (objects.add(id) && objects.size() >= windowSize)
+      {
+        for (ReferenceStatistics referenceStatistics : references.values())
+        {
+          referenceStatistics.adapt(objects.size());
+        }
+
+        objects.clear();
+      }
+    }
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  private final class ReferenceStatistics
+  {
+    private final EReference reference;
+
+    private final Set<CDOID> traversedObjects = CDOIDUtil.createSet();
+
+    private int hits;
+
+    private int misses;
+
+    private boolean active;
+
+    private int depth = CDORevision.DEPTH_NONE;
+
+    public ReferenceStatistics(EReference reference)
+    {
+      this.reference = reference;
+    }
+
+    public void traverse(CDOID id, boolean fetched)
+    {
+      traversedObjects.add(id);
+
+      if (fetched)
+      {
+        ++misses;
+
+        if (!active)
+        {
+          // Cold start: Don't wait for the end of the window to fetch the targets of this reference.
+          active = true;
+          trace("Activating"); //$NON-NLS-1$
+        }
+
+        if (depth == CDORevision.DEPTH_NONE && reference.isContainment())
+        {
+          depth = 1;
+        }
+      }
+      else
+      {
+        ++hits;
+      }
+    }
+
+    public void adapt(int objectCount)
+    {
+      double traversedRatio = (double)traversedObjects.size() / objectCount;
+      int traversals = hits + misses;
+
+      if (active && traversedRatio < ACTIVE_RATIO)
+      {
+        active = false;
+        depth = CDORevision.DEPTH_NONE;
+        trace("Deactivating"); //$NON-NLS-1$
+      }
+      else if (depth != CDORevision.DEPTH_NONE)
+      {
+        if (traversals != 0 && (double)misses / traversals > MISS_RATIO)
+        {
+          // The prefetched subtrees are not deep enough.
+          depth = Math.min(depth << 1, maxDepth);
+          trace("Increasing depth of"); //$NON-NLS-1$
+        }
+        else if (traversedRatio < DEPTH_RATIO)
+        {
+          // Most of the prefetched subtrees are not traversed.
+          depth = Math.max(depth >> 1, 1);
+          trace("Decreasing depth of"); //$NON-NLS-1$
+        }
+      }
+
+      traversedObjects.clear();
+      hits = 0;
+      misses = 0;
+    }
+
+    private void trace(String action)
+    {
+      if (TRACER.isEnabled())
+      {
+        TRACER.format("{0} {1}.{2}: depth={3}", action, reference.getEContainingClass().getName(), reference.getName(), depth); //$NON-NLS-1$
+      }
+    }
+  }
+}
@@ -12,6 +12,7 @@
 package org.eclipse.emf.internal.cdo.analyzer;
 
 import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.common.revision.CDORevision;
 import org.eclipse.emf.cdo.common.util.CDOFetchRule;
 import org.eclipse.emf.cdo.session.CDOCollectionLoadingPolicy;
 import org.eclipse.emf.cdo.view.CDOFetchRuleManager;
@@ -65,4 +66,11 @@ public class CDOFetchRuleManagerThreadLocal implements CDOFetchRuleManager
     CDOFetchRuleManager analyzer = CDOFetchRuleManagerThreadLocal.getCurrent();
     return analyzer != null ? analyzer.getCollectionLoadingPolicy() : null;
   }
+
+  @Override
+  public int getPrefetchDepth(Collection<CDOID> ids)
+  {
+    CDOFetchRuleManager analyzer = CDOFetchRuleManagerThreadLocal.getCurrent();
+    return analyzer != null ? analyzer.getPrefetchDepth(ids) : CDORevision.DEPTH_NONE;
+  }
 }
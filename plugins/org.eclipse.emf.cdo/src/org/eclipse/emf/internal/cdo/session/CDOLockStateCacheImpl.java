@@ -52,7 +52,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -60,6 +59,8 @@ import java.util.Set;
 import java.util.StringJoiner;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
@@ -75,7 +76,7 @@ public final class CDOLockStateCacheImpl extends Lifecycle implements CDOLockSta
   private static final boolean DEBUG_STACK_TRACE = //
       OMPlatform.INSTANCE.isProperty("org.eclipse.emf.internal.cdo.session.CDOLockStateCacheImpl.DEBUG_STACK_TRACE");
 
-  private final Map<CDOBranch, ConcurrentMap<CDOID, OwnerInfo>> ownerInfosPerBranch = new HashMap<>();
+  private final ConcurrentMap<CDOBranch, ConcurrentMap<CDOID, OwnerInfo>> ownerInfosPerBranch = new ConcurrentHashMap<>();
 
   private final ConcurrentMap<CDOID, OwnerInfo> ownerInfosOfMainBranch = new ConcurrentHashMap<>();
 
@@ -130,6 +131,19 @@ public final class CDOLockStateCacheImpl extends Lifecycle implements CDOLockSta
 
   private final HashBag<CDOBranch> branches = new HashBag<>();
 
+  /**
+   * The monitor that threads wait on when a lock delta conflicts with the cached lock state.
+   */
+  private final Object conflictMonitor = new Object();
+
+  private final AtomicInteger conflictWaiters = new AtomicInteger();
+
+  /**
+   * Incremented on every change of the cached lock states, so that a thread that waits on the {@link #conflictMonitor}
+   * can detect changes that happened between its failed attempt and the start of its wait.
+   */
+  private final AtomicLong lockStateVersion = new AtomicLong();
+
   public CDOLockStateCacheImpl(CDOSession session)
   {
     this.session = (InternalCDOSession)session;
@@ -221,77 +235,47 @@ public final class CDOLockStateCacheImpl extends Lifecycle implements CDOLockSta
   }
 
   @Override
-  public synchronized void updateLockStates(CDOBranch branch, Collection<CDOLockDelta> lockDeltas, Collection<CDOLockState> lockStates,
+  public void updateLockStates(CDOBranch branch, Collection<CDOLockDelta> lockDeltas, Collection<CDOLockState> lockStates,
       Consumer<CDOLockState> consumer)
   {
-    try
+    ConcurrentMap<CDOID, OwnerInfo> infos = getOwnerInfoMap(branch);
+    Map<CDOID, CDOLockState> lockStatesByID = null;
+
+    for (CDOLockDelta delta : lockDeltas)
     {
-      ConcurrentMap<CDOID, OwnerInfo> infos = getOwnerInfoMap(branch);
+      CDOID id = delta.getID();
 
-      delta_loop: for (CDOLockDelta delta : lockDeltas)
+      OwnerInfo info = infos.get(id);
+      if (info == null || delta.getType() == null)
       {
-        CDOID id = delta.getID();
-
-        OwnerInfo info = null;
-        OwnerInfo newInfo = null;
-
-        for (int i = 50; i >= 0; --i)
+        if (lockStatesByID == null)
         {
-          info = infos.get(id);
-          if (info == null || delta.getType() == null)
-          {
-            for (CDOLockState lockState : lockStates)
-            {
-              if (lockState.getID() == id)
-              {
-                addLockState(infos, lockState, consumer);
-                continue delta_loop;
-              }
-            }
-
-            continue delta_loop;
-          }
-
-          try
-          {
-            newInfo = info.applyDelta(this, delta);
-            break;
-          }
-          catch (ObjectAlreadyLockedException ex)
-          {
-            if (i == 0)
-            {
-              throw new ObjectAlreadyLockedException(id, branch, ex);
-            }
-
-            try
-            {
-              wait(100);
-            }
-            catch (InterruptedException ex1)
-            {
-              throw new Error(ex1);
-            }
-          }
+          // Index the lock states once, instead of searching them for each delta.
+          lockStatesByID = indexLockStates(lockStates);
         }
 
-        if (newInfo != info)
+        CDOLockState lockState = lockStatesByID.get(id);
+        if (lockState != null)
         {
-          trace(id, info, newInfo);
-          infos.put(id, newInfo);
+          addLockState(infos, lockState, consumer);
+          signalLockStateChange();
         }
 
-        if (consumer != null)
-        {
-          Object target = delta.getTarget();
-          CDOLockState lockState = new LockState(target, this);
-          consumer.accept(lockState);
-        }
+        continue;
+      }
+
+      if (applyDelta(infos, branch, id, delta))
+      {
+        // Let threads that wait for conflicting locks proceed as soon as possible, even within a large batch.
+        signalLockStateChange();
+      }
+
+      if (consumer != null)
+      {
+        Object target = delta.getTarget();
+        CDOLockState lockState = new LockState(target, this);
+        consumer.accept(lockState);
       }
-    }
-    finally
-    {
-      notifyAll();
     }
   }
 
@@ -338,6 +322,11 @@ public final class CDOLockStateCacheImpl extends Lifecycle implements CDOLockSta
       trace(id, oldInfo, newInfo);
     }
 
+    if (!newInfos.isEmpty())
+    {
+      signalLockStateChange();
+    }
+
     return deltas;
   }
 
@@ -442,10 +431,7 @@ public final class CDOLockStateCacheImpl extends Lifecycle implements CDOLockSta
       {
         if (!branch.isMainBranch())
         {
-          synchronized (ownerInfosPerBranch)
-          {
-            ownerInfosPerBranch.put(branch, new ConcurrentHashMap<>());
-          }
+          ownerInfosPerBranch.put(branch, new ConcurrentHashMap<>());
         }
       }
     }
@@ -459,10 +445,7 @@ public final class CDOLockStateCacheImpl extends Lifecycle implements CDOLockSta
       {
         if (!branch.isMainBranch())
         {
-          synchronized (ownerInfosPerBranch)
-          {
-            ownerInfosPerBranch.remove(branch);
-          }
+          ownerInfosPerBranch.remove(branch);
         }
       }
     }
@@ -543,19 +526,13 @@ public final class CDOLockStateCacheImpl extends Lifecycle implements CDOLockSta
       return ownerInfosOfMainBranch;
     }
 
-    synchronized (ownerInfosPerBranch)
-    {
-      return ownerInfosPerBranch.get(branch);
-    }
+    return ownerInfosPerBranch.get(branch);
   }
 
   @SuppressWarnings("unchecked")
   private Map.Entry<CDOBranch, ConcurrentMap<CDOID, OwnerInfo>>[] getOwnerInfoMapEntries()
   {
-    synchronized (ownerInfosPerBranch)
-    {
-      return ownerInfosPerBranch.entrySet().toArray(new Map.Entry[ownerInfosPerBranch.size()]);
-    }
+    return ownerInfosPerBranch.entrySet().toArray(new Map.Entry[0]);
   }
 
   private OwnerInfo getOwnerInfo(Object key)
@@ -600,10 +577,107 @@ public final class CDOLockStateCacheImpl extends Lifecycle implements CDOLockSta
         throw new KeepMappedValue(info);
       });
 
+      if (changed[0])
+      {
+        signalLockStateChange();
+      }
+
       return changed[0];
     });
   }
 
+  /**
+   * Atomically applies the given delta to the owner info of the given ID. If the delta conflicts with the current owner
+   * info the application is retried after other threads have changed the cached lock states.
+   *
+   * @return <code>true</code> if the owner info has been changed, <code>false</code> otherwise.
+   */
+  private boolean applyDelta(ConcurrentMap<CDOID, OwnerInfo> infos, CDOBranch branch, CDOID id, CDOLockDelta delta)
+  {
+    boolean[] changed = { false };
+
+    for (int i = 50; i >= 0; --i)
+    {
+      long version = lockStateVersion.get();
+
+      try
+      {
+        CollectionUtil.compute(infos, id, (unused, info) -> {
+          if (info == null)
+          {
+            info = NoOwnerInfo.INSTANCE;
+          }
+
+          OwnerInfo newInfo = info.applyDelta(this, delta);
+          if (newInfo != info)
+          {
+            trace(id, info, newInfo);
+            changed[0] = true;
+            return newInfo;
+          }
+
+          throw new KeepMappedValue(info);
+        });
+
+        break;
+      }
+      catch (ObjectAlreadyLockedException ex)
+      {
+        if (i == 0)
+        {
+          throw new ObjectAlreadyLockedException(id, branch, ex);
+        }
+
+        awaitLockStateChange(version);
+      }
+    }
+
+    return changed[0];
+  }
+
+  private void awaitLockStateChange(long version)
+  {
+    // Register as a waiter before the version is checked, so that a concurrent change either is seen by the check
+    // or sees the waiter and notifies it under the monitor, i.e., after this thread has started to wait.
+    conflictWaiters.incrementAndGet();
+
+    try
+    {
+      synchronized (conflictMonitor)
+      {
+        if (lockStateVersion.get() == version)
+        {
+          conflictMonitor.wait(100);
+        }
+      }
+    }
+    catch (InterruptedException ex)
+    {
+      throw new Error(ex);
+    }
+    finally
+    {
+      conflictWaiters.decrementAndGet();
+    }
+  }
+
+  /**
+   * Increments the {@link #lockStateVersion} and wakes up the threads that wait for conflicting locks, if there are any.
+   * The version is incremented for each change, the monitor is only entered if a thread is waiting.
+   */
+  private void signalLockStateChange()
+  {
+    lockStateVersion.incrementAndGet();
+
+    if (conflictWaiters.get() != 0)
+    {
+      synchronized (conflictMonitor)
+      {
+        conflictMonitor.notifyAll();
+      }
+    }
+  }
+
   private void remapOwnerInfo(OwnerInfo info, CDOLockOwner oldOwner, CDOLockOwner newOwner)
   {
     if (info.remapOwner(oldOwner, newOwner) && DEBUG)
@@ -647,6 +721,17 @@ public final class CDOLockStateCacheImpl extends Lifecycle implements CDOLockSta
     }
   }
 
+  private static Map<CDOID, CDOLockState> indexLockStates(Collection<CDOLockState> lockStates)
+  {
+    Map<CDOID, CDOLockState> lockStatesByID = CDOIDUtil.createMap();
+    for (CDOLockState lockState : lockStates)
+    {
+      lockStatesByID.putIfAbsent(lockState.getID(), lockState);
+    }
+
+    return lockStatesByID;
+  }
+
   private void loadLockStates(CDOBranch branch, Set<CDOID> ids, Consumer<CDOLockState> consumer)
   {
     CDOSessionProtocol sessionProtocol = session.getSessionProtocol();
@@ -10,11 +10,17 @@
  */
 package org.eclipse.net4j.db.tests;
 
+import org.eclipse.net4j.db.DBException;
 import org.eclipse.net4j.db.DBType;
 import org.eclipse.net4j.db.DBUtil;
 import org.eclipse.net4j.db.IDBAdapter;
+import org.eclipse.net4j.db.IDBConnection;
+import org.eclipse.net4j.db.IDBConnectionPool;
 import org.eclipse.net4j.db.IDBConnectionProvider;
 import org.eclipse.net4j.db.IDBDatabase;
+import org.eclipse.net4j.db.IDBDatabase.RunnableWithSchema;
+import org.eclipse.net4j.db.IDBPreparedStatement;
+import org.eclipse.net4j.db.IDBPreparedStatement.ReuseProbability;
 import org.eclipse.net4j.db.IDBSchemaTransaction;
 import org.eclipse.net4j.db.ddl.IDBField;
 import org.eclipse.net4j.db.ddl.IDBIndex;
@@ -353,4 +359,95 @@ public abstract class AbstractDBTest extends AbstractOMTest
 
     DBUtil.dump(schema);
   }
+
+  public void testConnectionPool() throws Exception
+  {
+    IDBDatabase database = DBUtil.openDatabase(adapter, connectionProvider, SCHEMA_NAME);
+    IDBConnectionPool pool = database.getConnectionPool();
+    pool.setCapacity(2);
+    pool.setMaxWait(100);
+
+    try
+    {
+      IDBConnection connection1 = database.getConnection();
+      connection1.close();
+      assertEquals(true, connection1.isClosed());
+      assertEquals(1, pool.getIdleConnections());
+
+      // The idle connection is handed out again, together with its statement cache.
+      IDBConnection connection2 = database.getConnection();
+      assertSame(connection1, connection2);
+      assertEquals(false, connection2.isClosed());
+
+      IDBConnection connection3 = database.getConnection();
+      assertEquals(2, pool.getActiveConnections());
+      assertEquals(2, pool.getCreatedConnections());
+
+      try
+      {
+        database.getConnection();
+        fail("DBException expected");
+      }
+      catch (DBException expected)
+      {
+        // SUCCESS
+      }
+
+      assertEquals(1, pool.getWaitTimeouts());
+
+      connection2.close();
+      connection3.close();
+      assertEquals(0, pool.getActiveConnections());
+      assertEquals(2, pool.getIdleConnections());
+
+      pool.closeIdleConnections();
+      assertEquals(0, pool.getIdleConnections());
+      assertEquals(2, pool.getDestroyedConnections());
+    }
+    finally
+    {
+      database.close();
+    }
+  }
+
+  public void testStatementCache() throws Exception
+  {
+    IDBDatabase database = DBUtil.openDatabase(adapter, connectionProvider, SCHEMA_NAME);
+    database.updateSchema(new RunnableWithSchema()
+    {
+      @Override
+      public void run(IDBSchema schema)
+      {
+        IDBTable table = schema.addTable("table1");
+        table.addField("field1", DBType.INTEGER);
+        table.addField("field2", DBType.INTEGER);
+      }
+    });
+
+    database.setStatementCacheCapacity(2);
+    IDBConnection connection = database.getConnection();
+
+    try
+    {
+      String hotSQL = "SELECT field1 FROM table1";
+
+      IDBPreparedStatement hot = connection.prepareStatement(hotSQL, ReuseProbability.HIGH);
+      hot.close();
+
+      // The hot statement has the alphabetically smallest SQL, but it must survive because it is the most recently used one.
+      for (int i = 0; i < 3; i++)
+      {
+        connection.prepareStatement("SELECT field2 FROM table1 WHERE field1=" + i, ReuseProbability.LOW).close();
+
+        IDBPreparedStatement stmt = connection.prepareStatement(hotSQL, ReuseProbability.HIGH);
+        assertSame(hot, stmt);
+        stmt.close();
+      }
+    }
+    finally
+    {
+      connection.close();
+      database.close();
+    }
+  }
 }
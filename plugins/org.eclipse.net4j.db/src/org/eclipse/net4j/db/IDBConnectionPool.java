@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.net4j.db;
+
+/**
+ * A bounded pool of the {@link IDBConnection connections} of an {@link IDBDatabase database}.
+ * <p>
+ * If the {@link #getCapacity() capacity} of the pool is greater than zero {@link IDBDatabase#getConnection()} hands out idle
+ * pooled connections and {@link IDBConnection#close()} returns them to the pool, together with their prepared statement caches.
+ * At most <code>capacity</code> connections are handed out at the same time; further callers wait in FIFO order
+ * for up to {@link #getMaxWait() max wait} milliseconds.
+ * Idle connections are validated before they are handed out again and physically closed when they exceed their {@link #getMaxLifetime() max lifetime}.
+ * <p>
+ * A thread that already holds a pooled connection and waits for another one can't be served by itself, so the capacity must be
+ * at least the number of connections that are held at the same time. A CDO DBStore, for example, holds one connection per
+ * active store accessor, one for its group committer, and one for each update of its persistent properties outside of an accessor.
+ * Parallel cross reference queries only fan out to the connections that are available when they start.
+ * <p>
+ * A capacity of zero, the default, disables pooling. Every call to {@link IDBDatabase#getConnection()} then opens a new physical connection.
+ *
+ * @author Eike Stepper
+ * @noimplement This interface is not intended to be implemented by clients.
+ * @noextend This interface is not intended to be extended by clients.
+ * @since 4.12
+ */
+public interface IDBConnectionPool
+{
+  public static final long DEFAULT_MAX_LIFETIME = 30 * 60 * 1000L;
+
+  public static final long DEFAULT_MAX_WAIT = 30 * 1000L;
+
+  public static final long DEFAULT_VALIDATION_INTERVAL = 5 * 1000L;
+
+  public IDBDatabase getDatabase();
+
+  /**
+   * Returns the maximum number of connections that are handed out at the same time, or zero if pooling is disabled.
+   */
+  public int getCapacity();
+
+  public void setCapacity(int capacity);
+
+  /**
+   * Returns the number of milliseconds after which a connection is physically closed instead of returned to the pool,
+   * or zero if connections never expire.
+   */
+  public long getMaxLifetime();
+
+  public void setMaxLifetime(long maxLifetime);
+
+  /**
+   * Returns the number of milliseconds that {@link IDBDatabase#getConnection()} waits for a connection to become available before
+   * it throws a {@link DBException}, or zero if it waits indefinitely.
+   */
+  public long getMaxWait();
+
+  public void setMaxWait(long maxWait);
+
+  /**
+   * Returns the number of milliseconds that a connection can be idle before it's validated when it's handed out again.
+   */
+  public long getValidationInterval();
+
+  public void setValidationInterval(long validationInterval);
+
+  /**
+   * Physically closes all idle connections of this pool.
+   */
+  public void closeIdleConnections();
+
+  /**
+   * Returns the number of pooled connections that are currently handed out.
+   */
+  public int getActiveConnections();
+
+  /**
+   * Returns the number of connections that are currently idle in this pool.
+   */
+  public int getIdleConnections();
+
+  /**
+   * Returns the number of threads that are currently waiting for a connection.
+   */
+  public int getWaitingThreads();
+
+  /**
+   * Returns the number of physical connections that have been opened by this pool.
+   */
+  public long getCreatedConnections();
+
+  /**
+   * Returns the number of physical connections that have been closed by this pool, because they were expired,
+   * invalid or not needed anymore.
+   */
+  public long getDestroyedConnections();
+
+  /**
+   * Returns the number of times that no connection became available within {@link #getMaxWait() max wait} milliseconds.
+   */
+  public long getWaitTimeouts();
+}
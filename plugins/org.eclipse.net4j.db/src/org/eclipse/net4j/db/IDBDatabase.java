@@ -54,6 +54,11 @@ public interface IDBDatabase extends IContainer<IDBConnection>, IDBConnectionPro
 
   public void setStatementCacheCapacity(int statementCacheCapacity);
 
+  /**
+   * @since 4.12
+   */
+  public IDBConnectionPool getConnectionPool();
+
   /**
    * @author Eike Stepper
    */
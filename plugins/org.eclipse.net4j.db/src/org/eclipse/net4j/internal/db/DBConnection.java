@@ -25,7 +25,8 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.TreeMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * @author Eike Stepper
@@ -34,16 +35,30 @@ public final class DBConnection extends DelegatingConnection implements IDBConne
 {
   private static final boolean VALIDATE_CHECKOUTS = OMPlatform.INSTANCE.isProperty("org.eclipse.net4j.internal.db.DBConnection.VALIDATE_CHECKOUTS");
 
-  private final TreeMap<String, DBPreparedStatement> cache = new TreeMap<>();
+  /**
+   * The idle prepared statements of this connection, least recently used first.
+   * Statements with the same SQL are chained through {@link DBPreparedStatement#getNextCached()}.
+   */
+  private final LinkedHashMap<String, DBPreparedStatement> cache = new LinkedHashMap<>(16, 0.75f, true);
 
   private HashBag<DBPreparedStatement> checkOuts;
 
   private final DBDatabase database;
 
+  private final long creationTime = System.currentTimeMillis();
+
+  private long releaseTime = creationTime;
+
+  private boolean pooled;
+
   private int cacheSize;
 
   private int lastTouch;
 
+  private long cacheHits;
+
+  private long cacheMisses;
+
   private boolean closed;
 
   public DBConnection(DBDatabase database, Connection delegate)
@@ -78,10 +93,17 @@ public final class DBConnection extends DelegatingConnection implements IDBConne
     return database.getUserID();
   }
 
+  /**
+   * Physically closes this connection or, if it's pooled, returns it to the {@link DBConnectionPool connection pool} of the database.
+   */
   @Override
   public void close()
   {
-    DBUtil.close(getDelegate());
+    if (closed)
+    {
+      return;
+    }
+
     // System.out.println("-- Open connections: " + --COUNT);
     closed = true;
     database.closeConnection(this);
@@ -93,6 +115,36 @@ public final class DBConnection extends DelegatingConnection implements IDBConne
     return closed;
   }
 
+  void reopen()
+  {
+    closed = false;
+  }
+
+  boolean isPooled()
+  {
+    return pooled;
+  }
+
+  void setPooled(boolean pooled)
+  {
+    this.pooled = pooled;
+  }
+
+  long getCreationTime()
+  {
+    return creationTime;
+  }
+
+  long getReleaseTime()
+  {
+    return releaseTime;
+  }
+
+  void setReleaseTime(long releaseTime)
+  {
+    this.releaseTime = releaseTime;
+  }
+
   @Override
   public IDBSchemaTransaction openSchemaTransaction()
   {
@@ -144,13 +196,14 @@ public final class DBConnection extends DelegatingConnection implements IDBConne
       DBPreparedStatement preparedStatement;
       synchronized (this)
       {
-        preparedStatement = cache.remove(sql);
+        preparedStatement = cache.get(sql);
         if (preparedStatement == null)
         {
           try
           {
             PreparedStatement delegate = getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency);
             preparedStatement = new DBPreparedStatement(this, sql, reuseProbability, delegate);
+            ++cacheMisses;
           }
           catch (SQLException ex)
           {
@@ -167,6 +220,13 @@ public final class DBConnection extends DelegatingConnection implements IDBConne
             cache.put(sql, nextCached);
             preparedStatement.setNextCached(null);
           }
+          else
+          {
+            cache.remove(sql);
+          }
+
+          preparedStatement.incrementHits();
+          ++cacheHits;
         }
 
         if (VALIDATE_CHECKOUTS)
@@ -224,19 +284,12 @@ public final class DBConnection extends DelegatingConnection implements IDBConne
           preparedStatement.setNextCached(cached);
         }
 
-        if (++cacheSize > database.getStatementCacheCapacity())
-        {
-          String firstKey = cache.firstKey();
-          DBPreparedStatement old = cache.remove(firstKey);
-          DBPreparedStatement nextCached = old.getNextCached();
+        ++cacheSize;
 
-          DBUtil.close(old.getDelegate());
-          --cacheSize;
-
-          if (nextCached != null)
-          {
-            cache.put(firstKey, nextCached);
-          }
+        int capacity = database.getStatementCacheCapacity();
+        if (cacheSize > capacity)
+        {
+          evictStatements(capacity);
         }
       }
     }
@@ -247,6 +300,51 @@ public final class DBConnection extends DelegatingConnection implements IDBConne
     }
   }
 
+  /**
+   * Returns the number of times that {@link #prepareStatement(String, int, int, ReuseProbability) prepareStatement()}
+   * has been served from the statement cache.
+   */
+  public synchronized long getCacheHits()
+  {
+    return cacheHits;
+  }
+
+  /**
+   * Returns the number of times that {@link #prepareStatement(String, int, int, ReuseProbability) prepareStatement()}
+   * had to prepare a new statement.
+   */
+  public synchronized long getCacheMisses()
+  {
+    return cacheMisses;
+  }
+
+  /**
+   * Closes least recently used statements until the cache holds no more than <code>capacity</code> statements.
+   */
+  private void evictStatements(int capacity)
+  {
+    while (cacheSize > capacity && !cache.isEmpty())
+    {
+      Map.Entry<String, DBPreparedStatement> entry = cache.entrySet().iterator().next();
+      DBPreparedStatement old = entry.getValue();
+      DBPreparedStatement nextCached = old.getNextCached();
+
+      if (nextCached != null)
+      {
+        // Setting the value of an entry does not change the access order.
+        entry.setValue(nextCached);
+        old.setNextCached(null);
+      }
+      else
+      {
+        cache.remove(entry.getKey());
+      }
+
+      DBUtil.close(old.getDelegate());
+      --cacheSize;
+    }
+  }
+
   public void invalidateStatementCache()
   {
     synchronized (this)
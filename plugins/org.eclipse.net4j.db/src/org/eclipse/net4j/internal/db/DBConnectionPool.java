@@ -0,0 +1,431 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.net4j.internal.db;
+
+import org.eclipse.net4j.db.DBException;
+import org.eclipse.net4j.db.DBUtil;
+import org.eclipse.net4j.db.IDBConnectionPool;
+import org.eclipse.net4j.util.WrappedException;
+import org.eclipse.net4j.util.om.OMPlatform;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author Eike Stepper
+ */
+public final class DBConnectionPool implements IDBConnectionPool
+{
+  private static final int DEFAULT_CAPACITY = OMPlatform.INSTANCE.getProperty("org.eclipse.net4j.internal.db.DBConnectionPool.CAPACITY", 0);
+
+  private static final int VALIDATION_TIMEOUT = OMPlatform.INSTANCE.getProperty("org.eclipse.net4j.internal.db.DBConnectionPool.VALIDATION_TIMEOUT", 5);
+
+  private final DBDatabase database;
+
+  /**
+   * Most recently used connections first, so that rarely needed connections expire.
+   */
+  private final ArrayDeque<DBConnection> idleConnections = new ArrayDeque<>();
+
+  private final PoolSemaphore semaphore = new PoolSemaphore();
+
+  private final AtomicInteger activeConnections = new AtomicInteger();
+
+  private final AtomicLong createdConnections = new AtomicLong();
+
+  private final AtomicLong destroyedConnections = new AtomicLong();
+
+  private final AtomicLong waitTimeouts = new AtomicLong();
+
+  private volatile int capacity;
+
+  private volatile long maxLifetime = DEFAULT_MAX_LIFETIME;
+
+  private volatile long maxWait = DEFAULT_MAX_WAIT;
+
+  private volatile long validationInterval = DEFAULT_VALIDATION_INTERVAL;
+
+  private boolean closed;
+
+  public DBConnectionPool(DBDatabase database)
+  {
+    this.database = database;
+    setCapacity(DEFAULT_CAPACITY);
+  }
+
+  @Override
+  public DBDatabase getDatabase()
+  {
+    return database;
+  }
+
+  @Override
+  public int getCapacity()
+  {
+    return capacity;
+  }
+
+  @Override
+  public synchronized void setCapacity(int capacity)
+  {
+    capacity = Math.max(capacity, 0);
+
+    int delta = capacity - this.capacity;
+    if (delta > 0)
+    {
+      semaphore.release(delta);
+    }
+    else if (delta < 0)
+    {
+      // Connections that are currently handed out are not affected; the excess permits are consumed when they're returned.
+      semaphore.reducePermits(-delta);
+    }
+
+    this.capacity = capacity;
+    trimIdleConnections();
+  }
+
+  @Override
+  public long getMaxLifetime()
+  {
+    return maxLifetime;
+  }
+
+  @Override
+  public void setMaxLifetime(long maxLifetime)
+  {
+    this.maxLifetime = maxLifetime;
+  }
+
+  @Override
+  public long getMaxWait()
+  {
+    return maxWait;
+  }
+
+  @Override
+  public void setMaxWait(long maxWait)
+  {
+    this.maxWait = maxWait;
+  }
+
+  @Override
+  public long getValidationInterval()
+  {
+    return validationInterval;
+  }
+
+  @Override
+  public void setValidationInterval(long validationInterval)
+  {
+    this.validationInterval = validationInterval;
+  }
+
+  @Override
+  public int getActiveConnections()
+  {
+    return activeConnections.get();
+  }
+
+  @Override
+  public int getIdleConnections()
+  {
+    synchronized (idleConnections)
+    {
+      return idleConnections.size();
+    }
+  }
+
+  @Override
+  public int getWaitingThreads()
+  {
+    return semaphore.getQueueLength();
+  }
+
+  @Override
+  public long getCreatedConnections()
+  {
+    return createdConnections.get();
+  }
+
+  @Override
+  public long getDestroyedConnections()
+  {
+    return destroyedConnections.get();
+  }
+
+  @Override
+  public long getWaitTimeouts()
+  {
+    return waitTimeouts.get();
+  }
+
+  @Override
+  public void closeIdleConnections()
+  {
+    List<DBConnection> connections;
+    synchronized (idleConnections)
+    {
+      connections = new ArrayList<>(idleConnections);
+      idleConnections.clear();
+    }
+
+    for (DBConnection connection : connections)
+    {
+      destroyConnection(connection);
+    }
+  }
+
+  /**
+   * Returns an idle or a new pooled connection, or <code>null</code> if pooling is disabled.
+   */
+  public DBConnection acquireConnection()
+  {
+    if (capacity == 0)
+    {
+      return null;
+    }
+
+    checkOpen();
+    acquirePermit();
+    boolean success = false;
+
+    try
+    {
+      // The pool may have been closed while this thread waited for a permit.
+      checkOpen();
+
+      DBConnection connection;
+      for (;;)
+      {
+        synchronized (idleConnections)
+        {
+          connection = idleConnections.pollFirst();
+        }
+
+        if (connection == null)
+        {
+          connection = database.createConnection();
+          createdConnections.incrementAndGet();
+          break;
+        }
+
+        long now = System.currentTimeMillis();
+        if (!isExpired(connection, now) && isValid(connection, now))
+        {
+          break;
+        }
+
+        destroyConnection(connection);
+      }
+
+      connection.reopen();
+      connection.setPooled(true);
+      activeConnections.incrementAndGet();
+      success = true;
+      return connection;
+    }
+    finally
+    {
+      if (!success)
+      {
+        semaphore.release();
+      }
+    }
+  }
+
+  /**
+   * Returns the given connection to this pool or physically closes it.
+   */
+  public void releaseConnection(DBConnection connection)
+  {
+    if (!connection.isPooled())
+    {
+      DBUtil.close(connection.getDelegate());
+      return;
+    }
+
+    connection.setPooled(false);
+    activeConnections.decrementAndGet();
+
+    try
+    {
+      long now = System.currentTimeMillis();
+      if (!isExpired(connection, now) && rollback(connection))
+      {
+        synchronized (idleConnections)
+        {
+          if (!closed && idleConnections.size() < capacity)
+          {
+            connection.setReleaseTime(now);
+            idleConnections.addFirst(connection);
+            return;
+          }
+        }
+      }
+
+      destroyConnection(connection);
+    }
+    finally
+    {
+      semaphore.release();
+    }
+  }
+
+  public void invalidateStatementCaches()
+  {
+    synchronized (idleConnections)
+    {
+      for (DBConnection connection : idleConnections)
+      {
+        connection.invalidateStatementCache();
+      }
+    }
+  }
+
+  public void close()
+  {
+    synchronized (idleConnections)
+    {
+      closed = true;
+    }
+
+    closeIdleConnections();
+  }
+
+  @Override
+  public String toString()
+  {
+    return "DBConnectionPool[capacity=" + capacity + ", active=" + getActiveConnections() + ", idle=" + getIdleConnections() + ", waiting="
+        + getWaitingThreads() + ", created=" + getCreatedConnections() + ", destroyed=" + getDestroyedConnections() + ", timeouts="
+        + getWaitTimeouts() + "]";
+  }
+
+  private void checkOpen()
+  {
+    synchronized (idleConnections)
+    {
+      if (closed)
+      {
+        throw new DBException("Connection pool is closed");
+      }
+    }
+  }
+
+  private void acquirePermit()
+  {
+    try
+    {
+      long maxWait = this.maxWait;
+      if (maxWait <= 0)
+      {
+        semaphore.acquire();
+      }
+      else if (!semaphore.tryAcquire(maxWait, TimeUnit.MILLISECONDS))
+      {
+        waitTimeouts.incrementAndGet();
+        throw new DBException("No connection available within " + maxWait + " milliseconds: " + this);
+      }
+    }
+    catch (InterruptedException ex)
+    {
+      Thread.currentThread().interrupt();
+      throw WrappedException.wrap(ex);
+    }
+  }
+
+  private boolean isExpired(DBConnection connection, long now)
+  {
+    long maxLifetime = this.maxLifetime;
+    return maxLifetime > 0 && now - connection.getCreationTime() >= maxLifetime;
+  }
+
+  private boolean isValid(DBConnection connection, long now)
+  {
+    if (now - connection.getReleaseTime() < validationInterval)
+    {
+      return true;
+    }
+
+    try
+    {
+      return connection.getDelegate().isValid(VALIDATION_TIMEOUT);
+    }
+    catch (SQLException ex)
+    {
+      return false;
+    }
+  }
+
+  private boolean rollback(DBConnection connection)
+  {
+    try
+    {
+      // Make sure that no DB locks or uncommitted changes are passed on to the next user of the connection.
+      connection.getDelegate().rollback();
+      return true;
+    }
+    catch (SQLException ex)
+    {
+      return false;
+    }
+  }
+
+  private void destroyConnection(DBConnection connection)
+  {
+    DBUtil.close(connection.getDelegate());
+    destroyedConnections.incrementAndGet();
+  }
+
+  private void trimIdleConnections()
+  {
+    List<DBConnection> connections = new ArrayList<>();
+    synchronized (idleConnections)
+    {
+      while (idleConnections.size() > capacity)
+      {
+        connections.add(idleConnections.pollLast());
+      }
+    }
+
+    for (DBConnection connection : connections)
+    {
+      destroyConnection(connection);
+    }
+  }
+
+  /**
+   * A fair semaphore whose permits can be reduced when the capacity of the pool shrinks.
+   *
+   * @author Eike Stepper
+   */
+  private static final class PoolSemaphore extends Semaphore
+  {
+    private static final long serialVersionUID = 1L;
+
+    public PoolSemaphore()
+    {
+      super(0, true);
+    }
+
+    @Override
+    public void reducePermits(int reduction)
+    {
+      super.reducePermits(reduction);
+    }
+  }
+}
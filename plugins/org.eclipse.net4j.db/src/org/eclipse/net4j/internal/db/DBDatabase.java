@@ -54,6 +54,8 @@ public final class DBDatabase extends SetContainer<IDBConnection> implements IDB
 
   private int statementCacheCapacity = DEFAULT_STATEMENT_CACHE_CAPACITY;
 
+  private final DBConnectionPool connectionPool = new DBConnectionPool(this);
+
   private IDBSchema schema;
 
   private final LinkedList<SchemaAccess> schemaAccessQueue = new LinkedList<>();
@@ -135,6 +137,8 @@ public final class DBDatabase extends SetContainer<IDBConnection> implements IDB
         ((DBConnection)transaction).invalidateStatementCache();
       }
 
+      connectionPool.invalidateStatementCaches();
+
       fireEvent(new SchemaChangedEventImpl(this, delta));
     }
     finally
@@ -169,6 +173,18 @@ public final class DBDatabase extends SetContainer<IDBConnection> implements IDB
 
   @Override
   public DBConnection getConnection()
+  {
+    DBConnection connection = connectionPool.acquireConnection();
+    if (connection == null)
+    {
+      connection = createConnection();
+    }
+
+    addElement(connection);
+    return connection;
+  }
+
+  public DBConnection createConnection()
   {
     Connection delegate = connectionProvider.getConnection();
     if (delegate == null)
@@ -178,14 +194,19 @@ public final class DBDatabase extends SetContainer<IDBConnection> implements IDB
 
     delegate = adapter.modifyConnection(delegate);
 
-    DBConnection connection = new DBConnection(this, delegate);
-    addElement(connection);
-    return connection;
+    return new DBConnection(this, delegate);
   }
 
   public void closeConnection(DBConnection connection)
   {
     removeElement(connection);
+    connectionPool.releaseConnection(connection);
+  }
+
+  @Override
+  public DBConnectionPool getConnectionPool()
+  {
+    return connectionPool;
   }
 
   @Override
@@ -221,6 +242,8 @@ public final class DBDatabase extends SetContainer<IDBConnection> implements IDB
   @Override
   protected void doDeactivate() throws Exception
   {
+    connectionPool.close();
+
     for (IDBConnection connection : getConnections())
     {
       connection.close();
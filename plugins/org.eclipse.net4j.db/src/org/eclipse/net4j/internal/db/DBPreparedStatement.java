@@ -35,6 +35,8 @@ public class DBPreparedStatement extends DelegatingPreparedStatement implements
 
   private int touch;
 
+  private int hits;
+
   private DBPreparedStatement nextCached;
 
   private Object schemaAccessToken;
@@ -87,6 +89,19 @@ public class DBPreparedStatement extends DelegatingPreparedStatement implements
     this.touch = touch;
   }
 
+  /**
+   * Returns the number of times that this statement has been reused from the statement cache of its connection.
+   */
+  public int getHits()
+  {
+    return hits;
+  }
+
+  public void incrementHits()
+  {
+    ++hits;
+  }
+
   public DBPreparedStatement getNextCached()
   {
     return nextCached;
@@ -562,6 +562,26 @@ public abstract class DBAdapter implements IDBAdapter
     DBUtil.execute(connection, "ALTER TABLE " + tableName + " DROP COLUMN " + fieldName);
   }
 
+  /**
+   * Creates the given index in the database without changing the {@link IDBIndex#getTable() table} in the schema.
+   *
+   * @since 4.12
+   */
+  public void createIndex(Connection connection, IDBIndex index)
+  {
+    createIndex(connection, index, null);
+  }
+
+  /**
+   * Drops the given index from the database without changing the {@link IDBIndex#getTable() table} in the schema.
+   *
+   * @since 4.12
+   */
+  public void dropIndex(Connection connection, IDBIndex index)
+  {
+    dropIndex(connection, index, null);
+  }
+
   /**
    * @since 4.2
    */
@@ -661,10 +681,15 @@ public abstract class DBAdapter implements IDBAdapter
   }
 
   /**
+   * Appends a standard <code>DROP INDEX</code> statement without the table name. Adapters for databases that need the
+   * table name, e.g., <code>DROP INDEX name ON table</code>, must override this method.
+   *
    * @since 4.2
    */
   protected void dropIndex(IDBIndex index, StringBuilder builder)
   {
+    builder.append("DROP INDEX "); //$NON-NLS-1$
+    builder.append(index);
   }
 
   @Override
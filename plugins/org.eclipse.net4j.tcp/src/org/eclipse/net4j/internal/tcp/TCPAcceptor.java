@@ -200,7 +200,7 @@ public class TCPAcceptor extends Acceptor implements ITCPAcceptor, ITCPPassiveSe
         TCPConnector connector = createConnector();
         prepareConnector(connector);
         connector.setSocketChannel(socketChannel);
-        connector.setSelector(selector);
+        connector.setSelector(getConnectorSelector(selector));
         connector.activate();
       }
     }
@@ -230,6 +230,20 @@ public class TCPAcceptor extends Acceptor implements ITCPAcceptor, ITCPPassiveSe
     return new TCPServerConnector(this);
   }
 
+  /**
+   * Returns the selector that an accepted connector is registered with.
+   * If this acceptor's selector heads a group of selection loops, the accepted connectors are distributed over them.
+   */
+  protected ITCPSelector getConnectorSelector(ITCPSelector acceptingSelector)
+  {
+    if (acceptingSelector == selector)
+    {
+      return selector.getNextSelector();
+    }
+
+    return acceptingSelector;
+  }
+
   @Override
   protected void doBeforeActivate() throws Exception
   {
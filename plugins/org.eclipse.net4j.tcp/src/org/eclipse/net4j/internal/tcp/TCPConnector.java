@@ -23,19 +23,23 @@ import org.eclipse.net4j.tcp.ITCPActiveSelectorListener;
 import org.eclipse.net4j.tcp.ITCPConnector;
 import org.eclipse.net4j.tcp.ITCPNegotiationContext;
 import org.eclipse.net4j.tcp.ITCPSelector;
+import org.eclipse.net4j.util.IErrorHandler;
 import org.eclipse.net4j.util.ReflectUtil.ExcludeFromDump;
 import org.eclipse.net4j.util.WrappedException;
 import org.eclipse.net4j.util.collection.RoundRobinBlockingQueue;
 import org.eclipse.net4j.util.io.IOUtil;
 import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
+import org.eclipse.net4j.util.om.OMPlatform;
 import org.eclipse.net4j.util.om.trace.ContextTracer;
 import org.eclipse.net4j.util.security.INegotiationContext;
 import org.eclipse.net4j.util.security.NegotiationContext;
 import org.eclipse.net4j.util.security.NegotiationException;
 
 import org.eclipse.spi.net4j.Connector;
+import org.eclipse.spi.net4j.InternalBuffer;
 import org.eclipse.spi.net4j.InternalChannel;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
@@ -48,8 +52,25 @@ import java.util.concurrent.BlockingQueue;
  */
 public abstract class TCPConnector extends Connector implements ITCPConnector, ITCPActiveSelectorListener
 {
+  /**
+   * The maximum number of buffers that are written with a single gathering write. A value of 1 or less disables
+   * gathering writes.
+   */
+  public static final int MAX_GATHERED_BUFFERS = OMPlatform.INSTANCE.getProperty("org.eclipse.net4j.tcp.TCPConnector.maxGatheredBuffers", 64); //$NON-NLS-1$
+
+  /**
+   * The maximum number of bytes that are read with a single read. A value of 0 or less disables reading ahead.
+   */
+  public static final int READ_AHEAD_SIZE = OMPlatform.INSTANCE.getProperty("org.eclipse.net4j.tcp.TCPConnector.readAheadSize", 65536); //$NON-NLS-1$
+
   private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG, TCPConnector.class);
 
+  /**
+   * Reading ahead happens on the selector threads, and the read-ahead bytes are completely consumed before a read
+   * returns. One buffer per thread is therefore enough for all connectors.
+   */
+  private static final ThreadLocal<ByteBuffer> READ_AHEAD_BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(READ_AHEAD_SIZE));
+
   private SocketChannel socketChannel;
 
   private ITCPSelector selector;
@@ -61,6 +82,9 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
 
   private IBuffer inputBuffer;
 
+  @ExcludeFromDump
+  private GatheringWrite gatheringWrite;
+
   private ControlChannel controlChannel;
 
   private String host;
@@ -227,31 +251,22 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
   {
     try
     {
-      if (inputBuffer == null)
+      if (isReadingAhead())
       {
-        inputBuffer = provideBuffer();
+        readAhead(socketChannel);
       }
-
-      ByteBuffer byteBuffer = inputBuffer.startGetting(socketChannel);
-      if (byteBuffer != null)
+      else
       {
-        short channelID = inputBuffer.getChannelID();
-        InternalChannel channel = channelID == ControlChannel.CONTROL_CHANNEL_INDEX ? controlChannel : getChannel(channelID);
-        if (channel != null)
+        if (inputBuffer == null)
         {
-          channel.handleBufferFromMultiplexer(inputBuffer);
+          inputBuffer = provideBuffer();
         }
-        else
-        {
-          if (TRACER.isEnabled())
-          {
-            TRACER.trace("Discarding buffer from unknown channel"); //$NON-NLS-1$
-          }
 
-          inputBuffer.release();
+        ByteBuffer byteBuffer = inputBuffer.startGetting(socketChannel);
+        if (byteBuffer != null)
+        {
+          handleInputBuffer();
         }
-
-        inputBuffer = null;
       }
     }
     catch (NegotiationException ex)
@@ -280,6 +295,72 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
     }
   }
 
+  /**
+   * Reads as many bytes as are available, up to {@link #READ_AHEAD_SIZE}, with a single read from the socket channel
+   * and demultiplexes them into as many buffers as they span.
+   */
+  private void readAhead(SocketChannel socketChannel) throws IOException
+  {
+    ByteBuffer readAheadBuffer = READ_AHEAD_BUFFER.get();
+    readAheadBuffer.clear();
+
+    try
+    {
+      if (socketChannel.read(readAheadBuffer) == -1)
+      {
+        throw new IOException("Channel has reached end-of-stream"); //$NON-NLS-1$
+      }
+    }
+    catch (ClosedChannelException ex)
+    {
+      throw ex;
+    }
+    catch (IOException ex)
+    {
+      ClosedChannelException exception = new ClosedChannelException();
+      exception.initCause(ex);
+      throw exception;
+    }
+
+    readAheadBuffer.flip();
+    while (readAheadBuffer.hasRemaining())
+    {
+      if (inputBuffer == null)
+      {
+        inputBuffer = provideBuffer();
+      }
+
+      if (((InternalBuffer)inputBuffer).startGetting(readAheadBuffer) == null)
+      {
+        // The remaining bytes of the input buffer have not been received, yet.
+        break;
+      }
+
+      handleInputBuffer();
+    }
+  }
+
+  private void handleInputBuffer()
+  {
+    short channelID = inputBuffer.getChannelID();
+    InternalChannel channel = channelID == ControlChannel.CONTROL_CHANNEL_INDEX ? controlChannel : getChannel(channelID);
+    if (channel != null)
+    {
+      channel.handleBufferFromMultiplexer(inputBuffer);
+    }
+    else
+    {
+      if (TRACER.isEnabled())
+      {
+        TRACER.trace("Discarding buffer from unknown channel"); //$NON-NLS-1$
+      }
+
+      inputBuffer.release();
+    }
+
+    inputBuffer = null;
+  }
+
   /**
    * Called by an {@link IChannel} each time a new buffer is available for multiplexing. This or another buffer can be
    * dequeued from the outputQueue of the {@link IChannel}.
@@ -317,34 +398,41 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
     {
       synchronized (writeQueue)
       {
-        InternalChannel channel = writeQueue.peek();
-        if (channel != null)
+        if (gatheringWrite != null)
+        {
+          gatheringWrite.write(socketChannel);
+        }
+        else
         {
-          Queue<IBuffer> channelSendQueue = channel.getSendQueue();
-          if (channelSendQueue != null)
+          InternalChannel channel = writeQueue.peek();
+          if (channel != null)
           {
-            IBuffer buffer = channelSendQueue.peek();
-            if (buffer != null)
+            Queue<IBuffer> channelSendQueue = channel.getSendQueue();
+            if (channelSendQueue != null)
             {
-              // The CCAM flag must be remembered *before* the buffer.write() call below!
-              boolean closeChannelAfterMe = buffer.isCCAM();
-
-              if (buffer.write(socketChannel))
+              IBuffer buffer = channelSendQueue.peek();
+              if (buffer != null)
               {
-                writeQueue.poll();
-                channelSendQueue.poll();
-                buffer.release();
+                // The CCAM flag must be remembered *before* the buffer.write() call below!
+                boolean closeChannelAfterMe = buffer.isCCAM();
 
-                if (closeChannelAfterMe)
+                if (buffer.write(socketChannel))
                 {
-                  channel.close();
+                  writeQueue.poll();
+                  channelSendQueue.poll();
+                  buffer.release();
+
+                  if (closeChannelAfterMe)
+                  {
+                    channel.close();
+                  }
                 }
               }
             }
           }
         }
 
-        if (writeQueue.isEmpty())
+        if (writeQueue.isEmpty() && (gatheringWrite == null || gatheringWrite.isEmpty()))
         {
           if (selectionKey != null)
           {
@@ -375,6 +463,24 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
     }
   }
 
+  /**
+   * Returns <code>true</code> if this connector writes the buffers of its channels with gathering writes,
+   * <code>false</code> if it writes them one at a time.
+   */
+  protected boolean isGatheringWrites()
+  {
+    return MAX_GATHERED_BUFFERS > 1;
+  }
+
+  /**
+   * Returns <code>true</code> if this connector reads ahead of the current buffer and demultiplexes the received bytes
+   * into as many buffers as they span, <code>false</code> if it reads each buffer separately.
+   */
+  protected boolean isReadingAhead()
+  {
+    return READ_AHEAD_SIZE > 0;
+  }
+
   protected void doOrderWriteInterest(boolean on)
   {
     selector.orderWriteInterest(selectionKey, isClient(), on);
@@ -423,6 +529,11 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
   protected void doActivate() throws Exception
   {
     super.doActivate();
+    if (isGatheringWrites())
+    {
+      gatheringWrite = new GatheringWrite(MAX_GATHERED_BUFFERS);
+    }
+
     controlChannel = new ControlChannel(this);
     controlChannel.activate();
     selector.orderRegistration(socketChannel, isClient(), this);
@@ -465,6 +576,14 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
       inputBuffer = null;
     }
 
+    if (gatheringWrite != null)
+    {
+      synchronized (writeQueue)
+      {
+        gatheringWrite.clear();
+      }
+    }
+
     if (selectionKey != null)
     {
       selectionKey.cancel();
@@ -472,6 +591,160 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
     }
   }
 
+  /**
+   * Drains the buffers of the queued channels into a single gathering write. Buffers that could not be written
+   * completely stay at the front for the next write. Guarded by the write queue.
+   *
+   * @author Eike Stepper
+   */
+  private final class GatheringWrite
+  {
+    private final InternalChannel[] channels;
+
+    private final InternalBuffer[] buffers;
+
+    private final ByteBuffer[] byteBuffers;
+
+    private final boolean[] closeChannelsAfterBuffers;
+
+    private int start;
+
+    private int end;
+
+    public GatheringWrite(int maxBuffers)
+    {
+      channels = new InternalChannel[maxBuffers];
+      buffers = new InternalBuffer[maxBuffers];
+      byteBuffers = new ByteBuffer[maxBuffers];
+      closeChannelsAfterBuffers = new boolean[maxBuffers];
+    }
+
+    public boolean isEmpty()
+    {
+      return start == end;
+    }
+
+    public void write(SocketChannel socketChannel) throws IOException
+    {
+      gather();
+      if (start == end)
+      {
+        return;
+      }
+
+      try
+      {
+        socketChannel.write(byteBuffers, start, end - start);
+      }
+      catch (IOException ex)
+      {
+        for (int i = start; i < end; i++)
+        {
+          IErrorHandler errorHandler = buffers[i].getErrorHandler();
+          if (errorHandler != null)
+          {
+            errorHandler.handleError(ex);
+          }
+        }
+
+        clear();
+        throw ex;
+      }
+
+      release();
+    }
+
+    public void clear()
+    {
+      for (int i = start; i < end; i++)
+      {
+        buffers[i].release();
+        forget(i);
+      }
+
+      start = 0;
+      end = 0;
+    }
+
+    private void gather()
+    {
+      if (start != 0)
+      {
+        int length = end - start;
+        System.arraycopy(channels, start, channels, 0, length);
+        System.arraycopy(buffers, start, buffers, 0, length);
+        System.arraycopy(byteBuffers, start, byteBuffers, 0, length);
+        System.arraycopy(closeChannelsAfterBuffers, start, closeChannelsAfterBuffers, 0, length);
+
+        for (int i = length; i < end; i++)
+        {
+          forget(i);
+        }
+
+        start = 0;
+        end = length;
+      }
+
+      while (end < buffers.length)
+      {
+        InternalChannel channel = writeQueue.poll();
+        if (channel == null)
+        {
+          break;
+        }
+
+        Queue<IBuffer> channelSendQueue = channel.getSendQueue();
+        if (channelSendQueue == null)
+        {
+          continue;
+        }
+
+        InternalBuffer buffer = (InternalBuffer)channelSendQueue.poll();
+        if (buffer == null)
+        {
+          continue;
+        }
+
+        // The CCAM flag must be remembered *before* the buffer is written!
+        closeChannelsAfterBuffers[end] = buffer.isCCAM();
+        byteBuffers[end] = buffer.startWriting();
+        buffers[end] = buffer;
+        channels[end] = channel;
+        ++end;
+      }
+    }
+
+    private void release()
+    {
+      while (start < end)
+      {
+        InternalBuffer buffer = buffers[start];
+        if (!buffer.finishWriting())
+        {
+          break;
+        }
+
+        InternalChannel channel = channels[start];
+        boolean closeChannelAfterMe = closeChannelsAfterBuffers[start];
+        forget(start++);
+
+        buffer.release();
+        if (closeChannelAfterMe)
+        {
+          channel.close();
+        }
+      }
+    }
+
+    private void forget(int i)
+    {
+      channels[i] = null;
+      buffers[i] = null;
+      byteBuffers[i] = null;
+      closeChannelsAfterBuffers[i] = false;
+    }
+  }
+
   /**
    * @author Eike Stepper
    */
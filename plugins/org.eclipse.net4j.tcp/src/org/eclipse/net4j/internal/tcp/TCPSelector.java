@@ -15,6 +15,7 @@ import org.eclipse.net4j.tcp.ITCPActiveSelectorListener;
 import org.eclipse.net4j.tcp.ITCPPassiveSelectorListener;
 import org.eclipse.net4j.tcp.ITCPSelector;
 import org.eclipse.net4j.util.lifecycle.Lifecycle;
+import org.eclipse.net4j.util.om.OMPlatform;
 import org.eclipse.net4j.util.om.trace.ContextTracer;
 
 import java.io.IOException;
@@ -28,14 +29,31 @@ import java.nio.channels.SocketChannel;
 import java.util.Iterator;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * A {@link ITCPSelector selector} that runs its own selection loop thread.
+ * <p>
+ * If more than one {@link #setThreads(int) thread} is configured, this selector is the head of a group of selection
+ * loops. The head loop serves the acceptors that are registered with it, and {@link #getNextSelector()} distributes
+ * the connectors over all loops of the group, so that the I/O of many connections doesn't compete for a single thread.
+ *
  * @author Eike Stepper
  */
 public class TCPSelector extends Lifecycle implements ITCPSelector, Runnable
 {
+  public static final int DEFAULT_THREADS = OMPlatform.INSTANCE.getProperty("org.eclipse.net4j.tcp.TCPSelector.threads", 1); //$NON-NLS-1$
+
   private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG, TCPSelector.class);
 
+  private final int index;
+
+  private int threads = DEFAULT_THREADS;
+
+  private TCPSelector[] loops;
+
+  private int nextLoop;
+
   private Selector selector;
 
   /**
@@ -52,8 +70,20 @@ public class TCPSelector extends Lifecycle implements ITCPSelector, Runnable
 
   private transient boolean running;
 
+  /**
+   * The number of channels that are registered with {@link #selector}. Only the selection loop thread accesses the key set of the selector,
+   * which isn't thread-safe, and publishes its size through this counter.
+   */
+  private final AtomicInteger registrations = new AtomicInteger();
+
   public TCPSelector()
   {
+    this(0);
+  }
+
+  private TCPSelector(int index)
+  {
+    this.index = index;
   }
 
   @Override
@@ -62,9 +92,83 @@ public class TCPSelector extends Lifecycle implements ITCPSelector, Runnable
     return selector;
   }
 
+  public int getThreads()
+  {
+    return threads;
+  }
+
+  public void setThreads(int threads)
+  {
+    checkInactive();
+    checkArg(threads >= 1, "threads >= 1"); //$NON-NLS-1$
+    this.threads = threads;
+  }
+
+  /**
+   * Returns the selection loops of this group, this selector being the first one.
+   */
+  public TCPSelector[] getLoops()
+  {
+    TCPSelector[] result = loops;
+    return result == null ? new TCPSelector[] { this } : result.clone();
+  }
+
+  /**
+   * Returns the selection loop of this group that a new connector should be registered with.
+   * That is the loop with the fewest registered channels. Ties are broken round-robin.
+   */
+  public TCPSelector getNextSelector()
+  {
+    TCPSelector[] loops = this.loops;
+    if (loops == null || loops.length == 1)
+    {
+      return this;
+    }
+
+    synchronized (loops)
+    {
+      int start = nextLoop;
+      nextLoop = (start + 1) % loops.length;
+
+      TCPSelector result = null;
+      int minLoad = Integer.MAX_VALUE;
+
+      for (int i = 0; i < loops.length; i++)
+      {
+        TCPSelector loop = loops[(start + i) % loops.length];
+        int load = loop.getLoad();
+        if (load < minLoad)
+        {
+          result = loop;
+          minLoad = load;
+        }
+      }
+
+      return result;
+    }
+  }
+
+  /**
+   * Returns the number of channels that are registered with this selection loop.
+   */
+  public int getLoad()
+  {
+    if (selector == null)
+    {
+      return Integer.MAX_VALUE;
+    }
+
+    return registrations.get();
+  }
+
   @Override
   public String toString()
   {
+    if (index != 0)
+    {
+      return "TCPSelector-" + index; //$NON-NLS-1$
+    }
+
     return "TCPSelector"; //$NON-NLS-1$
   }
 
@@ -174,6 +278,8 @@ public class TCPSelector extends Lifecycle implements ITCPSelector, Runnable
       {
         processOperations(false);
         processOperations(true);
+        updateRegistrations();
+
         if (selector != null && selector.select() > 0)
         {
           Iterator<SelectionKey> it = selector.selectedKeys().iterator();
@@ -205,6 +311,9 @@ public class TCPSelector extends Lifecycle implements ITCPSelector, Runnable
             }
           }
         }
+
+        // Cancelled keys have been removed from the key set during select().
+        updateRegistrations();
       }
       catch (NullPointerException ex)
       {
@@ -294,14 +403,40 @@ public class TCPSelector extends Lifecycle implements ITCPSelector, Runnable
     running = true;
     selector = openSelector();
 
-    thread = new Thread(this, "TCPSelector"); //$NON-NLS-1$
+    thread = new Thread(this, toString());
     thread.setDaemon(true);
     thread.start();
+
+    if (threads > 1)
+    {
+      TCPSelector[] loops = new TCPSelector[threads];
+      loops[0] = this;
+
+      for (int i = 1; i < threads; i++)
+      {
+        TCPSelector loop = new TCPSelector(i);
+        loop.setThreads(1);
+        loop.activate();
+        loops[i] = loop;
+      }
+
+      this.loops = loops;
+    }
   }
 
   @Override
   protected void doDeactivate() throws Exception
   {
+    TCPSelector[] loops = this.loops;
+    if (loops != null)
+    {
+      this.loops = null;
+      for (int i = 1; i < loops.length; i++)
+      {
+        loops[i].deactivate();
+      }
+    }
+
     running = false;
     selector.wakeup();
     Exception exception = null;
@@ -372,6 +507,18 @@ public class TCPSelector extends Lifecycle implements ITCPSelector, Runnable
     }
   }
 
+  /**
+   * Must only be called from the selection loop thread.
+   */
+  private void updateRegistrations()
+  {
+    Selector selector = this.selector;
+    if (selector != null)
+    {
+      registrations.set(selector.keys().size());
+    }
+  }
+
   private void processOperations(boolean client)
   {
     Runnable operation;
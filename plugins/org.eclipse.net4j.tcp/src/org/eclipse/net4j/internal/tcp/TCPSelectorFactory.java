@@ -10,8 +10,10 @@
  */
 package org.eclipse.net4j.internal.tcp;
 
+import org.eclipse.net4j.util.StringUtil;
 import org.eclipse.net4j.util.container.IManagedContainer;
 import org.eclipse.net4j.util.factory.Factory;
+import org.eclipse.net4j.util.factory.ProductCreationException;
 
 /**
  * @author Eike Stepper
@@ -27,10 +29,27 @@ public class TCPSelectorFactory extends Factory
     super(PRODUCT_GROUP, TYPE);
   }
 
+  /**
+   * Creates a {@link TCPSelector selector}. A numeric description specifies the number of selection loop
+   * {@link TCPSelector#setThreads(int) threads}.
+   */
   @Override
   public TCPSelector create(String description)
   {
-    return new TCPSelector();
+    TCPSelector selector = new TCPSelector();
+    if (!StringUtil.isEmpty(description))
+    {
+      try
+      {
+        selector.setThreads(Integer.parseInt(description.trim()));
+      }
+      catch (NumberFormatException ex)
+      {
+        throw new ProductCreationException("Invalid number of selector threads: " + description, ex); //$NON-NLS-1$
+      }
+    }
+
+    return selector;
   }
 
   public static TCPSelector get(IManagedContainer container, String description)
@@ -40,7 +40,7 @@ public class TCPSelectorInjector implements IElementProcessor
       TCPConnector connector = (TCPConnector)element;
       if (connector.getSelector() == null)
       {
-        connector.setSelector(getSelector(container));
+        connector.setSelector(getSelector(container).getNextSelector());
       }
     }
 
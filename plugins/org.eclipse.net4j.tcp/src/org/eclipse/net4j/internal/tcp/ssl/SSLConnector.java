@@ -54,6 +54,24 @@ public abstract class SSLConnector extends TCPConnector
     return "ssl://";
   }
 
+  /**
+   * {@link SSLBuffer SSL buffers} must be written one at a time through the SSL engine.
+   */
+  @Override
+  protected boolean isGatheringWrites()
+  {
+    return false;
+  }
+
+  /**
+   * {@link SSLBuffer SSL buffers} must be read one at a time through the SSL engine.
+   */
+  @Override
+  protected boolean isReadingAhead()
+  {
+    return false;
+  }
+
   @Override
   public void handleConnect(ITCPSelector selector, SocketChannel channel)
   {
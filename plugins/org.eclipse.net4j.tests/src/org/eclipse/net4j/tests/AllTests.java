@@ -31,6 +31,7 @@ import org.eclipse.net4j.util.tests.SortedFileMapTest;
 import org.eclipse.net4j.util.tests.StringCompressorTest;
 import org.eclipse.net4j.util.tests.SynchronizingCorrelatorTest;
 import org.eclipse.net4j.util.tests.UUIDGeneratorTest;
+import org.eclipse.net4j.util.tests.VirtualThreadExecutorTest;
 
 import junit.framework.Test;
 import junit.framework.TestSuite;
@@ -57,10 +58,12 @@ public class AllTests
     suite.addTestSuite(SynchronizingCorrelatorTest.class);
     suite.addTestSuite(BufferPoolTest.class);
     suite.addTestSuite(BufferStreamTest.class);
+    suite.addTestSuite(TCPSelectorGroupTest.class);
     suite.addTestSuite(ExtendedIOTest.class);
     suite.addTestSuite(StringCompressorTest.class);
     suite.addTestSuite(SecurityTest.class);
     suite.addTestSuite(ExecutorWorkSerializerTest.class);
+    suite.addTestSuite(VirtualThreadExecutorTest.class);
     suite.addTestSuite(RoundRobinBlockingQueueTest.class);
     suite.addTestSuite(RWOLockManagerTest.class);
     suite.addTestSuite(ExpectedIOTest.class);
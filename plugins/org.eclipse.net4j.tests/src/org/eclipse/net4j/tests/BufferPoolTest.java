@@ -13,32 +13,23 @@ package org.eclipse.net4j.tests;
 import org.eclipse.net4j.Net4jUtil;
 import org.eclipse.net4j.buffer.IBuffer;
 import org.eclipse.net4j.buffer.IBufferPool;
-import org.eclipse.net4j.util.ReflectUtil;
-import org.eclipse.net4j.util.io.IOUtil;
 import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
 import org.eclipse.net4j.util.tests.AbstractOMTest;
 
+import org.eclipse.internal.net4j.buffer.BufferPool;
+
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * @author Eike Stepper
  */
 public class BufferPoolTest extends AbstractOMTest
 {
-  private static IBufferPool bufferPool = Net4jUtil.createBufferPool();
-
-  private static Collection<byte[]> memory = new ArrayList<>();
-
-  @Override
-  protected void doTearDown() throws Exception
-  {
-    memory.clear();
-    super.doTearDown();
-  }
-
   public void testBufferPool() throws Exception
   {
+    IBufferPool bufferPool = Net4jUtil.createBufferPool();
     LifecycleUtil.activate(bufferPool);
 
     IBuffer[] buffers = new IBuffer[10];
@@ -47,51 +38,114 @@ public class BufferPoolTest extends AbstractOMTest
       buffers[i] = bufferPool.provideBuffer();
     }
 
+    assertEquals(buffers.length, Net4jUtil.getLiveBuffers(bufferPool));
+    assertEquals(buffers.length, Net4jUtil.getAllocatedBuffers(bufferPool));
+    assertEquals(0, Net4jUtil.getPooledBuffers(bufferPool));
+
     for (int i = 0; i < buffers.length; i++)
     {
       bufferPool.retainBuffer(buffers[i]);
       buffers[i] = null;
     }
 
-    while (Net4jUtil.getPooledBuffers(bufferPool) > 0 && allocate())
+    assertEquals(0, Net4jUtil.getLiveBuffers(bufferPool));
+    assertEquals(buffers.length, Net4jUtil.getPooledBuffers(bufferPool));
+
+    // Pooled buffers are reused.
+    for (int i = 0; i < buffers.length; i++)
     {
-      sleep(10);
-      ReflectUtil.dump(bufferPool);
+      buffers[i] = bufferPool.provideBuffer();
     }
 
+    assertEquals(buffers.length, Net4jUtil.getAllocatedBuffers(bufferPool));
+    assertEquals(0, Net4jUtil.getPooledBuffers(bufferPool));
+
+    for (int i = 0; i < buffers.length; i++)
+    {
+      bufferPool.retainBuffer(buffers[i]);
+    }
+
+    assertEquals(buffers.length, bufferPool.evict(0));
+    assertEquals(0, Net4jUtil.getPooledBuffers(bufferPool));
+
     LifecycleUtil.deactivate(bufferPool);
   }
 
-  private static void msg()
+  public void testMaxPooledBuffers() throws Exception
   {
-    msg("pooledBuffers = " + Net4jUtil.getPooledBuffers(bufferPool)); //$NON-NLS-1$
+    int maxPooledBuffers = 5;
+    BufferPool bufferPool = new BufferPool(Net4jUtil.createBufferFactory(), maxPooledBuffers, 3);
+    LifecycleUtil.activate(bufferPool);
+
+    IBuffer[] buffers = new IBuffer[20];
+    for (int i = 0; i < buffers.length; i++)
+    {
+      buffers[i] = bufferPool.provideBuffer();
+    }
+
+    for (int i = 0; i < buffers.length; i++)
+    {
+      bufferPool.retainBuffer(buffers[i]);
+      assertTrue(bufferPool.getPooledBuffers() <= maxPooledBuffers);
+    }
+
+    assertEquals(maxPooledBuffers, bufferPool.getPooledBuffers());
+    assertEquals(0, bufferPool.getLiveBuffers());
+
+    LifecycleUtil.deactivate(bufferPool);
   }
 
-  private static boolean allocate()
+  public void testConcurrentProvideAndRetain() throws Exception
   {
-    try
+    int threads = 8;
+    int maxPooledBuffers = 16;
+    BufferPool bufferPool = new BufferPool(Net4jUtil.createBufferFactory(), maxPooledBuffers, 4);
+    LifecycleUtil.activate(bufferPool);
+
+    List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+    List<Thread> workers = new ArrayList<>();
+    for (int i = 0; i < threads; i++)
     {
-      IOUtil.OUT().println("allocating from " + Runtime.getRuntime().freeMemory()); //$NON-NLS-1$
-      for (int i = 0; i < 10; i++)
-      {
-        memory.add(new byte[1000000]);
-      }
+      Thread worker = new Thread(() -> {
+        try
+        {
+          for (int j = 0; j < 10000; j++)
+          {
+            IBuffer buffer = bufferPool.provideBuffer();
+            bufferPool.retainBuffer(buffer);
+          }
+        }
+        catch (Throwable ex)
+        {
+          failures.add(ex);
+        }
+      });
 
-      msg();
-      return true;
+      workers.add(worker);
+      worker.start();
     }
-    catch (Throwable t)
+
+    for (Thread worker : workers)
     {
-      return false;
+      worker.join(DEFAULT_TIMEOUT);
+      assertFalse("Worker did not finish: " + worker, worker.isAlive());
     }
-  }
 
-  @SuppressWarnings("unused")
-  private static void gc()
-  {
-    msg();
-    IOUtil.OUT().println("collecting garbage"); //$NON-NLS-1$
-    System.gc();
-    msg();
+    if (!failures.isEmpty())
+    {
+      Throwable failure = failures.get(0);
+      for (Throwable other : failures.subList(1, failures.size()))
+      {
+        failure.addSuppressed(other);
+      }
+
+      throw new AssertionError("Worker failed", failure);
+    }
+
+    assertEquals(0, bufferPool.getLiveBuffers());
+    assertTrue(bufferPool.getPooledBuffers() <= maxPooledBuffers);
+    assertTrue(bufferPool.getAllocatedBuffers() < threads * 10000);
+
+    LifecycleUtil.deactivate(bufferPool);
   }
 }
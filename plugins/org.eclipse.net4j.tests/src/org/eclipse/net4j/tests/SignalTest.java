@@ -23,7 +23,14 @@ import org.eclipse.net4j.util.collection.Entity;
 import org.eclipse.net4j.util.lifecycle.ILifecycle;
 import org.eclipse.net4j.util.om.OMPlatform;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
 /**
@@ -73,6 +80,58 @@ public class SignalTest extends AbstractConfigTest
     }
   }
 
+  public void testArraysOnConcurrentChannels() throws Exception
+  {
+    startTransport();
+
+    int channels = 4;
+    List<Future<Boolean>> futures = new ArrayList<>();
+    ExecutorService executorService = Executors.newFixedThreadPool(channels);
+
+    try
+    {
+      for (int i = 0; i < channels; i++)
+      {
+        int seed = i;
+        futures.add(executorService.submit(() -> {
+          TestSignalProtocol protocol = new TestSignalProtocol(getConnector());
+
+          try
+          {
+            Random random = new Random(seed);
+            for (int j = 0; j < 20; j++)
+            {
+              // Spans many buffers, so that the buffers of all channels are interleaved on the wire.
+              byte[] data = new byte[random.nextInt(100000)];
+              random.nextBytes(data);
+
+              byte[] result = new ArrayRequest(protocol, data).send();
+              if (!Arrays.equals(data, result))
+              {
+                return false;
+              }
+            }
+
+            return true;
+          }
+          finally
+          {
+            protocol.close();
+          }
+        }));
+      }
+
+      for (Future<Boolean> future : futures)
+      {
+        assertEquals(Boolean.TRUE, future.get(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+      }
+    }
+    finally
+    {
+      executorService.shutdownNow();
+    }
+  }
+
   public void testAsync() throws Exception
   {
     TestSignalProtocol protocol = null;
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.net4j.tests;
+
+import org.eclipse.net4j.Net4jUtil;
+import org.eclipse.net4j.connector.IConnector;
+import org.eclipse.net4j.internal.tcp.TCPAcceptorFactory;
+import org.eclipse.net4j.internal.tcp.TCPConnector;
+import org.eclipse.net4j.internal.tcp.TCPSelector;
+import org.eclipse.net4j.internal.tcp.TCPSelectorFactory;
+import org.eclipse.net4j.tcp.ITCPAcceptor;
+import org.eclipse.net4j.tcp.ITCPSelector;
+import org.eclipse.net4j.tcp.TCPUtil;
+import org.eclipse.net4j.util.container.ContainerUtil;
+import org.eclipse.net4j.util.container.IManagedContainer;
+import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
+import org.eclipse.net4j.util.tests.AbstractOMTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Eike Stepper
+ */
+public class TCPSelectorGroupTest extends AbstractOMTest
+{
+  private static final int THREADS = 3;
+
+  private static final String[] DESCRIPTIONS = { "localhost", "localhost:2036", "127.0.0.1", "127.0.0.1:2036" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+  private IManagedContainer container;
+
+  @Override
+  protected void doSetUp() throws Exception
+  {
+    super.doSetUp();
+    container = ContainerUtil.createContainer();
+    Net4jUtil.prepareContainer(container);
+    TCPUtil.prepareContainer(container);
+    container.activate();
+  }
+
+  @Override
+  protected void doTearDown() throws Exception
+  {
+    LifecycleUtil.deactivate(container);
+    container = null;
+    super.doTearDown();
+  }
+
+  public void testFactoryDescription() throws Exception
+  {
+    TCPSelector selector = (TCPSelector)container.getElement(TCPSelectorFactory.PRODUCT_GROUP, TCPSelectorFactory.TYPE, Integer.toString(THREADS));
+    assertEquals(THREADS, selector.getThreads());
+    assertEquals(THREADS, selector.getLoops().length);
+  }
+
+  public void testAcceptedConnectorsAreDistributed() throws Exception
+  {
+    TCPSelector selector = new TCPSelector();
+    selector.setThreads(THREADS);
+    selector.activate();
+    container.putElement(TCPSelectorFactory.PRODUCT_GROUP, TCPSelectorFactory.TYPE, null, selector);
+
+    ITCPAcceptor acceptor = (ITCPAcceptor)container.getElement(TCPAcceptorFactory.PRODUCT_GROUP, TCPUtil.FACTORY_TYPE, null);
+    assertSame(selector, acceptor.getSelector());
+
+    List<IConnector> connectors = new ArrayList<>();
+    for (String description : DESCRIPTIONS)
+    {
+      IConnector connector = TCPUtil.getConnector(container, description);
+      connector.waitForConnection(DEFAULT_TIMEOUT);
+      connectors.add(connector);
+    }
+
+    new PollingTimeOuter()
+    {
+      @Override
+      protected boolean successful()
+      {
+        return acceptor.getAcceptedConnectors().length == DESCRIPTIONS.length;
+      }
+    }.assertNoTimeOut();
+
+    connectors.addAll(Arrays.asList(acceptor.getAcceptedConnectors()));
+
+    // The client and server connectors are spread over all selection loops.
+    Map<ITCPSelector, Integer> counts = new HashMap<>();
+    for (IConnector connector : connectors)
+    {
+      counts.merge(((TCPConnector)connector).getSelector(), 1, Integer::sum);
+    }
+
+    assertEquals(THREADS, counts.size());
+  }
+}
@@ -11,12 +11,17 @@
 package org.eclipse.net4j.util.tests;
 
 import org.eclipse.net4j.util.concurrent.IRWLockManager.LockType;
+import org.eclipse.net4j.util.concurrent.IRWOLockManager;
 import org.eclipse.net4j.util.concurrent.RWOLockManager;
 import org.eclipse.net4j.util.concurrent.TimeoutRuntimeException;
 import org.eclipse.net4j.util.io.IOUtil;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -84,6 +89,85 @@ public class RWOLockManagerTest extends AbstractOMTest
     IOUtil.OUT().println("SUCCESS");
   }
 
+  public void testStripedMultiObjectLocks() throws Exception
+  {
+    int objects = 64;
+    int threads = 8;
+    int rounds = 500;
+
+    RWOLockManager<Object, Object> lockManager = new RWOLockManager<>(4);
+    assertEquals(4, lockManager.getStripes());
+
+    AtomicInteger[] owners = new AtomicInteger[objects];
+    for (int i = 0; i < objects; i++)
+    {
+      owners[i] = new AtomicInteger(-1);
+    }
+
+    List<Throwable> exceptions = new CopyOnWriteArrayList<>();
+    CountDownLatch finished = new CountDownLatch(threads);
+
+    for (int t = 0; t < threads; t++)
+    {
+      int thread = t;
+      Object context = "Context-" + t;
+
+      new Thread(() -> {
+        try
+        {
+          Random random = new Random(thread);
+          for (int round = 0; round < rounds; round++)
+          {
+            // Lock a few random objects that are spread over several stripes.
+            List<Object> keys = new ArrayList<>();
+            for (int i = 0; i < 3; i++)
+            {
+              Integer key = random.nextInt(objects);
+              if (!keys.contains(key))
+              {
+                keys.add(key);
+              }
+            }
+
+            lockManager.lock(context, keys, LockType.WRITE, 1, 10000, null, null);
+
+            for (Object key : keys)
+            {
+              assertTrue(owners[(Integer)key].compareAndSet(-1, thread));
+            }
+
+            for (Object key : keys)
+            {
+              assertTrue(lockManager.hasLock(LockType.WRITE, context, key));
+              assertTrue(owners[(Integer)key].compareAndSet(thread, -1));
+            }
+
+            lockManager.unlock(context, null, null, IRWOLockManager.ALL_LOCKS, null, null);
+          }
+        }
+        catch (Throwable ex)
+        {
+          exceptions.add(ex);
+        }
+        finally
+        {
+          finished.countDown();
+        }
+      }).start();
+    }
+
+    await(finished);
+
+    if (!exceptions.isEmpty())
+    {
+      throw new AssertionError(exceptions.get(0));
+    }
+
+    List<Object> remaining = new ArrayList<>();
+    lockManager.getLockStates(lockState -> remaining.add(lockState.getLockedObject()));
+    assertEquals(0, remaining.size());
+  }
+
   /**
    * @author Eike Stepper
    */
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.net4j.util.tests;
+
+import org.eclipse.net4j.util.concurrent.ConcurrencyUtil;
+import org.eclipse.net4j.util.concurrent.ExecutorServiceFactory;
+import org.eclipse.net4j.util.concurrent.VirtualThreadExecutor;
+import org.eclipse.net4j.util.container.ContainerUtil;
+import org.eclipse.net4j.util.container.IManagedContainer;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A test for {@link VirtualThreadExecutor}.
+ *
+ * @author Eike Stepper
+ */
+public class VirtualThreadExecutorTest extends AbstractOMTest
+{
+  @Override
+  protected void doSetUp() throws Exception
+  {
+    skipTest(!VirtualThreadExecutor.isAvailable());
+    super.doSetUp();
+  }
+
+  public void testManyBlockingTasks() throws Exception
+  {
+    VirtualThreadExecutor executor = new VirtualThreadExecutor("test");
+
+    try
+    {
+      int tasks = 10000;
+      CountDownLatch release = new CountDownLatch(1);
+      CountDownLatch finished = new CountDownLatch(tasks);
+
+      for (int i = 0; i < tasks; i++)
+      {
+        executor.execute(() -> {
+          try
+          {
+            release.await();
+          }
+          catch (InterruptedException ex)
+          {
+            return;
+          }
+
+          finished.countDown();
+        });
+      }
+
+      // All tasks block at the same time without occupying an OS thread each.
+      assertEquals(tasks, executor.getActiveCount());
+
+      release.countDown();
+      assertTrue(finished.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+
+    assertTrue(executor.awaitTermination(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+    assertEquals(0, executor.getActiveCount());
+    assertEquals(10000, executor.getCompletedTaskCount());
+  }
+
+  public void testShutdown() throws Exception
+  {
+    VirtualThreadExecutor executor = new VirtualThreadExecutor();
+    executor.execute(() -> ConcurrencyUtil.sleep(100));
+    executor.shutdown();
+
+    try
+    {
+      executor.execute(() -> fail("Task must not be executed"));
+      fail("RejectedExecutionException expected");
+    }
+    catch (RejectedExecutionException expected)
+    {
+      // SUCCESS
+    }
+
+    assertTrue(executor.awaitTermination(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+    assertTrue(executor.isTerminated());
+  }
+
+  public void testShutdownWhileExecuting() throws Exception
+  {
+    VirtualThreadExecutor executor = new VirtualThreadExecutor();
+    AtomicInteger accepted = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+
+    Thread submitter = new Thread(() -> {
+      try
+      {
+        for (;;)
+        {
+          executor.execute(() -> {
+          });
+
+          accepted.incrementAndGet();
+          started.countDown();
+        }
+      }
+      catch (RejectedExecutionException expected)
+      {
+        // SUCCESS
+      }
+    });
+
+    submitter.start();
+    assertTrue(started.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+
+    submitter.join(DEFAULT_TIMEOUT);
+    assertFalse(submitter.isAlive());
+
+    // No task may be accepted after the executor has terminated.
+    assertEquals(accepted.get(), executor.getCompletedTaskCount());
+  }
+
+  public void testFactory() throws Exception
+  {
+    IManagedContainer container = ContainerUtil.createContainer();
+    container.registerFactory(new ExecutorServiceFactory.Virtual());
+    container.activate();
+
+    try
+    {
+      ExecutorService executorService = (ExecutorService)container.getElement(ExecutorServiceFactory.PRODUCT_GROUP, ExecutorServiceFactory.VIRTUAL_TYPE,
+          "test");
+
+      CountDownLatch latch = new CountDownLatch(1);
+      executorService.execute(() -> {
+        if (Thread.currentThread().getName().startsWith("test-virtual-"))
+        {
+          latch.countDown();
+        }
+      });
+
+      assertTrue(latch.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+    }
+    finally
+    {
+      container.deactivate();
+    }
+  }
+}
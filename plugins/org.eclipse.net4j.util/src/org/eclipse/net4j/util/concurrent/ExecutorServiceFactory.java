@@ -10,6 +10,7 @@
  */
 package org.eclipse.net4j.util.concurrent;
 
+import org.eclipse.net4j.internal.util.bundle.OM;
 import org.eclipse.net4j.util.container.IManagedContainer;
 import org.eclipse.net4j.util.event.EventUtil;
 import org.eclipse.net4j.util.event.IListener;
@@ -42,15 +43,31 @@ public class ExecutorServiceFactory extends Factory
 
   private static final String DEFAULT_DESCRIPTION = OMPlatform.INSTANCE.getProperty("org.eclipse.net4j.util.concurrent.ExecutorServiceFactory.description");
 
+  /**
+   * The factory type of the {@link Virtual virtual thread} executor service. Set the system property
+   * "org.eclipse.net4j.util.concurrent.ExecutorServiceFactory.type" to this value to make it the default.
+   *
+   * @since 3.26
+   */
+  public static final String VIRTUAL_TYPE = "virtual"; //$NON-NLS-1$
+
   public ExecutorServiceFactory()
   {
     super(PRODUCT_GROUP, DEFAULT_TYPE);
   }
 
+  /**
+   * @since 3.26
+   */
+  protected ExecutorServiceFactory(String type)
+  {
+    super(PRODUCT_GROUP, type);
+  }
+
   @Override
   public ExecutorService create(String description)
   {
-    final ExecutorService executorService = ThreadPool.create(description);
+    final ExecutorService executorService = createExecutorService(description);
 
     return LifecycleUtil.delegateLifecycle(getClass().getClassLoader(), executorService, ExecutorService.class, new ILifecycle()
     {
@@ -116,13 +133,50 @@ public class ExecutorServiceFactory extends Factory
       @Override
       public String toString()
       {
-        return "CachedThreadPool";
+        return executorService instanceof ThreadPool ? "CachedThreadPool" : executorService.toString();
       }
     });
   }
 
+  /**
+   * @since 3.26
+   */
+  protected ExecutorService createExecutorService(String description)
+  {
+    return ThreadPool.create(description);
+  }
+
   public static ExecutorService get(IManagedContainer container)
   {
     return (ExecutorService)container.getElement(PRODUCT_GROUP, DEFAULT_TYPE, DEFAULT_DESCRIPTION);
   }
+
+  /**
+   * Creates executor services that run each task in a new {@link VirtualThreadExecutor virtual thread}, so that tasks
+   * that block in I/O calls do not occupy OS threads. The description is used as the name prefix of the threads.
+   * <p>
+   * Falls back to a {@link ThreadPool thread pool} if the Java runtime does not support virtual threads.
+   *
+   * @author Eike Stepper
+   * @since 3.26
+   */
+  public static class Virtual extends ExecutorServiceFactory
+  {
+    public Virtual()
+    {
+      super(VIRTUAL_TYPE);
+    }
+
+    @Override
+    protected ExecutorService createExecutorService(String description)
+    {
+      if (VirtualThreadExecutor.isAvailable())
+      {
+        return new VirtualThreadExecutor(description);
+      }
+
+      OM.LOG.warn("Virtual threads are not available in this Java runtime; using a thread pool instead"); //$NON-NLS-1$
+      return super.createExecutorService(description);
+    }
+  }
 }
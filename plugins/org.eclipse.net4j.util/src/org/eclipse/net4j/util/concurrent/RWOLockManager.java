@@ -15,10 +15,12 @@ import org.eclipse.net4j.util.CheckUtil;
 import org.eclipse.net4j.util.ObjectUtil;
 import org.eclipse.net4j.util.collection.HashBag;
 import org.eclipse.net4j.util.lifecycle.Lifecycle;
+import org.eclipse.net4j.util.om.OMPlatform;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -26,8 +28,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -35,6 +40,10 @@ import java.util.function.Consumer;
  * Keeps track of locks on objects. Locks are owned by contexts. A particular combination of locks and their owners, for
  * a given object, is represented by instances of the {@link LockState} class. This class is also responsible for
  * deciding whether or not a new lock can be granted, based on the locks already present.
+ * <p>
+ * The lock states are partitioned by the hash codes of their objects into independent {@link #getStripes() stripes},
+ * each with its own lock and condition. Operations on different stripes don't block each other. Operations that
+ * involve multiple stripes acquire them in ascending order.
  *
  * @author Caspar De Groot
  * @author Eike Stepper
@@ -42,28 +51,40 @@ import java.util.function.Consumer;
  */
 public class RWOLockManager<OBJECT, CONTEXT> extends Lifecycle implements IRWOLockManager<OBJECT, CONTEXT>
 {
+  /**
+   * @since 3.26
+   */
+  public static final int DEFAULT_STRIPES = OMPlatform.INSTANCE.getProperty("org.eclipse.net4j.util.concurrent.RWOLockManager.stripes", //$NON-NLS-1$
+      4 * Runtime.getRuntime().availableProcessors());
+
   private static final LockType[][] LOCK_TYPE_ARRAYS = { { LockType.values()[0] }, { LockType.values()[1] }, { LockType.values()[2] } };
 
   private static final LockType[] ALL_LOCK_TYPES_ARRAY = LockType.values();
 
+  private static final Comparator<Object> HASH_CODE_ORDER = Comparator.comparingInt(Object::hashCode);
+
   /**
    * @since 3.16
+   * @deprecated As of 3.26 the lock states are guarded by the {@link #getStripes() stripes} of this lock manager.
    */
+  @Deprecated
   protected final ReentrantReadWriteAccess rwAccess = new ReentrantReadWriteAccess(true);
 
   /**
    * @since 3.16
+   * @deprecated As of 3.26 the lock states are guarded by the {@link #getStripes() stripes} of this lock manager.
    */
+  @Deprecated
   protected final Access read = rwAccess.readAccess();
 
   /**
    * @since 3.16
+   * @deprecated As of 3.26 the lock states are guarded by the {@link #getStripes() stripes} of this lock manager.
    */
+  @Deprecated
   protected final Access write = rwAccess.writeAccess();
 
-  private final Condition unlocked = rwAccess.newCondition();
-
-  private final Map<OBJECT, LockState<OBJECT, CONTEXT>> objectToLockStateMap = createObjectToLocksMap();
+  private final Stripe<OBJECT, CONTEXT>[] stripes;
 
   /**
    * A mapping of contexts (owners of locks) to the lock states that they are involved in. Here, an 'involvement' means
@@ -74,27 +95,46 @@ public class RWOLockManager<OBJECT, CONTEXT> extends Lifecycle implements IRWOLo
    */
   private final Map<CONTEXT, Set<LockState<OBJECT, CONTEXT>>> contextToLockStates = createContextToLocksMap();
 
-  private volatile long modCount;
+  private final AtomicLong modCount = new AtomicLong();
 
   public RWOLockManager()
   {
+    this(DEFAULT_STRIPES);
   }
 
   /**
-   * @category Read Access
+   * @since 3.26
    */
-  @Override
-  public long getModCount()
+  @SuppressWarnings("unchecked")
+  public RWOLockManager(int stripes)
   {
-    try (Access access = read.access())
+    CheckUtil.checkArg(stripes > 0, "stripes > 0"); //$NON-NLS-1$
+    this.stripes = new Stripe[stripes];
+
+    for (int i = 0; i < stripes; i++)
     {
-      return modCount;
+      this.stripes[i] = new Stripe<>(createObjectToLocksMap());
     }
   }
 
+  /**
+   * Returns the number of independent partitions of the lock states of this lock manager.
+   *
+   * @since 3.26
+   */
+  public final int getStripes()
+  {
+    return stripes.length;
+  }
+
+  @Override
+  public long getModCount()
+  {
+    return modCount.get();
+  }
+
   /**
    * @since 3.16
-   * @category Write Access
    */
   @Override
   public long lock(CONTEXT context, Collection<? extends OBJECT> objects, LockType lockType, int count, long timeout, //
@@ -108,107 +148,133 @@ public class RWOLockManager<OBJECT, CONTEXT> extends Lifecycle implements IRWOLo
 
     long deadline = timeout == NO_TIMEOUT ? Long.MAX_VALUE : currentTimeMillis() + timeout;
 
-    try (Access access = write.access())
+    if (ObjectUtil.isEmpty(objects) || count == 0)
     {
-      if (ObjectUtil.isEmpty(objects) || count == 0)
+      // Nothing to do.
+      return modCount.get();
+    }
+
+    // Populate mutable lists of objects to lock, one per stripe. These lists will shrink while objects are successfully
+    // locked below. The objects are locked in a global order (stripe index, hash code), and the locking stops at the
+    // first object that can't be locked. As a result concurrent multi-object requests can't block each other mutually.
+    List<OBJECT>[] objectsToLock = partition(objects);
+    for (List<OBJECT> list : objectsToLock)
+    {
+      if (list != null && list.size() > 1)
       {
-        // Nothing to do.
-        return modCount;
+        list.sort(HASH_CODE_ORDER);
       }
+    }
 
-      // Populate a mutable list of objects to lock. This list will shrink while objects are successfully locked below.
-      List<OBJECT> objectsToLock = new ArrayList<>(objects);
+    // Remember the locked objects for the case that an exception occurs, so that their locks can be removed again.
+    List<OBJECT> lockedObjects = new ArrayList<>(objects.size());
 
-      // Remember the locked objects for the case that an exception occurs, so that their locks can be removed again.
-      List<OBJECT> lockedObjects = new ArrayList<>(objectsToLock.size());
+    for (;;)
+    {
+      int blockedStripe = -1;
 
-      for (;;)
+      // Visit the stripes in ascending order and hold at most one stripe at a time.
+      for (int i = 0; i < stripes.length && blockedStripe == -1; i++)
       {
-        for (Iterator<OBJECT> it = objectsToLock.iterator(); it.hasNext();)
+        List<OBJECT> list = objectsToLock[i];
+        if (list == null || list.isEmpty())
         {
-          OBJECT lockedObject = it.next();
-          LockState<OBJECT, CONTEXT> lockState = getOrCreateLockState(lockedObject);
+          continue;
+        }
 
-          if (lockState.canLock(lockType, context))
+        Stripe<OBJECT, CONTEXT> stripe = stripes[i];
+        stripe.lock.lock();
+
+        try
+        {
+          for (Iterator<OBJECT> it = list.iterator(); it.hasNext();)
           {
-            int oldCount = lockState.getLockCount(lockType, context);
-            int newCount = lockState.lock(lockType, context, count);
+            OBJECT lockedObject = it.next();
+            LockState<OBJECT, CONTEXT> lockState = stripe.getOrCreateLockState(lockedObject);
 
-            if (newCount != oldCount)
+            if (lockState.canLock(lockType, context))
             {
-              addContextToLockStateMapping(context, lockState);
+              int oldCount = lockState.getLockCount(lockType, context);
+              int newCount = lockState.lock(lockType, context, count);
+
+              if (newCount != oldCount)
+              {
+                addContextToLockStateMapping(context, lockState);
+
+                if (deltaHandler != null)
+                {
+                  deltaHandler.handleLockDelta(context, lockedObject, lockType, oldCount, newCount);
+                }
+              }
 
-              if (deltaHandler != null)
+              if (stateHandler != null)
               {
-                deltaHandler.handleLockDelta(context, lockedObject, lockType, oldCount, newCount);
+                stateHandler.accept(lockState);
               }
-            }
 
-            if (stateHandler != null)
+              lockedObjects.add(lockedObject);
+              it.remove();
+            }
+            else
             {
-              stateHandler.accept(lockState);
+              break;
             }
-
-            lockedObjects.add(lockedObject);
-            it.remove();
           }
         }
-
-        if (objectsToLock.isEmpty())
+        finally
         {
-          return ++modCount;
+          stripe.lock.unlock();
         }
 
-        try
+        if (!list.isEmpty())
         {
-          long waitTime = deadline - currentTimeMillis();
-          if (waitTime <= 0)
-          {
-            StringBuilder builder = new StringBuilder();
-            builder.append("Could not lock objects within ");
-            builder.append(timeout);
-            builder.append(" milliseconds: ");
+          blockedStripe = i;
+        }
+      }
 
-            StringJoiner joiner = new StringJoiner(", ", "Could not lock objects within " + timeout + " milliseconds: ", "");
-            for (OBJECT objectToLock : objectsToLock)
-            {
-              LockState<OBJECT, CONTEXT> lockState = objectToLockStateMap.get(objectToLock);
-              if (lockState != null)
-              {
-                joiner.add(lockState.toString());
-              }
-            }
+      if (blockedStripe == -1)
+      {
+        return modCount.incrementAndGet();
+      }
 
-            throw new TimeoutRuntimeException(builder.toString());
+      try
+      {
+        long waitTime = deadline - currentTimeMillis();
+        if (waitTime <= 0)
+        {
+          StringJoiner joiner = new StringJoiner(", ", "Could not lock objects within " + timeout + " milliseconds: ", "");
+          for (int i = 0; i < stripes.length; i++)
+          {
+            stripes[i].appendLockStates(objectsToLock[i], joiner);
           }
 
-          // Give others a chance to unlock objects.
-          unlocked.await(waitTime, TimeUnit.MILLISECONDS);
+          throw new TimeoutRuntimeException(joiner.toString());
         }
-        catch (InterruptedException | TimeoutRuntimeException ex)
-        {
-          unlock(context, lockedObjects, lockType, count, null, null);
 
-          --modCount; // Fix the modCount that was increased by unlock();
-          throw ex;
-        }
+        // Give others a chance to unlock objects.
+        stripes[blockedStripe].awaitUnlock(objectsToLock[blockedStripe].get(0), lockType, context, waitTime);
+      }
+      catch (InterruptedException | TimeoutRuntimeException ex)
+      {
+        unlockObjects(context, lockedObjects, LOCK_TYPE_ARRAYS[lockType.ordinal()], count, null, null);
+        throw ex;
       }
     }
   }
 
-  private LockState<OBJECT, CONTEXT> getOrCreateLockState(OBJECT object)
-  {
-    return objectToLockStateMap.computeIfAbsent(object, o -> new LockState<>(o));
-  }
-
   private void addContextToLockStateMapping(CONTEXT context, LockState<OBJECT, CONTEXT> lockState)
   {
-    contextToLockStates.computeIfAbsent(context, c -> new HashSet<>()).add(lockState);
+    contextToLockStates.compute(context, (c, lockStates) -> {
+      if (lockStates == null)
+      {
+        lockStates = ConcurrentHashMap.newKeySet();
+      }
+
+      lockStates.add(lockState);
+      return lockStates;
+    });
   }
 
-  /**
-   * @category Write Access
-   */
   @Override
   public long unlock(CONTEXT context, Collection<? extends OBJECT> objects, LockType lockType, int count, //
       LockDeltaHandler<OBJECT, CONTEXT> deltaHandler, Consumer<LockState<OBJECT, CONTEXT>> stateHandler)
@@ -217,54 +283,77 @@ public class RWOLockManager<OBJECT, CONTEXT> extends Lifecycle implements IRWOLo
     CheckUtil.checkArg(count >= -1, "count >= -1"); //$NON-NLS-1$
 
     LockType[] lockTypes = lockType == null ? ALL_LOCK_TYPES_ARRAY : LOCK_TYPE_ARRAYS[lockType.ordinal()];
-    List<LockState<OBJECT, CONTEXT>> modifiedLockStates = new ArrayList<>();
 
-    try (Access access = write.access())
+    if (objects == null)
     {
-      if (objects == null)
+      if (count == 0)
       {
-        if (count == 0)
-        {
-          // Nothing to do.
-          return modCount;
-        }
+        // Nothing to do.
+        return modCount.get();
+      }
 
-        Set<LockState<OBJECT, CONTEXT>> lockStates = contextToLockStates.get(context);
-        if (lockStates == null)
-        {
-          // We have no locks, nothing to do.
-          return modCount;
-        }
+      Set<LockState<OBJECT, CONTEXT>> lockStates = contextToLockStates.get(context);
+      if (lockStates == null)
+      {
+        // We have no locks, nothing to do.
+        return modCount.get();
+      }
 
-        for (LockState<OBJECT, CONTEXT> lockState : lockStates)
-        {
-          OBJECT object = lockState.getLockedObject();
-          doUnlock(context, object, lockTypes, count, deltaHandler, stateHandler, lockState, modifiedLockStates);
-        }
+      List<OBJECT> lockedObjects = new ArrayList<>(lockStates.size());
+      for (LockState<OBJECT, CONTEXT> lockState : lockStates)
+      {
+        lockedObjects.add(lockState.getLockedObject());
       }
-      else
+
+      objects = lockedObjects;
+    }
+    else if (objects.isEmpty())
+    {
+      return modCount.get();
+    }
+
+    unlockObjects(context, objects, lockTypes, count, deltaHandler, stateHandler);
+    return modCount.incrementAndGet();
+  }
+
+  private void unlockObjects(CONTEXT context, Collection<? extends OBJECT> objects, LockType[] lockTypes, int count, //
+      LockDeltaHandler<OBJECT, CONTEXT> deltaHandler, Consumer<LockState<OBJECT, CONTEXT>> stateHandler)
+  {
+    List<OBJECT>[] objectsToUnlock = partition(objects);
+    List<LockState<OBJECT, CONTEXT>> modifiedLockStates = new ArrayList<>();
+
+    for (int i = 0; i < stripes.length; i++)
+    {
+      List<OBJECT> list = objectsToUnlock[i];
+      if (list == null)
       {
-        if (objects.isEmpty())
-        {
-          return modCount;
-        }
+        continue;
+      }
 
-        for (OBJECT object : objects)
+      Stripe<OBJECT, CONTEXT> stripe = stripes[i];
+      stripe.lock.lock();
+
+      try
+      {
+        for (OBJECT object : list)
         {
-          LockState<OBJECT, CONTEXT> lockState = objectToLockStateMap.get(object);
+          LockState<OBJECT, CONTEXT> lockState = stripe.lockStates.get(object);
           if (lockState != null)
           {
             doUnlock(context, object, lockTypes, count, deltaHandler, stateHandler, lockState, modifiedLockStates);
           }
         }
-      }
-
-      removeLockStates(context, modifiedLockStates);
 
-      // Wake up blocked lockers.
-      unlocked.signalAll();
+        removeLockStates(context, stripe, modifiedLockStates);
+        modifiedLockStates.clear();
 
-      return ++modCount;
+        // Wake up blocked lockers.
+        stripe.unlocked.signalAll();
+      }
+      finally
+      {
+        stripe.lock.unlock();
+      }
     }
   }
 
@@ -297,7 +386,7 @@ public class RWOLockManager<OBJECT, CONTEXT> extends Lifecycle implements IRWOLo
     }
   }
 
-  private void removeLockStates(CONTEXT context, List<LockState<OBJECT, CONTEXT>> modifiedLockStates)
+  private void removeLockStates(CONTEXT context, Stripe<OBJECT, CONTEXT> stripe, List<LockState<OBJECT, CONTEXT>> modifiedLockStates)
   {
     for (LockState<OBJECT, CONTEXT> lockState : modifiedLockStates)
     {
@@ -308,7 +397,7 @@ public class RWOLockManager<OBJECT, CONTEXT> extends Lifecycle implements IRWOLo
 
       if (lockState.hasNoLocks())
       {
-        objectToLockStateMap.remove(lockState.getLockedObject());
+        stripe.lockStates.remove(lockState.getLockedObject(), lockState);
       }
     }
   }
@@ -320,89 +409,125 @@ public class RWOLockManager<OBJECT, CONTEXT> extends Lifecycle implements IRWOLo
    */
   private void removeLockStateForContext(CONTEXT context, LockState<OBJECT, CONTEXT> lockState)
   {
-    Set<LockState<OBJECT, CONTEXT>> lockStates = contextToLockStates.get(context);
-    if (lockStates != null)
-    {
+    contextToLockStates.computeIfPresent(context, (c, lockStates) -> {
       lockStates.remove(lockState);
-
-      if (lockStates.isEmpty())
-      {
-        contextToLockStates.remove(context);
-      }
-    }
+      return lockStates.isEmpty() ? null : lockStates;
+    });
   }
 
-  /**
-   * @category Read Access
-   */
   @Override
   public boolean hasLock(LockType type, CONTEXT context, OBJECT objectToLock)
   {
-    try (Access access = read.access())
+    Stripe<OBJECT, CONTEXT> stripe = getStripe(objectToLock);
+    stripe.lock.lock();
+
+    try
     {
-      LockState<OBJECT, CONTEXT> lockState = objectToLockStateMap.get(objectToLock);
+      LockState<OBJECT, CONTEXT> lockState = stripe.lockStates.get(objectToLock);
       return lockState != null && lockState.hasLock(type, context, false);
     }
+    finally
+    {
+      stripe.lock.unlock();
+    }
   }
 
-  /**
-   * @category Read Access
-   */
   @Override
   public boolean hasLockByOthers(LockType type, CONTEXT context, OBJECT objectToLock)
   {
-    try (Access access = read.access())
+    Stripe<OBJECT, CONTEXT> stripe = getStripe(objectToLock);
+    stripe.lock.lock();
+
+    try
     {
-      LockState<OBJECT, CONTEXT> lockState = objectToLockStateMap.get(objectToLock);
+      LockState<OBJECT, CONTEXT> lockState = stripe.lockStates.get(objectToLock);
       return lockState != null && lockState.hasLock(type, context, true);
     }
+    finally
+    {
+      stripe.lock.unlock();
+    }
   }
 
-  /**
-   * @category Read Access
-   */
   public LockState<OBJECT, CONTEXT> getLockState(OBJECT key)
   {
-    try (Access access = read.access())
+    Stripe<OBJECT, CONTEXT> stripe = getStripe(key);
+    stripe.lock.lock();
+
+    try
     {
-      return objectToLockStateMap.get(key);
+      return stripe.lockStates.get(key);
+    }
+    finally
+    {
+      stripe.lock.unlock();
     }
   }
 
   /**
+   * Passes the lock states of the given keys to the given consumer. The stripes of all keys are held while the
+   * consumer is called, so that the consumer sees a consistent snapshot of these lock states.
+   *
    * @since 3.16
-   * @category Read Access
    */
   public void getLockStates(Collection<OBJECT> keys, BiConsumer<OBJECT, LockState<OBJECT, CONTEXT>> consumer)
   {
-    try (Access access = read.access())
+    boolean[] involved = new boolean[stripes.length];
+    for (OBJECT key : keys)
+    {
+      involved[getStripeIndex(key)] = true;
+    }
+
+    lockStripes(involved);
+
+    try
     {
       keys.forEach(key -> {
-        LockState<OBJECT, CONTEXT> lockState = objectToLockStateMap.get(key);
+        LockState<OBJECT, CONTEXT> lockState = getStripe(key).lockStates.get(key);
         consumer.accept(key, lockState);
       });
     }
+    finally
+    {
+      unlockStripes(involved);
+    }
   }
 
   /**
+   * Passes all lock states to the given consumer. All stripes are held while the consumer is called, so that the
+   * consumer sees a consistent snapshot of all lock states.
+   *
    * @since 3.16
-   * @category Read Access
    */
   public void getLockStates(Consumer<LockState<OBJECT, CONTEXT>> consumer)
   {
-    try (Access access = read.access())
+    lockStripes(null);
+
+    try
     {
-      objectToLockStateMap.values().forEach(consumer);
+      for (Stripe<OBJECT, CONTEXT> stripe : stripes)
+      {
+        stripe.lockStates.values().forEach(consumer);
+      }
+    }
+    finally
+    {
+      unlockStripes(null);
     }
   }
 
   protected void changeContext(CONTEXT oldContext, CONTEXT newContext)
   {
-    try (Access access = write.access())
+    lockStripes(null);
+
+    try
     {
-      for (LockState<OBJECT, CONTEXT> lockState : objectToLockStateMap.values())
+      for (Stripe<OBJECT, CONTEXT> stripe : stripes)
       {
-        lockState.replaceContext(oldContext, newContext);
+        for (LockState<OBJECT, CONTEXT> lockState : stripe.lockStates.values())
+        {
+          lockState.replaceContext(oldContext, newContext);
+        }
       }
 
       Set<LockState<OBJECT, CONTEXT>> lockStates = contextToLockStates.remove(oldContext);
@@ -411,32 +536,50 @@ public class RWOLockManager<OBJECT, CONTEXT> extends Lifecycle implements IRWOLo
         contextToLockStates.put(newContext, lockStates);
       }
     }
+    finally
+    {
+      unlockStripes(null);
+    }
   }
 
   /**
-   * All access to the returned map must be properly synchronized on this {@link RWOLockManager}.
+   * Returns a snapshot of the lock states of all stripes.
+   *
+   * @deprecated As of 3.26 the lock states are partitioned into {@link #getStripes() stripes}; use
+   *             {@link #getLockState(Object)} or {@link #getLockStates(Consumer)}.
    */
+  @Deprecated
   protected final Map<OBJECT, LockState<OBJECT, CONTEXT>> getObjectToLocksMap()
   {
-    return objectToLockStateMap;
+    Map<OBJECT, LockState<OBJECT, CONTEXT>> result = new HashMap<>();
+    getLockStates(lockState -> result.put(lockState.getLockedObject(), lockState));
+    return result;
   }
 
   /**
-   * All access to the returned map must be properly synchronized on this {@link RWOLockManager}.
+   * The returned map is thread-safe, but the lock states in its values must only be accessed through this
+   * {@link RWOLockManager}.
    */
   protected final Map<CONTEXT, Set<LockState<OBJECT, CONTEXT>>> getContextToLocksMap()
   {
     return contextToLockStates;
   }
 
+  /**
+   * Creates the map of one {@link #getStripes() stripe}. The returned map is always accessed under the lock of its
+   * stripe.
+   */
   protected Map<OBJECT, LockState<OBJECT, CONTEXT>> createObjectToLocksMap()
   {
     return new HashMap<>();
   }
 
+  /**
+   * Creates the map of contexts to their lock states. The returned map must be thread-safe.
+   */
   protected Map<CONTEXT, Set<LockState<OBJECT, CONTEXT>>> createContextToLocksMap()
   {
-    return new HashMap<>();
+    return new ConcurrentHashMap<>();
   }
 
   protected long currentTimeMillis()
@@ -444,21 +587,79 @@ public class RWOLockManager<OBJECT, CONTEXT> extends Lifecycle implements IRWOLo
     return System.currentTimeMillis();
   }
 
+  private int getStripeIndex(Object object)
+  {
+    int hash = object.hashCode();
+    hash ^= hash >>> 16;
+    return (hash & 0x7fffffff) % stripes.length;
+  }
+
+  private Stripe<OBJECT, CONTEXT> getStripe(Object object)
+  {
+    return stripes[getStripeIndex(object)];
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<OBJECT>[] partition(Collection<? extends OBJECT> objects)
+  {
+    List<OBJECT>[] result = new List[stripes.length];
+    for (OBJECT object : objects)
+    {
+      int index = getStripeIndex(object);
+
+      List<OBJECT> list = result[index];
+      if (list == null)
+      {
+        list = new ArrayList<>();
+        result[index] = list;
+      }
+
+      list.add(object);
+    }
+
+    return result;
+  }
+
+  /**
+   * Acquires the given stripes, or all stripes if <code>involved</code> is <code>null</code>, in ascending order.
+   */
+  private void lockStripes(boolean[] involved)
+  {
+    for (int i = 0; i < stripes.length; i++)
+    {
+      if (involved == null || involved[i])
+      {
+        stripes[i].lock.lock();
+      }
+    }
+  }
+
+  private void unlockStripes(boolean[] involved)
+  {
+    for (int i = stripes.length - 1; i >= 0; --i)
+    {
+      if (involved == null || involved[i])
+      {
+        stripes[i].lock.unlock();
+      }
+    }
+  }
+
   @Deprecated
   public List<LockState<OBJECT, CONTEXT>> getLockStates()
   {
     throw new UnsupportedOperationException();
   }
 
-  /**
-   * @category Write Access
-   */
   @Deprecated
   public void setLockState(OBJECT key, LockState<OBJECT, CONTEXT> lockState)
   {
-    try (Access access = write.access())
+    Stripe<OBJECT, CONTEXT> stripe = getStripe(key);
+    stripe.lock.lock();
+
+    try
     {
-      objectToLockStateMap.put(key, lockState);
+      stripe.lockStates.put(key, lockState);
 
       for (CONTEXT readLockOwner : lockState.getReadLockOwners())
       {
@@ -477,6 +678,10 @@ public class RWOLockManager<OBJECT, CONTEXT> extends Lifecycle implements IRWOLo
         addContextToLockStateMapping(writeOptionOwner, lockState);
       }
     }
+    finally
+    {
+      stripe.lock.unlock();
+    }
   }
 
   @Override
@@ -542,6 +747,80 @@ public class RWOLockManager<OBJECT, CONTEXT> extends Lifecycle implements IRWOLo
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * A partition of the lock states with its own lock and condition.
+   *
+   * @author Eike Stepper
+   */
+  private static final class Stripe<OBJECT, CONTEXT>
+  {
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition unlocked = lock.newCondition();
+
+    private final Map<OBJECT, LockState<OBJECT, CONTEXT>> lockStates;
+
+    public Stripe(Map<OBJECT, LockState<OBJECT, CONTEXT>> lockStates)
+    {
+      this.lockStates = lockStates;
+    }
+
+    /**
+     * Must be called with the lock of this stripe being held.
+     */
+    public LockState<OBJECT, CONTEXT> getOrCreateLockState(OBJECT object)
+    {
+      return lockStates.computeIfAbsent(object, o -> new LockState<>(o));
+    }
+
+    /**
+     * Waits until this stripe is signaled, unless the given object can be locked already.
+     */
+    public void awaitUnlock(OBJECT object, LockType lockType, CONTEXT context, long waitTime) throws InterruptedException
+    {
+      lock.lock();
+
+      try
+      {
+        LockState<OBJECT, CONTEXT> lockState = lockStates.get(object);
+        if (lockState != null && !lockState.canLock(lockType, context))
+        {
+          unlocked.await(waitTime, TimeUnit.MILLISECONDS);
+        }
+      }
+      finally
+      {
+        lock.unlock();
+      }
+    }
+
+    public void appendLockStates(List<OBJECT> objects, StringJoiner joiner)
+    {
+      if (objects == null || objects.isEmpty())
+      {
+        return;
+      }
+
+      lock.lock();
+
+      try
+      {
+        for (OBJECT object : objects)
+        {
+          LockState<OBJECT, CONTEXT> lockState = lockStates.get(object);
+          if (lockState != null)
+          {
+            joiner.add(lockState.toString());
+          }
+        }
+      }
+      finally
+      {
+        lock.unlock();
+      }
+    }
+  }
+
   /**
    * Represents a combination of locks for one OBJECT. The different lock types are represented by the values of the
    * enum {@link IRWLockManager.LockType}
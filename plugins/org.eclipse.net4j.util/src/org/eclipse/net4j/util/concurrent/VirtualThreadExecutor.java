@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.net4j.util.concurrent;
+
+import org.eclipse.net4j.util.StringUtil;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An {@link java.util.concurrent.ExecutorService executor service} that runs each task in a new virtual thread.
+ * <p>
+ * Virtual threads are cheap to create and do not occupy an OS thread while they are blocked, for example in I/O calls.
+ * Virtual threads are only available in Java 21 and higher; see {@link #isAvailable()}.
+ *
+ * @author Eike Stepper
+ * @since 3.26
+ */
+public class VirtualThreadExecutor extends AbstractExecutorService
+{
+  public static final String DEFAULT_NAME = ExecutorServiceFactory.DEFAULT_THREAD_GROUP_NAME;
+
+  private static final Method OF_VIRTUAL_METHOD;
+
+  private static final Method NAME_METHOD;
+
+  private static final Method FACTORY_METHOD;
+
+  private final String name;
+
+  private final ThreadFactory threadFactory;
+
+  private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+  private final AtomicLong completedTasks = new AtomicLong();
+
+  /**
+   * Makes the shutdown check and the start of a task thread in {@link #execute(Runnable)} atomic with respect to {@link #shutdown()}.
+   * Task submissions share the read lock, so they don't block each other.
+   */
+  private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+
+  private volatile boolean shutdown;
+
+  public VirtualThreadExecutor(String name)
+  {
+    if (!isAvailable())
+    {
+      throw new UnsupportedOperationException("Virtual threads are not available in this Java runtime"); //$NON-NLS-1$
+    }
+
+    this.name = StringUtil.isEmpty(name) ? DEFAULT_NAME : name;
+    threadFactory = createThreadFactory(this.name);
+  }
+
+  public VirtualThreadExecutor()
+  {
+    this(null);
+  }
+
+  public String getName()
+  {
+    return name;
+  }
+
+  /**
+   * Returns the number of tasks that are currently running.
+   */
+  public int getActiveCount()
+  {
+    return threads.size();
+  }
+
+  /**
+   * Returns the number of tasks that have completed.
+   */
+  public long getCompletedTaskCount()
+  {
+    return completedTasks.get();
+  }
+
+  @Override
+  public void execute(Runnable task)
+  {
+    Lock lock = shutdownLock.readLock();
+    lock.lock();
+
+    try
+    {
+      if (shutdown)
+      {
+        throw new RejectedExecutionException("Executor has been shut down: " + this); //$NON-NLS-1$
+      }
+
+      startThread(task);
+    }
+    finally
+    {
+      lock.unlock();
+    }
+  }
+
+  private void startThread(Runnable task)
+  {
+    Thread thread = threadFactory.newThread(() -> {
+      try
+      {
+        task.run();
+      }
+      finally
+      {
+        completedTasks.incrementAndGet();
+        threads.remove(Thread.currentThread());
+
+        if (shutdown && threads.isEmpty())
+        {
+          synchronized (this)
+          {
+            notifyAll();
+          }
+        }
+      }
+    });
+
+    threads.add(thread);
+    thread.start();
+  }
+
+  @Override
+  public void shutdown()
+  {
+    Lock lock = shutdownLock.writeLock();
+    lock.lock();
+
+    try
+    {
+      shutdown = true;
+    }
+    finally
+    {
+      lock.unlock();
+    }
+
+    synchronized (this)
+    {
+      notifyAll();
+    }
+  }
+
+  @Override
+  public List<Runnable> shutdownNow()
+  {
+    shutdown();
+
+    for (Thread thread : threads)
+    {
+      thread.interrupt();
+    }
+
+    // Tasks are never queued, so there are no tasks that have never commenced execution.
+    return Collections.emptyList();
+  }
+
+  @Override
+  public boolean isShutdown()
+  {
+    return shutdown;
+  }
+
+  @Override
+  public boolean isTerminated()
+  {
+    return shutdown && threads.isEmpty();
+  }
+
+  @Override
+  public synchronized boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+  {
+    long end = System.currentTimeMillis() + unit.toMillis(timeout);
+    while (!isTerminated())
+    {
+      long remaining = end - System.currentTimeMillis();
+      if (remaining <= 0)
+      {
+        return false;
+      }
+
+      wait(remaining);
+    }
+
+    return true;
+  }
+
+  @Override
+  public String toString()
+  {
+    return "VirtualThreadExecutor[" + name + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * Returns <code>true</code> if the running Java runtime supports virtual threads, <code>false</code> otherwise.
+   */
+  public static boolean isAvailable()
+  {
+    return FACTORY_METHOD != null;
+  }
+
+  private static ThreadFactory createThreadFactory(String name)
+  {
+    try
+    {
+      // Thread.ofVirtual().name(name + "-virtual-", 1).factory()
+      Object builder = OF_VIRTUAL_METHOD.invoke(null);
+      builder = NAME_METHOD.invoke(builder, name + "-virtual-", 1L); //$NON-NLS-1$
+      return (ThreadFactory)FACTORY_METHOD.invoke(builder);
+    }
+    catch (Exception ex)
+    {
+      throw new UnsupportedOperationException("Virtual threads are not available in this Java runtime", ex); //$NON-NLS-1$
+    }
+  }
+
+  static
+  {
+    Method ofVirtualMethod = null;
+    Method nameMethod = null;
+    Method factoryMethod = null;
+
+    try
+    {
+      ofVirtualMethod = Thread.class.getMethod("ofVirtual"); //$NON-NLS-1$
+
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder"); //$NON-NLS-1$
+      nameMethod = builderClass.getMethod("name", String.class, long.class); //$NON-NLS-1$
+      factoryMethod = builderClass.getMethod("factory"); //$NON-NLS-1$
+
+      // Virtual threads are a preview feature in some Java versions.
+      factoryMethod.invoke(nameMethod.invoke(ofVirtualMethod.invoke(null), "probe-", 1L)); //$NON-NLS-1$
+    }
+    catch (Throwable ex)
+    {
+      ofVirtualMethod = null;
+      nameMethod = null;
+      factoryMethod = null;
+    }
+
+    OF_VIRTUAL_METHOD = ofVirtualMethod;
+    NAME_METHOD = nameMethod;
+    FACTORY_METHOD = factoryMethod;
+  }
+}
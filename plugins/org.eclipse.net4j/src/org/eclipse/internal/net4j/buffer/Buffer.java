@@ -212,6 +212,17 @@ public class Buffer implements InternalBuffer
 
   @Override
   public ByteBuffer startGetting(SocketChannel socketChannel) throws IOException
+  {
+    return startGetting(socketChannel, null);
+  }
+
+  @Override
+  public ByteBuffer startGetting(ByteBuffer source) throws IOException
+  {
+    return startGetting(null, source);
+  }
+
+  private ByteBuffer startGetting(SocketChannel socketChannel, ByteBuffer source) throws IOException
   {
     try
     {
@@ -228,7 +239,7 @@ public class Buffer implements InternalBuffer
 
       if (state == BufferState.READING_HEADER)
       {
-        readChannel(socketChannel, byteBuffer);
+        fill(socketChannel, source);
 
         if (byteBuffer.hasRemaining())
         {
@@ -274,7 +285,7 @@ public class Buffer implements InternalBuffer
         state = BufferState.READING_BODY;
       }
 
-      readChannel(socketChannel, byteBuffer);
+      fill(socketChannel, source);
       if (byteBuffer.hasRemaining())
       {
         return null;
@@ -354,37 +365,7 @@ public class Buffer implements InternalBuffer
   {
     try
     {
-      if (state != BufferState.PUTTING && state != BufferState.WRITING)
-      {
-        throw new IllegalStateException(toString());
-      }
-
-      if (state == BufferState.PUTTING)
-      {
-        if (channelID == NO_CHANNEL)
-        {
-          throw new IllegalStateException(toString() + ": channelID == NO_CHANNEL"); //$NON-NLS-1$
-        }
-
-        int payloadSize = byteBuffer.position() - HEADER_SIZE;
-        boolean eos = isEOS();
-        if (eos)
-        {
-          payloadSize = -payloadSize;
-        }
-
-        if (TRACER.isEnabled())
-        {
-          TRACER.trace("Writing " + (Math.abs(payloadSize) - 1) + " bytes" //$NON-NLS-1$ //$NON-NLS-2$
-              + (eos ? " (EOS)" : "") + StringUtil.NL + formatContent(false)); //$NON-NLS-1$ //$NON-NLS-2$
-        }
-
-        _flip(byteBuffer);
-        byteBuffer.putShort(channelID);
-        byteBuffer.putShort((short)payloadSize);
-        _position(byteBuffer, 0);
-        state = BufferState.WRITING;
-      }
+      prepareWriting();
 
       int numBytes = socketChannel.write(byteBuffer);
       if (numBytes == -1)
@@ -392,13 +373,7 @@ public class Buffer implements InternalBuffer
         throw new IOException(toString() + ": Channel closed"); //$NON-NLS-1$
       }
 
-      if (byteBuffer.hasRemaining())
-      {
-        return false;
-      }
-
-      clear();
-      return true;
+      return finishWriting();
     }
     catch (IOException ex)
     {
@@ -417,6 +392,38 @@ public class Buffer implements InternalBuffer
     }
   }
 
+  @Override
+  public ByteBuffer startWriting()
+  {
+    try
+    {
+      prepareWriting();
+      return byteBuffer;
+    }
+    catch (RuntimeException ex)
+    {
+      handleError(ex);
+      throw ex;
+    }
+    catch (Error ex)
+    {
+      handleError(ex);
+      throw ex;
+    }
+  }
+
+  @Override
+  public boolean finishWriting()
+  {
+    if (byteBuffer.hasRemaining())
+    {
+      return false;
+    }
+
+    clear();
+    return true;
+  }
+
   @Override
   public void flip()
   {
@@ -600,6 +607,58 @@ public class Buffer implements InternalBuffer
     }
   }
 
+  private void prepareWriting()
+  {
+    if (state != BufferState.PUTTING && state != BufferState.WRITING)
+    {
+      throw new IllegalStateException(toString());
+    }
+
+    if (state == BufferState.PUTTING)
+    {
+      if (channelID == NO_CHANNEL)
+      {
+        throw new IllegalStateException(toString() + ": channelID == NO_CHANNEL"); //$NON-NLS-1$
+      }
+
+      int payloadSize = byteBuffer.position() - HEADER_SIZE;
+      boolean eos = isEOS();
+      if (eos)
+      {
+        payloadSize = -payloadSize;
+      }
+
+      if (TRACER.isEnabled())
+      {
+        TRACER.trace("Writing " + (Math.abs(payloadSize) - 1) + " bytes" //$NON-NLS-1$ //$NON-NLS-2$
+            + (eos ? " (EOS)" : "") + StringUtil.NL + formatContent(false)); //$NON-NLS-1$ //$NON-NLS-2$
+      }
+
+      _flip(byteBuffer);
+      byteBuffer.putShort(channelID);
+      byteBuffer.putShort((short)payloadSize);
+      _position(byteBuffer, 0);
+      state = BufferState.WRITING;
+    }
+  }
+
+  private void fill(SocketChannel socketChannel, ByteBuffer source) throws ClosedChannelException
+  {
+    if (source != null)
+    {
+      int length = Math.min(source.remaining(), byteBuffer.remaining());
+      int limit = source.limit();
+
+      _limit(source, source.position() + length);
+      byteBuffer.put(source);
+      _limit(source, limit);
+    }
+    else
+    {
+      readChannel(socketChannel, byteBuffer);
+    }
+  }
+
   private void readChannel(SocketChannel socketChannel, ByteBuffer byteBuffer) throws ClosedChannelException
   {
     try
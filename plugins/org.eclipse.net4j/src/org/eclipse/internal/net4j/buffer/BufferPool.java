@@ -14,61 +14,73 @@ import org.eclipse.net4j.buffer.IBuffer;
 import org.eclipse.net4j.buffer.IBufferPool;
 import org.eclipse.net4j.buffer.IBufferProvider;
 import org.eclipse.net4j.util.ReflectUtil.ExcludeFromDump;
+import org.eclipse.net4j.util.om.OMPlatform;
 import org.eclipse.net4j.util.om.trace.ContextTracer;
-import org.eclipse.net4j.util.ref.CleanableReferenceQueue;
 
 import org.eclipse.internal.net4j.bundle.OM;
 
 import org.eclipse.spi.net4j.InternalBuffer;
 
-import java.lang.ref.Reference;
-import java.lang.ref.ReferenceQueue;
-import java.lang.ref.SoftReference;
 import java.text.MessageFormat;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * A {@link IBufferPool buffer pool} that keeps at most {@link #getMaxPooledBuffers()} buffers.
+ * <p>
+ * The pooled buffers are spread over a number of magazines. Each thread provides and retains its buffers through the
+ * magazine that its thread ID maps to and only falls back to the other magazines if its own one is empty or full. Buffers
+ * that are retained while all magazines are full are handed back to the underlying {@link #getProvider() provider}.
+ *
  * @author Eike Stepper
  */
 public class BufferPool extends BufferProvider implements IBufferPool.Introspection
 {
+  public static final int DEFAULT_MAX_POOLED_BUFFERS = OMPlatform.INSTANCE.getProperty("org.eclipse.net4j.buffer.BufferPool.maxPooledBuffers", 1024); //$NON-NLS-1$
+
+  public static final int DEFAULT_MAGAZINES = OMPlatform.INSTANCE.getProperty("org.eclipse.net4j.buffer.BufferPool.magazines", //$NON-NLS-1$
+      Runtime.getRuntime().availableProcessors());
+
   private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG_BUFFER, BufferPool.class);
 
   private final IBufferProvider provider;
 
-  private int pooledBuffers;
+  private final int maxPooledBuffers;
 
   @ExcludeFromDump
-  private final Queue<BufferRef> buffers = new ConcurrentLinkedQueue<>();
+  private final Magazine[] magazines;
 
-  @ExcludeFromDump
-  private final CleanableReferenceQueue<IBuffer> referenceQueue = new CleanableReferenceQueue<IBuffer>()
-  {
-    @Override
-    protected Reference<IBuffer> createReference(IBuffer buffer)
-    {
-      return new BufferRef(buffer, this);
-    }
+  private final AtomicInteger pooledBuffers = new AtomicInteger();
 
-    @Override
-    protected void cleanReference(Reference<? extends IBuffer> reference)
-    {
-      if (buffers.remove(reference))
-      {
-        --pooledBuffers;
-        if (TRACER.isEnabled())
-        {
-          TRACER.trace("Collected buffer"); //$NON-NLS-1$
-        }
-      }
-    }
-  };
+  private final AtomicInteger liveBuffers = new AtomicInteger();
+
+  private final AtomicLong allocatedBuffers = new AtomicLong();
 
   public BufferPool(IBufferProvider provider)
+  {
+    this(provider, DEFAULT_MAX_POOLED_BUFFERS, DEFAULT_MAGAZINES);
+  }
+
+  public BufferPool(IBufferProvider provider, int maxPooledBuffers, int magazines)
   {
     super(provider.getBufferCapacity());
+    if (maxPooledBuffers < 0)
+    {
+      throw new IllegalArgumentException("maxPooledBuffers < 0"); //$NON-NLS-1$
+    }
+
     this.provider = provider;
+    this.maxPooledBuffers = maxPooledBuffers;
+
+    int count = Math.max(1, Math.min(magazines, maxPooledBuffers));
+    this.magazines = new Magazine[count];
+
+    for (int i = 0; i < count; i++)
+    {
+      // Distribute the maximum exactly, so that the sum of all magazine sizes is the hard cap of this pool.
+      int size = maxPooledBuffers / count + (i < maxPooledBuffers % count ? 1 : 0);
+      this.magazines[i] = new Magazine(size);
+    }
   }
 
   public IBufferProvider getProvider()
@@ -76,48 +88,63 @@ public class BufferPool extends BufferProvider implements IBufferPool.Introspect
     return provider;
   }
 
-  public ReferenceQueue<IBuffer> getReferenceQueue()
+  @Override
+  public int getMaxPooledBuffers()
   {
-    return referenceQueue;
+    return maxPooledBuffers;
+  }
+
+  public int getMagazines()
+  {
+    return magazines.length;
   }
 
   @Override
   public int getPooledBuffers()
   {
-    return pooledBuffers;
+    return pooledBuffers.get();
+  }
+
+  @Override
+  public int getLiveBuffers()
+  {
+    return liveBuffers.get();
+  }
+
+  @Override
+  public long getAllocatedBuffers()
+  {
+    return allocatedBuffers.get();
   }
 
   @Override
   public boolean evictOne()
   {
-    for (;;)
+    for (Magazine magazine : magazines)
     {
-      BufferRef bufferRef = buffers.poll();
-      if (bufferRef == null)
-      {
-        return false;
-      }
-
-      IBuffer buffer = bufferRef.get();
+      IBuffer buffer = magazine.pop();
       if (buffer != null)
       {
+        pooledBuffers.decrementAndGet();
+
         if (TRACER.isEnabled())
         {
           TRACER.trace("Evicting " + buffer); //$NON-NLS-1$
         }
 
         provider.retainBuffer(buffer);
-        --pooledBuffers;
         return true;
       }
     }
+
+    return false;
   }
 
   @Override
   public int evict(int survivors)
   {
     int evictedBuffers = 0;
-    while (pooledBuffers > survivors)
+    while (pooledBuffers.get() > survivors)
     {
       if (evictOne())
       {
@@ -138,31 +165,31 @@ public class BufferPool extends BufferProvider implements IBufferPool.Introspect
     return MessageFormat.format("BufferPool[{0}]", getBufferCapacity()); //$NON-NLS-1$
   }
 
-  protected BufferRef createBufferRef(IBuffer buffer)
-  {
-    return new BufferRef(buffer, referenceQueue);
-  }
-
   @Override
   protected IBuffer doProvideBuffer()
   {
     IBuffer buffer = null;
-    BufferRef bufferRef = buffers.poll();
-    if (bufferRef != null)
+    int home = getHomeMagazine();
+
+    for (int i = 0; i < magazines.length; i++)
     {
-      buffer = bufferRef.get();
+      buffer = magazines[(home + i) % magazines.length].pop();
+      if (buffer != null)
+      {
+        pooledBuffers.decrementAndGet();
+        break;
+      }
     }
 
     if (buffer == null)
     {
       buffer = provider.provideBuffer();
       ((InternalBuffer)buffer).setBufferProvider(this);
-    }
-    else
-    {
-      --pooledBuffers;
+      allocatedBuffers.incrementAndGet();
     }
 
+    liveBuffers.incrementAndGet();
+
     buffer.clear();
     if (TRACER.isEnabled())
     {
@@ -180,24 +207,74 @@ public class BufferPool extends BufferProvider implements IBufferPool.Introspect
       throw new IllegalArgumentException("buffer.getCapacity() != getBufferCapacity()"); //$NON-NLS-1$
     }
 
+    liveBuffers.decrementAndGet();
+    int home = getHomeMagazine();
+
+    for (int i = 0; i < magazines.length; i++)
+    {
+      if (magazines[(home + i) % magazines.length].push(buffer))
+      {
+        pooledBuffers.incrementAndGet();
+
+        if (TRACER.isEnabled())
+        {
+          TRACER.trace("Retaining " + buffer); //$NON-NLS-1$
+        }
+
+        return;
+      }
+    }
+
     if (TRACER.isEnabled())
     {
-      TRACER.trace("Retaining " + buffer); //$NON-NLS-1$
+      TRACER.trace("Discarding " + buffer); //$NON-NLS-1$
     }
 
-    BufferRef bufferRef = createBufferRef(buffer);
-    buffers.add(bufferRef);
-    ++pooledBuffers;
+    provider.retainBuffer(buffer);
+  }
+
+  private int getHomeMagazine()
+  {
+    return (int)(Thread.currentThread().getId() % magazines.length);
   }
 
   /**
+   * A fixed-size stack of pooled buffers.
+   *
    * @author Eike Stepper
    */
-  private static final class BufferRef extends SoftReference<IBuffer>
+  private static final class Magazine
   {
-    public BufferRef(IBuffer buffer, ReferenceQueue<IBuffer> queue)
+    private final IBuffer[] buffers;
+
+    private int size;
+
+    public Magazine(int capacity)
+    {
+      buffers = new IBuffer[capacity];
+    }
+
+    public synchronized IBuffer pop()
     {
-      super(buffer, queue);
+      if (size == 0)
+      {
+        return null;
+      }
+
+      IBuffer buffer = buffers[--size];
+      buffers[size] = null;
+      return buffer;
+    }
+
+    public synchronized boolean push(IBuffer buffer)
+    {
+      if (size == buffers.length)
+      {
+        return false;
+      }
+
+      buffers[size++] = buffer;
+      return true;
     }
   }
 }
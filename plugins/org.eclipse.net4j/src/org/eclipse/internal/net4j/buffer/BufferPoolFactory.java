@@ -12,8 +12,11 @@ package org.eclipse.internal.net4j.buffer;
 
 import org.eclipse.net4j.Net4jUtil;
 import org.eclipse.net4j.buffer.IBufferPool;
+import org.eclipse.net4j.buffer.IBufferProvider;
+import org.eclipse.net4j.util.StringUtil;
 import org.eclipse.net4j.util.container.IManagedContainer;
 import org.eclipse.net4j.util.factory.Factory;
+import org.eclipse.net4j.util.factory.ProductCreationException;
 import org.eclipse.net4j.util.om.OMPlatform;
 
 /**
@@ -34,10 +37,28 @@ public class BufferPoolFactory extends Factory
     super(PRODUCT_GROUP, TYPE);
   }
 
+  /**
+   * Creates a {@link BufferPool buffer pool}. A numeric description specifies the
+   * {@link BufferPool#getMaxPooledBuffers() maximum number of pooled buffers}.
+   */
   @Override
   public IBufferPool create(String description)
   {
-    return Net4jUtil.createBufferPool(BUFFER_CAPACITY);
+    IBufferProvider factory = Net4jUtil.createBufferFactory(BUFFER_CAPACITY);
+    if (StringUtil.isEmpty(description))
+    {
+      return Net4jUtil.createBufferPool(factory);
+    }
+
+    try
+    {
+      int maxPooledBuffers = Integer.parseInt(description.trim());
+      return Net4jUtil.createBufferPool(factory, maxPooledBuffers);
+    }
+    catch (IllegalArgumentException ex)
+    {
+      throw new ProductCreationException("Invalid buffer pool description: " + description, ex); //$NON-NLS-1$
+    }
   }
 
   public static IBufferPool get(IManagedContainer container)
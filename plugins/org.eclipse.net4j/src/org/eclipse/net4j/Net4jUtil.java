@@ -155,6 +155,14 @@ public final class Net4jUtil
     return new BufferPool(factory);
   }
 
+  /**
+   * @since 4.20
+   */
+  public static IBufferPool createBufferPool(IBufferProvider factory, int maxPooledBuffers)
+  {
+    return new BufferPool(factory, maxPooledBuffers, BufferPool.DEFAULT_MAGAZINES);
+  }
+
   public static IBufferPool createBufferPool(short bufferCapacity)
   {
     return createBufferPool(createBufferFactory(bufferCapacity));
@@ -195,6 +203,32 @@ public final class Net4jUtil
     return -1;
   }
 
+  /**
+   * @since 4.20
+   */
+  public static int getLiveBuffers(IBufferPool bufferPool)
+  {
+    if (bufferPool instanceof IBufferPool.Introspection)
+    {
+      return ((IBufferPool.Introspection)bufferPool).getLiveBuffers();
+    }
+
+    return -1;
+  }
+
+  /**
+   * @since 4.20
+   */
+  public static long getAllocatedBuffers(IBufferPool bufferPool)
+  {
+    if (bufferPool instanceof IBufferPool.Introspection)
+    {
+      return ((IBufferPool.Introspection)bufferPool).getAllocatedBuffers();
+    }
+
+    return -1L;
+  }
+
   /**
    * @since 2.0
    */
@@ -43,5 +43,38 @@ public interface IBufferPool extends IBufferProvider
      * Returns the number of buffers that are currently pooled in this <code>BufferPool</code>.
      */
     public int getPooledBuffers();
+
+    /**
+     * Returns the maximum number of buffers that can be pooled in this <code>BufferPool</code>.
+     * The default implementation returns {@link Integer#MAX_VALUE}, i.e., the pool is unbounded.
+     *
+     * @since 4.20
+     */
+    public default int getMaxPooledBuffers()
+    {
+      return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the number of buffers that have been provided by this <code>BufferPool</code> and not yet been retained.
+     * The default implementation returns <code>0</code>, i.e., live buffers are not tracked.
+     *
+     * @since 4.20
+     */
+    public default int getLiveBuffers()
+    {
+      return 0;
+    }
+
+    /**
+     * Returns the number of buffers that this <code>BufferPool</code> has allocated because no pooled buffer was available.
+     * The default implementation returns <code>0</code>, i.e., allocations are not tracked.
+     *
+     * @since 4.20
+     */
+    public default long getAllocatedBuffers()
+    {
+      return 0;
+    }
   }
 }
@@ -11,8 +11,12 @@
 package org.eclipse.spi.net4j;
 
 import org.eclipse.net4j.buffer.IBuffer;
+import org.eclipse.net4j.buffer.BufferState;
 import org.eclipse.net4j.buffer.IBufferProvider;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 /**
  * If the meaning of this type isn't clear, there really should be more of a description here...
  *
@@ -25,4 +29,31 @@ public interface InternalBuffer extends IBuffer
   public void setBufferProvider(IBufferProvider bufferProvider);
 
   public void dispose();
+
+  /**
+   * Like {@link #startGetting(java.nio.channels.SocketChannel) startGetting(SocketChannel)} but transfers the data
+   * from the given <code>source</code> byte buffer that has already been read from the socket channel.
+   *
+   * @return A {@link ByteBuffer} that can be used for getting data if it was possible to completely transfer the data
+   *         from the given source, <code>null</code> otherwise. In the latter case the source has no remaining bytes.
+   * @since 4.20
+   */
+  public ByteBuffer startGetting(ByteBuffer source) throws IllegalStateException, IOException;
+
+  /**
+   * Turns the {@link #getState() state} of this buffer into {@link BufferState#WRITING WRITING} and returns the
+   * {@link ByteBuffer} with the header and payload bytes that remain to be written, for example with a gathering write.
+   * Must be followed by {@link #finishWriting()} after each write attempt.
+   *
+   * @since 4.20
+   */
+  public ByteBuffer startWriting() throws IllegalStateException;
+
+  /**
+   * Returns <code>true</code> and {@link #clear() clears} this buffer if the byte buffer that has been returned from
+   * {@link #startWriting()} has been completely written, <code>false</code> otherwise.
+   *
+   * @since 4.20
+   */
+  public boolean finishWriting();
 }